@@ -24,9 +24,14 @@ package org.wso2.carbon.identity.api.expired.password.identification.common.util
 public class ExpiredPasswordIdentificationConstants {
 
     public static final String EXPIRED_PASSWORD_IDENTIFICATION_MANAGEMENT_SERVICE_ERROR_PREFIX = "PASS-EXP_ACC-";
+    public static final String PASSWORD_EXPIRED_USERS_PATH_COMPONENT = "/v1/password-expired-users";
     public static final String DATE_EXPIRED_AFTER = "expiredAfter";
     public static final String DATE_EXCLUDE_AFTER = "excludeAfter";
     public static final String DATE_FORMAT_REGEX = "^\\d{4}-\\d{2}-\\d{2}$";
+    public static final String PAGINATION_LIMIT = "limit";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String PAGINATION_AFTER = "after";
+    public static final int MAX_PAGE_LIMIT = 1000;
 
     /**
      * Enums for error messages.
@@ -48,6 +53,9 @@ public class ExpiredPasswordIdentificationConstants {
         PASSWORD_EXPIRY_FEATURE_NOT_ENABLED("60004",
                 "The password expiry feature is not enabled.",
                 "The password expiry feature needs to be enabled to retrieve the password expired users."),
+        ERROR_INVALID_PAGINATION_PARAMETER("60005",
+                "Invalid pagination parameters provided.",
+                "%s"),
 
         // Server errors 650xx.
         ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS("65001",
@@ -48,8 +48,8 @@ public class PasswordExpiredUsersApi  {
     @GET
     
     
-    @Produces({ "application/json" })
-    @ApiOperation(value = "", notes = "Get password expired users list for a specified period.<br>    <b>Scope(Permission) required:</b> `internal_password_expired_user_view` ", response = PasswordExpiredUser.class, responseContainer = "List", tags={ "Get password expired users" })
+    @Produces({ "application/json", "application/x-ndjson" })
+    @ApiOperation(value = "", notes = "Get password expired users list for a specified period. The list is paginated when the limit, before or after parameter is provided, and the links of the adjacent pages are returned in the Link header. The list is returned as newline delimited JSON when the application/x-ndjson media type is accepted.<br>    <b>Scope(Permission) required:</b> `internal_password_expired_user_view` ", response = PasswordExpiredUser.class, responseContainer = "List", tags={ "Get password expired users" })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Password expired users returned successfully", response = PasswordExpiredUser.class, responseContainer = "List"),
         @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
@@ -57,9 +57,9 @@ public class PasswordExpiredUsersApi  {
         @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getPasswordExpiredUsers(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter) {
+    public Response getPasswordExpiredUsers(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter,     @Valid@ApiParam(value = "Maximum number of users in a page. Values above 1000 are capped at 1000.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Cursor of the page before a user, from the previous link of a page.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Cursor of the page after a user, from the next link of a page.")  @QueryParam("after") String after,     @ApiParam(value = "Media type of the response." )@HeaderParam("Accept") String accept) {
 
-        return delegate.getPasswordExpiredUsers(expiredAfter,  excludeAfter );
+        return delegate.getPasswordExpiredUsers(expiredAfter,  excludeAfter,  limit,  before,  after,  accept );
     }
 
 }
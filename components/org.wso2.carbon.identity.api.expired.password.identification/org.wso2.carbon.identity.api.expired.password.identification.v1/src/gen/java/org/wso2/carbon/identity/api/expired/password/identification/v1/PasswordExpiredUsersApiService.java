@@ -32,5 +32,5 @@ import javax.ws.rs.core.Response;
 
 public interface PasswordExpiredUsersApiService {
 
-      public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter);
+      public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter, Integer limit, String before, String after, String accept);
 }
@@ -24,8 +24,14 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.expired.password.identification.common.PasswordExpiryServiceHolder;
 import org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.ErrorMessage;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
+import org.wso2.carbon.identity.api.server.common.JsonLinesOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.pagination.InMemoryKeysetFetcher;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
 import org.wso2.carbon.identity.application.authentication.framework.exception.PostAuthenticationFailedException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationClientException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationException;
@@ -37,14 +43,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXCLUDE_AFTER;
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXPIRED_AFTER;
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_FORMAT_REGEX;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.MAX_PAGE_LIMIT;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PAGINATION_LIMIT;
 
 /**
  * Calls internal osgi services to perform password expired user identification management related operations.
@@ -53,6 +64,17 @@ public class PasswordExpiredUsersManagementApiService {
 
     private static final Log LOG = LogFactory.getLog(PasswordExpiredUsersManagementApiService.class);
 
+    private static final String DOMAIN_SEPARATOR = "/";
+    /**
+     * Order of the paginated reports, i.e. by user store domain and then by username. The cursor key of a user is its
+     * domain qualified username.
+     */
+    private static final Comparator<String> QUALIFIED_USERNAME_ORDER =
+            Comparator.comparing((String name) -> StringUtils.substringBefore(name, DOMAIN_SEPARATOR))
+                    .thenComparing(name -> StringUtils.substringAfter(name, DOMAIN_SEPARATOR));
+    private static final KeysetPaginator<PasswordExpiredUserModel> PAGINATOR =
+            new KeysetPaginator<>(PasswordExpiredUsersManagementApiService::getQualifiedUsername);
+
     /**
      * Get password expired users.
      *
@@ -64,26 +86,120 @@ public class PasswordExpiredUsersManagementApiService {
     public List<PasswordExpiredUser> getPasswordExpiredUsers(
             String expiredAfter, String excludeAfter, String tenantDomain) {
 
-        List<PasswordExpiredUserModel> passwordExpiredUsers = null;
         try {
-            validateDates(expiredAfter, excludeAfter);
-            validatePasswordExpiryFeatureEnabled(tenantDomain);
-            LocalDateTime expiredAfterDate = convertToDateObject(expiredAfter, DATE_EXPIRED_AFTER);
-            LocalDateTime excludeAfterDate = convertToDateObject(excludeAfter, DATE_EXCLUDE_AFTER);
-            if (excludeAfterDate == null) {
-                passwordExpiredUsers = PasswordExpiryServiceHolder.getExpiredPasswordIdentificationService().
-                        getPasswordExpiredUsersFromSpecificDate(expiredAfterDate, tenantDomain);
-            } else {
-                passwordExpiredUsers = PasswordExpiryServiceHolder.getExpiredPasswordIdentificationService().
-                        getPasswordExpiredUsersBetweenSpecificDates(expiredAfterDate, excludeAfterDate, tenantDomain);
-            }
-            return buildResponse(passwordExpiredUsers);
+            return buildResponse(retrievePasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain));
+        } catch (ExpiredPasswordIdentificationException e) {
+            throw handleExpiredPasswordIdentificationException(e,
+                    ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS, tenantDomain);
+        }
+    }
+
+    /**
+     * Get a page of the password expired users, ordered by the user store domain and the username.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @param limit        Maximum number of users in the page, capped at {@value MAX_PAGE_LIMIT}.
+     * @param before       Cursor of the page before a user.
+     * @param after        Cursor of the page after a user.
+     * @return Page of password expired users.
+     */
+    public KeysetPage<PasswordExpiredUser> getPasswordExpiredUsers(String expiredAfter, String excludeAfter,
+                                                                   String tenantDomain, Integer limit, String before,
+                                                                   String after) {
+
+        try {
+            KeysetPageRequest pageRequest = buildPageRequest(limit, before, after);
+            List<PasswordExpiredUserModel> passwordExpiredUsers =
+                    retrievePasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain);
+            return PAGINATOR.paginate(pageRequest, new InMemoryKeysetFetcher<>(passwordExpiredUsers,
+                    PasswordExpiredUsersManagementApiService::getQualifiedUsername, QUALIFIED_USERNAME_ORDER,
+                    Function.identity())).map(this::buildPasswordExpiredUser);
+        } catch (ExpiredPasswordIdentificationException e) {
+            throw handleExpiredPasswordIdentificationException(e,
+                    ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS, tenantDomain);
+        }
+    }
+
+    /**
+     * Get password expired users as newline delimited JSON. The users are retrieved before the response is written,
+     * and each user is converted to the API model while it is written.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @return Writer of the password expired users.
+     */
+    public StreamingOutput streamPasswordExpiredUsers(String expiredAfter, String excludeAfter, String tenantDomain) {
+
+        try {
+            return new JsonLinesOutput<>(retrievePasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain),
+                    this::buildPasswordExpiredUser);
         } catch (ExpiredPasswordIdentificationException e) {
             throw handleExpiredPasswordIdentificationException(e,
                     ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS, tenantDomain);
         }
     }
 
+    /**
+     * Retrieve the password expired users from the expired password identification service.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @return List of password expired users.
+     * @throws ExpiredPasswordIdentificationException If the dates are invalid or the users couldn't be retrieved.
+     */
+    private List<PasswordExpiredUserModel> retrievePasswordExpiredUsers(String expiredAfter, String excludeAfter,
+                                                                        String tenantDomain)
+            throws ExpiredPasswordIdentificationException {
+
+        validateDates(expiredAfter, excludeAfter);
+        validatePasswordExpiryFeatureEnabled(tenantDomain);
+        LocalDateTime expiredAfterDate = convertToDateObject(expiredAfter, DATE_EXPIRED_AFTER);
+        LocalDateTime excludeAfterDate = convertToDateObject(excludeAfter, DATE_EXCLUDE_AFTER);
+        if (excludeAfterDate == null) {
+            return PasswordExpiryServiceHolder.getExpiredPasswordIdentificationService().
+                    getPasswordExpiredUsersFromSpecificDate(expiredAfterDate, tenantDomain);
+        }
+        return PasswordExpiryServiceHolder.getExpiredPasswordIdentificationService().
+                getPasswordExpiredUsersBetweenSpecificDates(expiredAfterDate, excludeAfterDate, tenantDomain);
+    }
+
+    /**
+     * Build the page request from the pagination parameters.
+     *
+     * @param limit  Maximum number of users in the page.
+     * @param before Cursor of the page before a user.
+     * @param after  Cursor of the page after a user.
+     * @return Page request.
+     * @throws ExpiredPasswordIdentificationClientException If the pagination parameters are invalid.
+     */
+    private KeysetPageRequest buildPageRequest(Integer limit, String before, String after)
+            throws ExpiredPasswordIdentificationClientException {
+
+        ErrorMessage error = ErrorMessage.ERROR_INVALID_PAGINATION_PARAMETER;
+        if (limit != null && limit <= 0) {
+            throw new ExpiredPasswordIdentificationClientException(error.getCode(), error.getMessage(),
+                    String.format(error.getDescription(), "The value of " + PAGINATION_LIMIT +
+                            " parameter should be a positive integer."));
+        }
+        try {
+            return KeysetPageRequest.of(limit == null ? MAX_PAGE_LIMIT : Math.min(limit, MAX_PAGE_LIMIT), before,
+                    after);
+        } catch (InvalidCursorException e) {
+            throw new ExpiredPasswordIdentificationClientException(error.getCode(), error.getMessage(),
+                    String.format(error.getDescription(), e.getMessage()));
+        }
+    }
+
+    private static String getQualifiedUsername(PasswordExpiredUserModel passwordExpiredUserModel) {
+
+        return StringUtils.defaultString(passwordExpiredUserModel.getUserStoreDomain()) + DOMAIN_SEPARATOR +
+                passwordExpiredUserModel.getUsername();
+    }
+
     /**
      * Validate the dates.
      *
@@ -150,17 +266,28 @@ public class PasswordExpiredUsersManagementApiService {
      */
     private List<PasswordExpiredUser> buildResponse(List<PasswordExpiredUserModel> passwordExpiredUserModels) {
 
-        List<PasswordExpiredUser> passwordExpiredUsers = new ArrayList<>();
+        List<PasswordExpiredUser> passwordExpiredUsers = new ArrayList<>(passwordExpiredUserModels.size());
         for (PasswordExpiredUserModel passwordExpiredUserModel : passwordExpiredUserModels) {
-            PasswordExpiredUser passwordExpiredUser = new PasswordExpiredUser();
-            passwordExpiredUser.setUsername(passwordExpiredUserModel.getUsername());
-            passwordExpiredUser.setUserStoreDomain(passwordExpiredUserModel.getUserStoreDomain());
-            passwordExpiredUser.setUserId(passwordExpiredUserModel.getUserId());
-            passwordExpiredUsers.add(passwordExpiredUser);
+            passwordExpiredUsers.add(buildPasswordExpiredUser(passwordExpiredUserModel));
         }
         return passwordExpiredUsers;
     }
 
+    /**
+     * Build the PasswordExpiredUser of a password expired user.
+     *
+     * @param passwordExpiredUserModel Password expired user.
+     * @return PasswordExpiredUser.
+     */
+    private PasswordExpiredUser buildPasswordExpiredUser(PasswordExpiredUserModel passwordExpiredUserModel) {
+
+        PasswordExpiredUser passwordExpiredUser = new PasswordExpiredUser();
+        passwordExpiredUser.setUsername(passwordExpiredUserModel.getUsername());
+        passwordExpiredUser.setUserStoreDomain(passwordExpiredUserModel.getUserStoreDomain());
+        passwordExpiredUser.setUserId(passwordExpiredUserModel.getUserId());
+        return passwordExpiredUser;
+    }
+
     /**
      * Handle ExpiredPasswordIdentificationException.
      *
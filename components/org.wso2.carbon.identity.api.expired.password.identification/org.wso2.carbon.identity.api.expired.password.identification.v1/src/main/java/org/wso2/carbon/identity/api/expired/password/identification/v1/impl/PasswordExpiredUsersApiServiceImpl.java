@@ -18,13 +18,31 @@
 
 package org.wso2.carbon.identity.api.expired.password.identification.v1.impl;
 
+import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.expired.password.identification.common.ContextLoader;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.PasswordExpiredUsersApiService;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.core.PasswordExpiredUsersManagementApiService;
+import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.JsonLinesOutput;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXCLUDE_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXPIRED_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PAGINATION_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PAGINATION_BEFORE;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PAGINATION_LIMIT;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PASSWORD_EXPIRED_USERS_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
+
 /**
  * Implementation of the password expired User retrieval API Service.
  */
@@ -34,10 +52,39 @@ public class PasswordExpiredUsersApiServiceImpl implements PasswordExpiredUsersA
     private PasswordExpiredUsersManagementApiService passwordExpiredUsersManagementApiService;
 
     @Override
-    public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter) {
+    public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter, Integer limit, String before,
+                                            String after, String accept) {
 
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        return Response.ok().entity(passwordExpiredUsersManagementApiService.getPasswordExpiredUsers(
-                expiredAfter, excludeAfter, tenantDomain)).build();
+        boolean isJsonLines = JsonLinesOutput.isAccepted(accept);
+        if (limit == null && StringUtils.isBlank(before) && StringUtils.isBlank(after)) {
+            if (isJsonLines) {
+                return Response.ok(passwordExpiredUsersManagementApiService.streamPasswordExpiredUsers(expiredAfter,
+                        excludeAfter, tenantDomain), Constants.MEDIA_TYPE_NDJSON).build();
+            }
+            return Response.ok().entity(passwordExpiredUsersManagementApiService.getPasswordExpiredUsers(
+                    expiredAfter, excludeAfter, tenantDomain)).build();
+        }
+
+        KeysetPage<PasswordExpiredUser> page = passwordExpiredUsersManagementApiService.getPasswordExpiredUsers(
+                expiredAfter, excludeAfter, tenantDomain, limit, before, after);
+        Response.ResponseBuilder responseBuilder = isJsonLines ?
+                Response.ok(new JsonLinesOutput<>(page.getItems(), Function.identity()), Constants.MEDIA_TYPE_NDJSON) :
+                Response.ok().entity(page.getItems());
+        return page.addLinkHeaders(responseBuilder, buildListingURL(expiredAfter, excludeAfter, limit),
+                PAGINATION_BEFORE, PAGINATION_AFTER).build();
+    }
+
+    /**
+     * Build the absolute URL of the listing with the query parameters of the request except the cursors, for the page
+     * links.
+     */
+    private String buildListingURL(String expiredAfter, String excludeAfter, Integer limit) {
+
+        Map<String, Object> queryParameters = new LinkedHashMap<>();
+        queryParameters.put(DATE_EXPIRED_AFTER, expiredAfter);
+        queryParameters.put(DATE_EXCLUDE_AFTER, excludeAfter);
+        queryParameters.put(PAGINATION_LIMIT, limit);
+        return buildURIForHeader(PASSWORD_EXPIRED_USERS_PATH_COMPONENT) + Util.buildQuery(queryParameters);
     }
 }
@@ -24,10 +24,16 @@ package org.wso2.carbon.identity.api.idle.account.identification.common.util;
 public class IdleAccountIdentificationConstants {
 
     public static final String INACTIVE_USER_MANAGEMENT_SERVICE_ERROR_PREFIX = "IDLE_ACC-";
+    public static final String IDLE_ACCOUNT_IDENTIFICATION_API_PATH_COMPONENT = "/api/idle-account-identification";
+    public static final String INACTIVE_USERS_PATH_COMPONENT = "/v1/inactive-users";
 
     public static final String DATE_INACTIVE_AFTER = "inactiveAfter";
     public static final String DATE_EXCLUDE_BEFORE = "excludeBefore";
     public static final String DATE_FORMAT_REGEX = "^\\d{4}-\\d{2}-\\d{2}$";
+    public static final String PAGINATION_LIMIT = "limit";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String PAGINATION_AFTER = "after";
+    public static final int MAX_PAGE_LIMIT = 1000;
 
     /**
      * Enums for error messages.
@@ -51,6 +57,10 @@ public class IdleAccountIdentificationConstants {
                 "Invalid date combination is provided.",
                 "The inactive after date must be before the exclude after date."),
 
+        ERROR_INVALID_PAGINATION_PARAMETER("60005",
+                "Invalid pagination parameters provided.",
+                "%s"),
+
         // Server errors 650xx.
         ERROR_RETRIEVING_INACTIVE_USERS("65001",
                 "Error while retrieving inactive users.",
@@ -48,8 +48,8 @@ public class InactiveUsersApi  {
     @GET
 
 
-    @Produces({ "application/json" })
-    @ApiOperation(value = "", notes = "Get inactive users list for a specified period.", response = InactiveUser.class, responseContainer = "List", tags={ "Get inactive users" })
+    @Produces({ "application/json", "application/x-ndjson" })
+    @ApiOperation(value = "", notes = "Get inactive users list for a specified period. The list is paginated when the limit, before or after parameter is provided, and the links of the adjacent pages are returned in the Link header. The list is returned as newline delimited JSON when the application/x-ndjson media type is accepted.", response = InactiveUser.class, responseContainer = "List", tags={ "Get inactive users" })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Inactive users returned successfully", response = InactiveUser.class, responseContainer = "List"),
             @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
@@ -57,8 +57,8 @@ public class InactiveUsersApi  {
             @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
             @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getInactiveUsers(    @Valid@ApiParam(value = "Latest active date of login.")  @QueryParam("inactiveAfter") String inactiveAfter,     @Valid@ApiParam(value = "Date to exclude the oldest inactive users.")  @QueryParam("excludeBefore") String excludeBefore) {
+    public Response getInactiveUsers(    @Valid@ApiParam(value = "Latest active date of login.")  @QueryParam("inactiveAfter") String inactiveAfter,     @Valid@ApiParam(value = "Date to exclude the oldest inactive users.")  @QueryParam("excludeBefore") String excludeBefore,     @Valid@ApiParam(value = "Maximum number of users in a page. Values above 1000 are capped at 1000.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Cursor of the page before a user, from the previous link of a page.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Cursor of the page after a user, from the next link of a page.")  @QueryParam("after") String after,     @ApiParam(value = "Media type of the response." )@HeaderParam("Accept") String accept) {
 
-        return delegate.getInactiveUsers(inactiveAfter,  excludeBefore );
+        return delegate.getInactiveUsers(inactiveAfter,  excludeBefore,  limit,  before,  after,  accept );
     }
 }
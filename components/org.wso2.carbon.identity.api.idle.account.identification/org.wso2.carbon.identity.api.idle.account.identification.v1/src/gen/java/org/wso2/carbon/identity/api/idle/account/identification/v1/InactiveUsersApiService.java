@@ -31,5 +31,5 @@ import javax.ws.rs.core.Response;
 
 public interface InactiveUsersApiService {
 
-    public Response getInactiveUsers(String inactiveAfter, String excludeBefore);
+    public Response getInactiveUsers(String inactiveAfter, String excludeBefore, Integer limit, String before, String after, String accept);
 }
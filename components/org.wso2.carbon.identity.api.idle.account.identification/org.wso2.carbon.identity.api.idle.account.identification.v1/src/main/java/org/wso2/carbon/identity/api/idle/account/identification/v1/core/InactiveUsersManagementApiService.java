@@ -24,8 +24,14 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.idle.account.identification.common.IdleAccountIdentificationServiceHolder;
 import org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
+import org.wso2.carbon.identity.api.server.common.JsonLinesOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.pagination.InMemoryKeysetFetcher;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationServerException;
@@ -35,15 +41,20 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_EXCLUDE_BEFORE;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_FORMAT_REGEX;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_INACTIVE_AFTER;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.ErrorMessage;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.MAX_PAGE_LIMIT;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PAGINATION_LIMIT;
 
 /**
  * Calls internal osgi services to perform idle account identification management related operations.
@@ -52,6 +63,17 @@ public class InactiveUsersManagementApiService {
 
     private static final Log LOG = LogFactory.getLog(InactiveUsersManagementApiService.class);
 
+    private static final String DOMAIN_SEPARATOR = "/";
+    /**
+     * Order of the paginated reports, i.e. by user store domain and then by username. The cursor key of a user is its
+     * domain qualified username.
+     */
+    private static final Comparator<String> QUALIFIED_USERNAME_ORDER =
+            Comparator.comparing((String name) -> StringUtils.substringBefore(name, DOMAIN_SEPARATOR))
+                    .thenComparing(name -> StringUtils.substringAfter(name, DOMAIN_SEPARATOR));
+    private static final KeysetPaginator<InactiveUserModel> PAGINATOR =
+            new KeysetPaginator<>(InactiveUsersManagementApiService::getQualifiedUsername);
+
     /**
      * Get inactive users.
      *
@@ -62,27 +84,117 @@ public class InactiveUsersManagementApiService {
      */
     public List<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain) {
 
-        List<InactiveUserModel> inactiveUsers = null;
         try {
-            validateDates(inactiveAfter, excludeBefore);
-            LocalDateTime inactiveAfterDate = convertToDateObject(inactiveAfter, DATE_INACTIVE_AFTER);
-            LocalDateTime excludeBeforeDate = convertToDateObject(excludeBefore, DATE_EXCLUDE_BEFORE);
+            return buildResponse(retrieveInactiveUsers(inactiveAfter, excludeBefore, tenantDomain));
+        } catch (IdleAccountIdentificationException e) {
+            throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
+        }
+    }
 
-            validateDatesCombination(inactiveAfterDate, excludeBeforeDate);
+    /**
+     * Get a page of the inactive users, ordered by the user store domain and the username.
+     *
+     * @param inactiveAfter Latest active date of login.
+     * @param excludeBefore Date to exclude the oldest inactive users.
+     * @param tenantDomain  Tenant domain.
+     * @param limit         Maximum number of users in the page, capped at {@value MAX_PAGE_LIMIT}.
+     * @param before        Cursor of the page before a user.
+     * @param after         Cursor of the page after a user.
+     * @return Page of inactive users.
+     */
+    public KeysetPage<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain,
+                                                     Integer limit, String before, String after) {
 
-            if (excludeBeforeDate == null) {
-                inactiveUsers = IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService().
-                        getInactiveUsersFromSpecificDate(inactiveAfterDate, tenantDomain);
-            } else {
-                inactiveUsers = IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService().
-                        getLimitedInactiveUsersFromSpecificDate(inactiveAfterDate, excludeBeforeDate, tenantDomain);
-            }
-            return buildResponse(inactiveUsers);
+        try {
+            KeysetPageRequest pageRequest = buildPageRequest(limit, before, after);
+            List<InactiveUserModel> inactiveUsers = retrieveInactiveUsers(inactiveAfter, excludeBefore, tenantDomain);
+            return PAGINATOR.paginate(pageRequest, new InMemoryKeysetFetcher<>(inactiveUsers,
+                    InactiveUsersManagementApiService::getQualifiedUsername, QUALIFIED_USERNAME_ORDER,
+                    Function.identity())).map(this::buildInactiveUser);
         } catch (IdleAccountIdentificationException e) {
             throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
         }
     }
 
+    /**
+     * Get inactive users as newline delimited JSON. The users are retrieved before the response is written, and
+     * each user is converted to the API model while it is written.
+     *
+     * @param inactiveAfter Latest active date of login.
+     * @param excludeBefore Date to exclude the oldest inactive users.
+     * @param tenantDomain  Tenant domain.
+     * @return Writer of the inactive users.
+     */
+    public StreamingOutput streamInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain) {
+
+        try {
+            return new JsonLinesOutput<>(retrieveInactiveUsers(inactiveAfter, excludeBefore, tenantDomain),
+                    this::buildInactiveUser);
+        } catch (IdleAccountIdentificationException e) {
+            throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
+        }
+    }
+
+    /**
+     * Retrieve the inactive users from the idle account identification service.
+     *
+     * @param inactiveAfter Latest active date of login.
+     * @param excludeBefore Date to exclude the oldest inactive users.
+     * @param tenantDomain  Tenant domain.
+     * @return List of inactive users.
+     * @throws IdleAccountIdentificationException If the dates are invalid or the users couldn't be retrieved.
+     */
+    private List<InactiveUserModel> retrieveInactiveUsers(String inactiveAfter, String excludeBefore,
+                                                          String tenantDomain)
+            throws IdleAccountIdentificationException {
+
+        validateDates(inactiveAfter, excludeBefore);
+        LocalDateTime inactiveAfterDate = convertToDateObject(inactiveAfter, DATE_INACTIVE_AFTER);
+        LocalDateTime excludeBeforeDate = convertToDateObject(excludeBefore, DATE_EXCLUDE_BEFORE);
+
+        validateDatesCombination(inactiveAfterDate, excludeBeforeDate);
+
+        if (excludeBeforeDate == null) {
+            return IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService().
+                    getInactiveUsersFromSpecificDate(inactiveAfterDate, tenantDomain);
+        }
+        return IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService().
+                getLimitedInactiveUsersFromSpecificDate(inactiveAfterDate, excludeBeforeDate, tenantDomain);
+    }
+
+    /**
+     * Build the page request from the pagination parameters.
+     *
+     * @param limit  Maximum number of users in the page.
+     * @param before Cursor of the page before a user.
+     * @param after  Cursor of the page after a user.
+     * @return Page request.
+     * @throws IdleAccountIdentificationClientException If the pagination parameters are invalid.
+     */
+    private KeysetPageRequest buildPageRequest(Integer limit, String before, String after)
+            throws IdleAccountIdentificationClientException {
+
+        ErrorMessage error = ErrorMessage.ERROR_INVALID_PAGINATION_PARAMETER;
+        if (limit != null && limit <= 0) {
+            throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
+                    String.format(error.getDescription(), "The value of " + PAGINATION_LIMIT +
+                            " parameter should be a positive integer."));
+        }
+        try {
+            return KeysetPageRequest.of(limit == null ? MAX_PAGE_LIMIT : Math.min(limit, MAX_PAGE_LIMIT), before,
+                    after);
+        } catch (InvalidCursorException e) {
+            throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
+                    String.format(error.getDescription(), e.getMessage()));
+        }
+    }
+
+    private static String getQualifiedUsername(InactiveUserModel inactiveUserModel) {
+
+        return StringUtils.defaultString(inactiveUserModel.getUserStoreDomain()) + DOMAIN_SEPARATOR +
+                inactiveUserModel.getUsername();
+    }
+
     /**
      * Validate the dates.
      *
@@ -156,17 +268,28 @@ public class InactiveUsersManagementApiService {
      */
     private List<InactiveUser> buildResponse(List<InactiveUserModel> inactiveUserModels) {
 
-        List<InactiveUser> inactiveUserList = new ArrayList<>();
+        List<InactiveUser> inactiveUserList = new ArrayList<>(inactiveUserModels.size());
         for (InactiveUserModel inactiveUserModel : inactiveUserModels) {
-            InactiveUser inactiveUser = new InactiveUser();
-            inactiveUser.setUsername(inactiveUserModel.getUsername());
-            inactiveUser.setUserStoreDomain(inactiveUserModel.getUserStoreDomain());
-            inactiveUser.setUserId(inactiveUserModel.getUserId());
-            inactiveUserList.add(inactiveUser);
+            inactiveUserList.add(buildInactiveUser(inactiveUserModel));
         }
         return inactiveUserList;
     }
 
+    /**
+     * Build the InactiveUser of an inactive user.
+     *
+     * @param inactiveUserModel Inactive user.
+     * @return InactiveUser.
+     */
+    private InactiveUser buildInactiveUser(InactiveUserModel inactiveUserModel) {
+
+        InactiveUser inactiveUser = new InactiveUser();
+        inactiveUser.setUsername(inactiveUserModel.getUsername());
+        inactiveUser.setUserStoreDomain(inactiveUserModel.getUserStoreDomain());
+        inactiveUser.setUserId(inactiveUserModel.getUserId());
+        return inactiveUser;
+    }
+
     /**
      * Handle IdleAccIdentificationException.
      *
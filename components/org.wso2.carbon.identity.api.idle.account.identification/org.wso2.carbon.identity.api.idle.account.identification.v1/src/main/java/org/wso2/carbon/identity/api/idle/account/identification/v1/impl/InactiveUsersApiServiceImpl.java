@@ -18,13 +18,32 @@
 
 package org.wso2.carbon.identity.api.idle.account.identification.v1.impl;
 
+import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.idle.account.identification.common.ContextLoader;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.InactiveUsersApiService;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.core.InactiveUsersManagementApiService;
+import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.JsonLinesOutput;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_EXCLUDE_BEFORE;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_INACTIVE_AFTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.IDLE_ACCOUNT_IDENTIFICATION_API_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.INACTIVE_USERS_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PAGINATION_AFTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PAGINATION_BEFORE;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PAGINATION_LIMIT;
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
+
 /**
  * Implementation of the Inactive Users API Service.
  */
@@ -34,10 +53,41 @@ public class InactiveUsersApiServiceImpl implements InactiveUsersApiService {
     private InactiveUsersManagementApiService inactiveUsersManagementApiService;
 
     @Override
-    public Response getInactiveUsers(String inactiveAfter, String excludeBefore) {
+    public Response getInactiveUsers(String inactiveAfter, String excludeBefore, Integer limit, String before,
+                                     String after, String accept) {
 
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        return Response.ok().entity(
-                inactiveUsersManagementApiService.getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain)).build();
+        boolean isJsonLines = JsonLinesOutput.isAccepted(accept);
+        if (limit == null && StringUtils.isBlank(before) && StringUtils.isBlank(after)) {
+            if (isJsonLines) {
+                return Response.ok(inactiveUsersManagementApiService.streamInactiveUsers(inactiveAfter, excludeBefore,
+                        tenantDomain), Constants.MEDIA_TYPE_NDJSON).build();
+            }
+            return Response.ok().entity(
+                    inactiveUsersManagementApiService.getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain))
+                    .build();
+        }
+
+        KeysetPage<InactiveUser> page = inactiveUsersManagementApiService.getInactiveUsers(inactiveAfter,
+                excludeBefore, tenantDomain, limit, before, after);
+        Response.ResponseBuilder responseBuilder = isJsonLines ?
+                Response.ok(new JsonLinesOutput<>(page.getItems(), Function.identity()), Constants.MEDIA_TYPE_NDJSON) :
+                Response.ok().entity(page.getItems());
+        return page.addLinkHeaders(responseBuilder, buildListingURL(inactiveAfter, excludeBefore, limit),
+                PAGINATION_BEFORE, PAGINATION_AFTER).build();
+    }
+
+    /**
+     * Build the absolute URL of the listing with the query parameters of the request except the cursors, for the page
+     * links.
+     */
+    private String buildListingURL(String inactiveAfter, String excludeBefore, Integer limit) {
+
+        Map<String, Object> queryParameters = new LinkedHashMap<>();
+        queryParameters.put(DATE_INACTIVE_AFTER, inactiveAfter);
+        queryParameters.put(DATE_EXCLUDE_BEFORE, excludeBefore);
+        queryParameters.put(PAGINATION_LIMIT, limit);
+        return buildURIForHeader(IDLE_ACCOUNT_IDENTIFICATION_API_PATH_COMPONENT, INACTIVE_USERS_PATH_COMPONENT) +
+                Util.buildQuery(queryParameters);
     }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.action.management.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.action.management.exception.ActionMgtException;
+import org.wso2.carbon.identity.api.server.action.management.v1.ActionResponse;
+import org.wso2.carbon.identity.api.server.common.ModelCopier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tenant snapshot of the actions, which serves the action listings, the action lookups and the action counts
+ * polled by the console. The actions of a type are loaded with a single backend call on first use, and indexed by
+ * their IDs, so that a lookup is served without a backend call.
+ * <p>
+ * The action writes through this API invalidate the snapshot of the tenant. A write replaces the snapshot instance of
+ * the tenant, so that a load which started before the write can't publish its result into the new instance.
+ * <p>
+ * The writes through the other nodes of a cluster are not observable from this API, hence they are only picked up once
+ * the snapshot is older than {@link #MAX_AGE_MILLIS}. An action added on another node is still found, as a lookup
+ * missing the snapshot falls back to the service. An action updated, deactivated or deleted on another node is served
+ * as it was for at most {@link #MAX_AGE_MILLIS} on this node. The snapshot only serves this API: the actions executed
+ * by the runtime are read from the action management service, hence the window only affects what the console shows, not
+ * which actions are executed.
+ * <p>
+ * The response models are mutable, hence the snapshot returns copies of the actions it holds, so that a caller
+ * modifying a response can't change the actions served to the other requests.
+ */
+final class ActionSnapshot {
+
+    private static final Log LOG = LogFactory.getLog(ActionSnapshot.class);
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, ActionSnapshot> TENANT_SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private final Map<String, TypeEntry> types = new ConcurrentHashMap<>();
+    private final long createdTime;
+    private volatile Map<String, Integer> actionsCountPerType;
+
+    private ActionSnapshot() {
+
+        this.createdTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the current snapshot of a tenant, creating an empty one if there is none or the current one is stale.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Snapshot of the tenant.
+     */
+    static ActionSnapshot forTenant(String tenantDomain) {
+
+        return TENANT_SNAPSHOTS.compute(tenantDomain, (key, snapshot) ->
+                snapshot == null || snapshot.isStale() ? new ActionSnapshot() : snapshot);
+    }
+
+    /**
+     * Evicts the snapshot of a tenant, after an action of the tenant changed.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    static void invalidate(String tenantDomain) {
+
+        TENANT_SNAPSHOTS.remove(tenantDomain);
+    }
+
+    /**
+     * Returns the actions of a type, loading them if they are not in the snapshot.
+     *
+     * @param actionType Action type path param.
+     * @param loader     Loader of the actions of the type.
+     * @return Copies of the actions of the type.
+     * @throws ActionMgtException If an error occurred while loading the actions.
+     */
+    List<ActionResponse> getActions(String actionType, Loader<List<ActionResponse>> loader)
+            throws ActionMgtException {
+
+        List<ActionResponse> actions = getTypeEntry(actionType, loader).actions;
+        List<ActionResponse> copies = new ArrayList<>(actions.size());
+        for (ActionResponse action : actions) {
+            copies.add(ModelCopier.deepCopy(action));
+        }
+        return copies;
+    }
+
+    /**
+     * Returns an action of a type, loading the actions of the type if they are not in the snapshot.
+     *
+     * @param actionType Action type path param.
+     * @param actionId   Action ID.
+     * @param loader     Loader of the actions of the type.
+     * @return Copy of the action, or null if the snapshot has no such action.
+     * @throws ActionMgtException If an error occurred while loading the actions.
+     */
+    ActionResponse getAction(String actionType, String actionId, Loader<List<ActionResponse>> loader)
+            throws ActionMgtException {
+
+        ActionResponse action = getTypeEntry(actionType, loader).actionsById.get(actionId);
+        return action == null ? null : ModelCopier.deepCopy(action);
+    }
+
+    /**
+     * Returns the number of actions of each type, loading the counts if they are not in the snapshot.
+     *
+     * @param loader Loader of the action counts.
+     * @return Unmodifiable map of the action type to the number of actions of the type.
+     * @throws ActionMgtException If an error occurred while loading the action counts.
+     */
+    Map<String, Integer> getActionsCountPerType(Loader<Map<String, Integer>> loader) throws ActionMgtException {
+
+        Map<String, Integer> counts = actionsCountPerType;
+        if (counts == null) {
+            Map<String, Integer> loadedCounts = loader.load();
+            counts = loadedCounts == null ? Collections.emptyMap() :
+                    Collections.unmodifiableMap(new HashMap<>(loadedCounts));
+            actionsCountPerType = counts;
+        }
+        return counts;
+    }
+
+    private TypeEntry getTypeEntry(String actionType, Loader<List<ActionResponse>> loader)
+            throws ActionMgtException {
+
+        TypeEntry entry = types.get(actionType);
+        if (entry == null) {
+            // Concurrent loads of a type are not coordinated. Each load reads the same state of the backend.
+            TypeEntry loadedEntry = new TypeEntry(loader.load());
+            entry = types.putIfAbsent(actionType, loadedEntry);
+            if (entry == null) {
+                entry = loadedEntry;
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("Loaded %d actions of the type: %s into the action snapshot.",
+                            loadedEntry.actions.size(), actionType));
+                }
+            }
+        }
+        return entry;
+    }
+
+    private boolean isStale() {
+
+        return System.currentTimeMillis() - createdTime > MAX_AGE_MILLIS;
+    }
+
+    /**
+     * Loader of a part of the snapshot from the action management service.
+     *
+     * @param <T> Type of the loaded value.
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+
+        T load() throws ActionMgtException;
+    }
+
+    /**
+     * Actions of a type, in listing order and by ID.
+     */
+    private static final class TypeEntry {
+
+        private final List<ActionResponse> actions;
+        private final Map<String, ActionResponse> actionsById;
+
+        private TypeEntry(List<ActionResponse> actions) {
+
+            Map<String, ActionResponse> index = new HashMap<>();
+            for (ActionResponse action : actions) {
+                index.put(action.getId(), action);
+            }
+            this.actions = Collections.unmodifiableList(actions);
+            this.actionsById = Collections.unmodifiableMap(index);
+        }
+    }
+}
@@ -72,9 +72,11 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
-            return buildActionResponse(ActionManagementServiceHolder.getActionManagementService()
-                    .addAction(actionType, buildAction(actionModel),
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain()));
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            ActionResponse actionResponse = buildActionResponse(ActionManagementServiceHolder
+                    .getActionManagementService().addAction(actionType, buildAction(actionModel), tenantDomain));
+            ActionSnapshot.invalidate(tenantDomain);
+            return actionResponse;
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -84,15 +86,9 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
-            List<Action> actions = ActionManagementServiceHolder.getActionManagementService()
-                    .getActionsByActionType(actionType,
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
-
-            List<ActionResponse> actionResponses = new ArrayList<>();
-            for (Action action : actions) {
-                actionResponses.add(buildActionResponse(action));
-            }
-            return actionResponses;
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            return ActionSnapshot.forTenant(tenantDomain).getActions(actionType,
+                    () -> loadActionsByActionType(actionType, tenantDomain));
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -102,16 +98,20 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            ActionResponse actionResponse = ActionSnapshot.forTenant(tenantDomain).getAction(actionType, actionId,
+                    () -> loadActionsByActionType(actionType, tenantDomain));
+            if (actionResponse != null) {
+                return actionResponse;
+            }
+            // The action may have been added on another node after the snapshot was loaded.
             Action action = ActionManagementServiceHolder.getActionManagementService()
-                    .getActionByActionId(actionType, actionId,
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                    .getActionByActionId(actionType, actionId, tenantDomain);
             if (action == null) {
                 throw ActionMgtEndpointUtil.handleException(Response.Status.NOT_FOUND,
                         ERROR_NO_ACTION_FOUND_ON_GIVEN_ACTION_TYPE_AND_ID);
             }
-            return buildActionResponse(ActionManagementServiceHolder.getActionManagementService()
-                    .getActionByActionId(actionType, actionId,
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain()));
+            return buildActionResponse(action);
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -121,9 +121,12 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
-            return buildActionResponse(ActionManagementServiceHolder.getActionManagementService()
-                    .updateAction(actionType, actionId, buildUpdatingAction(actionUpdateModel),
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain()));
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            ActionResponse actionResponse = buildActionResponse(ActionManagementServiceHolder
+                    .getActionManagementService().updateAction(actionType, actionId,
+                            buildUpdatingAction(actionUpdateModel), tenantDomain));
+            ActionSnapshot.invalidate(tenantDomain);
+            return actionResponse;
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -133,8 +136,10 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             ActionManagementServiceHolder.getActionManagementService().deleteAction(actionType, actionId,
-                    CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                    tenantDomain);
+            ActionSnapshot.invalidate(tenantDomain);
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -144,9 +149,11 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
-            return buildActionBasicResponse(ActionManagementServiceHolder.getActionManagementService()
-                    .activateAction(actionType, actionId,
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain()));
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            ActionBasicResponse actionBasicResponse = buildActionBasicResponse(ActionManagementServiceHolder
+                    .getActionManagementService().activateAction(actionType, actionId, tenantDomain));
+            ActionSnapshot.invalidate(tenantDomain);
+            return actionBasicResponse;
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -156,9 +163,11 @@ public class ServerActionManagementService {
 
         try {
             handleNotImplementedActionTypes(actionType);
-            return buildActionBasicResponse(ActionManagementServiceHolder.getActionManagementService()
-                    .deactivateAction(actionType, actionId,
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain()));
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            ActionBasicResponse actionBasicResponse = buildActionBasicResponse(ActionManagementServiceHolder
+                    .getActionManagementService().deactivateAction(actionType, actionId, tenantDomain));
+            ActionSnapshot.invalidate(tenantDomain);
+            return actionBasicResponse;
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
@@ -170,8 +179,10 @@ public class ServerActionManagementService {
             LOG.debug("Retrieving Action Types.");
         }
         try {
-            Map<String, Integer> actionsCountPerType = ActionManagementServiceHolder.getActionManagementService()
-                    .getActionsCountPerType(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            Map<String, Integer> actionsCountPerType = ActionSnapshot.forTenant(tenantDomain)
+                    .getActionsCountPerType(() -> ActionManagementServiceHolder.getActionManagementService()
+                            .getActionsCountPerType(tenantDomain));
 
             List<ActionTypesResponseItem> actionTypesResponseItems = new ArrayList<>();
             for (Action.ActionTypes actionType : Action.ActionTypes.values()) {
@@ -199,14 +210,38 @@ public class ServerActionManagementService {
             handleNotImplementedActionTypes(actionType);
             Authentication authentication = buildAuthentication(getAuthTypeFromPath(authType),
                     authenticationTypeProperties.getProperties());
-            return buildActionResponse(ActionManagementServiceHolder.getActionManagementService()
-                    .updateActionEndpointAuthentication(actionType, actionId, authentication,
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain()));
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            ActionResponse actionResponse = buildActionResponse(ActionManagementServiceHolder
+                    .getActionManagementService().updateActionEndpointAuthentication(actionType, actionId,
+                            authentication, tenantDomain));
+            ActionSnapshot.invalidate(tenantDomain);
+            return actionResponse;
         } catch (ActionMgtException e) {
             throw ActionMgtEndpointUtil.handleActionMgtException(e);
         }
     }
 
+    /**
+     * Load the actions of a type from the action management service.
+     *
+     * @param actionType   Action type.
+     * @param tenantDomain Tenant domain.
+     * @return ActionResponse list.
+     * @throws ActionMgtException If an error occurred while retrieving the actions.
+     */
+    private List<ActionResponse> loadActionsByActionType(String actionType, String tenantDomain)
+            throws ActionMgtException {
+
+        List<Action> actions = ActionManagementServiceHolder.getActionManagementService()
+                .getActionsByActionType(actionType, tenantDomain);
+
+        List<ActionResponse> actionResponses = new ArrayList<>();
+        for (Action action : actions) {
+            actionResponses.add(buildActionResponse(action));
+        }
+        return actionResponses;
+    }
+
     /**
      * Build ActionResponse from Action.
      *
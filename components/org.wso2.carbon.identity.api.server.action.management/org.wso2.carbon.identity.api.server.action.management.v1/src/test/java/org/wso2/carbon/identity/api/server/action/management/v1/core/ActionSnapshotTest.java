@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.action.management.v1.core;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.action.management.v1.ActionResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test for ActionSnapshot.
+ */
+public class ActionSnapshotTest {
+
+    private static final String TENANT_DOMAIN = "snapshot.com";
+    private static final String ACTION_TYPE = "preIssueAccessToken";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterMethod
+    public void tearDown() {
+
+        ActionSnapshot.invalidate(TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testActionsAreLoadedOnce() throws Exception {
+
+        List<ActionResponse> actions = ActionSnapshot.forTenant(TENANT_DOMAIN).getActions(ACTION_TYPE,
+                () -> load("action-1", "action-2"));
+        ActionResponse action = ActionSnapshot.forTenant(TENANT_DOMAIN).getAction(ACTION_TYPE, "action-2",
+                () -> load("action-1", "action-2"));
+
+        assertEquals(actions.size(), 2);
+        assertEquals(action.getId(), "action-2");
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testUnknownAction() throws Exception {
+
+        assertNull(ActionSnapshot.forTenant(TENANT_DOMAIN).getAction(ACTION_TYPE, "action-2",
+                () -> load("action-1")));
+    }
+
+    @Test
+    public void testInvalidateReloadsActions() throws Exception {
+
+        ActionSnapshot.forTenant(TENANT_DOMAIN).getActions(ACTION_TYPE, () -> load("action-1"));
+        ActionSnapshot.invalidate(TENANT_DOMAIN);
+
+        List<ActionResponse> actions = ActionSnapshot.forTenant(TENANT_DOMAIN).getActions(ACTION_TYPE,
+                () -> load("action-1", "action-2"));
+        assertEquals(actions.size(), 2);
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    public void testLoadBeforeInvalidateIsNotPublished() throws Exception {
+
+        // A read which resolved the snapshot before a write, and loads the actions after it.
+        ActionSnapshot snapshotBeforeWrite = ActionSnapshot.forTenant(TENANT_DOMAIN);
+        ActionSnapshot.invalidate(TENANT_DOMAIN);
+        snapshotBeforeWrite.getActions(ACTION_TYPE, () -> load("deleted-action"));
+
+        ActionSnapshot snapshotAfterWrite = ActionSnapshot.forTenant(TENANT_DOMAIN);
+        assertNotSame(snapshotAfterWrite, snapshotBeforeWrite);
+        assertNull(snapshotAfterWrite.getAction(ACTION_TYPE, "deleted-action", () -> load("action-1")));
+    }
+
+    @Test
+    public void testCallersGetCopies() throws Exception {
+
+        ActionSnapshot snapshot = ActionSnapshot.forTenant(TENANT_DOMAIN);
+        snapshot.getAction(ACTION_TYPE, "action-1", () -> load("action-1")).name("changed");
+        snapshot.getActions(ACTION_TYPE, () -> load("action-1")).get(0).name("changed");
+
+        assertEquals(snapshot.getAction(ACTION_TYPE, "action-1", () -> load("action-1")).getName(), "action-1");
+    }
+
+    @Test
+    public void testActionsCountPerType() throws Exception {
+
+        ActionSnapshot snapshot = ActionSnapshot.forTenant(TENANT_DOMAIN);
+        Map<String, Integer> counts = snapshot.getActionsCountPerType(() -> {
+            loads.incrementAndGet();
+            return Collections.singletonMap(ACTION_TYPE, 1);
+        });
+        assertSame(snapshot.getActionsCountPerType(() -> {
+            loads.incrementAndGet();
+            return Collections.emptyMap();
+        }), counts);
+        assertEquals(loads.get(), 1);
+
+        ActionSnapshot.invalidate(TENANT_DOMAIN);
+        assertEquals(ActionSnapshot.forTenant(TENANT_DOMAIN).getActionsCountPerType(Collections::emptyMap).size(),
+                0);
+    }
+
+    private List<ActionResponse> load(String... actionIds) {
+
+        loads.incrementAndGet();
+        List<ActionResponse> actions = new ArrayList<>();
+        for (String actionId : Arrays.asList(actionIds)) {
+            actions.add(new ActionResponse().id(actionId).name(actionId));
+        }
+        return actions;
+    }
+}
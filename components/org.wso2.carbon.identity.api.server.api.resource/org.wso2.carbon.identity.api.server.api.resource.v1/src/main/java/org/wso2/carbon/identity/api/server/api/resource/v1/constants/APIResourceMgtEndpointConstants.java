@@ -101,6 +101,8 @@ public class APIResourceMgtEndpointConstants {
         ERROR_CODE_API_RESOURCE_COLLECTION_NOT_FOUND("60014",
                 "Unable to find the API resource collection.",
                 "Unable to find the API resource collection with the id: %s in the tenant domain."),
+        ERROR_CODE_INVALID_CURSOR("60015", "Invalid before/after provided.",
+                "The before or after parameter is not a valid cursor."),
       
         // Server errors.
         ERROR_CODE_ADD_API_RESOURCE("65001", "Error while adding api resource.", "Server encountered an error while " +
@@ -41,6 +41,12 @@ import org.wso2.carbon.identity.api.server.api.resource.v1.constants.APIResource
 import org.wso2.carbon.identity.api.server.api.resource.v1.util.APIResourceMgtEndpointUtil;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.pagination.CursorCodec;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
+import org.wso2.carbon.identity.api.server.common.pagination.PageCursor;
 import org.wso2.carbon.identity.application.common.model.APIResource;
 import org.wso2.carbon.identity.application.common.model.APIResourceProperty;
 import org.wso2.carbon.identity.application.common.model.Scope;
@@ -50,9 +56,9 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -68,6 +74,8 @@ import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_C
 public class ServerAPIResourceManagementService {
 
     private static final Log LOG = LogFactory.getLog(ServerAPIResourceManagementService.class);
+    private static final KeysetPaginator<APIResource> API_RESOURCE_PAGINATOR =
+            new KeysetPaginator<>(apiResource -> apiResource.getCursorKey().toString());
 
     /**
      * Add API resource.
@@ -118,8 +126,13 @@ public class ServerAPIResourceManagementService {
                         APIResourceMgtEndpointConstants.ErrorMessage.ERROR_CODE_BOTH_BEFORE_AFTER_PROVIDED);
             }
 
-            // Set the pagination sort order.
-            String paginationSortOrder = StringUtils.isNotBlank(before) ? DESC_SORT_ORDER : ASC_SORT_ORDER;
+            KeysetPageRequest pageRequest;
+            try {
+                pageRequest = KeysetPageRequest.of(limit, before, after);
+            } catch (InvalidCursorException e) {
+                throw APIResourceMgtEndpointUtil.handleException(Response.Status.BAD_REQUEST,
+                        ErrorMessage.ERROR_CODE_INVALID_CURSOR);
+            }
 
             // Validate the required attributes.
             List<String> requestedAttributeList = new ArrayList<>();
@@ -128,25 +141,19 @@ public class ServerAPIResourceManagementService {
                 validateRequiredAttributes(requestedAttributeList);
             }
 
-            APIResourceSearchResult apiResourceSearchResult;
-            if (CollectionUtils.isNotEmpty(requestedAttributeList)) {
-                apiResourceSearchResult = APIResourceManagementServiceHolder.getApiResourceManager()
-                        .getAPIResourcesWithRequiredAttributes(before, after, limit + 1, filter, paginationSortOrder,
-                                CarbonContext.getThreadLocalCarbonContext().getTenantDomain(), requestedAttributeList);
-            } else {
-                apiResourceSearchResult = APIResourceManagementServiceHolder.getApiResourceManager()
-                        .getAPIResources(before, after, limit + 1, filter, paginationSortOrder,
-                                CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
-            }
-            List<APIResource> apiResources = apiResourceSearchResult.getAPIResources();
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            List<String> attributes = requestedAttributeList;
+            AtomicReference<APIResourceSearchResult> searchResult = new AtomicReference<>();
+            KeysetPage<APIResource> page = API_RESOURCE_PAGINATOR.paginate(pageRequest,
+                    (fetchLimit, cursorKey, direction) -> {
+                        APIResourceSearchResult result = searchAPIResources(fetchLimit, cursorKey, direction, filter,
+                                tenantDomain, attributes);
+                        searchResult.set(result);
+                        return result.getAPIResources();
+                    });
+            List<APIResource> apiResources = page.getItems();
 
             if (CollectionUtils.isNotEmpty(apiResources)) {
-                boolean hasMoreItems = apiResources.size() > limit;
-                boolean needsReverse = StringUtils.isNotBlank(before);
-                boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                        (StringUtils.isNotBlank(before) && !hasMoreItems);
-                boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
                 String url = "?limit=" + limit;
 
                 if (StringUtils.isNotBlank(filter)) {
@@ -157,31 +164,17 @@ public class ServerAPIResourceManagementService {
                     }
                 }
 
-                if (hasMoreItems) {
-                    apiResources.remove(apiResources.size() - 1);
-                }
-                if (needsReverse) {
-                    Collections.reverse(apiResources);
-                }
-                if (!isFirstPage) {
-                    String encodedString = Base64.getEncoder().encodeToString(apiResources.get(0).getCursorKey()
-                            .toString().getBytes(StandardCharsets.UTF_8));
-                    apiResourceListResponse.addLinksItem(buildPaginationLink(url + "&before=" + encodedString,
-                            "previous"));
-                }
-                if (!isLastPage) {
-                    String encodedString = Base64.getEncoder().encodeToString(apiResources.get(apiResources.size() - 1)
-                            .getCursorKey().toString().getBytes(StandardCharsets.UTF_8));
-                    apiResourceListResponse.addLinksItem(buildPaginationLink(url + "&after=" + encodedString, "next"));
+                for (Map.Entry<String, String> link : page.buildLinks(url, "before", "after").entrySet()) {
+                    apiResourceListResponse.addLinksItem(buildPaginationLink(link.getValue(), link.getKey()));
                 }
             }
-            if (apiResources == null || apiResources.isEmpty()) {
+            if (apiResources.isEmpty()) {
                 apiResourceListResponse.setTotalResults(0);
                 apiResourceListResponse.setApiResources(new ArrayList<>());
                 return apiResourceListResponse;
             }
-            apiResourceListResponse.setTotalResults(apiResourceSearchResult.getTotalCount());
-            apiResourceListResponse.setApiResources(apiResourceSearchResult.getAPIResources().stream()
+            apiResourceListResponse.setTotalResults(searchResult.get().getTotalCount());
+            apiResourceListResponse.setApiResources(apiResources.stream()
                     .map(this::buildAPIResourceListItem).collect(Collectors.toList()));
         } catch (APIResourceMgtException e) {
             throw APIResourceMgtEndpointUtil.handleAPIResourceMgtException(e);
@@ -189,6 +182,40 @@ public class ServerAPIResourceManagementService {
         return apiResourceListResponse;
     }
 
+    /**
+     * Search the API resources next to a cursor key, for a page of the API resource listing.
+     *
+     * @param limit              Maximum number of API resources to be returned.
+     * @param cursorKey          Cursor key of the page, or null for the first page.
+     * @param direction          Direction of the page from the cursor key.
+     * @param filter             Filter parameter.
+     * @param tenantDomain       Tenant domain.
+     * @param requiredAttributes Required attributes of the API resources.
+     * @return Search result.
+     * @throws APIResourceMgtException If an error occurred while searching the API resources.
+     */
+    private APIResourceSearchResult searchAPIResources(int limit, String cursorKey, PageCursor.Direction direction,
+                                                       String filter, String tenantDomain,
+                                                       List<String> requiredAttributes)
+            throws APIResourceMgtException {
+
+        // The backend expects its cursors in the legacy format.
+        String before = null;
+        String after = null;
+        if (cursorKey != null && direction == PageCursor.Direction.BACKWARD) {
+            before = CursorCodec.encodeLegacy(cursorKey);
+        } else if (cursorKey != null) {
+            after = CursorCodec.encodeLegacy(cursorKey);
+        }
+        String sortOrder = direction == PageCursor.Direction.BACKWARD ? DESC_SORT_ORDER : ASC_SORT_ORDER;
+        if (CollectionUtils.isNotEmpty(requiredAttributes)) {
+            return APIResourceManagementServiceHolder.getApiResourceManager().getAPIResourcesWithRequiredAttributes(
+                    before, after, limit, filter, sortOrder, tenantDomain, requiredAttributes);
+        }
+        return APIResourceManagementServiceHolder.getApiResourceManager().getAPIResources(before, after, limit,
+                filter, sortOrder, tenantDomain);
+    }
+
     /**
      * Get API Resource Response by ID.
      *
@@ -87,6 +87,12 @@ public class ApplicationManagementConstants {
     public static final String CODE_IDTOKEN = "code id_token";
     public static final String CODE_IDTOKEN_TOKEN = "code id_token token";
 
+    // Bounds of the worker pool used to resolve required attributes of an application listing page.
+    public static final int APPLICATION_FETCH_POOL_SIZE = 10;
+    public static final int APPLICATION_FETCH_QUEUE_SIZE = 200;
+    // Maximum number of tasks a listing page is split into, so that a page doesn't take over the shared workers.
+    public static final int APPLICATION_FETCH_MAX_TASKS_PER_PAGE = 4;
+
     /**
      * Enums for error messages.
      */
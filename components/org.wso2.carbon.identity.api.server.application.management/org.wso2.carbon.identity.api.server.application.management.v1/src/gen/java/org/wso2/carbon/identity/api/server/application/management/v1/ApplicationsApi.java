@@ -736,14 +736,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = OIDCMetaData.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getOIDCMetadata() {
+    public Response getOIDCMetadata(    @ApiParam(value = "Entity tags of the metadata cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getOIDCMetadata();
+        return delegate.getOIDCMetadata(ifNoneMatch );
     }
 
     @Valid
@@ -807,14 +808,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = SAMLMetaData.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Error.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getSAMLMetadata() {
+    public Response getSAMLMetadata(    @ApiParam(value = "Entity tags of the metadata cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getSAMLMetadata();
+        return delegate.getSAMLMetadata(ifNoneMatch );
     }
 
     @Valid
@@ -854,14 +856,15 @@ public class ApplicationsApi  {
     }, tags={ "Application Metadata", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = WSTrustMetaData.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getWSTrustMetadata() {
+    public Response getWSTrustMetadata(    @ApiParam(value = "Entity tags of the metadata cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getWSTrustMetadata();
+        return delegate.getWSTrustMetadata(ifNoneMatch );
     }
 
     @Valid
@@ -110,17 +110,17 @@ public interface ApplicationsApiService {
 
       public Response getInboundSAMLConfiguration(String applicationId);
 
-      public Response getOIDCMetadata();
+      public Response getOIDCMetadata(String ifNoneMatch);
 
       public Response getPassiveStsConfiguration(String applicationId);
 
       public Response getResidentApplication();
 
-      public Response getSAMLMetadata();
+      public Response getSAMLMetadata(String ifNoneMatch);
 
       public Response getWSTrustConfiguration(String applicationId);
 
-      public Response getWSTrustMetadata();
+      public Response getWSTrustMetadata(String ifNoneMatch);
 
       public Response importApplication(InputStream fileInputStream, Attachment fileDetail);
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Materialized metadata responses of the inbound protocols, kept per tenant.
+ * <p>
+ * The metadata is derived from the server configuration, the primary key store of the tenant and the OAuth
+ * extensions registered as OSGi services, none of which notify this API of their changes. Hence a response is
+ * materialized on first use and built again once it is older than {@link #MAX_AGE_MILLIS}. The entity tag is derived
+ * from the content, so that it changes only when the metadata changes.
+ */
+final class InboundProtocolMetadataCache {
+
+    static final String OIDC = "oidc";
+    static final String SAML = "saml";
+    static final String WS_TRUST = "ws-trust";
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Map<String, Map<String, Entry>> TENANT_METADATA = new ConcurrentHashMap<>();
+
+    private InboundProtocolMetadataCache() {
+
+    }
+
+    /**
+     * Returns the materialized metadata of an inbound protocol, building it if the tenant doesn't have a fresh one.
+     * The metadata is built without holding a lock of the cache, as the builders call other services. Concurrent
+     * requests which find no fresh metadata may each build it, and the first published one is kept. Errors of the
+     * builder are propagated and not cached.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param protocol     Inbound protocol.
+     * @param builder      Builds the metadata model of the protocol.
+     * @return Materialized metadata.
+     */
+    static InboundProtocolMetadata get(String tenantDomain, String protocol, Supplier<Object> builder) {
+
+        Map<String, Entry> metadata = TENANT_METADATA.computeIfAbsent(tenantDomain, key -> new ConcurrentHashMap<>());
+        long now = System.currentTimeMillis();
+        Entry entry = metadata.get(protocol);
+        if (entry != null && !entry.isExpired(now)) {
+            return entry.metadata;
+        }
+        Entry built = new Entry(materialize(protocol, builder.get()), now);
+        Entry published;
+        if (entry == null) {
+            published = metadata.putIfAbsent(protocol, built);
+        } else {
+            published = metadata.replace(protocol, entry, built) ? null : metadata.get(protocol);
+        }
+        return published != null && !published.isExpired(now) ? published.metadata : built.metadata;
+    }
+
+    private static InboundProtocolMetadata materialize(String protocol, Object model) {
+
+        try {
+            return new InboundProtocolMetadata(OBJECT_MAPPER.writeValueAsBytes(model));
+        } catch (JsonProcessingException e) {
+            throw Utils.buildServerError("Error while serializing the metadata of the inbound protocol: " + protocol,
+                    e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final InboundProtocolMetadata metadata;
+        private final long createdTime;
+
+        Entry(InboundProtocolMetadata metadata, long createdTime) {
+
+            this.metadata = metadata;
+            this.createdTime = createdTime;
+        }
+
+        boolean isExpired(long now) {
+
+            return now - createdTime > MAX_AGE_MILLIS;
+        }
+    }
+}
@@ -18,9 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -33,7 +30,6 @@ import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
@@ -71,8 +67,8 @@ import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustConf
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApiModelToServiceProvider;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationBasicInfoToApiModel;
-import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationInfoWithRequiredPropsToApiModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApiModel;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApplicationListItem;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.UpdateServiceProvider;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundAuthConfigToApiModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.WSTrustInboundFunctions;
@@ -85,7 +81,11 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.ApplicationTemplateApiModelToTemplate;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplate;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplateListItem;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.FileCodec;
+import org.wso2.carbon.identity.api.server.common.FileCodecException;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
@@ -105,7 +105,6 @@ import org.wso2.carbon.identity.application.common.model.InboundConfigurationPro
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
-import org.wso2.carbon.identity.application.common.model.SpFileContent;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
@@ -144,36 +143,35 @@ import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.TypeDescription;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_ENABLED;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_FETCH_MAX_TASKS_PER_PAGE;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_FETCH_POOL_SIZE;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_FETCH_QUEUE_SIZE;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_MANAGEMENT_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.CLIENT_ID;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.APPLICATION_CREATION_WITH_TEMPLATES_NOT_IMPLEMENTED;
@@ -195,6 +193,9 @@ import static org.wso2.carbon.identity.api.server.application.management.v1.core
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.rollbackInbound;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.updateOrInsertInbound;
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Application.CONSOLE_APP;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Application.MY_ACCOUNT_APP;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols.OAUTH2;
@@ -218,6 +219,8 @@ public class ServerApplicationManagementService {
     private static final Set<String> SUPPORTED_FILTER_ATTRIBUTES = new HashSet<>();
     private static final List<String> SUPPORTED_REQUIRED_ATTRIBUTES = new ArrayList<>();
     private static final int DEFAULT_OFFSET = 0;
+    private static final ContextAwareExecutor APPLICATION_FETCH_EXECUTOR = new ContextAwareExecutor(
+            "ApplicationListFetch", APPLICATION_FETCH_POOL_SIZE, APPLICATION_FETCH_QUEUE_SIZE);
 
     // WS-Trust related constants.
     private static final String WS_TRUST_TEMPLATE_ID = "061a3de4-8c08-4878-84a6-24245f11bf0e";
@@ -233,6 +236,23 @@ public class ServerApplicationManagementService {
     private static final String[] VALID_MEDIA_TYPES_JSON = {"application/json", "text/json"};
     private static final Class<?>[] INBOUND_CONFIG_PROTOCOLS = new Class<?>[]{ServiceProvider.class,
             SAMLSSOServiceProviderDTO.class, OAuthAppDO.class};
+    private static final FileCodec<ServiceProvider> SERVICE_PROVIDER_FILE_CODEC =
+            FileCodec.builder(ServiceProvider.class)
+                    .withSubtypes(SAMLSSOServiceProviderDTO.class, OAuthAppDO.class)
+                    .withMarshallerListener(new Marshaller.Listener() {
+                        @Override
+                        public void beforeMarshal(Object source) {
+                            if (source instanceof InboundAuthenticationConfig) {
+                                InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
+                                for (InboundAuthenticationRequestConfig requestConfig
+                                        : config.getInboundAuthenticationRequestConfigs()) {
+                                    requestConfig.setInboundConfiguration(null);
+                                }
+                            }
+                        }
+                    })
+                    .withYamlDumper(ServerApplicationManagementService::createServiceProviderYamlDumper)
+                    .build();
 
     static {
         SUPPORTED_FILTER_ATTRIBUTES.add(NAME);
@@ -251,6 +271,14 @@ public class ServerApplicationManagementService {
     @Autowired
     private ServerApplicationMetadataService applicationMetadataService;
 
+    /**
+     * Stop the application fetch workers of this webapp. Invoked when the webapp is stopped.
+     */
+    public void shutdown() {
+
+        APPLICATION_FETCH_EXECUTOR.shutdown();
+    }
+
     public ApplicationListResponse getAllApplications(Integer limit, Integer offset, String filter, String sortOrder,
                                                       String sortBy, String requiredAttributes) {
 
@@ -375,12 +403,62 @@ public class ServerApplicationManagementService {
                                                               List<String> requestedAttributeList)
             throws IdentityApplicationManagementException {
 
-        List<ServiceProvider> serviceProviderList = new ArrayList<>();
-        for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = getApplicationManagementService().
-                    getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
-            serviceProviderList.add(serviceProvider);
+        if (filteredAppList.length <= 1) {
+            return getSpWithRequiredAttributes(filteredAppList, 0, filteredAppList.length, requestedAttributeList);
+        }
+
+        /*
+        The backend resolves applications one at a time, hence the page is fetched in parallel. The page is split into
+        a few chunks, so that a large page leaves workers to the listings of other tenants, and a chunk rejected by
+        the saturated workers is fetched by the request thread itself instead of failing the listing.
+        */
+        int chunkSize = (filteredAppList.length + APPLICATION_FETCH_MAX_TASKS_PER_PAGE - 1) /
+                APPLICATION_FETCH_MAX_TASKS_PER_PAGE;
+        List<Future<List<ServiceProvider>>> futures = new ArrayList<>(APPLICATION_FETCH_MAX_TASKS_PER_PAGE);
+        try {
+            for (int from = 0; from < filteredAppList.length; from += chunkSize) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(from + chunkSize, filteredAppList.length);
+                try {
+                    futures.add(APPLICATION_FETCH_EXECUTOR.submit(() -> getSpWithRequiredAttributes(filteredAppList,
+                            chunkFrom, chunkTo, requestedAttributeList)));
+                } catch (RejectedExecutionException e) {
+                    futures.add(CompletableFuture.completedFuture(getSpWithRequiredAttributes(filteredAppList,
+                            chunkFrom, chunkTo, requestedAttributeList)));
+                }
+            }
+            List<ServiceProvider> serviceProviderList = new ArrayList<>(filteredAppList.length);
+            for (Future<List<ServiceProvider>> future : futures) {
+                serviceProviderList.addAll(future.get());
+            }
+            return serviceProviderList;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IdentityApplicationManagementException("Error while retrieving the applications.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while retrieving the applications.", e);
+        } finally {
+            for (Future<List<ServiceProvider>> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private List<ServiceProvider> getSpWithRequiredAttributes(ApplicationBasicInfo[] filteredAppList, int from,
+                                                              int to, List<String> requestedAttributeList)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviderList = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            serviceProviderList.add(getApplicationManagementService().getApplicationWithRequiredAttributes(
+                    filteredAppList[i].getApplicationId(), requestedAttributeList));
         }
         return serviceProviderList;
     }
@@ -531,16 +609,16 @@ public class ServerApplicationManagementService {
         }
 
         StringBuilder fileNameSB = new StringBuilder(serviceProvider.getApplicationName());
-        String fileContent;
+        String mediaType;
 
         if (Arrays.asList(VALID_MEDIA_TYPES_XML).contains(fileType)) {
-            fileContent = parseXmlFromServiceProvider(serviceProvider);
+            mediaType = MEDIA_TYPE_XML;
             fileNameSB.append(XML_FILE_EXTENSION);
         } else if (Arrays.asList(VALID_MEDIA_TYPES_YAML).contains(fileType)) {
-            fileContent = parseYamlFromServiceProvider(serviceProvider);
+            mediaType = MEDIA_TYPE_YAML;
             fileNameSB.append(YML_FILE_EXTENSION);
         } else if (Arrays.asList(VALID_MEDIA_TYPES_JSON).contains(fileType)) {
-            fileContent = parseJsonFromServiceProvider(serviceProvider);
+            mediaType = MEDIA_TYPE_JSON;
             fileNameSB.append(JSON_FILE_EXTENSION);
         } else {
             throw Utils.buildServerError("Unsupported media type: " + fileType + "."
@@ -548,41 +626,19 @@ public class ServerApplicationManagementService {
                     + Arrays.toString(VALID_MEDIA_TYPES_YAML) + ", " + Arrays.toString(VALID_MEDIA_TYPES_JSON));
         }
 
-        return new TransferResource(
-                fileNameSB.toString(),
-                new ByteArrayResource(fileContent.getBytes(StandardCharsets.UTF_8)),
-                MediaType.APPLICATION_OCTET_STREAM
-        );
-    }
-
-    private String parseXmlFromServiceProvider(ServiceProvider serviceProvider) {
-
-        JAXBContext jaxbContext;
+        // The application is written to a buffer before the response is committed, so that a write failure is still
+        // reported as an error response. The buffer is streamed to the response without copying it.
+        ByteArrayOutputStream fileContent = new ByteArrayOutputStream();
         try {
-            jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setListener(new Marshaller.Listener() {
-                @Override
-                public void beforeMarshal(Object source) {
-                    if (source instanceof InboundAuthenticationConfig) {
-                        InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
-                        for (InboundAuthenticationRequestConfig requestConfig
-                                : config.getInboundAuthenticationRequestConfigs()) {
-                            requestConfig.setInboundConfiguration(null);
-                        }
-                    }
-                }
-            });
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(serviceProvider, stringWriter);
-            return stringWriter.toString();
-        } catch (JAXBException e) {
-            throw Utils.buildServerError("Error exporting application from XML file.", e);
+            SERVICE_PROVIDER_FILE_CODEC.encode(serviceProvider, mediaType, fileContent);
+        } catch (FileCodecException e) {
+            throw Utils.buildServerError("Error exporting application from " + e.getFormat() + " file.", e);
         }
+        return new TransferResource(fileNameSB.toString(), fileContent::writeTo,
+                MediaType.APPLICATION_OCTET_STREAM);
     }
 
-    private String parseYamlFromServiceProvider(ServiceProvider serviceProvider) {
+    private static Yaml createServiceProviderYamlDumper() {
 
         Constructor constructor = new Constructor(new LoaderOptions());
         CustomRepresenter representer = new CustomRepresenter(new DumperOptions());
@@ -592,24 +648,7 @@ public class ServerApplicationManagementService {
             description.addPropertyParameters("type", protocol);
             constructor.addTypeDescription(description);
         }
-
-        Yaml yaml = new Yaml(constructor, representer);
-        try {
-            return yaml.dump(serviceProvider);
-        } catch (YAMLException e) {
-            throw Utils.buildServerError("Error exporting application from YAML file.", e);
-        }
-    }
-
-    private String parseJsonFromServiceProvider(ServiceProvider serviceProvider) {
-
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
-        try {
-            return objectMapper.writeValueAsString(serviceProvider);
-        } catch (JsonProcessingException e) {
-            throw Utils.buildServerError("Error exporting application from JSON file.", e);
-        }
+        return new Yaml(constructor, representer);
     }
 
     /**
@@ -639,7 +678,8 @@ public class ServerApplicationManagementService {
     private String doImportApplication(InputStream fileInputStream, Attachment fileDetail, boolean isAppUpdate) {
 
         try {
-            SpFileContent spFileContent = buildSpFileContent(fileInputStream, fileDetail);
+            StreamingFileContent spFileContent = new StreamingFileContent(fileDetail.getDataHandler().getName(),
+                    fileDetail.getDataHandler().getContentType(), fileInputStream);
 
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
@@ -664,29 +704,29 @@ public class ServerApplicationManagementService {
         }
     }
 
-    private ServiceProvider parseSP(SpFileContent spFileContent, String fileType, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private ServiceProvider parseSP(StreamingFileContent spFileContent, String fileType, String tenantDomain)
+            throws IdentityApplicationManagementException, IOException {
 
         if (log.isDebugEnabled()) {
             log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " + fileType);
         }
 
-        if (StringUtils.isEmpty(spFileContent.getContent())) {
+        if (spFileContent.isEmpty()) {
             throw new IdentityApplicationManagementException(String.format(
                     "Empty Service Provider configuration file " + " %s uploaded by tenant: %s",
                     spFileContent.getFileName(), tenantDomain));
         }
 
         if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_XML)) {
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            return decodeServiceProvider(spFileContent, MEDIA_TYPE_XML, tenantDomain);
         } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_YAML)) {
-            return parseServiceProviderFromYaml(spFileContent, tenantDomain);
+            return decodeServiceProvider(spFileContent, MEDIA_TYPE_YAML, tenantDomain);
         } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_JSON)) {
-            return parseServiceProviderFromJson(spFileContent, tenantDomain);
+            return decodeServiceProvider(spFileContent, MEDIA_TYPE_JSON, tenantDomain);
         } else {
             log.warn("Unsupported file type " + fileType + " for file " + spFileContent.getFileName() + " . " +
                     "Defaulting to XML parsing");
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            return decodeServiceProvider(spFileContent, MEDIA_TYPE_XML, tenantDomain);
         }
     }
 
@@ -700,61 +740,18 @@ public class ServerApplicationManagementService {
         return false;
     }
 
-    private ServiceProvider parseServiceProviderFromXml(SpFileContent spFileContent, String tenantDomain)
-            throws IdentityApplicationManagementException {
-
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ServiceProvider) unmarshaller.unmarshal(new StringReader(spFileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new IdentityApplicationManagementException(String.format("Error in reading XML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
-        }
-    }
-
-    private ServiceProvider parseServiceProviderFromYaml(SpFileContent spFileContent, String tenantDomain)
-            throws IdentityApplicationManagementException {
-
-        try {
-            // Add trusted tags included in the SP YAML file.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ServiceProvider.class.getName());
-            trustedTagList.add(OAuthAppDO.class.getName());
-            trustedTagList.add(SAMLSSOServiceProviderDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ServiceProvider.class, loaderOptions));
-            return yaml.loadAs(spFileContent.getContent(), ServiceProvider.class);
-        } catch (YAMLException e) {
-            throw new IdentityApplicationManagementException(String.format("Error in reading YAML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
-        }
-    }
-
-    private ServiceProvider parseServiceProviderFromJson(SpFileContent spFileContent, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private ServiceProvider decodeServiceProvider(StreamingFileContent spFileContent, String mediaType,
+                                                  String tenantDomain) throws IdentityApplicationManagementException {
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
-            return objectMapper.readValue(spFileContent.getContent(), ServiceProvider.class);
-        } catch (JsonProcessingException e) {
-            throw new IdentityApplicationManagementException(String.format("Error in reading JSON Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+            return SERVICE_PROVIDER_FILE_CODEC.decode(spFileContent.getInputStream(), mediaType);
+        } catch (FileCodecException e) {
+            throw new IdentityApplicationManagementException(String.format("Error in reading %s Service Provider " +
+                    "configuration file %s uploaded by tenant: %s", e.getFormat(), spFileContent.getFileName(),
+                    tenantDomain), e);
         }
     }
 
-    private SpFileContent buildSpFileContent(InputStream fileInputStream, Attachment fileDetail) throws IOException {
-
-        SpFileContent spFileContent = new SpFileContent();
-        spFileContent.setContent(IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-        spFileContent.setFileName(fileDetail.getDataHandler().getName());
-        return spFileContent;
-    }
-
     private APIError handleErrorResponse(ImportResponse importResponse) {
 
         String errorCode = importResponse.getErrorCode() != null ?
@@ -1705,36 +1702,9 @@ public class ServerApplicationManagementService {
     private List<ApplicationListItem> getApplicationListItems(List<ServiceProvider> serviceProviderList,
                                                               List<String> requiredAttributes) {
 
-        List<ApplicationListItem> applicationListItems = new ArrayList<>();
-        for (ServiceProvider serviceProvider : serviceProviderList) {
-            ApplicationResponseModel applicationResponseModel =
-                    new ServiceProviderToApiModel().apply(serviceProvider);
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_ID))) {
-                applicationResponseModel.templateId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_VERSION))) {
-                applicationResponseModel.templateVersion(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ADVANCED_CONFIGURATIONS))) {
-                applicationResponseModel.advancedConfigurations(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(CLIENT_ID))) {
-                applicationResponseModel.clientId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ISSUER))) {
-                applicationResponseModel.issuer(null);
-            }
-            if (requiredAttributes.stream()
-                    .noneMatch(attribute -> attribute.equals(
-                            IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME))) {
-                applicationResponseModel.associatedRoles(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(APPLICATION_ENABLED))) {
-                applicationResponseModel.applicationEnabled(null);
-            }
-            applicationListItems.add(new ApplicationInfoWithRequiredPropsToApiModel().apply(applicationResponseModel));
-        }
-        return applicationListItems;
+        return serviceProviderList.stream()
+                .map(new ServiceProviderToApplicationListItem(requiredAttributes))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -67,6 +67,7 @@ import static org.wso2.carbon.identity.api.server.application.management.common.
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_RETRIEVING_SAML_METADATA;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_WS_TRUST_METADATA_SERVICE_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.getOAuthGrantTypeNames;
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
 
 /**
  * Calls internal osgi services to get required application metadata.
@@ -112,6 +113,40 @@ public class ServerApplicationMetadataService {
         return authProtocolMetadataList;
     }
 
+    /**
+     * Return the materialized SAML metadata of the tenant.
+     *
+     * @return SAML metadata response and its entity tag.
+     */
+    public InboundProtocolMetadata getMaterializedSAMLMetadata() {
+
+        return InboundProtocolMetadataCache.get(getTenantDomainFromContext(), InboundProtocolMetadataCache.SAML,
+                this::getSAMLMetadata);
+    }
+
+    /**
+     * Return the materialized OAuth/OIDC metadata of the tenant.
+     *
+     * @return OAuth/OIDC metadata response and its entity tag.
+     */
+    public InboundProtocolMetadata getMaterializedOIDCMetadata() {
+
+        return InboundProtocolMetadataCache.get(getTenantDomainFromContext(), InboundProtocolMetadataCache.OIDC,
+                this::getOIDCMetadata);
+    }
+
+    /**
+     * Return the materialized WS Trust metadata of the tenant. The metadata is not materialized if the WS-Trust
+     * connector is not available.
+     *
+     * @return WS Trust metadata response and its entity tag.
+     */
+    public InboundProtocolMetadata getMaterializedWSTrustMetadata() {
+
+        return InboundProtocolMetadataCache.get(getTenantDomainFromContext(), InboundProtocolMetadataCache.WS_TRUST,
+                this::getWSTrustMetadata);
+    }
+
     /**
      * Pull SAML metadata from the SAMLSSOConfigServiceImpl and return.
      *
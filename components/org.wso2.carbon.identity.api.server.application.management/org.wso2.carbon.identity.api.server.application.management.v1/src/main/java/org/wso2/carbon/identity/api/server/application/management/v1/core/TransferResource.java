@@ -21,15 +21,18 @@ package org.wso2.carbon.identity.api.server.application.management.v1.core;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 
+import javax.ws.rs.core.StreamingOutput;
+
 /**
  * The TransferResource class represents a resource to be transferred,
- * including its name, type, and byte array data.
+ * including its name, type, and either its byte array data or a streaming output which writes the data.
  */
 public class TransferResource {
 
     private String resourceName;
     private MediaType resourceType;
     private ByteArrayResource resource;
+    private StreamingOutput streamingResource;
 
     public TransferResource(String resourceName, ByteArrayResource resource, MediaType resourceType) {
 
@@ -38,6 +41,13 @@ public class TransferResource {
         this.resourceType = resourceType;
     }
 
+    public TransferResource(String resourceName, StreamingOutput streamingResource, MediaType resourceType) {
+
+        this.resourceName = resourceName;
+        this.streamingResource = streamingResource;
+        this.resourceType = resourceType;
+    }
+
     public String getResourceName() {
 
         return resourceName;
@@ -58,6 +68,16 @@ public class TransferResource {
         this.resource = resource;
     }
 
+    public StreamingOutput getStreamingResource() {
+
+        return streamingResource;
+    }
+
+    public void setStreamingResource(StreamingOutput streamingResource) {
+
+        this.streamingResource = streamingResource;
+    }
+
     public MediaType getResourceType() {
 
         return resourceType;
@@ -162,19 +162,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         }
 
         String allowedAudience = associatedRolesConfiguration.getAllowedAudience();
-        AssociatedRolesConfig.AllowedAudienceEnum allowedAudienceEnum = null;
-
-        switch (allowedAudience) {
-            case RoleConstants.APPLICATION:
-                allowedAudienceEnum = AssociatedRolesConfig.AllowedAudienceEnum.APPLICATION;
-                break;
-            case RoleConstants.ORGANIZATION:
-                allowedAudienceEnum = AssociatedRolesConfig.AllowedAudienceEnum.ORGANIZATION;
-                break;
-            default:
-                break;
-        }
-        associatedRolesConfig.setAllowedAudience(allowedAudienceEnum);
+        associatedRolesConfig.setAllowedAudience(getAllowedAudience(allowedAudience));
         if (RoleConstants.APPLICATION.equals(allowedAudience)) {
             Arrays.stream(associatedRolesConfiguration.getRoles())
                     .map(role -> new Role().id(role.getId()).name(role.getName()))
@@ -183,12 +171,24 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return associatedRolesConfig;
     }
 
+    static AssociatedRolesConfig.AllowedAudienceEnum getAllowedAudience(String allowedAudience) {
+
+        switch (allowedAudience) {
+            case RoleConstants.APPLICATION:
+                return AssociatedRolesConfig.AllowedAudienceEnum.APPLICATION;
+            case RoleConstants.ORGANIZATION:
+                return AssociatedRolesConfig.AllowedAudienceEnum.ORGANIZATION;
+            default:
+                return null;
+        }
+    }
+
     private List<InboundProtocolListItem> buildInboundProtocols(ServiceProvider application) {
 
         return new InboundAuthConfigToApiModel().apply(application);
     }
 
-    private boolean isResidentSp(ServiceProvider application) {
+    boolean isResidentSp(ServiceProvider application) {
 
         return ApplicationConstants.LOCAL_SP.equalsIgnoreCase(application.getApplicationName());
     }
@@ -442,7 +442,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return new BuildProvisioningConfiguration().apply(application);
     }
 
-    private AdvancedApplicationConfiguration buildAdvancedAppConfiguration(ServiceProvider serviceProvider) {
+    AdvancedApplicationConfiguration buildAdvancedAppConfiguration(ServiceProvider serviceProvider) {
 
         LocalAndOutboundAuthenticationConfig authConfig = serviceProvider.getLocalAndOutBoundAuthenticationConfig();
         if (authConfig == null) {
@@ -605,7 +605,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return ApplicationResponseModel.AccessEnum.WRITE;
     }
 
-    private String getInboundKey(ServiceProvider application, String authType) {
+    String getInboundKey(ServiceProvider application, String authType) {
 
         if (application.getInboundAuthenticationConfig() != null) {
             InboundAuthenticationRequestConfig[] authRequestConfigs = application.getInboundAuthenticationConfig()
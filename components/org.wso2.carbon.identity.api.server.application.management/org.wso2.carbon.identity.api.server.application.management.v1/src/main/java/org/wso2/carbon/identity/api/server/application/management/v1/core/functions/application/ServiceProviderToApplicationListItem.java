@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application;
+
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListItem;
+import org.wso2.carbon.identity.api.server.application.management.v1.AssociatedRolesConfig;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_ENABLED;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_MANAGEMENT_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.CLIENT_ID;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ISSUER;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.TEMPLATE_ID;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.TEMPLATE_VERSION;
+import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.getAccessForApplicationListItems;
+
+/**
+ * Converts the backend model ServiceProvider into an application list item, computing only the attributes
+ * requested through the 'attributes' query parameter of the application listing.
+ */
+public class ServiceProviderToApplicationListItem implements Function<ServiceProvider, ApplicationListItem> {
+
+    private static final String OAUTH2_INBOUND_TYPE = "oauth2";
+    private static final String SAML_INBOUND_TYPE = "samlsso";
+    private static final String PASSIVE_STS_INBOUND_TYPE = "passivests";
+
+    private final Set<RequiredAttribute> requiredAttributes;
+    private final ServiceProviderToApiModel serviceProviderToApiModel = new ServiceProviderToApiModel();
+
+    /**
+     * Attributes of an application list item which are only returned when requested.
+     */
+    private enum RequiredAttribute {
+
+        TEMPLATE_ID_ATTRIBUTE(TEMPLATE_ID),
+        TEMPLATE_VERSION_ATTRIBUTE(TEMPLATE_VERSION),
+        ADVANCED_CONFIGURATIONS_ATTRIBUTE(ADVANCED_CONFIGURATIONS),
+        CLIENT_ID_ATTRIBUTE(CLIENT_ID),
+        ISSUER_ATTRIBUTE(ISSUER),
+        ASSOCIATED_ROLES_ATTRIBUTE(IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME),
+        APPLICATION_ENABLED_ATTRIBUTE(APPLICATION_ENABLED);
+
+        private final String attributeName;
+
+        RequiredAttribute(String attributeName) {
+
+            this.attributeName = attributeName;
+        }
+    }
+
+    public ServiceProviderToApplicationListItem(List<String> requiredAttributes) {
+
+        this.requiredAttributes = EnumSet.noneOf(RequiredAttribute.class);
+        for (RequiredAttribute attribute : RequiredAttribute.values()) {
+            if (requiredAttributes.contains(attribute.attributeName)) {
+                this.requiredAttributes.add(attribute);
+            }
+        }
+    }
+
+    @Override
+    public ApplicationListItem apply(ServiceProvider application) {
+
+        ApplicationListItem applicationListItem = new ApplicationListItem()
+                .id(application.getApplicationResourceId())
+                .name(application.getApplicationName())
+                .description(application.getDescription())
+                .access(getAccessForApplicationListItems(application.getApplicationName()))
+                .self(getApplicationLocation(application.getApplicationResourceId()));
+        if (serviceProviderToApiModel.isResidentSp(application)) {
+            return applicationListItem;
+        }
+
+        applicationListItem
+                .image(application.getImageUrl())
+                .accessUrl(application.getAccessUrl())
+                .realm(serviceProviderToApiModel.getInboundKey(application, PASSIVE_STS_INBOUND_TYPE));
+        if (requiredAttributes.contains(RequiredAttribute.CLIENT_ID_ATTRIBUTE)) {
+            applicationListItem.clientId(serviceProviderToApiModel.getInboundKey(application, OAUTH2_INBOUND_TYPE));
+        }
+        if (requiredAttributes.contains(RequiredAttribute.ISSUER_ATTRIBUTE)) {
+            applicationListItem.issuer(serviceProviderToApiModel.getInboundKey(application, SAML_INBOUND_TYPE));
+        }
+        if (requiredAttributes.contains(RequiredAttribute.ADVANCED_CONFIGURATIONS_ATTRIBUTE)) {
+            applicationListItem.advancedConfigurations(
+                    serviceProviderToApiModel.buildAdvancedAppConfiguration(application));
+        }
+        if (requiredAttributes.contains(RequiredAttribute.TEMPLATE_ID_ATTRIBUTE)) {
+            applicationListItem.templateId(application.getTemplateId());
+        }
+        if (requiredAttributes.contains(RequiredAttribute.TEMPLATE_VERSION_ATTRIBUTE)) {
+            applicationListItem.templateVersion(application.getTemplateVersion());
+        }
+        if (requiredAttributes.contains(RequiredAttribute.APPLICATION_ENABLED_ATTRIBUTE)) {
+            applicationListItem.applicationEnabled(application.isApplicationEnabled());
+        }
+        if (requiredAttributes.contains(RequiredAttribute.ASSOCIATED_ROLES_ATTRIBUTE)) {
+            applicationListItem.associatedRoles(buildAllowedAudience(application));
+        }
+        return applicationListItem;
+    }
+
+    private AssociatedRolesConfig buildAllowedAudience(ServiceProvider application) {
+
+        // Only the allowed audience is listed. The associated roles are available through the application itself.
+        org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig associatedRolesConfig =
+                application.getAssociatedRolesConfig();
+        if (associatedRolesConfig == null) {
+            return null;
+        }
+        AssociatedRolesConfig configExcludingRoles = new AssociatedRolesConfig();
+        configExcludingRoles.setAllowedAudience(
+                ServiceProviderToApiModel.getAllowedAudience(associatedRolesConfig.getAllowedAudience()));
+        return configExcludingRoles;
+    }
+
+    private String getApplicationLocation(String resourceId) {
+
+        return ContextLoader.buildURIForBody(
+                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId).toString();
+    }
+}
@@ -40,12 +40,14 @@ import org.wso2.carbon.identity.api.server.application.management.v1.ResidentApp
 import org.wso2.carbon.identity.api.server.application.management.v1.SAML2Configuration;
 import org.wso2.carbon.identity.api.server.application.management.v1.SAML2ServiceProvider;
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustConfiguration;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.InboundProtocolMetadata;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationManagementService;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationMetadataService;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationSharingService;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.TransferResource;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.EntityTags;
 
 import java.io.InputStream;
 import java.net.URI;
@@ -259,7 +261,8 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(transferResource.getResource().getByteArray())
+                .entity(transferResource.getStreamingResource() != null ?
+                        transferResource.getStreamingResource() : transferResource.getResource().getByteArray())
                 .build();
     }
 
@@ -403,21 +406,21 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     }
 
     @Override
-    public Response getOIDCMetadata() {
+    public Response getOIDCMetadata(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getOIDCMetadata()).build();
+        return buildMetadataResponse(applicationMetadataService.getMaterializedOIDCMetadata(), ifNoneMatch);
     }
 
     @Override
-    public Response getSAMLMetadata() {
+    public Response getSAMLMetadata(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getSAMLMetadata()).build();
+        return buildMetadataResponse(applicationMetadataService.getMaterializedSAMLMetadata(), ifNoneMatch);
     }
 
     @Override
-    public Response getWSTrustMetadata() {
+    public Response getWSTrustMetadata(String ifNoneMatch) {
 
-        return Response.ok().entity(applicationMetadataService.getWSTrustMetadata()).build();
+        return buildMetadataResponse(applicationMetadataService.getMaterializedWSTrustMetadata(), ifNoneMatch);
     }
 
     @Override
@@ -433,6 +436,16 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 searchContext)).build();
     }
 
+    private Response buildMetadataResponse(InboundProtocolMetadata metadata, String ifNoneMatch) {
+
+        String entityTag = metadata.getEntityTag();
+        if (EntityTags.isNotModified(ifNoneMatch, entityTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, entityTag).build();
+        }
+        return Response.ok(metadata.getContent(), MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ETAG, entityTag).build();
+    }
+
     private URI getResourceLocation(String resourceId) {
 
         return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
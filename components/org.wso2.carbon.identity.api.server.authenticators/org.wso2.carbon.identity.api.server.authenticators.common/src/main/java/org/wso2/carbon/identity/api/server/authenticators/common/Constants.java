@@ -33,6 +33,10 @@ public class Constants {
     public static final String PAGE_LINK_REL_PREVIOUS = "previous";
     public static final String PAGINATION_WITH_FILTER_LINK_FORMAT = "?offset=%d&limit=%d&filter=%s";
     public static final String PAGINATION_LINK_FORMAT = "?offset=%d&limit=%d";
+    public static final String PAGINATION_FILTER = "filter";
+    public static final String PAGINATION_LIMIT = "limit";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String PAGINATION_AFTER = "after";
 
     /**
      * Supported filter attributes.
@@ -70,6 +74,10 @@ public class Constants {
                 "Filter needs to be in the format <attribute>+<operation>+<value>. Eg: tag+eq+2FA"),
         ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("60002", "Unsupported filter attribute.",
                 "The filter attribute '%s' is not supported."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("60003", "Invalid pagination parameters.",
+                "The pagination parameters '%s' can't be used together."),
+        ERROR_CODE_INVALID_PAGINATION_CURSOR("60004", "Invalid pagination cursor.",
+                "The pagination cursor '%s' is not valid."),
         ERROR_CODE_ERROR_LISTING_AUTHENTICATORS("65001", "Unable to list the existing authenticators.",
                 "Server encountered an error while listing the authenticators."),
         ERROR_CODE_ERROR_LISTING_IDPS("65002", "Unable to list the existing identity providers.",
@@ -88,8 +96,6 @@ public class Constants {
         ERROR_CODE_UNSUPPORTED_COMPLEX_QUERY_OPERATION_FOR_TAG("65008", "Unsupported complex query " +
                 "operation in filter.", "Complex query with '%s' operation for filter attribute 'tag' is not " +
                 "supported."),
-        ERROR_CODE_PAGINATION_NOT_IMPLEMENTED("65009", "Pagination not supported.", "Pagination " +
-                "capabilities are not supported in this version of the API."),
         ERROR_CODE_BUILDING_LINKS("65010", "Error building page links", "Error occurred during building page links. " +
                                           "%s"),
         ERROR_CODE_ERROR_RETRIEVING_IDP_CONNECTED_APPS("65011",
@@ -30,7 +30,7 @@ import javax.ws.rs.core.Response;
 
 public interface AuthenticatorsApiService {
 
-      public Response authenticatorsGet(String filter, Integer limit, Integer offset);
+      public Response authenticatorsGet(String filter, Integer limit, Integer offset, String before, String after);
 
       public Response authenticatorsMetaTagsGet();
 
@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorsServiceHolder;
+import org.wso2.carbon.identity.api.server.authenticators.common.Constants;
+import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+import org.wso2.carbon.identity.api.server.common.pagination.PageCursor;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.wso2.carbon.identity.api.server.common.Util.base64URLEncode;
+
+/**
+ * Per tenant catalog of the authenticators listed by the authenticators API, i.e. the local and request path
+ * authenticators in the order of the application management service, followed by the identity providers of the
+ * tenant in the order of their names. The entries are held in an immutable array in the order of the listing,
+ * together with an inverted index of the positions of the entries of each tag, so that a page, a tag filtered page
+ * and the tag list are served in time proportional to the result instead of merging and filtering the
+ * authenticators of the tenant on each request.
+ * <p>
+ * A catalog is built with a single load of the authenticators and the identity providers of the tenant, on the
+ * request thread which finds the catalog missing or stale.
+ * <p>
+ * Each entry has a sort key which follows the order of the listing, i.e. the kind of the authenticator followed by
+ * the position of a local or request path authenticator in the order of the service, or the name of an identity
+ * provider. Keyset pages are read from the position of a sort key found by binary search, hence a page of a catalog
+ * rebuilt after the authenticator at the page boundary was deleted still follows on from where the previous page
+ * ended.
+ * <p>
+ * A catalog is rebuilt once the identity providers of the tenant are written through the identity provider API of
+ * this webapp, as tracked by {@link TenantResourceVersions}.
+ * Authenticator changes and identity provider writes made elsewhere are not observable from this API, hence a
+ * catalog is also rebuilt once it is older than {@link #MAX_AGE_MILLIS}.
+ */
+final class AuthenticatorCatalog {
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final String LOCAL_AUTHENTICATOR_SORT_KEY_FORMAT = "0:%010d";
+    private static final String REQUEST_PATH_AUTHENTICATOR_SORT_KEY_FORMAT = "1:%010d";
+    private static final String IDENTITY_PROVIDER_SORT_KEY_PREFIX = "2:";
+    private static final Map<String, AuthenticatorCatalog> TENANT_CATALOGS = new ConcurrentHashMap<>();
+
+    private final Entry[] entries;
+    private final int[] allPositions;
+    private final Map<String, int[]> positionsByTag;
+    private final List<String> tags;
+    private final long identityProviderVersion;
+    private final long createdTime;
+
+    private AuthenticatorCatalog(List<Entry> entryList, List<String> tags, long identityProviderVersion) {
+
+        this.entries = entryList.toArray(new Entry[0]);
+        this.allPositions = new int[entries.length];
+        Map<String, List<Integer>> tagIndex = new HashMap<>();
+        for (int position = 0; position < entries.length; position++) {
+            allPositions[position] = position;
+            for (String tag : entries[position].tags) {
+                List<Integer> positions = tagIndex.computeIfAbsent(toTagKey(tag), key -> new ArrayList<>());
+                // Duplicate tags of an entry differing only by case are indexed once.
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+                    positions.add(position);
+                }
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> tagEntry : tagIndex.entrySet()) {
+            postings.put(tagEntry.getKey(), tagEntry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        this.positionsByTag = Collections.unmodifiableMap(postings);
+        this.tags = Collections.unmodifiableList(tags);
+        this.identityProviderVersion = identityProviderVersion;
+        this.createdTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the catalog of a tenant, building it if there is none or the current one is stale.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Catalog of the tenant.
+     * @throws IdentityApplicationManagementException If an error occurred while loading the local authenticators.
+     * @throws IdentityProviderManagementException    If an error occurred while loading the identity providers.
+     */
+    static AuthenticatorCatalog get(String tenantDomain) throws IdentityApplicationManagementException,
+            IdentityProviderManagementException {
+
+        AuthenticatorCatalog catalog = TENANT_CATALOGS.get(tenantDomain);
+        if (catalog != null && !catalog.isStale(tenantDomain)) {
+            return catalog;
+        }
+        catalog = build(tenantDomain);
+        TENANT_CATALOGS.put(tenantDomain, catalog);
+        return catalog;
+    }
+
+    /**
+     * Returns the distinct tags of the local, request path and federated authenticators of the server.
+     *
+     * @return List of tags.
+     */
+    List<String> getTags() {
+
+        return tags;
+    }
+
+    /**
+     * Returns a page of the matching authenticators, skipping the given number of matching authenticators.
+     *
+     * @param filterTags Tags of which an authenticator needs to have at least one, or empty for any tags.
+     * @param filter     Additional condition of the matching authenticators, or null.
+     * @param offset     Number of matching authenticators to skip.
+     * @param limit      Maximum number of authenticators to return.
+     * @return Matching authenticators, in the order of the listing.
+     */
+    List<Entry> find(List<String> filterTags, Predicate<Entry> filter, int offset, int limit) {
+
+        return collectForward(resolveCandidates(filterTags), 0, filter, offset, limit);
+    }
+
+    /**
+     * Returns the matching authenticators next to a sort key, which needs not be the sort key of an authenticator of
+     * the catalog, e.g. of an authenticator deleted since the cursor was issued.
+     *
+     * @param filterTags Tags of which an authenticator needs to have at least one, or empty for any tags.
+     * @param filter     Additional condition of the matching authenticators, or null.
+     * @param sortKey    Sort key.
+     * @param direction  Direction of the authenticators from the sort key.
+     * @param limit      Maximum number of authenticators to return.
+     * @return Matching authenticators, in the order of the listing for {@link PageCursor.Direction#FORWARD}, or
+     * nearest first for {@link PageCursor.Direction#BACKWARD}.
+     */
+    List<Entry> find(List<String> filterTags, Predicate<Entry> filter, String sortKey, PageCursor.Direction direction,
+                     int limit) {
+
+        int[] candidates = resolveCandidates(filterTags);
+        int index = binarySearch(candidates, sortKey);
+        if (direction == PageCursor.Direction.FORWARD) {
+            return collectForward(candidates, index < 0 ? -index - 1 : index + 1, filter, 0, limit);
+        }
+        int end = index < 0 ? -index - 1 : index;
+        List<Entry> page = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            Entry entry = entries[candidates[i]];
+            if (filter == null || filter.test(entry)) {
+                page.add(entry);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Finds the index of a sort key among the ascending positions of the candidates, as by
+     * {@link Arrays#binarySearch(int[], int)}.
+     */
+    private int binarySearch(int[] candidates, String sortKey) {
+
+        int low = 0;
+        int high = candidates.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = entries[candidates[middle]].sortKey.compareTo(sortKey);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private List<Entry> collectForward(int[] candidates, int start, Predicate<Entry> filter, int offset, int limit) {
+
+        List<Entry> page = new ArrayList<>(Math.min(limit, candidates.length));
+        int skipped = 0;
+        for (int i = start; i < candidates.length && page.size() < limit; i++) {
+            Entry entry = entries[candidates[i]];
+            if (filter != null && !filter.test(entry)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(entry);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Resolves the ascending positions of the entries having at least one of the given tags, by merging the
+     * positions of each tag.
+     */
+    private int[] resolveCandidates(List<String> filterTags) {
+
+        if (filterTags == null || filterTags.isEmpty()) {
+            return allPositions;
+        }
+        int[] merged = new int[0];
+        for (String filterTag : filterTags) {
+            int[] positions = positionsByTag.get(toTagKey(filterTag));
+            if (positions != null) {
+                merged = merge(merged, positions);
+            }
+        }
+        return merged;
+    }
+
+    private static int[] merge(int[] first, int[] second) {
+
+        int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length || j < second.length) {
+            int next;
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                next = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                next = second[j++];
+            } else {
+                next = first[i++];
+                j++;
+            }
+            merged[size++] = next;
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static AuthenticatorCatalog build(String tenantDomain) throws IdentityApplicationManagementException,
+            IdentityProviderManagementException {
+
+        // The version is read before the load, so that a write during the load leaves the catalog stale.
+        long identityProviderVersion = TenantResourceVersions.get(TenantResourceVersions.IDENTITY_PROVIDERS,
+                tenantDomain);
+        LocalAuthenticatorConfig[] localAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
+                .getApplicationManagementService().getAllLocalAuthenticators(tenantDomain);
+        LocalAuthenticatorConfig[] requestPathAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
+                .getApplicationManagementService().getAllRequestPathAuthenticators(tenantDomain);
+        FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
+                .getIdentityProviderManager().getAllFederatedAuthenticators();
+
+        Set<String> tags = new LinkedHashSet<>();
+        List<Entry> entryList = new ArrayList<>();
+        if (localAuthenticatorConfigs != null) {
+            for (int i = 0; i < localAuthenticatorConfigs.length; i++) {
+                entryList.add(Entry.ofLocalAuthenticator(localAuthenticatorConfigs[i],
+                        String.format(LOCAL_AUTHENTICATOR_SORT_KEY_FORMAT, i)));
+                addTags(tags, localAuthenticatorConfigs[i].getTags());
+            }
+        }
+        if (requestPathAuthenticatorConfigs != null) {
+            for (int i = 0; i < requestPathAuthenticatorConfigs.length; i++) {
+                entryList.add(Entry.ofLocalAuthenticator(requestPathAuthenticatorConfigs[i],
+                        String.format(REQUEST_PATH_AUTHENTICATOR_SORT_KEY_FORMAT, i)));
+                addTags(tags, requestPathAuthenticatorConfigs[i].getTags());
+            }
+        }
+
+        // Tags of the federated authenticators are resolved once, instead of once per identity provider.
+        Map<String, String[]> federatedAuthenticatorTags = new HashMap<>();
+        if (federatedAuthenticatorConfigs != null) {
+            for (FederatedAuthenticatorConfig config : federatedAuthenticatorConfigs) {
+                federatedAuthenticatorTags.putIfAbsent(config.getName(), config.getTags());
+                addTags(tags, config.getTags());
+            }
+        }
+        List<IdentityProvider> identityProviders = loadIdentityProviders(tenantDomain);
+        // The sort keys of the identity providers are their names, hence they are listed in the order of the keys.
+        identityProviders.sort(Comparator.comparing(IdentityProvider::getIdentityProviderName));
+        for (IdentityProvider identityProvider : identityProviders) {
+            entryList.add(Entry.ofIdentityProvider(identityProvider, federatedAuthenticatorTags));
+        }
+        return new AuthenticatorCatalog(entryList, new ArrayList<>(tags), identityProviderVersion);
+    }
+
+    private static List<IdentityProvider> loadIdentityProviders(String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        List<String> requestedAttributeList = Collections.singletonList(Constants.FEDERATED_AUTHENTICATORS);
+        int pageSize = IdentityUtil.getMaximumItemPerPage();
+        List<IdentityProvider> identityProviders = new ArrayList<>();
+        while (true) {
+            IdpSearchResult idpSearchResult = AuthenticatorsServiceHolder.getInstance().getIdentityProviderManager()
+                    .getIdPs(pageSize, identityProviders.size(), null, null, null, tenantDomain,
+                            requestedAttributeList);
+            List<IdentityProvider> page = idpSearchResult.getIdPs();
+            if (page == null || page.isEmpty()) {
+                return identityProviders;
+            }
+            identityProviders.addAll(page);
+            if (identityProviders.size() >= idpSearchResult.getTotalIDPCount()) {
+                return identityProviders;
+            }
+        }
+    }
+
+    private static void addTags(Set<String> tags, String[] configTags) {
+
+        if (ArrayUtils.isNotEmpty(configTags)) {
+            tags.addAll(Arrays.asList(configTags));
+        }
+    }
+
+    private static String toTagKey(String tag) {
+
+        return tag.toLowerCase(Locale.ENGLISH);
+    }
+
+    private boolean isStale(String tenantDomain) {
+
+        return System.currentTimeMillis() - createdTime > MAX_AGE_MILLIS || identityProviderVersion !=
+                TenantResourceVersions.get(TenantResourceVersions.IDENTITY_PROVIDERS, tenantDomain);
+    }
+
+    /**
+     * Authenticator of the catalog.
+     */
+    static final class Entry {
+
+        private final String id;
+        private final String name;
+        private final String displayName;
+        private final String filterName;
+        private final boolean enabled;
+        private final Authenticator.TypeEnum type;
+        private final String image;
+        private final String description;
+        private final List<String> tags;
+        private final String selfPath;
+        private final String sortKey;
+
+        private Entry(String id, String name, String displayName, String filterName, boolean enabled,
+                      Authenticator.TypeEnum type, String image, String description, List<String> tags,
+                      String selfPath, String sortKey) {
+
+            this.id = id;
+            this.name = name;
+            this.displayName = displayName;
+            this.filterName = filterName;
+            this.enabled = enabled;
+            this.type = type;
+            this.image = image;
+            this.description = description;
+            this.tags = tags;
+            this.selfPath = selfPath;
+            this.sortKey = sortKey;
+        }
+
+        /**
+         * For local authenticators and request path authenticators, the 'displayName' is considered as the 'name'
+         * attribute during filtering.
+         */
+        private static Entry ofLocalAuthenticator(LocalAuthenticatorConfig config, String sortKey) {
+
+            String id = base64URLEncode(config.getName());
+            List<String> tags = ArrayUtils.isNotEmpty(config.getTags()) ?
+                    Collections.unmodifiableList(Arrays.asList(config.getTags().clone())) : Collections.emptyList();
+            return new Entry(id, config.getName(), config.getDisplayName(), config.getDisplayName(),
+                    config.isEnabled(), Authenticator.TypeEnum.LOCAL, null, null, tags,
+                    String.format("/v1/configs/authenticators/%s", id), sortKey);
+        }
+
+        private static Entry ofIdentityProvider(IdentityProvider identityProvider,
+                                                Map<String, String[]> federatedAuthenticatorTags) {
+
+            Set<String> tags = new LinkedHashSet<>();
+            FederatedAuthenticatorConfig[] fedAuthConfigs = identityProvider.getFederatedAuthenticatorConfigs();
+            if (fedAuthConfigs != null) {
+                for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
+                    if (config.isEnabled()) {
+                        addTags(tags, federatedAuthenticatorTags.get(config.getName()));
+                    }
+                }
+            }
+            String displayName = StringUtils.isNotBlank(identityProvider.getDisplayName()) ?
+                    identityProvider.getDisplayName() : identityProvider.getIdentityProviderName();
+            return new Entry(identityProvider.getResourceId(), identityProvider.getIdentityProviderName(),
+                    displayName, identityProvider.getIdentityProviderName(), identityProvider.isEnable(),
+                    Authenticator.TypeEnum.FEDERATED, identityProvider.getImageUrl(),
+                    identityProvider.getIdentityProviderDescription(),
+                    Collections.unmodifiableList(new ArrayList<>(tags)),
+                    String.format("/v1/identity-providers/%s", identityProvider.getResourceId()),
+                    IDENTITY_PROVIDER_SORT_KEY_PREFIX + identityProvider.getIdentityProviderName());
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        /**
+         * Returns the key of the authenticator in the order of the listing, which is the cursor key of its pages.
+         *
+         * @return Sort key.
+         */
+        String getSortKey() {
+
+            return sortKey;
+        }
+
+        /**
+         * Returns the value of the 'name' filter attribute of the authenticator.
+         *
+         * @return Filter name.
+         */
+        String getFilterName() {
+
+            return filterName;
+        }
+
+        /**
+         * Checks whether the 'name' filter attribute is matched case sensitively. The names of the identity providers
+         * are matched case sensitively, as by the identity provider search, while the names of the local and request
+         * path authenticators are matched ignoring case.
+         *
+         * @return True if the name is matched case sensitively.
+         */
+        boolean isFilterNameCaseSensitive() {
+
+            return type == Authenticator.TypeEnum.FEDERATED;
+        }
+
+        /**
+         * Builds the response model of the authenticator. A new model is built for each response, as the models are
+         * mutable.
+         *
+         * @return Authenticator.
+         */
+        Authenticator toAuthenticator() {
+
+            Authenticator authenticator = new Authenticator();
+            authenticator.setId(id);
+            authenticator.setName(name);
+            authenticator.setDisplayName(displayName);
+            authenticator.setIsEnabled(enabled);
+            authenticator.setType(type);
+            authenticator.setImage(image);
+            authenticator.setDescription(description);
+            if (!tags.isEmpty()) {
+                authenticator.setTags(new ArrayList<>(tags));
+            }
+            authenticator.setSelf(ContextLoader.buildURIForBody(selfPath).toString());
+            return authenticator;
+        }
+    }
+}
@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.api.server.authenticators.v1.core;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,14 +32,13 @@ import org.wso2.carbon.identity.api.server.authenticators.v1.model.NameFilter;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
-import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementClientException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementServerException;
-import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
-import org.wso2.carbon.identity.application.common.model.IdentityProvider;
-import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
-import org.wso2.carbon.identity.application.common.model.RequestPathAuthenticatorConfig;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
@@ -51,21 +49,18 @@ import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementServerException;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
-import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.AUTHENTICATOR_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.common.Util.base64URLEncode;
 
 /**
  * Call internal osgi services to perform server authenticators related operations.
@@ -73,74 +68,48 @@ import static org.wso2.carbon.identity.api.server.common.Util.base64URLEncode;
 public class ServerAuthenticatorManagementService {
 
     private static final Log log = LogFactory.getLog(ServerAuthenticatorManagementService.class);
+    private static final KeysetPaginator<AuthenticatorCatalog.Entry> AUTHENTICATOR_PAGINATOR =
+            new KeysetPaginator<>(AuthenticatorCatalog.Entry::getSortKey);
 
     /**
-     * Retrieves the list of available authenticators.
+     * Retrieves a page of the available authenticators. A page either skips the given number of matching
+     * authenticators, or follows or precedes the authenticator at which the given cursor was issued. The page carries
+     * the cursors of the pages after and, for a cursor page, before it.
      *
      * @param filter The filter string.
-     * @param limit  The items per page. **Not supported at the moment.**
-     * @param offset The offset to be used with the limit parameter. **Not supported at the moment.**
-     * @return The list of authenticators
+     * @param limit  The items per page.
+     * @param offset The offset to be used with the limit parameter.
+     * @param before The cursor of the page before an authenticator.
+     * @param after  The cursor of the page after an authenticator.
+     * @return The page of authenticators.
      */
-    public List<Authenticator> getAuthenticators(String filter, Integer limit, Integer offset) {
+    public KeysetPage<Authenticator> getAuthenticators(String filter, Integer limit, Integer offset, String before,
+                                                       String after) {
 
-        handleNotImplementedCapabilities(limit, offset);
-
-        try {
-            String filterAuthenticatorName = null;
-            String filterOperationForName = null;
-            ArrayList<String> filterTagsList = null;
-            int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
-            if (StringUtils.isNotBlank(filter)) {
-                List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
-                if (CollectionUtils.isNotEmpty(expressionNodes)) {
-                    NameFilter nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
-                    if (nameFilter != null) {
-                        filterAuthenticatorName = nameFilter.getName();
-                        filterOperationForName = nameFilter.getOperation();
-                    }
-                    filterTagsList = getFilterTagsList(expressionNodes);
-                }
-            }
-
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
-                    .getApplicationManagementService().getAllLocalAuthenticators(ContextLoader
-                            .getTenantDomainFromContext());
-
-            int localAuthenticatorsCount = localAuthenticatorConfigs.length;
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = new RequestPathAuthenticatorConfig[0];
-
-            /* If there is no filter string available in the request, the request path authenticators are required to
-            be fetched only if the  no. of local authenticators retrieved are less than the maximum items per page
-            count as the no. of items returned in the response will be capped at the maximum items per page count. */
-            if (StringUtils.isNotBlank(filter) || (StringUtils.isBlank(filter) && localAuthenticatorsCount <
-                    maximumItemPerPage)) {
-                requestPathAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
-                        .getApplicationManagementService().getAllRequestPathAuthenticators(ContextLoader
-                                .getTenantDomainFromContext());
-            }
-
-            List<String> requestedAttributeList = new ArrayList<>();
-            requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
-
-            int idPCountToBeRetrieved = maximumItemPerPage - (localAuthenticatorsCount +
-                    requestPathAuthenticatorConfigs.length);
-            List<IdentityProvider> identityProviders = null;
-
-            /* If there is no filter string available in the request, the identity providers are required to
-            be fetched only if the total of local authenticators and request path authenticators retrieved above is
-            less than the maximum items per page count as the no. of items returned in the response will be capped
-            at the maximum items per page count. */
-            if (idPCountToBeRetrieved > 0 && StringUtils.isBlank(filter)) {
-                IdpSearchResult idpSearchResult = AuthenticatorsServiceHolder.getInstance().getIdentityProviderManager()
-                        .getIdPs(idPCountToBeRetrieved, null, null, null, null,
-                                ContextLoader.getTenantDomainFromContext(), requestedAttributeList);
-                identityProviders = idpSearchResult.getIdPs();
+        validatePaginationParameters(limit, offset, before, after);
+        NameFilter nameFilter = null;
+        List<String> filterTagsList = null;
+        if (StringUtils.isNotBlank(filter)) {
+            List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
+            if (CollectionUtils.isNotEmpty(expressionNodes)) {
+                nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
+                filterTagsList = getFilterTagsList(expressionNodes);
             }
+        }
 
-            return buildAuthenticatorsListResponse(filter, requestedAttributeList, filterAuthenticatorName,
-                    filterOperationForName, filterTagsList, localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    identityProviders);
+        int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
+        int pageSize = limit == null ? maximumItemPerPage : Math.min(limit, maximumItemPerPage);
+        KeysetPageRequest pageRequest = buildPageRequest(pageSize, before, after);
+        Predicate<AuthenticatorCatalog.Entry> namePredicate = buildNamePredicate(nameFilter);
+        List<String> filterTags = filterTagsList;
+        try {
+            AuthenticatorCatalog catalog = AuthenticatorCatalog.get(ContextLoader.getTenantDomainFromContext());
+            // An offset page is read as the first page of the authenticators following the skipped ones.
+            int skipped = offset == null ? 0 : offset;
+            return AUTHENTICATOR_PAGINATOR.paginate(pageRequest, (fetchLimit, cursorKey, direction) ->
+                    cursorKey == null ? catalog.find(filterTags, namePredicate, skipped, fetchLimit) :
+                            catalog.find(filterTags, namePredicate, cursorKey, direction, fetchLimit))
+                    .map(AuthenticatorCatalog.Entry::toAuthenticator);
         } catch (IdentityApplicationManagementException e) {
             throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
                     null);
@@ -157,19 +126,7 @@ public class ServerAuthenticatorManagementService {
     public List<String> getTags() {
 
         try {
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
-                    .getApplicationManagementService().getAllLocalAuthenticators(ContextLoader
-                            .getTenantDomainFromContext());
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
-                    .getApplicationManagementService().getAllRequestPathAuthenticators(ContextLoader
-                            .getTenantDomainFromContext());
-
-            FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = AuthenticatorsServiceHolder.getInstance()
-                    .getIdentityProviderManager().getAllFederatedAuthenticators();
-
-            return buildTagsListResponse(localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    federatedAuthenticatorConfigs);
+            return new ArrayList<>(AuthenticatorCatalog.get(ContextLoader.getTenantDomainFromContext()).getTags());
         } catch (IdentityApplicationManagementException e) {
             throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
                     null);
@@ -178,6 +135,59 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
+    /**
+     * Builds the condition of the 'name' filter attribute. For local authenticators and request path
+     * authenticators, the 'displayName' is considered as the 'name' attribute during filtering, and matched ignoring
+     * case. Identity provider names are matched case sensitively.
+     *
+     * @param nameFilter The authenticator name and the filter operation passed in the filter string.
+     * @return The condition, or null if the filter string has no 'name' attribute.
+     */
+    private Predicate<AuthenticatorCatalog.Entry> buildNamePredicate(NameFilter nameFilter) {
+
+        if (nameFilter == null || StringUtils.isBlank(nameFilter.getName())) {
+            return null;
+        }
+        String name = nameFilter.getName();
+        if (StringUtils.equalsIgnoreCase(nameFilter.getOperation(), Constants.FilterOperations.SW)) {
+            return entry -> entry.isFilterNameCaseSensitive() ? StringUtils.startsWith(entry.getFilterName(), name) :
+                    StringUtils.startsWithIgnoreCase(entry.getFilterName(), name);
+        }
+        return entry -> entry.isFilterNameCaseSensitive() ? StringUtils.equals(entry.getFilterName(), name) :
+                StringUtils.equalsIgnoreCase(entry.getFilterName(), name);
+    }
+
+    private void validatePaginationParameters(Integer limit, Integer offset, String before, String after) {
+
+        if (limit != null && limit <= 0) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS.getCode(),
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS.getMessage(),
+                    "The limit must be a positive integer.");
+        }
+        if (offset != null && offset < 0) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS.getCode(),
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS.getMessage(),
+                    "The offset can't be negative.");
+        }
+        if (StringUtils.isNotBlank(before) && StringUtils.isNotBlank(after)) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS, "before, after");
+        }
+        if (offset != null && (StringUtils.isNotBlank(before) || StringUtils.isNotBlank(after))) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS,
+                    StringUtils.isNotBlank(before) ? "offset, before" : "offset, after");
+        }
+    }
+
+    private KeysetPageRequest buildPageRequest(int limit, String before, String after) {
+
+        try {
+            return KeysetPageRequest.of(limit, before, after);
+        } catch (InvalidCursorException e) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_CURSOR,
+                    StringUtils.isNotBlank(before) ? before : after);
+        }
+    }
+
     public ConnectedApps getConnectedAppsOfLocalAuthenticator(String authenticatorId, Integer limit, Integer offset) {
 
         try {
@@ -271,288 +281,6 @@ public class ServerAuthenticatorManagementService {
         return calculateOffsetForPreviousLink(newOffset, limit, total);
     }
 
-    private List<Authenticator> buildAuthenticatorsListResponse(String filter, List<String> requestedAttributeList,
-                                                                String localAuthNames,
-                                                                String authenticatorNameFilterOperator,
-                                                                ArrayList<String> filterTagsList,
-                                                                LocalAuthenticatorConfig[] localAuthenticatorConfigs,
-                                                                RequestPathAuthenticatorConfig[]
-                                                                        requestPathAuthenticatorConfigs,
-                                                                List<IdentityProvider> identityProviders) {
-
-        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
-
-        List<Authenticator> authenticators = new ArrayList<>();
-        if (localAuthenticatorConfigs != null) {
-            for (LocalAuthenticatorConfig config : localAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
-            }
-        }
-
-        if ((authenticators.size() < maximumItemsPerPage) && requestPathAuthenticatorConfigs != null) {
-            for (RequestPathAuthenticatorConfig config : requestPathAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
-            }
-        }
-
-        if (StringUtils.isBlank(filter)) {
-            if ((authenticators.size() < maximumItemsPerPage) && identityProviders != null) {
-                for (IdentityProvider identityProvider : identityProviders) {
-                    if (authenticators.size() < maximumItemsPerPage) {
-                        List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                        addIdp(identityProvider, authenticators, configTagsListDistinct);
-                    }
-                }
-            }
-        } else {
-            List<ExpressionNode> expressionNodesForIdp = getExpressionNodesForIdp(filter);
-            int idPCountToBeRetrieved = maximumItemsPerPage - authenticators.size();
-            IdpSearchResult idpSearchResult;
-            try {
-                idpSearchResult = AuthenticatorsServiceHolder.getInstance().getIdentityProviderManager()
-                        .getIdPs(idPCountToBeRetrieved, null, null, null,
-                                ContextLoader.getTenantDomainFromContext(), requestedAttributeList,
-                                expressionNodesForIdp);
-                identityProviders = idpSearchResult.getIdPs();
-                if (identityProviders != null) {
-                    addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                            filterTagsList);
-                    int limit = idpSearchResult.getLimit();
-                    int offSet = idpSearchResult.getOffSet();
-                    int totalIdpCount = idpSearchResult.getTotalIDPCount();
-                    while (authenticators.size() < maximumItemsPerPage && limit > 0 && offSet >= 0 &&
-                            totalIdpCount > (limit + offSet)) {
-                        identityProviders = new ArrayList<>();
-                        getFilteredIdPs(limit, offSet, requestedAttributeList, identityProviders,
-                                expressionNodesForIdp);
-                        addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                                filterTagsList);
-                        offSet = offSet + limit;
-                    }
-                }
-            } catch (IdentityProviderManagementException e) {
-                throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-            }
-        }
-        return authenticators;
-    }
-
-    private void addIdPsToAuthenticatorList(int maximumItemsPerPage, List<IdentityProvider> identityProviders,
-                                            List<Authenticator> authenticators, ArrayList<String> filterTagsList) {
-
-        for (IdentityProvider identityProvider : identityProviders) {
-            if (authenticators.size() < maximumItemsPerPage) {
-                List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                if (CollectionUtils.isNotEmpty(filterTagsList) &&
-                        CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-                    boolean tagFound = false;
-                    for (String filterTag : filterTagsList) {
-                        if (tagFound) {
-                            break;
-                        }
-                        for (String configTag : configTagsListDistinct) {
-                            if (StringUtils.equalsIgnoreCase(configTag, filterTag)) {
-                                addIdp(identityProvider, authenticators, configTagsListDistinct);
-                                tagFound = true;
-                                break;
-                            }
-                        }
-                    }
-                } else if (CollectionUtils.isEmpty(filterTagsList)) {
-                    addIdp(identityProvider, authenticators, configTagsListDistinct);
-                }
-            }
-        }
-    }
-
-    /**
-     * Retrieves a distinct list of tags defined for the federated authenticators of an identity provider.
-     *
-     * @param identityProvider The identity provider.
-     * @return A distinct list of tags defined for the federated authenticators of an identity provider.
-     */
-    private List<String> getDistinctTags(IdentityProvider identityProvider) {
-
-        ArrayList<String> tagsList = new ArrayList<>();
-
-        FederatedAuthenticatorConfig[] fedAuthConfigs = identityProvider
-                .getFederatedAuthenticatorConfigs();
-        if (fedAuthConfigs != null) {
-            for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
-                if (config.isEnabled()) {
-                    FederatedAuthenticatorConfig federatedAuthenticatorConfig =
-                            ApplicationAuthenticatorService.getInstance()
-                                    .getFederatedAuthenticatorByName(config.getName());
-                    if (federatedAuthenticatorConfig != null) {
-                        String[] tags = federatedAuthenticatorConfig.getTags();
-                        if (ArrayUtils.isNotEmpty(tags)) {
-                            tagsList.addAll(Arrays.asList(tags));
-                        }
-                    }
-                }
-            }
-            return tagsList.stream().distinct().collect(Collectors.toList());
-        }
-        return null;
-    }
-
-    /**
-     * Adds the identity provider to the list of authenticators.
-     *
-     * @param identityProvider       The identity provider.
-     * @param authenticators         The list of authenticators.
-     * @param configTagsListDistinct The distinct list of tags available for the identity provider.
-     */
-    private void addIdp(IdentityProvider identityProvider, List<Authenticator> authenticators,
-                        List<String> configTagsListDistinct) {
-
-        Authenticator authenticator = new Authenticator();
-        authenticator.setId(identityProvider.getResourceId());
-        authenticator.setName(identityProvider.getIdentityProviderName());
-        String displayName = identityProvider.getDisplayName();
-        if (StringUtils.isNotBlank(displayName)) {
-            authenticator.setDisplayName(identityProvider.getDisplayName());
-        } else {
-            authenticator.setDisplayName(identityProvider.getIdentityProviderName());
-        }
-        authenticator.setIsEnabled(identityProvider.isEnable());
-        authenticator.setType(Authenticator.TypeEnum.FEDERATED);
-        authenticator.setImage(identityProvider.getImageUrl());
-        authenticator.setDescription(identityProvider.getIdentityProviderDescription());
-        if (CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-            authenticator.setTags(configTagsListDistinct);
-        }
-        authenticators.add(authenticator);
-        authenticator.setSelf(ContextLoader.buildURIForBody(
-                String.format("/v1/identity-providers/%s", identityProvider.getResourceId())).toString());
-    }
-
-    /**
-     * Adds the local authenticator to the list of authenticators.
-     *
-     * @param config                          The local authenticator configuration.
-     * @param authenticators                  The list of authenticators.
-     * @param filterAuthenticatorName         The authenticator name passed in the filter string.
-     * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name in the filter
-     *                                        string.
-     * @param tagsList                        The list of tags available for the local authenticator.
-     * @param maximumItemsPerPage             The defined maximum items per page limit.
-     */
-    private void addLocalAuthenticator(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                                       String filterAuthenticatorName, String authenticatorNameFilterOperator,
-                                       ArrayList<String> tagsList, int maximumItemsPerPage) {
-
-        if (authenticators.size() < maximumItemsPerPage) {
-
-            // For local authenticators and request path authenticators, the 'displayName' is considered as the
-            // 'name' attribute during filtering.
-            if (StringUtils.isNotBlank(filterAuthenticatorName) && CollectionUtils.isNotEmpty(tagsList) &&
-                    ((StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                            StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) ||
-                            (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator,
-                                    Constants.FilterOperations.EQ) &&
-                                    StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)))) {
-                filterTags(config, authenticators, tagsList);
-            } else if (StringUtils.isNotBlank(filterAuthenticatorName)) {
-                if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                        StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                } else if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.EQ)
-                        && StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                }
-            } else if (CollectionUtils.isNotEmpty(tagsList)) {
-                filterTags(config, authenticators, tagsList);
-            } else {
-                Authenticator authenticator = addLocalAuthenticator(config);
-                authenticators.add(authenticator);
-            }
-        }
-    }
-
-    /**
-     * Adds local authenticator to the list of authenticators if it satisfies the given filter.
-     *
-     * @param config         The local authenticator configuration.
-     * @param authenticators The list of authenticators.
-     * @param filterTagsList The list of tags passed in the filter string.
-     */
-    private void filterTags(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                            ArrayList<String> filterTagsList) {
-
-        boolean tagFound = false;
-        for (String filterTag : filterTagsList) {
-            if (tagFound) {
-                break;
-            }
-            String[] authenticatorConfigTags = config.getTags();
-            if (ArrayUtils.isNotEmpty(authenticatorConfigTags)) {
-                for (String tag : authenticatorConfigTags) {
-                    if (StringUtils.equalsIgnoreCase(tag, filterTag)) {
-                        Authenticator authenticator = addLocalAuthenticator(config);
-                        authenticators.add(authenticator);
-                        tagFound = true;
-                        break;
-                    }
-                }
-            }
-        }
-    }
-
-    private Authenticator addLocalAuthenticator(LocalAuthenticatorConfig config) {
-
-        Authenticator authenticator = new Authenticator();
-        String authenticatorId = base64URLEncode(config.getName());
-        authenticator.setId(authenticatorId);
-        authenticator.setName(config.getName());
-        authenticator.setDisplayName(config.getDisplayName());
-        authenticator.setIsEnabled(config.isEnabled());
-        authenticator.setType(Authenticator.TypeEnum.LOCAL);
-        String[] tags = config.getTags();
-        if (ArrayUtils.isNotEmpty(tags)) {
-            authenticator.setTags(Arrays.asList(tags));
-        }
-        authenticator.setSelf(ContextLoader.buildURIForBody
-                (String.format("/v1/configs/authenticators/%s", authenticatorId)).toString());
-        return authenticator;
-    }
-
-    private List<String> buildTagsListResponse(LocalAuthenticatorConfig[] localAuthenticatorConfigs,
-                                               RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs,
-                                               FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs) {
-
-        ArrayList<String> tagsList = new ArrayList<>();
-        if (localAuthenticatorConfigs != null) {
-            for (LocalAuthenticatorConfig config : localAuthenticatorConfigs) {
-                String[] tags = config.getTags();
-                if (ArrayUtils.isNotEmpty(tags)) {
-                    tagsList.addAll(Arrays.asList(tags));
-                }
-            }
-        }
-        if (requestPathAuthenticatorConfigs != null) {
-            for (RequestPathAuthenticatorConfig config : requestPathAuthenticatorConfigs) {
-                String[] tags = config.getTags();
-                if (ArrayUtils.isNotEmpty(tags)) {
-                    tagsList.addAll(Arrays.asList(tags));
-                }
-            }
-        }
-        if (ArrayUtils.isNotEmpty(federatedAuthenticatorConfigs)) {
-            for (FederatedAuthenticatorConfig config : federatedAuthenticatorConfigs) {
-                String[] tags = config.getTags();
-                if (ArrayUtils.isNotEmpty(tags)) {
-                    tagsList.addAll(Arrays.asList(tags));
-                }
-            }
-        }
-        return tagsList.stream().distinct().collect(Collectors.toList());
-    }
-
     private List<ExpressionNode> getExpressionNodesForAuthenticator(String filter) {
 
         // Filter example : name sw go and (tag eq 2fa or tag eq Social-Login)
@@ -715,58 +443,6 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
-    private List<ExpressionNode> getExpressionNodesForIdp(String filter) {
-
-        // Filter example : name sw go and (tag eq 2fa or tag eq Social-Login)
-        List<ExpressionNode> expressionNodes = new ArrayList<>();
-        FilterTreeBuilder filterTreeBuilder;
-        try {
-            if (StringUtils.isNotBlank(filter)) {
-                filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-                setExpressionNodeListForIdp(rootNode, expressionNodes);
-            }
-        } catch (IOException | IdentityException e) {
-            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT, null);
-
-        }
-        return expressionNodes;
-    }
-
-    /**
-     * Sets the expression nodes required for the retrieval of identity providers from the database.
-     *
-     * @param node       The node
-     * @param expression The list of expression nodes.
-     */
-    private void setExpressionNodeListForIdp(Node node, List<ExpressionNode> expression) {
-
-        if (node instanceof ExpressionNode) {
-            if (StringUtils.isNotBlank(((ExpressionNode) node).getAttributeValue())) {
-                if (StringUtils.equalsIgnoreCase(((ExpressionNode) node).getAttributeValue(),
-                        Constants.FilterAttributes.NAME)) {
-                    expression.add((ExpressionNode) node);
-                }
-            }
-        } else if (node instanceof OperationNode) {
-            setExpressionNodeListForIdp(node.getLeftNode(), expression);
-            setExpressionNodeListForIdp(node.getRightNode(), expression);
-        }
-    }
-
-    private void getFilteredIdPs(int limit, int offSet, List<String> requestedAttributeList,
-                                 List<IdentityProvider> identityProviders, List<ExpressionNode> expressionNodes) {
-
-        try {
-            IdpSearchResult idpSearchResult = AuthenticatorsServiceHolder.getInstance().getIdentityProviderManager()
-                    .getIdPs(limit, (offSet + limit), null, null,
-                            ContextLoader.getTenantDomainFromContext(), requestedAttributeList, expressionNodes);
-            identityProviders.addAll(idpSearchResult.getIdPs());
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-        }
-    }
-
     /**
      * The authenticator name and the filter operation for authenticator name passed in the filter string.
      *
@@ -959,16 +635,4 @@ public class ServerAuthenticatorManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset) {
-
-        Constants.ErrorMessage errorEnum = null;
-        if (limit != null || offset != null) {
-            errorEnum = Constants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        }
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-            throw new APIError(status, errorResponse);
-        }
-    }
 }
@@ -19,9 +19,23 @@ package org.wso2.carbon.identity.api.server.authenticators.v1.impl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.authenticators.v1.AuthenticatorsApiService;
 import org.wso2.carbon.identity.api.server.authenticators.v1.core.ServerAuthenticatorManagementService;
+import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.AUTHENTICATOR_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.PAGINATION_AFTER;
+import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.PAGINATION_BEFORE;
+import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.PAGINATION_FILTER;
+import static org.wso2.carbon.identity.api.server.authenticators.common.Constants.PAGINATION_LIMIT;
+import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
+
 /**
  * Implementation of the Server Authenticators Rest API.
  */
@@ -31,9 +45,12 @@ public class AuthenticatorsApiServiceImpl implements AuthenticatorsApiService {
     private ServerAuthenticatorManagementService authenticatorManagementService;
 
     @Override
-    public Response authenticatorsGet(String filter, Integer limit, Integer offset) {
+    public Response authenticatorsGet(String filter, Integer limit, Integer offset, String before, String after) {
 
-        return Response.ok().entity(authenticatorManagementService.getAuthenticators(filter, limit, offset)).build();
+        KeysetPage<Authenticator> page = authenticatorManagementService.getAuthenticators(filter, limit, offset,
+                before, after);
+        return page.addLinkHeaders(Response.ok().entity(page.getItems()), buildListingURL(filter, limit),
+                PAGINATION_BEFORE, PAGINATION_AFTER).build();
     }
 
     @Override
@@ -48,4 +65,17 @@ public class AuthenticatorsApiServiceImpl implements AuthenticatorsApiService {
         return Response.ok().entity(authenticatorManagementService
                 .getConnectedAppsOfLocalAuthenticator(authenticatorId, limit, offset)).build();
     }
+
+    /**
+     * Build the absolute URL of the listing with the query parameters of the request except the cursors and the
+     * offset, for the page links.
+     */
+    private String buildListingURL(String filter, Integer limit) {
+
+        Map<String, Object> queryParameters = new LinkedHashMap<>();
+        queryParameters.put(PAGINATION_FILTER, filter);
+        queryParameters.put(PAGINATION_LIMIT, limit);
+        return ContextLoader.buildURIForHeader(V1_API_PATH_COMPONENT + AUTHENTICATOR_PATH_COMPONENT) +
+                Util.buildQuery(queryParameters);
+    }
 }
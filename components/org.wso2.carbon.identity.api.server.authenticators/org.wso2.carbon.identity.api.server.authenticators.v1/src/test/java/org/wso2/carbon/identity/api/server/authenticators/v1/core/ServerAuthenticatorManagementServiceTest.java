@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.authenticators.common.Constants;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+
+import javax.ws.rs.core.Response;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Test for ServerAuthenticatorManagementService.
+ */
+public class ServerAuthenticatorManagementServiceTest {
+
+    private final ServerAuthenticatorManagementService authenticatorManagementService =
+            new ServerAuthenticatorManagementService();
+
+    @DataProvider(name = "invalidPaginationParameters")
+    public Object[][] invalidPaginationParameters() {
+
+        return new Object[][]{
+                {0, null},
+                {-1, null},
+                {Integer.MIN_VALUE, null},
+                {10, -1},
+                {null, -5}
+        };
+    }
+
+    @Test(dataProvider = "invalidPaginationParameters")
+    public void testGetAuthenticatorsWithInvalidPaginationParameters(Integer limit, Integer offset) {
+
+        try {
+            authenticatorManagementService.getAuthenticators(null, limit, offset, null, null);
+            fail("Invalid pagination parameters were accepted.");
+        } catch (APIError e) {
+            assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+            assertEquals(e.getCode(),
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS.getCode());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.action.management.ActionManagementService;
+import org.wso2.carbon.identity.action.management.exception.ActionMgtException;
+import org.wso2.carbon.identity.action.management.model.Action;
+import org.wso2.carbon.identity.action.management.model.Authentication;
+import org.wso2.carbon.identity.action.management.model.EndpointConfig;
+import org.wso2.carbon.identity.api.server.action.management.common.ActionManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.action.management.v1.ActionResponse;
+import org.wso2.carbon.identity.api.server.action.management.v1.ActionType;
+import org.wso2.carbon.identity.api.server.action.management.v1.ActionTypesResponseItem;
+import org.wso2.carbon.identity.api.server.action.management.v1.AuthenticationTypeResponse;
+import org.wso2.carbon.identity.api.server.action.management.v1.EndpointResponse;
+import org.wso2.carbon.identity.api.server.action.management.v1.core.ServerActionManagementService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment.stub;
+
+/**
+ * Benchmarks the action lookups and the action type listing, which are served from the per tenant action snapshot.
+ * The after write variants delete an action before each read, which invalidates the snapshot, so that the read reloads
+ * the snapshot from the action management service. The write runs in an invocation level setup, so that only the read
+ * is measured.
+ * <p>
+ * The from service variant is the baseline of the action lookup, i.e. the path before the snapshot, which called the
+ * action management service twice per lookup. The service is a stub answering without any I/O, hence the baseline
+ * only shows the cost of this API around the service calls, each of which is a database query on a server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ActionRetrievalBenchmark {
+
+    private static final Action.ActionTypes ACTION_TYPE = Action.ActionTypes.PRE_ISSUE_ACCESS_TOKEN;
+
+    @Param({"1", "10"})
+    public int actionCount;
+
+    private BenchmarkEnvironment environment;
+    private ServerActionManagementService actionManagementService;
+    private String actionId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ActionMgtException {
+
+        environment = new BenchmarkEnvironment();
+        List<Action> actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            actions.add(createAction(i));
+        }
+        Action lastAction = actions.get(actionCount - 1);
+        actionId = lastAction.getId();
+
+        ActionManagementService backendService = stub(ActionManagementService.class);
+        when(backendService.getActionsByActionType(anyString(), anyString())).thenReturn(actions);
+        when(backendService.getActionByActionId(anyString(), anyString(), anyString())).thenReturn(lastAction);
+        when(backendService.getActionsCountPerType(anyString()))
+                .thenReturn(Collections.singletonMap(ACTION_TYPE.getActionType(), actionCount));
+        ActionManagementServiceHolder.setActionManagementService(backendService);
+
+        actionManagementService = new ServerActionManagementService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public ActionResponse getActionByActionId() {
+
+        return actionManagementService.getActionByActionId(ACTION_TYPE.getPathParam(), actionId);
+    }
+
+    @Benchmark
+    public ActionResponse getActionByActionIdFromService() throws ActionMgtException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        ActionManagementService backendService = ActionManagementServiceHolder.getActionManagementService();
+        if (backendService.getActionByActionId(ACTION_TYPE.getPathParam(), actionId, tenantDomain) == null) {
+            throw new IllegalStateException("No action found for the ID: " + actionId);
+        }
+        return buildActionResponse(backendService.getActionByActionId(ACTION_TYPE.getPathParam(), actionId,
+                tenantDomain));
+    }
+
+    @Benchmark
+    public ActionResponse getActionByActionIdAfterWrite(InvalidatedSnapshot invalidatedSnapshot) {
+
+        return actionManagementService.getActionByActionId(ACTION_TYPE.getPathParam(), actionId);
+    }
+
+    @Benchmark
+    public List<ActionTypesResponseItem> getActionTypes() {
+
+        return actionManagementService.getActionTypes();
+    }
+
+    @Benchmark
+    public List<ActionTypesResponseItem> getActionTypesAfterWrite(InvalidatedSnapshot invalidatedSnapshot) {
+
+        return actionManagementService.getActionTypes();
+    }
+
+    /**
+     * Invalidates the action snapshot of the tenant with a write before each invocation of a benchmark using it.
+     */
+    @State(Scope.Thread)
+    public static class InvalidatedSnapshot {
+
+        @Setup(Level.Invocation)
+        public void write(ActionRetrievalBenchmark benchmark) {
+
+            benchmark.actionManagementService.deleteAction(ACTION_TYPE.getPathParam(), benchmark.actionId);
+        }
+    }
+
+    /**
+     * Builds the response of an action as the action lookup did before the snapshot.
+     */
+    private static ActionResponse buildActionResponse(Action action) {
+
+        return new ActionResponse()
+                .id(action.getId())
+                .type(ActionType.valueOf(action.getType().toString()))
+                .name(action.getName())
+                .description(action.getDescription())
+                .status(ActionResponse.StatusEnum.valueOf(action.getStatus().toString()))
+                .endpoint(new EndpointResponse()
+                        .uri(action.getEndpoint().getUri())
+                        .authentication(new AuthenticationTypeResponse()
+                                .type(AuthenticationTypeResponse.TypeEnum.valueOf(action.getEndpoint()
+                                        .getAuthentication().getType().toString()))));
+    }
+
+    private static Action createAction(int index) {
+
+        Authentication authentication = stub(Authentication.class);
+        when(authentication.getType()).thenReturn(Authentication.Type.BEARER);
+        EndpointConfig endpointConfig = stub(EndpointConfig.class);
+        when(endpointConfig.getUri()).thenReturn("https://actions.benchmark.com/" + index);
+        when(endpointConfig.getAuthentication()).thenReturn(authentication);
+
+        Action action = stub(Action.class);
+        when(action.getId()).thenReturn(SyntheticTenant.resourceId("action", index));
+        when(action.getType()).thenReturn(ACTION_TYPE);
+        when(action.getName()).thenReturn("action-" + index);
+        when(action.getDescription()).thenReturn("Synthetic action " + index + " of the benchmark tenant.");
+        when(action.getStatus()).thenReturn(Action.Status.ACTIVE);
+        when(action.getEndpoint()).thenReturn(endpointConfig);
+        return action;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApiModel;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApplicationListItem;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_ENABLED;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.CLIENT_ID;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ISSUER;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.TEMPLATE_ID;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.TEMPLATE_VERSION;
+import static org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment.stub;
+
+/**
+ * Benchmarks the mapping of the applications of a tenant into the application responses and the application list
+ * items of the application management API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ApplicationMappingBenchmark {
+
+    private BenchmarkEnvironment environment;
+    private List<ServiceProvider> applications;
+    private ServiceProviderToApiModel applicationMapper;
+    private ServiceProviderToApplicationListItem listItemMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IdentityApplicationManagementException {
+
+        environment = new BenchmarkEnvironment();
+        ApplicationManagementService applicationManagementService = stub(ApplicationManagementService.class);
+        when(applicationManagementService.getSystemApplications()).thenReturn(Collections.emptySet());
+        when(applicationManagementService.getServiceProvider(IdentityApplicationConstants.DEFAULT_SP_CONFIG,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)).thenReturn(SyntheticTenant.createDefaultApplication());
+        ApplicationManagementServiceHolder.setApplicationManagementService(applicationManagementService);
+
+        applications = new SyntheticTenant().getApplications();
+        applicationMapper = new ServiceProviderToApiModel();
+        listItemMapper = new ServiceProviderToApplicationListItem(Arrays.asList(ADVANCED_CONFIGURATIONS,
+                APPLICATION_ENABLED, CLIENT_ID, ISSUER, TEMPLATE_ID, TEMPLATE_VERSION,
+                IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public void mapApplications(Blackhole blackhole) {
+
+        for (ServiceProvider application : applications) {
+            blackhole.consume(applicationMapper.apply(application));
+        }
+    }
+
+    @Benchmark
+    public void mapApplicationListItems(Blackhole blackhole) {
+
+        for (ServiceProvider application : applications) {
+            blackhole.consume(listItemMapper.apply(application));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.mockito.MockedStatic;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
+import org.wso2.carbon.identity.core.ServiceURL;
+import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+import java.nio.file.Paths;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Carbon runtime of a benchmark thread. Sets up the carbon context of the synthetic tenant and replaces the static
+ * platform utilities, which need a running server, with stubs. The static stubs are bound to the creating thread,
+ * hence an environment has to be created in a trial level setup of a thread scoped benchmark state.
+ * <p>
+ * The carbon home is resolved to the build output of this module, so that the benchmarks have to be run from the
+ * module directory, e.g. {@code java -jar target/benchmarks.jar}.
+ */
+public class BenchmarkEnvironment implements AutoCloseable {
+
+    static final String TENANT_DOMAIN = "benchmark.com";
+    static final int TENANT_ID = 1;
+    static final String USERNAME = "admin";
+
+    private final MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private final MockedStatic<ServiceURLBuilder> serviceURLBuilder;
+    private final MockedStatic<ApplicationMgtUtil> applicationMgtUtil;
+    private String path;
+
+    public BenchmarkEnvironment() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(USERNAME);
+
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled).thenReturn(true);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+        serviceURLBuilder = mockStatic(ServiceURLBuilder.class);
+        serviceURLBuilder.when(ServiceURLBuilder::create).thenReturn(createServiceURLBuilder());
+        applicationMgtUtil = mockStatic(ApplicationMgtUtil.class);
+        applicationMgtUtil.when(() -> ApplicationMgtUtil.isUserAuthorized(anyString(), anyString())).thenReturn(true);
+    }
+
+    /**
+     * Creates a stateless stub of a mocked service. Stubs don't record their invocations, so that they don't grow
+     * during a benchmark run.
+     *
+     * @param type Type of the service.
+     * @param <T>  Type of the service.
+     * @return Stub of the service.
+     */
+    static <T> T stub(Class<T> type) {
+
+        return mock(type, withSettings().stubOnly());
+    }
+
+    @Override
+    public void close() {
+
+        applicationMgtUtil.close();
+        serviceURLBuilder.close();
+        identityTenantUtil.close();
+        PrivilegedCarbonContext.destroyCurrentContext();
+    }
+
+    /**
+     * Builds relative public URLs of the synthetic tenant from the path of the last builder invocation. The builder is
+     * only invoked by the benchmark thread, which builds one URL at a time.
+     */
+    private ServiceURLBuilder createServiceURLBuilder() {
+
+        ServiceURL serviceURL = stub(ServiceURL.class);
+        when(serviceURL.getRelativePublicURL()).thenAnswer(invocation -> path);
+
+        ServiceURLBuilder builder = stub(ServiceURLBuilder.class);
+        when(builder.addPath(any())).thenAnswer(invocation -> {
+            path = "/t/" + TENANT_DOMAIN + invocation.getArgument(0);
+            return builder;
+        });
+        try {
+            when(builder.build()).thenReturn(serviceURL);
+        } catch (URLBuilderException e) {
+            throw new IllegalStateException("Error while stubbing the service URL builder.", e);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder;
+import org.wso2.carbon.identity.api.server.common.listing.ListingPage;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.core.ServerClaimManagementService;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment.stub;
+
+/**
+ * Benchmarks the mapping of the local claims of a tenant into the local claim responses of the claim management API,
+ * for a full listing and for a filtered and projected page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ClaimMappingBenchmark {
+
+    private static final String PAGE_ATTRIBUTES = "displayName,attributeMapping";
+    private static final int PAGE_LIMIT = 20;
+    private static final int PAGE_OFFSET = 40;
+    private static final String PAGE_FILTER = "claimURI sw http://wso2.org/claims/";
+
+    private BenchmarkEnvironment environment;
+    private ServerClaimManagementService claimManagementService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClaimMetadataException {
+
+        environment = new BenchmarkEnvironment();
+        ClaimMetadataManagementService claimMetadataManagementService = stub(ClaimMetadataManagementService.class);
+        when(claimMetadataManagementService.getLocalClaims(anyString()))
+                .thenReturn(new SyntheticTenant().getLocalClaims());
+        ClaimManagementDataHolder.setClaimMetadataManagementService(claimMetadataManagementService);
+
+        claimManagementService = new ServerClaimManagementService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public ListingPage<LocalClaimResDTO> listLocalClaims() {
+
+        return claimManagementService.getLocalClaims(false, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public ListingPage<LocalClaimResDTO> listLocalClaimPage() {
+
+        return claimManagementService.getLocalClaims(false, PAGE_ATTRIBUTES, PAGE_LIMIT, PAGE_OFFSET, PAGE_FILTER,
+                null);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
+import org.wso2.carbon.identity.api.server.idp.v1.core.ServerIdpManagementService;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.activation.DataHandler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment.stub;
+
+/**
+ * Benchmarks exporting an identity provider into a configuration file and importing it back, for each of the
+ * supported file types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IdentityProviderFileBenchmark {
+
+    @Param({Constants.MEDIA_TYPE_YAML, Constants.MEDIA_TYPE_JSON, Constants.MEDIA_TYPE_XML})
+    public String fileType;
+
+    private BenchmarkEnvironment environment;
+    private ServerIdpManagementService idpManagementService;
+    private String identityProviderId;
+    private byte[] exportedFile;
+    private Attachment fileDetail;
+    private final ByteArrayOutputStream exportOutput = new ByteArrayOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IdentityProviderManagementException, IOException {
+
+        environment = new BenchmarkEnvironment();
+        IdentityProvider identityProvider = new SyntheticTenant().getIdentityProviders().get(0);
+        identityProviderId = identityProvider.getResourceId();
+
+        IdentityProviderManager identityProviderManager = stub(IdentityProviderManager.class);
+        when(identityProviderManager.getIdPByResourceId(anyString(), anyString(), anyBoolean()))
+                .thenReturn(identityProvider);
+        when(identityProviderManager.addIdPWithResourceId(any(), anyString())).thenReturn(identityProvider);
+        IdentityProviderServiceHolder.setIdentityProviderManager(identityProviderManager);
+        idpManagementService = new ServerIdpManagementService();
+
+        exportedFile = exportIdentityProvider();
+        DataHandler dataHandler = stub(DataHandler.class);
+        when(dataHandler.getName()).thenReturn(identityProvider.getIdentityProviderName());
+        when(dataHandler.getContentType()).thenReturn(fileType);
+        fileDetail = stub(Attachment.class);
+        when(fileDetail.getDataHandler()).thenReturn(dataHandler);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public byte[] exportIdentityProvider() throws IOException {
+
+        exportOutput.reset();
+        idpManagementService.exportIDP(identityProviderId, true, fileType).getStreamingOutput().write(exportOutput);
+        return exportOutput.toByteArray();
+    }
+
+    @Benchmark
+    public String importIdentityProvider() {
+
+        return idpManagementService.importIDP(new ByteArrayInputStream(exportedFile), fileDetail);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
+import org.wso2.carbon.identity.api.server.idp.v1.core.ServerIdpManagementService;
+import org.wso2.carbon.identity.api.server.idp.v1.model.Claims;
+import org.wso2.carbon.identity.api.server.idp.v1.model.IdentityProviderListResponse;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment.stub;
+
+/**
+ * Benchmarks the identity provider listing, which maps a page of identity providers into list items with the
+ * requested attributes, and the claim configuration of an identity provider.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IdentityProviderMappingBenchmark {
+
+    @Param({"", "claims", "claims,roles,homeRealmIdentifier,isPrimary"})
+    public String requiredAttributes;
+
+    private BenchmarkEnvironment environment;
+    private ServerIdpManagementService idpManagementService;
+    private String identityProviderId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IdentityProviderManagementException, ClaimMetadataException {
+
+        environment = new BenchmarkEnvironment();
+        SyntheticTenant tenant = new SyntheticTenant();
+        List<IdentityProvider> identityProviders = tenant.getIdentityProviders();
+        IdentityProvider identityProvider = identityProviders.get(0);
+        identityProviderId = identityProvider.getResourceId();
+
+        // The whole tenant is listed as one page.
+        IdpSearchResult searchResult = stub(IdpSearchResult.class);
+        when(searchResult.getIdPs()).thenReturn(identityProviders);
+        when(searchResult.getTotalIDPCount()).thenReturn(identityProviders.size());
+        when(searchResult.getLimit()).thenReturn(identityProviders.size());
+        when(searchResult.getOffSet()).thenReturn(0);
+
+        IdentityProviderManager identityProviderManager = stub(IdentityProviderManager.class);
+        when(identityProviderManager.getIdPs(any(), any(), any(), any(), any(), anyString(), any()))
+                .thenReturn(searchResult);
+        when(identityProviderManager.getIdPByResourceId(anyString(), anyString(), anyBoolean()))
+                .thenReturn(identityProvider);
+        ClaimMetadataManagementService claimMetadataManagementService = stub(ClaimMetadataManagementService.class);
+        when(claimMetadataManagementService.getLocalClaims(anyString())).thenReturn(tenant.getLocalClaims());
+        IdentityProviderServiceHolder.setIdentityProviderManager(identityProviderManager);
+        IdentityProviderServiceHolder.setClaimMetadataManagementService(claimMetadataManagementService);
+
+        idpManagementService = new ServerIdpManagementService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public IdentityProviderListResponse listIdentityProviders() {
+
+        return idpManagementService.getIDPs(requiredAttributes, SyntheticTenant.IDENTITY_PROVIDER_COUNT, 0, null,
+                null, null);
+    }
+
+    @Benchmark
+    public Claims getClaimConfig() {
+
+        return idpManagementService.getClaimConfig(identityProviderId);
+    }
+}
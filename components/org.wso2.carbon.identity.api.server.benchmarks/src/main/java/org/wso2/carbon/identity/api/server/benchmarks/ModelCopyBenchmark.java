@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.ModelCopier;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks copying an application and an identity provider before an update, with the structural copier and with
+ * the round trip each copy replaced as the baseline: a Gson round trip for identity providers and a Java
+ * serialization round trip for applications.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ModelCopyBenchmark {
+
+    private final Gson gson = new Gson();
+    private ServiceProvider application;
+    private IdentityProvider identityProvider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        SyntheticTenant tenant = new SyntheticTenant();
+        application = tenant.getApplications().get(0);
+        identityProvider = tenant.getIdentityProviders().get(0);
+    }
+
+    @Benchmark
+    public ServiceProvider copyApplication() {
+
+        return ModelCopier.deepCopy(application);
+    }
+
+    @Benchmark
+    public ServiceProvider serializeApplication() throws IOException, ClassNotFoundException {
+
+        return (ServiceProvider) serializationRoundTrip(application);
+    }
+
+    @Benchmark
+    public IdentityProvider copyIdentityProvider() {
+
+        return ModelCopier.deepCopy(identityProvider);
+    }
+
+    @Benchmark
+    public IdentityProvider copyIdentityProviderAuthenticatorUpdate() {
+
+        return ModelCopier.deepCopyExcluding(identityProvider, "federatedAuthenticatorConfigs",
+                "defaultAuthenticatorConfig");
+    }
+
+    @Benchmark
+    public IdentityProvider gsonIdentityProvider() {
+
+        return gson.fromJson(gson.toJson(identityProvider), IdentityProvider.class);
+    }
+
+    private static Object serializationRoundTrip(Object source) throws IOException, ClassNotFoundException {
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(source);
+        }
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            return objectInputStream.readObject();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.Util;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building the pagination links of a listing page, which is done for every page of every listing API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PaginationLinksBenchmark {
+
+    private static final int LIMIT = 15;
+    private static final String SERVICE_PATH_COMPONENT = "/v1/applications";
+    private static final String REQUIRED_ATTRIBUTES = "clientId,issuer,templateId";
+    private static final String FILTER = "name sw application-1";
+
+    // First, middle and last page of the applications of the tenant.
+    @Param({"0", "495", "990"})
+    public int offset;
+
+    private BenchmarkEnvironment environment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        environment = new BenchmarkEnvironment();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public Map<String, String> buildPaginationLinks() {
+
+        return Util.buildPaginationLinks(LIMIT, offset, SyntheticTenant.APPLICATION_COUNT, SERVICE_PATH_COMPONENT,
+                REQUIRED_ATTRIBUTES, FILTER);
+    }
+}
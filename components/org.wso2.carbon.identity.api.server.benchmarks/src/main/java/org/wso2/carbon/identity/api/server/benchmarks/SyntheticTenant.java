@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
+import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.LocalRole;
+import org.wso2.carbon.identity.application.common.model.PermissionsAndRoleConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.RoleMapping;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DESCRIPTION;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DISPLAY_NAME;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DISPLAY_ORDER;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_READ_ONLY;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_REQUIRED;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_SUPPORTED_BY_DEFAULT;
+
+/**
+ * Synthetic configuration of a tenant of realistic size. The generated resources are deterministic, so that the
+ * results of separate benchmark runs are comparable.
+ */
+public final class SyntheticTenant {
+
+    static final int APPLICATION_COUNT = 1000;
+    static final int IDENTITY_PROVIDER_COUNT = 500;
+    static final int LOCAL_CLAIM_COUNT = 400;
+
+    private static final int CLAIMS_PER_RESOURCE = 20;
+    private static final int ROLES_PER_IDENTITY_PROVIDER = 5;
+    private static final String LOCAL_CLAIM_URI_FORMAT = "http://wso2.org/claims/attribute%d";
+    private static final String PRIMARY_USER_STORE = "PRIMARY";
+
+    private final List<LocalClaim> localClaims;
+    private final List<ServiceProvider> applications;
+    private final List<IdentityProvider> identityProviders;
+
+    public SyntheticTenant() {
+
+        localClaims = Collections.unmodifiableList(createLocalClaims());
+        applications = Collections.unmodifiableList(createApplications());
+        identityProviders = Collections.unmodifiableList(createIdentityProviders());
+    }
+
+    public List<LocalClaim> getLocalClaims() {
+
+        return localClaims;
+    }
+
+    public List<ServiceProvider> getApplications() {
+
+        return applications;
+    }
+
+    public List<IdentityProvider> getIdentityProviders() {
+
+        return identityProviders;
+    }
+
+    /**
+     * Creates the configuration of the tenant's default application, which provides the authentication sequence of
+     * the applications using the default sequence.
+     *
+     * @return Default application.
+     */
+    static ServiceProvider createDefaultApplication() {
+
+        ServiceProvider defaultApplication = createApplication(APPLICATION_COUNT);
+        defaultApplication.setApplicationName("default");
+        return defaultApplication;
+    }
+
+    static String resourceId(String type, int index) {
+
+        return UUID.nameUUIDFromBytes((type + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static List<LocalClaim> createLocalClaims() {
+
+        List<LocalClaim> claims = new ArrayList<>(LOCAL_CLAIM_COUNT);
+        for (int i = 0; i < LOCAL_CLAIM_COUNT; i++) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put(PROP_DISPLAY_NAME, "Attribute " + i);
+            properties.put(PROP_DESCRIPTION, "Synthetic attribute " + i + " of the benchmark tenant.");
+            properties.put(PROP_DISPLAY_ORDER, String.valueOf(i));
+            properties.put(PROP_READ_ONLY, String.valueOf(i % 7 == 0));
+            properties.put(PROP_REQUIRED, String.valueOf(i % 5 == 0));
+            properties.put(PROP_SUPPORTED_BY_DEFAULT, String.valueOf(i % 2 == 0));
+            List<AttributeMapping> attributeMappings = Collections.singletonList(
+                    new AttributeMapping(PRIMARY_USER_STORE, "attribute" + i));
+            claims.add(new LocalClaim(String.format(LOCAL_CLAIM_URI_FORMAT, i), attributeMappings, properties));
+        }
+        return claims;
+    }
+
+    private static List<ServiceProvider> createApplications() {
+
+        List<ServiceProvider> applications = new ArrayList<>(APPLICATION_COUNT);
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            applications.add(createApplication(i));
+        }
+        return applications;
+    }
+
+    private static ServiceProvider createApplication(int index) {
+
+        ServiceProvider application = new ServiceProvider();
+        application.setApplicationID(index + 1);
+        application.setApplicationResourceId(resourceId("application", index));
+        application.setApplicationName("application-" + index);
+        application.setDescription("Synthetic application " + index + " of the benchmark tenant.");
+        application.setImageUrl("https://apps.benchmark.com/" + index + "/logo.png");
+        application.setAccessUrl("https://apps.benchmark.com/" + index);
+        application.setTemplateId("custom-application");
+        application.setTemplateVersion("1.0.0");
+        application.setApplicationEnabled(true);
+
+        InboundAuthenticationRequestConfig oauthConfig = new InboundAuthenticationRequestConfig();
+        oauthConfig.setInboundAuthType("oauth2");
+        oauthConfig.setInboundAuthKey("client-id-" + index);
+        InboundAuthenticationRequestConfig samlConfig = new InboundAuthenticationRequestConfig();
+        samlConfig.setInboundAuthType("samlsso");
+        samlConfig.setInboundAuthKey("issuer-" + index);
+        InboundAuthenticationConfig inboundConfig = new InboundAuthenticationConfig();
+        inboundConfig.setInboundAuthenticationRequestConfigs(
+                new InboundAuthenticationRequestConfig[]{oauthConfig, samlConfig});
+        application.setInboundAuthenticationConfig(inboundConfig);
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setLocalClaimDialect(true);
+        claimConfig.setClaimMappings(createClaimMappings(index, false));
+        application.setClaimConfig(claimConfig);
+
+        LocalAuthenticatorConfig basicAuthenticator = new LocalAuthenticatorConfig();
+        basicAuthenticator.setName("BasicAuthenticator");
+        basicAuthenticator.setDisplayName("Username & Password");
+        basicAuthenticator.setEnabled(true);
+        AuthenticationStep step = new AuthenticationStep();
+        step.setStepOrder(1);
+        step.setSubjectStep(true);
+        step.setAttributeStep(true);
+        step.setLocalAuthenticatorConfigs(new LocalAuthenticatorConfig[]{basicAuthenticator});
+        LocalAndOutboundAuthenticationConfig authenticationConfig = new LocalAndOutboundAuthenticationConfig();
+        authenticationConfig.setAuthenticationType("flow");
+        authenticationConfig.setAuthenticationSteps(new AuthenticationStep[]{step});
+        application.setLocalAndOutBoundAuthenticationConfig(authenticationConfig);
+
+        AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
+        associatedRolesConfig.setAllowedAudience(RoleConstants.ORGANIZATION);
+        application.setAssociatedRolesConfig(associatedRolesConfig);
+        return application;
+    }
+
+    private static List<IdentityProvider> createIdentityProviders() {
+
+        List<IdentityProvider> identityProviders = new ArrayList<>(IDENTITY_PROVIDER_COUNT);
+        for (int i = 0; i < IDENTITY_PROVIDER_COUNT; i++) {
+            identityProviders.add(createIdentityProvider(i));
+        }
+        return identityProviders;
+    }
+
+    private static IdentityProvider createIdentityProvider(int index) {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setId(String.valueOf(index + 1));
+        identityProvider.setResourceId(resourceId("identity-provider", index));
+        identityProvider.setIdentityProviderName("identity-provider-" + index);
+        identityProvider.setIdentityProviderDescription("Synthetic identity provider " + index + " of the benchmark " +
+                "tenant.");
+        identityProvider.setEnable(true);
+        identityProvider.setPrimary(false);
+        identityProvider.setHomeRealmId("realm-" + index);
+        identityProvider.setAlias("https://idp" + index + ".benchmark.com/token");
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setLocalClaimDialect(false);
+        claimConfig.setClaimMappings(createClaimMappings(index, true));
+        claimConfig.setUserClaimURI(claimConfig.getClaimMappings()[0].getRemoteClaim().getClaimUri());
+        claimConfig.setRoleClaimURI(claimConfig.getClaimMappings()[1].getRemoteClaim().getClaimUri());
+        identityProvider.setClaimConfig(claimConfig);
+
+        String[] idpRoles = new String[ROLES_PER_IDENTITY_PROVIDER];
+        RoleMapping[] roleMappings = new RoleMapping[ROLES_PER_IDENTITY_PROVIDER];
+        for (int i = 0; i < ROLES_PER_IDENTITY_PROVIDER; i++) {
+            idpRoles[i] = "idp-role-" + i;
+            roleMappings[i] = new RoleMapping(new LocalRole(PRIMARY_USER_STORE, "role-" + i), idpRoles[i]);
+        }
+        PermissionsAndRoleConfig permissionsAndRoleConfig = new PermissionsAndRoleConfig();
+        permissionsAndRoleConfig.setIdpRoles(idpRoles);
+        permissionsAndRoleConfig.setRoleMappings(roleMappings);
+        identityProvider.setPermissionAndRoleConfig(permissionsAndRoleConfig);
+
+        FederatedAuthenticatorConfig authenticatorConfig = new FederatedAuthenticatorConfig();
+        authenticatorConfig.setName("OpenIDConnectAuthenticator");
+        authenticatorConfig.setDisplayName("openidconnect");
+        authenticatorConfig.setEnabled(true);
+        authenticatorConfig.setProperties(new Property[]{
+                createProperty("ClientId", "client-id-" + index, false),
+                createProperty("ClientSecret", "client-secret-" + index, true),
+                createProperty("OAuth2AuthzEPUrl", "https://idp" + index + ".benchmark.com/authorize", false),
+                createProperty("OAuth2TokenEPUrl", "https://idp" + index + ".benchmark.com/token", false),
+                createProperty("callbackUrl", "https://localhost:9443/commonauth", false)});
+        identityProvider.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{authenticatorConfig});
+        identityProvider.setDefaultAuthenticatorConfig(authenticatorConfig);
+        return identityProvider;
+    }
+
+    /**
+     * Creates claim mappings of a resource to a window of the local claims, so that the resources map different
+     * subsets of the local claims.
+     */
+    private static ClaimMapping[] createClaimMappings(int index, boolean remoteDialect) {
+
+        ClaimMapping[] claimMappings = new ClaimMapping[CLAIMS_PER_RESOURCE];
+        for (int i = 0; i < CLAIMS_PER_RESOURCE; i++) {
+            String localClaimUri = String.format(LOCAL_CLAIM_URI_FORMAT, (index + i) % LOCAL_CLAIM_COUNT);
+            Claim localClaim = new Claim();
+            localClaim.setClaimUri(localClaimUri);
+            Claim remoteClaim = new Claim();
+            remoteClaim.setClaimUri(remoteDialect ? "remote_attribute_" + i : localClaimUri);
+            ClaimMapping claimMapping = new ClaimMapping();
+            claimMapping.setLocalClaim(localClaim);
+            claimMapping.setRemoteClaim(remoteClaim);
+            claimMapping.setRequested(i % 2 == 0);
+            claimMapping.setMandatory(i % 4 == 0);
+            claimMappings[i] = claimMapping;
+        }
+        return claimMappings;
+    }
+
+    private static Property createProperty(String name, String value, boolean confidential) {
+
+        Property property = new Property();
+        property.setName(name);
+        property.setValue(value);
+        property.setConfidential(confidential);
+        return property;
+    }
+}
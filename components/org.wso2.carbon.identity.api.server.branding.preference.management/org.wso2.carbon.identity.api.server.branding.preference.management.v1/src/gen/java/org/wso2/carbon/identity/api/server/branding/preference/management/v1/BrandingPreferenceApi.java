@@ -200,15 +200,16 @@ public class BrandingPreferenceApi  {
     }, tags={ "Branding Preference", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = BrandingPreferenceModel.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
         @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
         @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
         @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
         @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
     })
-    public Response resolveBrandingPreference(    @Valid@ApiParam(value = "Type to filter the retrieval of customizations.", allowableValues="ORG, APP, CUSTOM")  @QueryParam("type") String type,     @Valid@ApiParam(value = "Tenant/Application name to filter the retrieval of customizations.")  @QueryParam("name") String name,     @Valid@ApiParam(value = "Locale to filter the retrieval of customizations.")  @QueryParam("locale") String locale,     @Valid@ApiParam(value = "Specifies whether to use only published branding preferences for resolving. If set to true, branding preference will be resolved only using published branding preferences. If set to false, branding preference will be resolved using both published and unpublished branding preferences. ", defaultValue="false") @DefaultValue("false")  @QueryParam("restrictToPublished") Boolean restrictToPublished) {
+    public Response resolveBrandingPreference(    @Valid@ApiParam(value = "Type to filter the retrieval of customizations.", allowableValues="ORG, APP, CUSTOM")  @QueryParam("type") String type,     @Valid@ApiParam(value = "Tenant/Application name to filter the retrieval of customizations.")  @QueryParam("name") String name,     @Valid@ApiParam(value = "Locale to filter the retrieval of customizations.")  @QueryParam("locale") String locale,     @Valid@ApiParam(value = "Specifies whether to use only published branding preferences for resolving. If set to true, branding preference will be resolved only using published branding preferences. If set to false, branding preference will be resolved using both published and unpublished branding preferences. ", defaultValue="false") @DefaultValue("false")  @QueryParam("restrictToPublished") Boolean restrictToPublished,     @ApiParam(value = "Entity tags of the resolved branding preference cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.resolveBrandingPreference(type,  name,  locale,  restrictToPublished );
+        return delegate.resolveBrandingPreference(type,  name,  locale,  restrictToPublished,  ifNoneMatch );
     }
 
     @Valid
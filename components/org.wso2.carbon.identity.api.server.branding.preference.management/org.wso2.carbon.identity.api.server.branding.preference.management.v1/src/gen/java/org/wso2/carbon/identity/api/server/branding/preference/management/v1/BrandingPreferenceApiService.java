@@ -44,7 +44,7 @@ public interface BrandingPreferenceApiService {
 
       public Response getCustomText(String type, String name, String locale, String screen);
 
-      public Response resolveBrandingPreference(String type, String name, String locale, Boolean restrictToPublished);
+      public Response resolveBrandingPreference(String type, String name, String locale, Boolean restrictToPublished, String ifNoneMatch);
 
       public Response resolveCustomText(String type, String name, String locale, String screen);
 
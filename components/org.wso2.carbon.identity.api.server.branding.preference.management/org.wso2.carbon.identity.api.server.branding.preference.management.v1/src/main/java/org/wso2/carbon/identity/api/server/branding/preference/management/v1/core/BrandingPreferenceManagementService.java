@@ -71,6 +71,7 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenant
 public class BrandingPreferenceManagementService {
 
     private static final Log log = LogFactory.getLog(BrandingPreferenceManagementService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     /**
      * Create a branding preference resource with a resource file.
@@ -109,6 +110,8 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_ADDING_BRANDING_PREFERENCE, tenantDomain);
         }
+        BrandingPreferenceResolutionCache.invalidate(tenantDomain, brandingPreferenceModel.getType().toString(),
+                true);
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
 
@@ -138,6 +141,7 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_BRANDING_PREFERENCE, tenantDomain);
         }
+        BrandingPreferenceResolutionCache.invalidate(tenantDomain, type, false);
     }
 
     /**
@@ -237,6 +241,46 @@ public class BrandingPreferenceManagementService {
         }
     }
 
+    /**
+     * Retrieve the serialized representation of the resolved branding preferences. The representation is served from
+     * the resolution cache of the tenant, if it has a fresh one.
+     *
+     * @param type                Resource Type.
+     * @param name                Name.
+     * @param locale              Language preference.
+     * @param restrictToPublished Whether to resolve using only published branding preferences.
+     * @return The resolved branding preference representation and its entity tag.
+     */
+    public ResolvedBrandingPreference resolveSerializedBrandingPreference(String type, String name, String locale,
+                                                                          boolean restrictToPublished) {
+
+        String tenantDomain = getTenantDomainFromContext();
+        String resolvedType = APPLICATION_TYPE.equals(type) ? APPLICATION_TYPE : ORGANIZATION_TYPE;
+        String resolvedName = APPLICATION_TYPE.equals(type) ? name : tenantDomain;
+        // Branding preferences are resolved for the default locale only, see resolveBrandingPreference.
+        String resolvedLocale = DEFAULT_LOCALE;
+
+        BrandingPreferenceResolutionCache cache = BrandingPreferenceResolutionCache.forTenant(tenantDomain);
+        ResolvedBrandingPreference resolvedPreference =
+                cache.get(resolvedType, resolvedName, resolvedLocale, restrictToPublished);
+        if (resolvedPreference != null) {
+            return resolvedPreference;
+        }
+
+        BrandingPreferenceModel brandingPreferenceModel =
+                resolveBrandingPreference(type, name, locale, restrictToPublished);
+        try {
+            resolvedPreference = new ResolvedBrandingPreference(
+                    OBJECT_MAPPER.writeValueAsBytes(brandingPreferenceModel), brandingPreferenceModel.getName());
+        } catch (JsonProcessingException e) {
+            ErrorResponse errorResponse = getErrorBuilder(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, tenantDomain)
+                    .build(log, e, ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE.getDescription());
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR, errorResponse);
+        }
+        cache.put(resolvedType, resolvedName, resolvedLocale, restrictToPublished, resolvedPreference);
+        return resolvedPreference;
+    }
+
     /**
      * Update branding preferences.
      *
@@ -275,6 +319,8 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_UPDATING_BRANDING_PREFERENCE, tenantDomain);
         }
+        BrandingPreferenceResolutionCache.invalidate(tenantDomain, brandingPreferenceModel.getType().toString(),
+                false);
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
 
@@ -552,10 +598,9 @@ public class BrandingPreferenceManagementService {
      */
     private String generatePreferencesJSONFromRequest(Object object) {
 
-        ObjectMapper mapper = new ObjectMapper();
         String preferencesJSON = null;
         try {
-            preferencesJSON = mapper.writeValueAsString(object);
+            preferencesJSON = OBJECT_MAPPER.writeValueAsString(object);
         } catch (JsonProcessingException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error while generating JSON string from the branding preference request.", e);
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.branding.preference.management.v1.core;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.APPLICATION_TYPE;
+import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.ORGANIZATION_TYPE;
+
+/**
+ * Cache of the resolved branding preferences of a tenant, which are requested on every load of the hosted login and
+ * recovery pages.
+ * <p>
+ * Entries are keyed by the type, name, locale and published flag of the resolution. The branding preference writes
+ * through this API invalidate the cache of the tenant, as well as the entries of the other tenants which were resolved
+ * from the changed organization, e.g. the sub organizations inheriting its branding. An application branding write
+ * also invalidates the application entries of the other tenants, as the shared applications of the sub organizations
+ * inherit the branding of the application in the parent organization, which may not have been the source of an entry
+ * before the write. Likewise, an organization branding add invalidates the organization entries of the other tenants
+ * which were inherited from an ancestor, as the new branding may be nearer to their organization than the one it was
+ * resolved from. The writes on other nodes and the organization hierarchy changes are not observable here, hence an
+ * entry is resolved again once it is older than {@link #MAX_AGE_MILLIS}.
+ * <p>
+ * A write replaces the cache instance of the tenant, so that a resolution which started before the write can't
+ * publish its result into the new instance.
+ */
+final class BrandingPreferenceResolutionCache {
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final int MAX_ENTRIES_PER_TENANT = 500;
+    private static final Map<String, BrandingPreferenceResolutionCache> TENANT_CACHES = new ConcurrentHashMap<>();
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private BrandingPreferenceResolutionCache() {
+
+    }
+
+    /**
+     * Returns the current cache of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Cache of the tenant.
+     */
+    static BrandingPreferenceResolutionCache forTenant(String tenantDomain) {
+
+        return TENANT_CACHES.computeIfAbsent(tenantDomain, key -> new BrandingPreferenceResolutionCache());
+    }
+
+    /**
+     * Invalidates the resolved branding preferences which may depend on a changed branding preference of a tenant.
+     *
+     * @param tenantDomain Tenant domain of the changed branding preference.
+     * @param type         Resource type of the changed branding preference.
+     * @param added        Whether the branding preference was added.
+     */
+    static void invalidate(String tenantDomain, String type, boolean added) {
+
+        TENANT_CACHES.remove(tenantDomain);
+        boolean applicationChanged = APPLICATION_TYPE.equals(type);
+        boolean organizationAdded = added && ORGANIZATION_TYPE.equals(type);
+        for (BrandingPreferenceResolutionCache cache : TENANT_CACHES.values()) {
+            cache.entries.entrySet().removeIf(entry -> (applicationChanged && APPLICATION_TYPE.equals(entry.getKey()
+                    .type)) || (organizationAdded && isInheritedOrganizationEntry(entry.getKey(), entry.getValue()))
+                    || tenantDomain.equals(entry.getValue().preference.getResolvedFrom()));
+        }
+    }
+
+    /**
+     * Checks whether an entry is the branding of an organization resolved from an ancestor organization. The name of
+     * an organization entry is the tenant domain of the organization.
+     */
+    private static boolean isInheritedOrganizationEntry(Key key, Entry entry) {
+
+        return ORGANIZATION_TYPE.equals(key.type) && !key.name.equals(entry.preference.getResolvedFrom());
+    }
+
+    /**
+     * Returns a cached resolution, if it is not older than {@link #MAX_AGE_MILLIS}.
+     *
+     * @param type                Resource type.
+     * @param name                Organization or application name.
+     * @param locale              Locale of the resolution.
+     * @param restrictToPublished Whether the resolution is restricted to published preferences.
+     * @return Resolved branding preference, or null if there is no fresh one.
+     */
+    ResolvedBrandingPreference get(String type, String name, String locale, boolean restrictToPublished) {
+
+        Key key = new Key(type, name, locale, restrictToPublished);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.preference;
+    }
+
+    /**
+     * Caches a resolution. Expired entries are dropped once the cache is full, and the resolution is not cached if
+     * the cache is still full after that.
+     *
+     * @param type                Resource type.
+     * @param name                Organization or application name.
+     * @param locale              Locale of the resolution.
+     * @param restrictToPublished Whether the resolution is restricted to published preferences.
+     * @param preference          Resolved branding preference.
+     */
+    void put(String type, String name, String locale, boolean restrictToPublished,
+             ResolvedBrandingPreference preference) {
+
+        long now = System.currentTimeMillis();
+        if (entries.size() >= MAX_ENTRIES_PER_TENANT) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            if (entries.size() >= MAX_ENTRIES_PER_TENANT) {
+                return;
+            }
+        }
+        entries.put(new Key(type, name, locale, restrictToPublished), new Entry(preference, now));
+    }
+
+    private static final class Key {
+
+        private final String type;
+        private final String name;
+        private final String locale;
+        private final boolean restrictToPublished;
+
+        Key(String type, String name, String locale, boolean restrictToPublished) {
+
+            this.type = type;
+            this.name = name;
+            this.locale = locale;
+            this.restrictToPublished = restrictToPublished;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return restrictToPublished == key.restrictToPublished && Objects.equals(type, key.type)
+                    && Objects.equals(name, key.name) && Objects.equals(locale, key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(type, name, locale, restrictToPublished);
+        }
+    }
+
+    private static final class Entry {
+
+        private final ResolvedBrandingPreference preference;
+        private final long createdTime;
+
+        Entry(ResolvedBrandingPreference preference, long createdTime) {
+
+            this.preference = preference;
+            this.createdTime = createdTime;
+        }
+
+        boolean isExpired(long now) {
+
+            return now - createdTime > MAX_AGE_MILLIS;
+        }
+    }
+}
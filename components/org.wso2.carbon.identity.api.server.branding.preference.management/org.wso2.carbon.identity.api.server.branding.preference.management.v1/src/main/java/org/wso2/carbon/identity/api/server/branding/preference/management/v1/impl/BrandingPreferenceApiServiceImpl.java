@@ -22,9 +22,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.BrandingPreferenceApiService;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.BrandingPreferenceManagementService;
+import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.ResolvedBrandingPreference;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.BrandingPreferenceModel;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.CustomTextModel;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.EntityTags;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 
@@ -32,6 +34,8 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.APPLICATION_TYPE;
@@ -203,15 +207,22 @@ public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiSe
     }
 
     @Override
-    public Response resolveBrandingPreference(String type, String name, String locale, Boolean restrictToPublished) {
+    public Response resolveBrandingPreference(String type, String name, String locale, Boolean restrictToPublished,
+                                              String ifNoneMatch) {
 
         if (type != null) {
             if (!(ORGANIZATION_TYPE.equals(type) || APPLICATION_TYPE.equals(type) || CUSTOM_TYPE.equals(type))) {
                 return Response.status(Response.Status.BAD_REQUEST).build();
             }
         }
-        return Response.ok().entity(brandingPreferenceManagementService
-                .resolveBrandingPreference(type, name, locale, restrictToPublished)).build();
+        ResolvedBrandingPreference resolvedPreference = brandingPreferenceManagementService
+                .resolveSerializedBrandingPreference(type, name, locale, Boolean.TRUE.equals(restrictToPublished));
+        String entityTag = resolvedPreference.getEntityTag();
+        if (EntityTags.isNotModified(ifNoneMatch, entityTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, entityTag).build();
+        }
+        return Response.ok(resolvedPreference.getContent(), MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.ETAG, entityTag).build();
     }
 
     @Override
@@ -29,6 +29,38 @@ public class Constant {
     public static final String CMT_PATH_COMPONENT = "/claim-dialects";
     public static final String LOCAL_DIALECT_PATH = "local";
     public static final String LOCAL_DIALECT = "http://wso2.org/claims";
+    public static final String LOCAL_CLAIMS_PATH_COMPONENT = CMT_PATH_COMPONENT + "/" + LOCAL_DIALECT_PATH + "/claims";
+    public static final String EXCLUDE_IDENTITY_CLAIMS_QUERY_PARAM = "exclude-identity-claims";
+
+    /**
+     * Attributes supported in the filters of the claim dialect and claim listings.
+     */
+    public static class FilterAttributes {
+
+        public static final String DIALECT_URI = "dialectURI";
+        public static final String CLAIM_URI = "claimURI";
+        public static final String DISPLAY_NAME = "displayName";
+        public static final String MAPPED_LOCAL_CLAIM_URI = "mappedLocalClaimURI";
+    }
+
+    /**
+     * Attributes of the local claim response, which can be requested in a local claim listing.
+     */
+    public static class LocalClaimAttributes {
+
+        public static final String ID = "id";
+        public static final String CLAIM_URI = "claimURI";
+        public static final String DIALECT_URI = "dialectURI";
+        public static final String DESCRIPTION = "description";
+        public static final String DISPLAY_ORDER = "displayOrder";
+        public static final String DISPLAY_NAME = "displayName";
+        public static final String READ_ONLY = "readOnly";
+        public static final String REG_EX = "regEx";
+        public static final String REQUIRED = "required";
+        public static final String SUPPORTED_BY_DEFAULT = "supportedByDefault";
+        public static final String ATTRIBUTE_MAPPING = "attributeMapping";
+        public static final String PROPERTIES = "properties";
+    }
 
     /**
      * Enum for error messages.
@@ -206,7 +238,17 @@ public class Constant {
                 "allowed for this organization.", "Unable to execute the requested organization claim " +
                 "management task."),
         ERROR_CODE_ERROR_RESOLVING_ORGANIZATION("CMT-60008", "Error resolving organization",
-                "Unable to resolve organization.");
+                "Unable to resolve organization."),
+        ERROR_CODE_INVALID_FILTER_FORMAT("CMT-60009", "Invalid filter",
+                "Filter %s is not in a valid format."),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("CMT-60010", "Unsupported filter attribute",
+                "Filtering by the attribute %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("CMT-60011", "Unsupported filter operation",
+                "Filter operation %s is not supported."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("CMT-60012", "Invalid pagination parameters",
+                "Limit and offset cannot be negative."),
+        ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE("CMT-60013", "Unsupported attribute",
+                "Attribute %s is not supported in the local claim response.");
 
         private final String code;
         private final String message;
@@ -16,9 +16,6 @@
 
 package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -30,13 +27,20 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
+import org.wso2.carbon.identity.api.server.claim.management.common.Constant.FilterAttributes;
+import org.wso2.carbon.identity.api.server.claim.management.common.Constant.LocalClaimAttributes;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.FileCodec;
+import org.wso2.carbon.identity.api.server.common.FileCodecException;
 import org.wso2.carbon.identity.api.server.common.FileContent;
-import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.common.error.bulk.BulkAPIError;
 import org.wso2.carbon.identity.api.server.common.error.bulk.BulkErrorResponse;
+import org.wso2.carbon.identity.api.server.common.listing.ListingFilter;
+import org.wso2.carbon.identity.api.server.common.listing.ListingFilterException;
+import org.wso2.carbon.identity.api.server.common.listing.ListingPage;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
@@ -61,36 +65,30 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.model.ClaimE
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getOrganizationManager;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_DIALECT_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS;
@@ -112,15 +110,17 @@ import static org.wso2.carbon.identity.api.server.claim.management.common.Consta
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EXTERNAL_CLAIM_CONFLICT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EXTERNAL_CLAIM_NOT_FOUND;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_DIALECT_ID;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_USERSTORE;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_LOCAL_CLAIM_CONFLICT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_LOCAL_CLAIM_NOT_FOUND;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_UNAUTHORIZED_ORG_FOR_CLAIM_MANAGEMENT;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_USERSTORE_NOT_SPECIFIED_IN_MAPPINGS;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.EXCLUDE_IDENTITY_CLAIMS_QUERY_PARAM;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_CLAIMS_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT_PATH;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DESCRIPTION;
@@ -130,13 +130,7 @@ import static org.wso2.carbon.identity.api.server.claim.management.common.Consta
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_REG_EX;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_REQUIRED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_SUPPORTED_BY_DEFAULT;
-import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
-import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForBody;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ORGANIZATION_NOT_FOUND_FOR_TENANT;
 
@@ -158,6 +152,20 @@ public class ServerClaimManagementService {
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_EXTERNAL_CLAIM_URI.getCode(),
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_LOCAL_CLAIM_URI.getCode()
     );
+    private static final Set<String> SUPPORTED_LOCAL_CLAIM_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            LocalClaimAttributes.ID, LocalClaimAttributes.CLAIM_URI, LocalClaimAttributes.DIALECT_URI,
+            LocalClaimAttributes.DESCRIPTION, LocalClaimAttributes.DISPLAY_ORDER, LocalClaimAttributes.DISPLAY_NAME,
+            LocalClaimAttributes.READ_ONLY, LocalClaimAttributes.REG_EX, LocalClaimAttributes.REQUIRED,
+            LocalClaimAttributes.SUPPORTED_BY_DEFAULT, LocalClaimAttributes.ATTRIBUTE_MAPPING,
+            LocalClaimAttributes.PROPERTIES));
+    private static final Set<String> MAPPED_CLAIM_PROPERTIES = new HashSet<>(Arrays.asList(PROP_DESCRIPTION,
+            PROP_DISPLAY_ORDER, PROP_DISPLAY_NAME, PROP_READ_ONLY, PROP_REG_EX, PROP_REQUIRED,
+            PROP_SUPPORTED_BY_DEFAULT));
+    private static final FileCodec<ClaimDialectConfiguration> CLAIM_DIALECT_FILE_CODEC =
+            FileCodec.builder(ClaimDialectConfiguration.class)
+                    .withTrustedTags(ExternalClaimResDTO.class.getName(), LocalClaimResDTO.class.getName())
+                    .withYamlDumper(ServerClaimManagementService::createClaimDialectYamlDumper)
+                    .build();
 
     /**
      * Add a claim dialect.
@@ -234,15 +242,14 @@ public class ServerClaimManagementService {
     public ClaimDialectResDTO getClaimDialect(String dialectId) {
 
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
             String decodedDialectId;
             if (StringUtils.equals(dialectId, LOCAL_DIALECT_PATH)) {
                 decodedDialectId = LOCAL_DIALECT;
             } else {
                 decodedDialectId = base64DecodeId(dialectId);
             }
-            ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
+            ClaimDialect claimDialect = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext())
+                    .getClaimDialect(decodedDialectId);
 
             if (claimDialect == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
@@ -260,18 +267,23 @@ public class ServerClaimManagementService {
      *
      * @param limit  limit (optional).
      * @param offset offset (optional).
-     * @param filter filter (optional).
+     * @param filter filter on the dialectURI (optional).
      * @param sort   sort (optional).
-     * @return List of claim dialects.
+     * @return Page of claim dialects.
      */
-    public List<ClaimDialectResDTO> getClaimDialects(Integer limit, Integer offset, String filter, String sort) {
+    public ListingPage<ClaimDialectResDTO> getClaimDialects(Integer limit, Integer offset, String filter,
+                                                            String sort) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
+        handleNotImplementedSorting(sort);
+        validatePaginationParameters(limit, offset);
         try {
+            ListingFilter<ClaimDialect> dialectFilter = buildFilter(ListingFilter.<ClaimDialect>builder()
+                    .withAttribute(FilterAttributes.DIALECT_URI, ClaimDialect::getClaimDialectURI), filter);
             List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
                     ContextLoader.getTenantDomainFromContext());
 
-            return getClaimDialectResDTOs(claimDialectList);
+            return getClaimListPage(claimDialectList, dialectFilter, limit, offset, this::getClaimDialectResDTO,
+                    CMT_PATH_COMPONENT, null, filter);
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_DIALECTS);
@@ -334,6 +346,7 @@ public class ServerClaimManagementService {
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
             getClaimMetadataManagementService().addLocalClaim(createLocalClaim(localClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            recordLocalClaimChange();
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM,
                     localClaimReqDTO.getClaimURI());
@@ -364,6 +377,7 @@ public class ServerClaimManagementService {
             getClaimMetadataManagementService().removeLocalClaim(
                     claimURI,
                     ContextLoader.getTenantDomainFromContext());
+            recordLocalClaimChange();
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_LOCAL_CLAIM, claimId);
         }
@@ -379,10 +393,8 @@ public class ServerClaimManagementService {
     public LocalClaimResDTO getLocalClaim(String claimId) {
 
         try {
-            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                    ContextLoader.getTenantDomainFromContext());
-
-            LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
+            LocalClaim localClaim = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext())
+                    .getLocalClaim(base64DecodeId(claimId));
 
             if (localClaim == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId);
@@ -399,29 +411,43 @@ public class ServerClaimManagementService {
      * Retrieve all claims belonging to the local dialect.
      *
      * @param excludeIdentityClaims Exclude identity claims in the local dialect if this is set to true.
-     * @param attributes            attributes filter (optional).
+     * @param attributes            comma separated attributes of the claims to be returned (optional).
      * @param limit                 limit (optional).
      * @param offset                offset (optional).
-     * @param filter                filter (optional).
+     * @param filter                filter on the claimURI or the displayName (optional).
      * @param sort                  sort (optional).
-     * @return List of local claims.
+     * @return Page of local claims.
      */
-    public List<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes, Integer limit,
-                                                 Integer offset, String filter, String sort) {
+    public ListingPage<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes,
+                                                        Integer limit, Integer offset, String filter,
+                                                        String sort) {
 
-        handleNotImplementedCapabilities(attributes, limit, offset, filter, sort);
+        handleNotImplementedSorting(sort);
+        validatePaginationParameters(limit, offset);
+        Set<String> requiredAttributes = getRequiredLocalClaimAttributes(attributes);
 
         try {
-            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                    ContextLoader.getTenantDomainFromContext());
-
-            if (excludeIdentityClaims != null && excludeIdentityClaims) {
-                localClaimList = localClaimList.stream()
+            ListingFilter<LocalClaim> claimFilter = buildFilter(ListingFilter.<LocalClaim>builder()
+                    .withAttribute(FilterAttributes.CLAIM_URI, LocalClaim::getClaimURI)
+                    .withCaseIgnoredAttribute(FilterAttributes.DISPLAY_NAME,
+                            claim -> claim.getClaimProperty(PROP_DISPLAY_NAME)), filter);
+            Collection<LocalClaim> localClaims = getFilterCandidates(
+                    new ClaimSnapshot(ContextLoader.getTenantDomainFromContext()).getLocalClaims(), claimFilter);
+
+            boolean isIdentityClaimsExcluded = excludeIdentityClaims != null && excludeIdentityClaims;
+            if (isIdentityClaimsExcluded) {
+                localClaims = localClaims.stream()
                         .filter(claim -> !claim.getClaimURI().startsWith(IDENTITY_CLAIM_URI))
                         .collect(Collectors.toList());
             }
 
-            return getLocalClaimResDTOs(localClaimList);
+            ListingPage<LocalClaimResDTO> localClaimPage = getClaimListPage(localClaims, claimFilter, limit,
+                    offset, claim -> getLocalClaimResDTO(claim, requiredAttributes), LOCAL_CLAIMS_PATH_COMPONENT,
+                    attributes, filter);
+            // The pagination links only carry the common listing parameters.
+            return isIdentityClaimsExcluded ?
+                    localClaimPage.withLinkParameter(EXCLUDE_IDENTITY_CLAIMS_QUERY_PARAM, Boolean.TRUE.toString()) :
+                    localClaimPage;
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
@@ -450,6 +476,7 @@ public class ServerClaimManagementService {
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
             getClaimMetadataManagementService().updateLocalClaim(createLocalClaim(localClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            recordLocalClaimChange();
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId);
         } catch (UserStoreException e) {
@@ -495,18 +522,23 @@ public class ServerClaimManagementService {
             throws ClaimMetadataException {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        // The existing claims are fetched once and each row of the file is diffed against them.
+        ClaimSnapshot claimSnapshot = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext());
+        Set<String> importedClaimURIs = new HashSet<>();
 
         for (LocalClaimReqDTO localClaimReqDTO : localClaimReqDTOList) {
             try {
-                if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
+                String claimURI = localClaimReqDTO.getClaimURI();
+                if (StringUtils.isBlank(claimURI)) {
                     throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI,
                             BAD_REQUEST);
                 }
-                String claimId = getResourceId(localClaimReqDTO.getClaimURI());
-                if (isLocalClaimExist(claimId)) {
-                    updateLocalClaim(claimId, localClaimReqDTO);
+                importedClaimURIs.add(claimURI);
+                if (claimSnapshot.getLocalClaim(claimURI) != null) {
+                    updateLocalClaim(getResourceId(claimURI), localClaimReqDTO);
                 } else {
                     addLocalClaim(localClaimReqDTO);
+                    claimSnapshot.addLocalClaim(new LocalClaim(claimURI));
                 }
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
@@ -515,7 +547,7 @@ public class ServerClaimManagementService {
             }
         }
         if (preserveClaims) {
-            deleteObsoleteLocalClaims(localClaimReqDTOList, errors);
+            deleteObsoleteLocalClaims(claimSnapshot.getLocalClaims().keySet(), importedClaimURIs, errors);
         }
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
@@ -523,15 +555,12 @@ public class ServerClaimManagementService {
         }
     }
 
-    private void deleteObsoleteLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, List<ClaimErrorDTO> errors)
-            throws ClaimMetadataException {
+    private void deleteObsoleteLocalClaims(Set<String> existingClaimURIs, Set<String> importedClaimURIs,
+                                           List<ClaimErrorDTO> errors) {
 
-        List<String> claimsToDelete =  getLocalClaimResDTOs(getClaimMetadataManagementService()
-                    .getLocalClaims(ContextLoader.getTenantDomainFromContext())).stream()
-                    .map(LocalClaimResDTO::getClaimURI)
-                    .filter(claimURI -> localClaimReqDTOList.stream()
-                            .noneMatch(reqDTO -> reqDTO.getClaimURI().equals(claimURI)))
-                    .collect(Collectors.toList());
+        List<String> claimsToDelete = existingClaimURIs.stream()
+                .filter(claimURI -> !importedClaimURIs.contains(claimURI))
+                .collect(Collectors.toList());
 
         for (String claimURI : claimsToDelete) {
             try {
@@ -555,18 +584,22 @@ public class ServerClaimManagementService {
         }
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        ClaimSnapshot claimSnapshot = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext());
+        String dialectURI = base64DecodeId(dialectId);
 
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
             try {
-                if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
+                String claimURI = externalClaimReqDTO.getClaimURI();
+                if (StringUtils.isBlank(claimURI)) {
                     throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI,
                             BAD_REQUEST);
                 }
-                String claimId = getResourceId(externalClaimReqDTO.getClaimURI());
-                if (isExternalClaimExist(dialectId, claimId)) {
-                    updateExternalClaim(dialectId, claimId, externalClaimReqDTO);
+                if (claimSnapshot.getExternalClaim(dialectURI, claimURI) != null) {
+                    updateExternalClaim(dialectId, getResourceId(claimURI), externalClaimReqDTO);
                 } else {
-                    addExternalClaim(dialectId, externalClaimReqDTO);
+                    addExternalClaim(dialectId, externalClaimReqDTO, claimSnapshot);
+                    claimSnapshot.addExternalClaim(new ExternalClaim(dialectURI, claimURI,
+                            externalClaimReqDTO.getMappedLocalClaimURI()));
                 }
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
@@ -628,19 +661,11 @@ public class ServerClaimManagementService {
         }
 
         String fileName = getFormattedFileName(dialectConfiguration.getDialectURI());
-
-        String mediaType = Util.getMediaType(fileType);
-        switch (mediaType) {
-            case MEDIA_TYPE_XML:
-                return parseClaimDialectToXml(dialectConfiguration, fileName);
-            case MEDIA_TYPE_JSON:
-                return parseClaimDialectToJson(dialectConfiguration, fileName);
-            case MEDIA_TYPE_YAML:
-                return parseClaimDialectToYaml(dialectConfiguration, fileName);
-            default:
-                LOG.warn(String.format("Unsupported file type: %s requested for export. Defaulting to YAML parsing.",
-                        fileType));
-                return parseClaimDialectToYaml(dialectConfiguration, fileName);
+        try {
+            return CLAIM_DIALECT_FILE_CODEC.encode(dialectConfiguration, fileName, fileType);
+        } catch (FileCodecException e) {
+            throw new ClaimMetadataException(String.format(
+                    Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), e.getMediaType()), e);
         }
     }
 
@@ -651,55 +676,11 @@ public class ServerClaimManagementService {
         return formattedFileName;
     }
 
-    private FileContent parseClaimDialectToXml(ClaimDialectConfiguration dialectConfiguration, String fileName)
-            throws ClaimMetadataException {
-
-        StringBuilder fileNameSB = new StringBuilder(fileName);
-        fileNameSB.append(XML_FILE_EXTENSION);
+    private static Yaml createClaimDialectYamlDumper() {
 
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(dialectConfiguration.getClass());
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter writer = new StringWriter();
-            marshaller.marshal(dialectConfiguration, writer);
-            String xmlContent = writer.toString();
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, xmlContent);
-        } catch (JAXBException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_XML), e);
-        }
-    }
-
-    private FileContent parseClaimDialectToJson(ClaimDialectConfiguration dialectConfiguration, String fileName)
-            throws ClaimMetadataException {
-
-        StringBuilder fileNameSB = new StringBuilder(fileName);
-        fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(dialectConfiguration));
-        } catch (JsonProcessingException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_JSON), e);
-        }
-    }
-
-    private FileContent parseClaimDialectToYaml(ClaimDialectConfiguration dialectConfiguration, String fileName)
-            throws ClaimMetadataException {
-
-        StringBuilder fileNameSB = new StringBuilder(fileName);
-        fileNameSB.append(YAML_FILE_EXTENSION);
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        Yaml yaml = new Yaml(options);
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(dialectConfiguration));
-        } catch (YAMLException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_YAML), e);
-        }
+        return new Yaml(options);
     }
 
     /**
@@ -711,9 +692,16 @@ public class ServerClaimManagementService {
      */
     public String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        return addExternalClaim(dialectId, externalClaimReqDTO,
+                new ClaimSnapshot(ContextLoader.getTenantDomainFromContext()));
+    }
+
+    private String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO,
+                                    ClaimSnapshot claimSnapshot) {
+
         try {
             validateClaimModificationEligibility();
-            if (!isDialectExists(dialectId)) {
+            if (claimSnapshot.getClaimDialect(base64DecodeId(dialectId)) == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_INVALID_DIALECT_ID, NOT_FOUND, dialectId);
             }
 
@@ -768,15 +756,14 @@ public class ServerClaimManagementService {
     public ExternalClaimResDTO getExternalClaim(String dialectId, String claimId) {
 
         try {
-            List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                    base64DecodeId(dialectId),
-                    ContextLoader.getTenantDomainFromContext());
+            Map<String, ExternalClaim> externalClaims = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext())
+                    .getExternalClaims(base64DecodeId(dialectId));
 
-            if (CollectionUtils.isEmpty(externalClaimList)) {
+            if (externalClaims.isEmpty()) {
                 throw handleClaimManagementClientError(ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT, NOT_FOUND, dialectId);
             }
 
-            ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
+            ExternalClaim externalClaim = externalClaims.get(base64DecodeId(claimId));
 
             if (externalClaim == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_EXTERNAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId,
@@ -796,29 +783,32 @@ public class ServerClaimManagementService {
      * @param dialectId dialectId.
      * @param limit     limit (optional).
      * @param offset    offset (optional).
-     * @param filter    filter (optional).
+     * @param filter    filter on the claimURI or the mappedLocalClaimURI (optional).
      * @param sort      sort (optional).
-     * @return List of external claims.
+     * @return Page of external claims.
      */
-    public List<ExternalClaimResDTO> getExternalClaims(String dialectId, Integer limit, Integer offset,
-                                                       String filter, String sort) {
+    public ListingPage<ExternalClaimResDTO> getExternalClaims(String dialectId, Integer limit, Integer offset,
+                                                              String filter, String sort) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
+        handleNotImplementedSorting(sort);
+        validatePaginationParameters(limit, offset);
 
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
+            ListingFilter<ExternalClaim> claimFilter = buildFilter(ListingFilter.<ExternalClaim>builder()
+                    .withAttribute(FilterAttributes.CLAIM_URI, ExternalClaim::getClaimURI)
+                    .withAttribute(FilterAttributes.MAPPED_LOCAL_CLAIM_URI, ExternalClaim::getMappedLocalClaim),
+                    filter);
             String decodedDialectId = base64DecodeId(dialectId);
-            ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
+            ClaimSnapshot claimSnapshot = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext());
 
-            if (claimDialect == null) {
+            if (claimSnapshot.getClaimDialect(decodedDialectId) == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
             }
 
-            List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                    base64DecodeId(dialectId),
-                    ContextLoader.getTenantDomainFromContext());
-            return getExternalClaimResDTOs(externalClaimList);
+            Collection<ExternalClaim> externalClaims = getFilterCandidates(
+                    claimSnapshot.getExternalClaims(decodedDialectId), claimFilter);
+            return getClaimListPage(externalClaims, claimFilter, limit, offset, this::getExternalClaimResDTO,
+                    CMT_PATH_COMPONENT + "/" + dialectId + "/claims", null, filter);
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_EXTERNAL_CLAIMS, dialectId);
@@ -849,39 +839,6 @@ public class ServerClaimManagementService {
         getResourceId(externalClaimReqDTO.getClaimURI());
     }
 
-    private ClaimDialect extractDialectFromDialectList(String dialectURI, List<ClaimDialect> dialectList) {
-
-        for (ClaimDialect dialect : dialectList) {
-            if (StringUtils.equals(dialect.getClaimDialectURI(), dialectURI)) {
-                return dialect;
-            }
-        }
-
-        return null;
-    }
-
-    private ExternalClaim extractExternalClaimFromClaimList(String claimURI, List<ExternalClaim> claimList) {
-
-        for (ExternalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-
-        return null;
-    }
-
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
-
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-
-        return null;
-    }
-
     private ClaimDialect createClaimDialect(ClaimDialectReqDTO claimDialectReqDTO) {
 
         return new ClaimDialect(claimDialectReqDTO.getDialectURI());
@@ -925,17 +882,6 @@ public class ServerClaimManagementService {
         return claimDialectResDTO;
     }
 
-    private List<ClaimDialectResDTO> getClaimDialectResDTOs(List<ClaimDialect> claimDialectList) {
-
-        List<ClaimDialectResDTO> claimDialectResDTOList = new ArrayList<>();
-
-        for (ClaimDialect claimDialect : claimDialectList) {
-            claimDialectResDTOList.add(getClaimDialectResDTO(claimDialect));
-        }
-
-        return claimDialectResDTOList;
-    }
-
     private ExternalClaimResDTO getExternalClaimResDTO(ExternalClaim externalClaim) {
 
         ExternalClaimResDTO externalClaimResDTO = new ExternalClaimResDTO();
@@ -963,50 +909,198 @@ public class ServerClaimManagementService {
 
     private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim) {
 
+        return getLocalClaimResDTO(localClaim, null);
+    }
+
+    /**
+     * Maps a local claim to the local claim response.
+     *
+     * @param localClaim         Local claim.
+     * @param requiredAttributes Attributes of the response to be set, or null to set all the attributes.
+     * @return Local claim response.
+     */
+    private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim, Set<String> requiredAttributes) {
+
         LocalClaimResDTO localClaimResDTO = new LocalClaimResDTO();
 
         localClaimResDTO.setId(base64EncodeId(localClaim.getClaimURI()));
         localClaimResDTO.setClaimURI(localClaim.getClaimURI());
-        localClaimResDTO.setDialectURI(localClaim.getClaimDialectURI());
+        if (isRequired(requiredAttributes, LocalClaimAttributes.DIALECT_URI)) {
+            localClaimResDTO.setDialectURI(localClaim.getClaimDialectURI());
+        }
 
-        Map<String, String> claimProperties = new HashMap<>(localClaim.getClaimProperties());
+        Map<String, String> claimProperties = localClaim.getClaimProperties();
 
-        String description = claimProperties.remove(PROP_DESCRIPTION);
-        localClaimResDTO.setDescription(description);
-        if (description == null) {
-            localClaimResDTO.setDescription(StringUtils.EMPTY);
+        if (isRequired(requiredAttributes, LocalClaimAttributes.DESCRIPTION)) {
+            localClaimResDTO.setDescription(StringUtils.defaultString(claimProperties.get(PROP_DESCRIPTION)));
+        }
+        if (isRequired(requiredAttributes, LocalClaimAttributes.DISPLAY_ORDER)) {
+            String propDisplayOrder = claimProperties.get(PROP_DISPLAY_ORDER);
+            if (StringUtils.isNumeric(propDisplayOrder)) {
+                localClaimResDTO.setDisplayOrder(Integer.valueOf(propDisplayOrder));
+            } else {
+                localClaimResDTO.setDisplayOrder(0);
+            }
+        }
+        if (isRequired(requiredAttributes, LocalClaimAttributes.DISPLAY_NAME)) {
+            localClaimResDTO.setDisplayName(claimProperties.get(PROP_DISPLAY_NAME));
+        }
+        if (isRequired(requiredAttributes, LocalClaimAttributes.READ_ONLY)) {
+            localClaimResDTO.setReadOnly(Boolean.valueOf(claimProperties.get(PROP_READ_ONLY)));
+        }
+        if (isRequired(requiredAttributes, LocalClaimAttributes.REG_EX)) {
+            localClaimResDTO.setRegEx(StringUtils.defaultString(claimProperties.get(PROP_REG_EX)));
         }
+        if (isRequired(requiredAttributes, LocalClaimAttributes.REQUIRED)) {
+            localClaimResDTO.setRequired(Boolean.valueOf(claimProperties.get(PROP_REQUIRED)));
+        }
+        if (isRequired(requiredAttributes, LocalClaimAttributes.SUPPORTED_BY_DEFAULT)) {
+            localClaimResDTO.setSupportedByDefault(Boolean.valueOf(claimProperties.get(PROP_SUPPORTED_BY_DEFAULT)));
+        }
+
+        if (isRequired(requiredAttributes, LocalClaimAttributes.ATTRIBUTE_MAPPING)) {
+            List<AttributeMappingDTO> attributeMappingDTOs = new ArrayList<>();
+            for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                AttributeMappingDTO attributeMappingDTO = new AttributeMappingDTO();
 
-        String propDisplayOrder = claimProperties.remove(PROP_DISPLAY_ORDER);
-        if (StringUtils.isNumeric(propDisplayOrder)) {
-            localClaimResDTO.setDisplayOrder(Integer.valueOf(propDisplayOrder));
+                attributeMappingDTO.setUserstore(attributeMapping.getUserStoreDomain());
+                attributeMappingDTO.setMappedAttribute(attributeMapping.getAttributeName());
+
+                attributeMappingDTOs.add(attributeMappingDTO);
+            }
+            localClaimResDTO.setAttributeMapping(attributeMappingDTOs);
         } else {
-            localClaimResDTO.setDisplayOrder(0);
+            localClaimResDTO.setAttributeMapping(null);
         }
 
-        localClaimResDTO.setDisplayName(claimProperties.remove(PROP_DISPLAY_NAME));
-        localClaimResDTO.setReadOnly(Boolean.valueOf(claimProperties.remove(PROP_READ_ONLY)));
-        String regEx = claimProperties.remove(PROP_REG_EX);
-        localClaimResDTO.setRegEx(regEx);
-        if (regEx == null) {
-            localClaimResDTO.setRegEx(StringUtils.EMPTY);
+        if (isRequired(requiredAttributes, LocalClaimAttributes.PROPERTIES)) {
+            // The properties which are mapped to the attributes of the response are not repeated.
+            Map<String, String> additionalProperties = new HashMap<>(claimProperties);
+            additionalProperties.keySet().removeAll(MAPPED_CLAIM_PROPERTIES);
+            localClaimResDTO.setProperties(mapToProperties(additionalProperties));
+        } else {
+            localClaimResDTO.setProperties(null);
         }
-        localClaimResDTO.setRequired(Boolean.valueOf(claimProperties.remove(PROP_REQUIRED)));
-        localClaimResDTO.setSupportedByDefault(Boolean.valueOf(claimProperties.remove(PROP_SUPPORTED_BY_DEFAULT)));
 
-        List<AttributeMappingDTO> attributeMappingDTOs = new ArrayList<>();
-        for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
-            AttributeMappingDTO attributeMappingDTO = new AttributeMappingDTO();
+        return localClaimResDTO;
+    }
+
+    private boolean isRequired(Set<String> requiredAttributes, String attribute) {
+
+        return requiredAttributes == null || requiredAttributes.contains(attribute);
+    }
+
+    /**
+     * Resolves the attributes requested in a local claim listing. The identifier and the URI of the claims are always
+     * returned.
+     *
+     * @param attributes Comma separated attributes of the request.
+     * @return Required attributes, or null if all the attributes are required.
+     */
+    private Set<String> getRequiredLocalClaimAttributes(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return null;
+        }
+        Set<String> requiredAttributes = new HashSet<>();
+        requiredAttributes.add(LocalClaimAttributes.ID);
+        requiredAttributes.add(LocalClaimAttributes.CLAIM_URI);
+        for (String attribute : attributes.split(",")) {
+            String requiredAttribute = attribute.trim();
+            if (!SUPPORTED_LOCAL_CLAIM_ATTRIBUTES.contains(requiredAttribute)) {
+                throw handleClaimManagementClientError(ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE, BAD_REQUEST,
+                        requiredAttribute);
+            }
+            requiredAttributes.add(requiredAttribute);
+        }
+        return requiredAttributes;
+    }
 
-            attributeMappingDTO.setUserstore(attributeMapping.getUserStoreDomain());
-            attributeMappingDTO.setMappedAttribute(attributeMapping.getAttributeName());
+    private void validatePaginationParameters(Integer limit, Integer offset) {
 
-            attributeMappingDTOs.add(attributeMappingDTO);
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw handleClaimManagementClientError(ERROR_CODE_INVALID_PAGINATION_PARAMETERS, BAD_REQUEST);
         }
-        localClaimResDTO.setAttributeMapping(attributeMappingDTOs);
-        localClaimResDTO.setProperties(mapToProperties(claimProperties));
+    }
 
-        return localClaimResDTO;
+    /**
+     * Resolves the claims the filter of a listing has to be evaluated against. A filter which only matches a claim
+     * URI is resolved from the URI index of the claims.
+     *
+     * @param claims      Claims of the listing, indexed by their URIs.
+     * @param claimFilter Filter of the listing.
+     * @param <T>         Type of the claims.
+     * @return Claims which may match the filter.
+     */
+    private <T> Collection<T> getFilterCandidates(Map<String, T> claims, ListingFilter<T> claimFilter) {
+
+        String claimURI = claimFilter.getEqualityValue(FilterAttributes.CLAIM_URI);
+        if (claimURI == null) {
+            return claims.values();
+        }
+        T claim = claims.get(claimURI);
+        return claim != null ? Collections.singletonList(claim) : Collections.emptyList();
+    }
+
+    /**
+     * Parses and validates the filter of a claim dialect or claim listing.
+     *
+     * @param filterBuilder Builder with the filter attributes of the listing.
+     * @param filter        Filter of the request, may be empty.
+     * @param <T>           Type of the claims.
+     * @return Filter of the listing.
+     * @throws ClaimMetadataClientException If the filter is invalid or uses unsupported attributes or operations.
+     */
+    private <T> ListingFilter<T> buildFilter(ListingFilter.Builder<T> filterBuilder, String filter)
+            throws ClaimMetadataClientException {
+
+        try {
+            return filterBuilder.build(filter);
+        } catch (ListingFilterException e) {
+            Constant.ErrorMessage errorMessage;
+            switch (e.getReason()) {
+                case UNSUPPORTED_ATTRIBUTE:
+                    errorMessage = Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE;
+                    break;
+                case UNSUPPORTED_OPERATION:
+                    errorMessage = Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION;
+                    break;
+                default:
+                    errorMessage = Constant.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT;
+            }
+            throw new ClaimMetadataClientException(errorMessage.getCode(),
+                    String.format(errorMessage.getDescription(), e.getData()));
+        }
+    }
+
+    /**
+     * Filters a claim dialect or claim listing and maps the requested page of it. Only the claims of the page are
+     * mapped to responses.
+     *
+     * @param claims               Claims of the listing.
+     * @param claimFilter          Filter of the listing.
+     * @param limit                Maximum number of claims of the page, or null to return all the claims.
+     * @param offset               Number of matched claims to skip.
+     * @param mapper               Maps a claim to its response.
+     * @param servicePathComponent Path of the listing, used in the pagination links.
+     * @param requiredAttributes   Requested attributes, used in the pagination links.
+     * @param filter               Filter of the request, used in the pagination links.
+     * @param <T>                  Type of the claims.
+     * @param <R>                  Type of the claim responses.
+     * @return Page of the listing.
+     */
+    private <T, R> ListingPage<R> getClaimListPage(Collection<T> claims, ListingFilter<T> claimFilter,
+                                                   Integer limit, Integer offset, Function<T, R> mapper,
+                                                   String servicePathComponent, String requiredAttributes,
+                                                   String filter) {
+
+        List<T> matchedClaims = new ArrayList<>();
+        for (T claim : claims) {
+            if (claimFilter.matches(claim)) {
+                matchedClaims.add(claim);
+            }
+        }
+        return ListingPage.of(matchedClaims, limit, offset, mapper, servicePathComponent, requiredAttributes, filter);
     }
 
     private List<LocalClaimResDTO> getLocalClaimResDTOs(List<LocalClaim> localClaimList) {
@@ -1092,10 +1186,11 @@ public class ServerClaimManagementService {
     private void importExternalClaims(String dialectID, List<ExternalClaimReqDTO> externalClaimReqDTOList) {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        ClaimSnapshot claimSnapshot = new ClaimSnapshot(ContextLoader.getTenantDomainFromContext());
 
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
             try {
-                addExternalClaim(dialectID, externalClaimReqDTO);
+                addExternalClaim(dialectID, externalClaimReqDTO, claimSnapshot);
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
                 claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
@@ -1134,59 +1229,11 @@ public class ServerClaimManagementService {
                     fileContent.getFileName());
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
-            case MEDIA_TYPE_XML:
-                return parseClaimDialectFromXml(fileContent);
-            case MEDIA_TYPE_JSON:
-                return parseClaimDialectFromJson(fileContent);
-            case MEDIA_TYPE_YAML:
-                return parseClaimDialectFromYaml(fileContent);
-            default:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseClaimDialectFromYaml(fileContent);
-        }
-    }
-
-    private ClaimDialectConfiguration parseClaimDialectFromXml(FileContent fileContent) throws ClaimMetadataException {
-
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ClaimDialectConfiguration.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ClaimDialectConfiguration) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
-        } catch (JAXBException e) {
+            return CLAIM_DIALECT_FILE_CODEC.decode(fileContent);
+        } catch (FileCodecException e) {
             throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_XML), e);
-        }
-    }
-
-    private ClaimDialectConfiguration parseClaimDialectFromJson(FileContent fileContent) throws ClaimMetadataException {
-
-        try {
-            return new ObjectMapper().readValue(fileContent.getContent(), ClaimDialectConfiguration.class);
-        } catch (JsonProcessingException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_JSON), e);
-        }
-    }
-
-    private ClaimDialectConfiguration parseClaimDialectFromYaml(FileContent fileContent) throws ClaimMetadataException {
-
-        try {
-            // Add trusted tags included in the Claims YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ClaimDialectConfiguration.class.getName());
-            trustedTagList.add(ExternalClaimResDTO.class.getName());
-            trustedTagList.add(LocalClaimResDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ClaimDialectConfiguration.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), ClaimDialectConfiguration.class);
-        } catch (YAMLException e) {
-            throw new ClaimMetadataException(String.format(
-                      Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_YAML), e);
+                    Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), e.getMediaType()), e);
         }
     }
 
@@ -1228,34 +1275,6 @@ public class ServerClaimManagementService {
         return userStoreManager != null;
     }
 
-    private boolean isDialectExists(String dialectId) throws ClaimMetadataException {
-
-        List<ClaimDialect> claimDialectList =
-                getClaimMetadataManagementService().getClaimDialects(ContextLoader.getTenantDomainFromContext());
-        ClaimDialect claimDialect = extractDialectFromDialectList(base64DecodeId(dialectId), claimDialectList);
-
-        return claimDialect != null;
-    }
-
-    private boolean isLocalClaimExist(String claimId) throws ClaimMetadataException {
-
-        List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                ContextLoader.getTenantDomainFromContext());
-        LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
-
-        return localClaim != null;
-    }
-
-    private boolean isExternalClaimExist(String dialectId, String claimId) throws ClaimMetadataException {
-
-        List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                base64DecodeId(dialectId),
-                ContextLoader.getTenantDomainFromContext());
-        ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
-
-        return externalClaim != null;
-    }
-
     private APIError handleClaimManagementException(ClaimMetadataException e, Constant.ErrorMessage errorEnum,
                                                     String... data) {
 
@@ -1318,11 +1337,6 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
-
-        handleNotImplementedCapabilities(null, limit, offset, filter, sort);
-    }
-
     private APIError handleException(Exception e, Constant.ErrorMessage errorEnum, String... data) {
 
         ErrorResponse errorResponse = getErrorBuilder(errorEnum, data)
@@ -1333,28 +1347,12 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(String attributes, Integer limit, Integer offset, String filter,
-                                                  String sort) {
-
-        Constant.ErrorMessage errorEnum = null;
-
-        if (limit != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        } else if (attributes != null) {
-            errorEnum = ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
+    private void handleNotImplementedSorting(String sort) {
 
-            throw new APIError(status, errorResponse);
+        if (sort != null) {
+            ErrorResponse errorResponse = getErrorBuilder(ERROR_CODE_SORTING_NOT_IMPLEMENTED)
+                    .build(LOG, ERROR_CODE_SORTING_NOT_IMPLEMENTED.getDescription());
+            throw new APIError(Response.Status.NOT_IMPLEMENTED, errorResponse);
         }
     }
 
@@ -1461,6 +1459,16 @@ public class ServerClaimManagementService {
         }
     }
 
+    /**
+     * Record a write of the local claims of the tenant, so that the listings of the other APIs of this webapp which
+     * are derived from the local claims, e.g. the claim attribute mappings of a user store, are rebuilt.
+     */
+    private void recordLocalClaimChange() {
+
+        TenantResourceVersions.increment(TenantResourceVersions.LOCAL_CLAIMS,
+                ContextLoader.getTenantDomainFromContext());
+    }
+
     private void validateClaimModificationEligibility() throws ClaimMetadataClientException {
 
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
@@ -1484,4 +1492,85 @@ public class ServerClaimManagementService {
         }
 
     }
+
+    /**
+     * Claim dialects, local claims and external claims of a tenant, indexed by their URIs. Each part is fetched from
+     * the claim metadata management service once, when it is first looked up, so that a request which looks up or
+     * diffs many claims doesn't re-fetch and scan the claim lists for each of them. A snapshot lives only as long as
+     * the request which created it.
+     */
+    private static class ClaimSnapshot {
+
+        private final String tenantDomain;
+        private Map<String, ClaimDialect> claimDialects;
+        private Map<String, LocalClaim> localClaims;
+        private final Map<String, Map<String, ExternalClaim>> externalClaims = new HashMap<>();
+
+        ClaimSnapshot(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+        }
+
+        ClaimDialect getClaimDialect(String dialectURI) throws ClaimMetadataException {
+
+            if (claimDialects == null) {
+                List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
+                        tenantDomain);
+                claimDialects = new HashMap<>(claimDialectList.size());
+                for (ClaimDialect claimDialect : claimDialectList) {
+                    claimDialects.putIfAbsent(claimDialect.getClaimDialectURI(), claimDialect);
+                }
+            }
+            return claimDialects.get(dialectURI);
+        }
+
+        Map<String, LocalClaim> getLocalClaims() throws ClaimMetadataException {
+
+            if (localClaims == null) {
+                List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+                localClaims = new LinkedHashMap<>(localClaimList.size());
+                for (LocalClaim localClaim : localClaimList) {
+                    localClaims.putIfAbsent(localClaim.getClaimURI(), localClaim);
+                }
+            }
+            return localClaims;
+        }
+
+        LocalClaim getLocalClaim(String claimURI) throws ClaimMetadataException {
+
+            return getLocalClaims().get(claimURI);
+        }
+
+        void addLocalClaim(LocalClaim localClaim) throws ClaimMetadataException {
+
+            getLocalClaims().put(localClaim.getClaimURI(), localClaim);
+        }
+
+        Map<String, ExternalClaim> getExternalClaims(String dialectURI) throws ClaimMetadataException {
+
+            Map<String, ExternalClaim> dialectClaims = externalClaims.get(dialectURI);
+            if (dialectClaims == null) {
+                List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
+                        dialectURI, tenantDomain);
+                dialectClaims = new LinkedHashMap<>();
+                if (externalClaimList != null) {
+                    for (ExternalClaim externalClaim : externalClaimList) {
+                        dialectClaims.putIfAbsent(externalClaim.getClaimURI(), externalClaim);
+                    }
+                }
+                externalClaims.put(dialectURI, dialectClaims);
+            }
+            return dialectClaims;
+        }
+
+        ExternalClaim getExternalClaim(String dialectURI, String claimURI) throws ClaimMetadataException {
+
+            return getExternalClaims(dialectURI).get(claimURI);
+        }
+
+        void addExternalClaim(ExternalClaim externalClaim) throws ClaimMetadataException {
+
+            getExternalClaims(externalClaim.getClaimDialectURI()).put(externalClaim.getClaimURI(), externalClaim);
+        }
+    }
 }
@@ -113,7 +113,7 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     @Override
     public Response getClaimDialects(Integer limit, Integer offset, String filter, String sort) {
 
-        return Response.ok().entity(claimManagementService.getClaimDialects(limit, offset, filter, sort)).build();
+        return claimManagementService.getClaimDialects(limit, offset, filter, sort).buildResponse();
     }
 
     @Override
@@ -125,9 +125,7 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     @Override
     public Response getExternalClaims(String dialectId, Integer limit, Integer offset, String filter, String sort) {
 
-        return Response.ok()
-                .entity(claimManagementService.getExternalClaims(dialectId, limit, offset, filter, sort))
-                .build();
+        return claimManagementService.getExternalClaims(dialectId, limit, offset, filter, sort).buildResponse();
     }
 
     @Override
@@ -140,8 +138,8 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     public Response getLocalClaims(String attributes, Integer limit, Integer offset, String filter,
                                    String sort, Boolean excludeIdentityClaims) {
 
-        return Response.ok().entity(claimManagementService.getLocalClaims(
-                excludeIdentityClaims, attributes, limit, offset, filter, sort)).build();
+        return claimManagementService.getLocalClaims(
+                excludeIdentityClaims, attributes, limit, offset, filter, sort).buildResponse();
     }
 
     @Override
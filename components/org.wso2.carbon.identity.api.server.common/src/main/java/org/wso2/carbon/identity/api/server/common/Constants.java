@@ -33,6 +33,7 @@ public class Constants {
     public static final String ERROR_CODE_RESOURCE_LIMIT_REACHED = "RLS-10001";
 
     public static final String REGEX_COMMA = ",";
+    public static final String TOTAL_RESULTS_HEADER = "X-Total-Count";
 
     // Export and Import related constants.
     public static final String YAML_FILE_EXTENSION = ".yml";
@@ -41,6 +42,7 @@ public class Constants {
     public static final String MEDIA_TYPE_JSON = "application/json";
     public static final String MEDIA_TYPE_XML = "application/xml";
     public static final String MEDIA_TYPE_YAML = "application/yaml";
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
     public static final String MEDIA_TYPE_UNSUPPORTED = "unsupported";
     public static final String MASKING_VALUE = "********";
     static final String[] VALID_MEDIA_TYPES_JSON = {MEDIA_TYPE_JSON, "text/json"};
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool which runs tasks with the carbon context and the identity thread local properties of the
+ * submitting request thread, so that the tenant resolved by {@link ContextLoader} is also visible to the workers.
+ * When the pool and its queue are saturated, or the pool is shut down, tasks are rejected with a
+ * {@link RejectedExecutionException} instead of running on the submitting thread, so that a burst of requests can't
+ * hold the request threads with the work offloaded from them. The caller decides how a rejection surfaces, e.g. as a
+ * 503 response.
+ * <p>
+ * The pools are held by static fields of the webapps, hence the owning webapp shuts its pools down when it is
+ * stopped, so that the worker threads don't outlive a redeployment.
+ */
+public class ContextAwareExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a worker pool.
+     *
+     * @param name      Name prefix of the worker threads.
+     * @param poolSize  Maximum number of worker threads.
+     * @param queueSize Maximum number of tasks waiting for a worker.
+     */
+    public ContextAwareExecutor(String name, int poolSize, int queueSize) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submits a task to be run with the context of the calling thread.
+     *
+     * @param task Task to be run.
+     * @param <T>  Result type of the task.
+     * @return Future of the task result.
+     * @throws RejectedExecutionException If the pool and its queue are saturated or the pool is shut down.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+
+        return executor.submit(withCurrentContext(task));
+    }
+
+    /**
+     * Runs the given tasks with the context of the calling thread and waits for all of them to complete. If any of
+     * the tasks is rejected, the tasks already submitted are cancelled.
+     *
+     * @param tasks Tasks to be run.
+     * @param <T>   Result type of the tasks.
+     * @return Results of the tasks, in the order of the given tasks.
+     * @throws ExecutionException   If any of the tasks failed. The cause is the exception thrown by the task.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     * @throws RejectedExecutionException If the pool and its queue are saturated or the pool is shut down.
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> tasks) throws ExecutionException, InterruptedException {
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(submit(task));
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Shuts the pool down. The running and queued tasks are let to complete, after which the worker threads exit.
+     * Tasks submitted afterwards are rejected.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+    }
+
+    /**
+     * Wraps a task so that it runs with the tenant, user and identity thread local properties of the calling thread.
+     *
+     * @param task Task to be wrapped.
+     * @param <T>  Result type of the task.
+     * @return Wrapped task.
+     */
+    public static <T> Callable<T> withCurrentContext(Callable<T> task) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        Thread submittingThread = Thread.currentThread();
+
+        return () -> {
+            if (Thread.currentThread() == submittingThread) {
+                // The submitting thread already holds the context, e.g. when a caller runs a rejected task itself.
+                return task.call();
+            }
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                PrivilegedCarbonContext workerContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                workerContext.setTenantDomain(tenantDomain);
+                workerContext.setTenantId(tenantId);
+                workerContext.setUsername(username);
+                IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+                return task.call();
+            } finally {
+                IdentityUtil.threadLocalProperties.remove();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        };
+    }
+}
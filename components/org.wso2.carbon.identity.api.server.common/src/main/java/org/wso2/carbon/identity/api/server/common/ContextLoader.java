@@ -79,7 +79,7 @@ public class ContextLoader {
     public static URI buildURIForBody(String endpoint) {
 
         String url;
-        String context = getContext(endpoint);
+        String context = getContext(SERVER_API_PATH_COMPONENT, endpoint);
 
         try {
             url = ServiceURLBuilder.create().addPath(context).build().getRelativePublicURL();
@@ -100,8 +100,21 @@ public class ContextLoader {
      */
     public static URI buildURIForHeader(String endpoint) {
 
+        return buildURIForHeader(SERVER_API_PATH_COMPONENT, endpoint);
+    }
+
+    /**
+     * Build the complete URI prepending the given API context without the proxy context path, to the endpoint.
+     * Ex: https://localhost:9443/t/<tenant-domain>/api/idle-account-identification/<endpoint>
+     *
+     * @param apiPathComponent API context path. E.g: /api/idle-account-identification
+     * @param endpoint         relative endpoint path.
+     * @return Fully qualified and complete URI.
+     */
+    public static URI buildURIForHeader(String apiPathComponent, String endpoint) {
+
         URI loc;
-        String context = getContext(endpoint);
+        String context = getContext(apiPathComponent, endpoint);
 
         try {
             String url = ServiceURLBuilder.create().addPath(context).build().getAbsolutePublicURL();
@@ -120,17 +133,18 @@ public class ContextLoader {
      * In tenant qualified mode the ServiceURLBuilder appends the tenant domain to the URI as a path param
      * automatically. But in non tenant qualified mode, we need to append the tenant domain to the path manually.
      *
-     * @param endpoint Relative endpoint path.
+     * @param apiPathComponent API context path.
+     * @param endpoint         Relative endpoint path.
      * @return Context of the API.
      */
-    private static String getContext(String endpoint) {
+    private static String getContext(String apiPathComponent, String endpoint) {
 
         String context;
         if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled()) {
-            context = SERVER_API_PATH_COMPONENT + endpoint;
+            context = apiPathComponent + endpoint;
         } else {
             context = String.format(TENANT_CONTEXT_PATH_COMPONENT, getTenantDomainFromContext()) +
-                    SERVER_API_PATH_COMPONENT + endpoint;
+                    apiPathComponent + endpoint;
         }
         return context;
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Entity tags of the resource representations served by the APIs, for conditional requests (RFC 7232). A strong
+ * entity tag is derived from a SHA-256 hash of the representation, so that it changes only when the representation
+ * changes, on any node of a cluster.
+ */
+public final class EntityTags {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String WEAK_TAG_PREFIX = "W/";
+    private static final String ANY_TAG = "*";
+
+    private EntityTags() {
+
+    }
+
+    /**
+     * Builds the strong entity tag of a text representation.
+     *
+     * @param content Representation.
+     * @return Quoted entity tag, e.g. {@code "MTIzNDU2Nzg5MA"}.
+     */
+    public static String strongTag(String content) {
+
+        return strongTag(content == null ? new byte[0] : content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the strong entity tag of a binary representation.
+     *
+     * @param content Representation.
+     * @return Quoted entity tag, e.g. {@code "MTIzNDU2Nzg5MA"}.
+     */
+    public static String strongTag(byte[] content) {
+
+        try {
+            byte[] hash = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException("Unsupported hash algorithm: " + HASH_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Checks whether the If-None-Match header of a request matches the current entity tag of the representation,
+     * in which case the request is answered with 304 Not Modified instead of the representation. The header is
+     * compared with the weak comparison function, as required for If-None-Match.
+     *
+     * @param ifNoneMatch Value of the If-None-Match header, or null if the request has none.
+     * @param entityTag   Current entity tag of the representation.
+     * @return True if the representation of the client is current.
+     */
+    public static boolean isNotModified(String ifNoneMatch, String entityTag) {
+
+        if (StringUtils.isBlank(ifNoneMatch) || entityTag == null) {
+            return false;
+        }
+        String currentTag = stripWeakPrefix(entityTag);
+        for (String requestTag : ifNoneMatch.split(",")) {
+            String tag = requestTag.trim();
+            if (ANY_TAG.equals(tag) || currentTag.equals(stripWeakPrefix(tag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+
+        return tag.startsWith(WEAK_TAG_PREFIX) ? tag.substring(WEAK_TAG_PREFIX.length()) : tag;
+    }
+}
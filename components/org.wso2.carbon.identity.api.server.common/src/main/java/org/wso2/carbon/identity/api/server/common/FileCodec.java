@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_UNSUPPORTED;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
+import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
+import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
+import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
+
+/**
+ * Writes a resource configuration model to, and reads it from, XML, JSON and YAML files.
+ * <p>
+ * The JAXB context and the Jackson object mapper are thread safe and are built once per codec. Marshallers,
+ * unmarshallers and YAML instances are not thread safe and are cheap to create from them, hence they are created for
+ * every file instead of being kept per thread, which would pin them, and the class loader of the model, to the pooled
+ * request threads. A codec is meant to be built once and held in a static field of the service which imports and
+ * exports the resource.
+ *
+ * @param <T> Type of the resource configuration model.
+ */
+public class FileCodec<T> {
+
+    private static final Log LOG = LogFactory.getLog(FileCodec.class);
+
+    private final Class<T> modelClass;
+    private final List<Class<?>> boundClasses;
+    private final Marshaller.Listener marshallerListener;
+    private final ObjectMapper objectMapper;
+    private final Supplier<Yaml> yamlDumper;
+    private final List<String> trustedTags;
+    private volatile JAXBContext jaxbContext;
+
+    private FileCodec(Builder<T> builder) {
+
+        this.modelClass = builder.modelClass;
+        this.boundClasses = Collections.unmodifiableList(new ArrayList<>(builder.boundClasses));
+        this.marshallerListener = builder.marshallerListener;
+        this.objectMapper = createObjectMapper(this.boundClasses.subList(1, this.boundClasses.size()));
+        this.yamlDumper = builder.yamlDumper;
+        this.trustedTags = Collections.unmodifiableList(new ArrayList<>(builder.trustedTags));
+    }
+
+    /**
+     * Starts building a codec for the given resource configuration model.
+     *
+     * @param modelClass Class of the resource configuration model.
+     * @param <T>        Type of the resource configuration model.
+     * @return Codec builder.
+     */
+    public static <T> Builder<T> builder(Class<T> modelClass) {
+
+        return new Builder<>(modelClass);
+    }
+
+    /**
+     * Writes the model to a file of the given file type. Unsupported file types are written as YAML.
+     *
+     * @param model    Model to be written.
+     * @param fileName Name of the file without the extension.
+     * @param fileType Requested media type of the file.
+     * @return File content.
+     * @throws FileCodecException If the model cannot be written.
+     */
+    public FileContent encode(T model, String fileName, String fileType) throws FileCodecException {
+
+        String mediaType = resolveExportMediaType(fileType);
+        return new FileContent(fileName + getFileExtension(mediaType), mediaType, encode(model, mediaType));
+    }
+
+    /**
+     * Writes the model to a file of the given file type, to be streamed to the response. The model is written to a
+     * byte buffer before the response is committed, so that a model which cannot be written is still reported as
+     * an error response. The buffer is then streamed without copying it into a string or another array.
+     * Unsupported file types are written as YAML.
+     *
+     * @param model    Model to be written.
+     * @param fileName Name of the file without the extension.
+     * @param fileType Requested media type of the file.
+     * @return Streaming file content.
+     * @throws FileCodecException If the model cannot be written.
+     */
+    public StreamingFileContent encodeAsStream(T model, String fileName, String fileType) throws FileCodecException {
+
+        String mediaType = resolveExportMediaType(fileType);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        encode(model, mediaType, buffer);
+        return new StreamingFileContent(fileName + getFileExtension(mediaType), mediaType, buffer::writeTo);
+    }
+
+    /**
+     * Writes the model in the given media type.
+     *
+     * @param model     Model to be written.
+     * @param mediaType One of the XML, JSON or YAML media types defined in {@link Constants}.
+     * @return Content of the file.
+     * @throws FileCodecException If the model cannot be written.
+     */
+    public String encode(T model, String mediaType) throws FileCodecException {
+
+        StringWriter stringWriter = new StringWriter();
+        write(model, mediaType, stringWriter);
+        return stringWriter.toString();
+    }
+
+    /**
+     * Writes the model in the given media type to a stream, encoded in UTF-8. The stream is not closed.
+     *
+     * @param model        Model to be written.
+     * @param mediaType    One of the XML, JSON or YAML media types defined in {@link Constants}.
+     * @param outputStream Stream to write the model to.
+     * @throws FileCodecException If the model cannot be written.
+     */
+    public void encode(T model, String mediaType, OutputStream outputStream) throws FileCodecException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        write(model, mediaType, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new FileCodecException("Error while writing " + modelClass.getSimpleName() + " to the stream.",
+                    mediaType, e);
+        }
+    }
+
+    /**
+     * Reads the model from a file. Files of unsupported types are read as YAML.
+     *
+     * @param fileContent File content.
+     * @return Model read from the file.
+     * @throws FileCodecException If the file content cannot be read.
+     */
+    public T decode(FileContent fileContent) throws FileCodecException {
+
+        return decode(fileContent.getContent(), resolveMediaType(fileContent.getFileType(),
+                fileContent.getFileName()));
+    }
+
+    /**
+     * Reads the model from an uploaded file stream. Files of unsupported types are read as YAML.
+     *
+     * @param fileContent Streaming file content.
+     * @return Model read from the file.
+     * @throws FileCodecException If the file content cannot be read.
+     */
+    public T decode(StreamingFileContent fileContent) throws FileCodecException {
+
+        return decode(fileContent.getInputStream(), resolveMediaType(fileContent.getFileType(),
+                fileContent.getFileName()));
+    }
+
+    /**
+     * Reads the model from content of the given media type.
+     *
+     * @param content   Content of the file.
+     * @param mediaType One of the XML, JSON or YAML media types defined in {@link Constants}.
+     * @return Model read from the content.
+     * @throws FileCodecException If the content cannot be read.
+     */
+    public T decode(String content, String mediaType) throws FileCodecException {
+
+        return read(new StringReader(content), mediaType);
+    }
+
+    /**
+     * Reads the model from a UTF-8 encoded stream of the given media type. The stream is not closed.
+     *
+     * @param inputStream Content of the file.
+     * @param mediaType   One of the XML, JSON or YAML media types defined in {@link Constants}.
+     * @return Model read from the stream.
+     * @throws FileCodecException If the content cannot be read.
+     */
+    public T decode(InputStream inputStream, String mediaType) throws FileCodecException {
+
+        return read(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), mediaType);
+    }
+
+    private String resolveExportMediaType(String fileType) {
+
+        String mediaType = Util.getMediaType(fileType);
+        if (MEDIA_TYPE_UNSUPPORTED.equals(mediaType)) {
+            LOG.warn(String.format("Unsupported file type: %s requested for export. Defaulting to YAML parsing.",
+                    fileType));
+            return MEDIA_TYPE_YAML;
+        }
+        return mediaType;
+    }
+
+    private String resolveMediaType(String fileType, String fileName) {
+
+        String mediaType = Util.getMediaType(fileType);
+        if (MEDIA_TYPE_UNSUPPORTED.equals(mediaType)) {
+            LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
+                    fileType, fileName));
+            return MEDIA_TYPE_YAML;
+        }
+        return mediaType;
+    }
+
+    private void write(T model, String mediaType, Writer writer) throws FileCodecException {
+
+        try {
+            switch (mediaType) {
+                case MEDIA_TYPE_XML:
+                    getMarshaller().marshal(model, writer);
+                    break;
+                case MEDIA_TYPE_JSON:
+                    objectMapper.writeValue(writer, model);
+                    break;
+                default:
+                    yamlDumper.get().dump(model, writer);
+            }
+        } catch (JAXBException | IOException | YAMLException e) {
+            throw new FileCodecException(String.format("Error while writing %s as %s.", modelClass.getSimpleName(),
+                    mediaType), mediaType, e);
+        }
+    }
+
+    private T read(Reader reader, String mediaType) throws FileCodecException {
+
+        try {
+            switch (mediaType) {
+                case MEDIA_TYPE_XML:
+                    return modelClass.cast(getUnmarshaller().unmarshal(reader));
+                case MEDIA_TYPE_JSON:
+                    return objectMapper.readValue(reader, modelClass);
+                default:
+                    return createYamlLoader(modelClass, trustedTags).loadAs(reader, modelClass);
+            }
+        } catch (JAXBException | IOException | YAMLException | ClassCastException e) {
+            throw new FileCodecException(String.format("Error while reading %s from %s.", modelClass.getSimpleName(),
+                    mediaType), mediaType, e);
+        }
+    }
+
+    private Marshaller getMarshaller() throws JAXBException {
+
+        Marshaller marshaller = getJAXBContext().createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        if (marshallerListener != null) {
+            marshaller.setListener(marshallerListener);
+        }
+        return marshaller;
+    }
+
+    private Unmarshaller getUnmarshaller() throws JAXBException {
+
+        return getJAXBContext().createUnmarshaller();
+    }
+
+    private JAXBContext getJAXBContext() throws JAXBException {
+
+        // The context is costly to build, hence it is only built once a file is written or read as XML.
+        JAXBContext context = jaxbContext;
+        if (context == null) {
+            synchronized (this) {
+                context = jaxbContext;
+                if (context == null) {
+                    context = JAXBContext.newInstance(boundClasses.toArray(new Class<?>[0]));
+                    jaxbContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    private static ObjectMapper createObjectMapper(List<Class<?>> subtypes) {
+
+        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
+        // Streams are owned by the caller, e.g. the response stream of an export.
+        objectMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        if (!subtypes.isEmpty()) {
+            objectMapper.registerSubtypes(subtypes.toArray(new Class<?>[0]));
+        }
+        return objectMapper;
+    }
+
+    private static Yaml createYamlLoader(Class<?> modelClass, List<String> trustedTags) {
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setTagInspector(new TrustedPrefixesTagInspector(trustedTags));
+        return new Yaml(new Constructor(modelClass, loaderOptions));
+    }
+
+    private static String getFileExtension(String mediaType) {
+
+        switch (mediaType) {
+            case MEDIA_TYPE_XML:
+                return XML_FILE_EXTENSION;
+            case MEDIA_TYPE_JSON:
+                return JSON_FILE_EXTENSION;
+            default:
+                return YAML_FILE_EXTENSION;
+        }
+    }
+
+    /**
+     * Builder of {@link FileCodec}.
+     *
+     * @param <T> Type of the resource configuration model.
+     */
+    public static class Builder<T> {
+
+        private final Class<T> modelClass;
+        private final List<Class<?>> boundClasses = new ArrayList<>();
+        private final List<String> trustedTags = new ArrayList<>();
+        private Marshaller.Listener marshallerListener;
+        private Supplier<Yaml> yamlDumper = Yaml::new;
+
+        private Builder(Class<T> modelClass) {
+
+            this.modelClass = modelClass;
+            this.boundClasses.add(modelClass);
+            this.trustedTags.add(modelClass.getName());
+        }
+
+        /**
+         * Classes, other than the model class, which may appear in the file. They are bound to the JAXB context,
+         * registered as JSON subtypes and trusted as YAML tags.
+         *
+         * @param classes Additional classes of the model.
+         * @return This builder.
+         */
+        public Builder<T> withSubtypes(Class<?>... classes) {
+
+            this.boundClasses.addAll(Arrays.asList(classes));
+            for (Class<?> clazz : classes) {
+                this.trustedTags.add(clazz.getName());
+            }
+            return this;
+        }
+
+        /**
+         * Additional YAML tags trusted when reading the model from a YAML file.
+         *
+         * @param tags Trusted tag prefixes.
+         * @return This builder.
+         */
+        public Builder<T> withTrustedTags(String... tags) {
+
+            this.trustedTags.addAll(Arrays.asList(tags));
+            return this;
+        }
+
+        /**
+         * Listener set on the marshallers used to write the model to an XML file.
+         *
+         * @param marshallerListener Marshaller listener.
+         * @return This builder.
+         */
+        public Builder<T> withMarshallerListener(Marshaller.Listener marshallerListener) {
+
+            this.marshallerListener = marshallerListener;
+            return this;
+        }
+
+        /**
+         * Factory of the YAML instances used to write the model to a YAML file. Called for every file written.
+         *
+         * @param yamlDumper YAML factory.
+         * @return This builder.
+         */
+        public Builder<T> withYamlDumper(Supplier<Yaml> yamlDumper) {
+
+            this.yamlDumper = yamlDumper;
+            return this;
+        }
+
+        public FileCodec<T> build() {
+
+            return new FileCodec<>(this);
+        }
+    }
+}
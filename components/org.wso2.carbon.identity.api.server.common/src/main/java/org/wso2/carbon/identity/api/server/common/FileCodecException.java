@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+/**
+ * Thrown when a resource configuration cannot be written to or read from a file by a {@link FileCodec}.
+ */
+public class FileCodecException extends Exception {
+
+    private static final long serialVersionUID = 5217386102472589313L;
+
+    private final String mediaType;
+
+    public FileCodecException(String message, String mediaType, Throwable cause) {
+
+        super(message, cause);
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Media type of the file which failed to be written or read. One of the media types defined in {@link Constants}.
+     *
+     * @return Media type of the file.
+     */
+    public String getMediaType() {
+
+        return mediaType;
+    }
+
+    /**
+     * Short name of the file format which failed to be written or read, e.g. XML.
+     *
+     * @return Name of the file format.
+     */
+    public String getFormat() {
+
+        switch (mediaType) {
+            case Constants.MEDIA_TYPE_XML:
+                return "XML";
+            case Constants.MEDIA_TYPE_JSON:
+                return "JSON";
+            default:
+                return "YAML";
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.function.Function;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes a listing to the response as newline delimited JSON ({@value Constants#MEDIA_TYPE_NDJSON}), i.e. one JSON
+ * object per line. Each item is mapped to its API model and written as it is reached, so that neither the API models
+ * of the whole listing nor its serialized form are held in memory.
+ *
+ * @param <T> Type of the listed items.
+ */
+public class JsonLinesOutput<T> implements StreamingOutput {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Iterable<T> items;
+    private final Function<T, ?> mapper;
+
+    /**
+     * Creates the output of a listing.
+     *
+     * @param items  Listed items.
+     * @param mapper Function mapping an item to the API model written for it.
+     */
+    public JsonLinesOutput(Iterable<T> items, Function<T, ?> mapper) {
+
+        this.items = items;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Checks whether the client accepts newline delimited JSON, from the Accept header of the request.
+     *
+     * @param acceptHeader Accept header of the request, or null.
+     * @return True if the client explicitly accepts newline delimited JSON.
+     */
+    public static boolean isAccepted(String acceptHeader) {
+
+        if (StringUtils.isBlank(acceptHeader)) {
+            return false;
+        }
+        for (String mediaRange : acceptHeader.split(",")) {
+            String mediaType = StringUtils.substringBefore(mediaRange, ";").trim().toLowerCase(Locale.ENGLISH);
+            if (Constants.MEDIA_TYPE_NDJSON.equals(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+
+        OutputStream output = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        for (T item : items) {
+            output.write(OBJECT_MAPPER.writeValueAsBytes(mapper.apply(item)));
+            output.write('\n');
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Structural deep copier for the backend model objects (e.g. identity providers, service providers and
+ * organizations) which are returned from the backend caches and have to be modified before an update.
+ * <p>
+ * Objects are copied field by field instead of being written to and read back from JSON or a Java serialization
+ * stream. The fields and the constructor of each model class are resolved once and reused. Immutable values are
+ * shared with the source, shared references and cycles in the source graph are preserved in the copy.
+ * <p>
+ * Platform (JDK) types are not copied field by field. Known immutable ones are shared, collections, maps and dates
+ * are copied element by element, other cloneable or serializable ones are cloned or serialized. A platform type
+ * which is neither is rejected rather than shared between the source and the copy.
+ * <p>
+ * As with the JSON copies this replaces, transient fields are not copied and keep the value assigned by the
+ * constructor of the copy.
+ * <p>
+ * A model class is instantiated through its no-argument constructor. A serializable model class without one is
+ * copied with Java serialization.
+ */
+public final class ModelCopier {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Locale.class, Class.class, Object.class, URI.class,
+            URL.class, File.class, Pattern.class, Currency.class));
+    private static final String[] PLATFORM_PACKAGES = {"java.", "javax.", "jdk.", "sun.", "com.sun."};
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private ModelCopier() {
+
+    }
+
+    /**
+     * Creates a deep copy of the given model object.
+     *
+     * @param source Object to be copied.
+     * @param <T>    Type of the object.
+     * @return Copy of the object, or null if the object is null.
+     */
+    public static <T> T deepCopy(T source) {
+
+        return deepCopyExcluding(source);
+    }
+
+    /**
+     * Creates a copy of the given model object for a copy-on-write update. The given fields of the object are not
+     * copied and keep referring to the values of the source object, all the other fields are deep copied. The caller
+     * must replace the excluded fields of the copy, instead of modifying their values.
+     *
+     * @param source         Object to be copied.
+     * @param replacedFields Names of the fields of the object which are replaced by the caller.
+     * @param <T>            Type of the object.
+     * @return Copy of the object, or null if the object is null.
+     * @throws IllegalArgumentException If the object doesn't have a field of any of the given names.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopyExcluding(T source, String... replacedFields) {
+
+        if (source == null) {
+            return null;
+        }
+        Map<Object, Object> copies = new IdentityHashMap<>();
+        if (replacedFields.length == 0) {
+            return (T) copy(source, copies);
+        }
+        Set<String> replacedFieldNames = new HashSet<>(Arrays.asList(replacedFields));
+        validateFieldNames(source.getClass(), replacedFieldNames);
+        return (T) copyObject(source, copies, replacedFieldNames);
+    }
+
+    /**
+     * Validates that the given names are instance fields of the model class, so that a misspelled field is not
+     * silently deep copied.
+     */
+    private static void validateFieldNames(Class<?> type, Set<String> fieldNames) {
+
+        Set<String> unknownFieldNames = new HashSet<>(fieldNames);
+        for (Field field : getFields(type)) {
+            unknownFieldNames.remove(field.getName());
+        }
+        if (!unknownFieldNames.isEmpty()) {
+            throw new IllegalArgumentException("Unknown fields: " + unknownFieldNames + " of type: " +
+                    type.getName());
+        }
+    }
+
+    private static Object copy(Object source, Map<Object, Object> copies) {
+
+        if (source == null) {
+            return null;
+        }
+        Class<?> type = source.getClass();
+        if (isImmutable(type)) {
+            return source;
+        }
+        Object existingCopy = copies.get(source);
+        if (existingCopy != null) {
+            return existingCopy;
+        }
+        if (type.isArray()) {
+            return copyArray(source, copies);
+        }
+        if (source instanceof Collection) {
+            return copyCollection((Collection<?>) source, copies);
+        }
+        if (source instanceof Map) {
+            return copyMap((Map<?, ?>) source, copies);
+        }
+        if (source instanceof Date) {
+            Object copy = ((Date) source).clone();
+            copies.put(source, copy);
+            return copy;
+        }
+        if (isPlatformType(type)) {
+            Object copy = copyPlatformObject(source);
+            copies.put(source, copy);
+            return copy;
+        }
+        return copyObject(source, copies, Collections.emptySet());
+    }
+
+    /**
+     * Copies a mutable platform object, whose internal fields are not accessible, through its public clone method or
+     * Java serialization.
+     */
+    private static Object copyPlatformObject(Object source) {
+
+        Class<?> type = source.getClass();
+        if (source instanceof Cloneable) {
+            try {
+                return type.getMethod("clone").invoke(source);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Cloneable without a public clone method, copied with serialization if possible.
+            }
+        }
+        return copySerializable(source);
+    }
+
+    private static Object copyObject(Object source, Map<Object, Object> copies, Set<String> replacedFields) {
+
+        Class<?> type = source.getClass();
+        Constructor<?> constructor = getConstructor(type);
+        if (constructor == null) {
+            Object copy = copySerializable(source);
+            copies.put(source, copy);
+            return copy;
+        }
+        try {
+            Object copy = constructor.newInstance();
+            copies.put(source, copy);
+            for (Field field : getFields(type)) {
+                Object value = field.get(source);
+                if (value != null && !replacedFields.contains(field.getName())) {
+                    value = copy(value, copies);
+                }
+                field.set(copy, value);
+            }
+            return copy;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Error while copying an object of type: " + type.getName(), e);
+        }
+    }
+
+    private static Object copyArray(Object source, Map<Object, Object> copies) {
+
+        int length = Array.getLength(source);
+        Class<?> componentType = source.getClass().getComponentType();
+        Object copy = Array.newInstance(componentType, length);
+        copies.put(source, copy);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(source, 0, copy, 0, length);
+        } else {
+            Object[] sourceElements = (Object[]) source;
+            Object[] copyElements = (Object[]) copy;
+            for (int i = 0; i < length; i++) {
+                copyElements[i] = copy(sourceElements[i], copies);
+            }
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Collection<Object> copyCollection(Collection<?> source, Map<Object, Object> copies) {
+
+        if (source instanceof EnumSet) {
+            Collection<Object> copy = (Collection) ((EnumSet) source).clone();
+            copies.put(source, copy);
+            return copy;
+        }
+        Collection<Object> copy = newCollection(source);
+        copies.put(source, copy);
+        for (Object element : source) {
+            copy.add(copy(element, copies));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> copyMap(Map<?, ?> source, Map<Object, Object> copies) {
+
+        Map<Object, Object> copy;
+        if (source instanceof EnumMap) {
+            copy = new EnumMap((EnumMap) source);
+            copy.clear();
+        } else {
+            copy = newMap(source);
+        }
+        copies.put(source, copy);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            copy.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newCollection(Collection<?> source) {
+
+        if (source instanceof SortedSet) {
+            return new TreeSet<>(((SortedSet<Object>) source).comparator());
+        }
+        Object collection = newInstance(source.getClass());
+        if (collection != null) {
+            return (Collection<Object>) collection;
+        }
+        return source instanceof Set ? new LinkedHashSet<>(source.size()) : new ArrayList<>(source.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(Map<?, ?> source) {
+
+        if (source instanceof SortedMap) {
+            return new TreeMap<>(((SortedMap<Object, ?>) source).comparator());
+        }
+        Object map = newInstance(source.getClass());
+        if (map != null) {
+            return (Map<Object, Object>) map;
+        }
+        return new LinkedHashMap<>(source.size());
+    }
+
+    /**
+     * Instantiates a collection or a map type through its public no-argument constructor, if there is one. Wrappers
+     * such as unmodifiable or fixed size views don't have one and are replaced by a general purpose type.
+     */
+    private static Object newInstance(Class<?> type) {
+
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object copySerializable(Object source) {
+
+        Class<?> type = source.getClass();
+        if (!(source instanceof Serializable)) {
+            throw new IllegalStateException("Cannot copy an object of type: " + type.getName() + ". The type can " +
+                    "neither be copied field by field nor is serializable.");
+        }
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+                objectOutputStream.writeObject(source);
+            }
+            try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                    new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+                return objectInputStream.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Error while copying an object of type: " + type.getName(), e);
+        }
+    }
+
+    private static boolean isPlatformType(Class<?> type) {
+
+        String typeName = type.getName();
+        for (String platformPackage : PLATFORM_PACKAGES) {
+            if (typeName.startsWith(platformPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+
+        return type.isPrimitive() || type.isEnum() || Enum.class.isAssignableFrom(type)
+                || IMMUTABLE_TYPES.contains(type) || type.getName().startsWith("java.time.");
+    }
+
+    /**
+     * Resolves the no-argument constructor of a model class.
+     *
+     * @param type Model class.
+     * @return No-argument constructor, or null if the class doesn't have one.
+     */
+    private static Constructor<?> getConstructor(Class<?> type) {
+
+        return CONSTRUCTORS.computeIfAbsent(type, key -> {
+            try {
+                Constructor<?> noArgConstructor = key.getDeclaredConstructor();
+                noArgConstructor.setAccessible(true);
+                return noArgConstructor;
+            } catch (NoSuchMethodException e) {
+                // Not cached. Such classes are copied with serialization, which outweighs the lookup.
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Resolves the non-transient instance fields of a model class, including the fields inherited from its super
+     * classes.
+     *
+     * @param type Model class.
+     * @return Copied instance fields of the class.
+     */
+    private static List<Field> getFields(Class<?> type) {
+
+        return FIELDS.computeIfAbsent(type, key -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = key; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+                            || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return Collections.unmodifiableList(fields);
+        });
+    }
+}
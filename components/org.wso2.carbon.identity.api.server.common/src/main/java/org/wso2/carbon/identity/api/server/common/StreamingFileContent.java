@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Streaming counterpart of {@link FileContent}. Holds the file name and type of an uploaded or exported resource
+ * file configuration, and its content as a stream instead of a string, so that large files are not copied in memory.
+ * An uploaded file is read from an input stream. An exported file is written to the response through a
+ * {@link StreamingOutput}.
+ */
+public class StreamingFileContent {
+
+    private final String fileName;
+    private final String fileType;
+    private final PushbackInputStream inputStream;
+    private final StreamingOutput streamingOutput;
+
+    /**
+     * Creates the content of an uploaded file.
+     *
+     * @param fileName    Name of the file.
+     * @param fileType    Media type of the file.
+     * @param inputStream Content of the file.
+     */
+    public StreamingFileContent(String fileName, String fileType, InputStream inputStream) {
+
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.inputStream = new PushbackInputStream(inputStream, 1);
+        this.streamingOutput = null;
+    }
+
+    /**
+     * Creates the content of an exported file.
+     *
+     * @param fileName        Name of the file.
+     * @param fileType        Media type of the file.
+     * @param streamingOutput Writer of the file content.
+     */
+    public StreamingFileContent(String fileName, String fileType, StreamingOutput streamingOutput) {
+
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.inputStream = null;
+        this.streamingOutput = streamingOutput;
+    }
+
+    public String getFileName() {
+
+        return fileName;
+    }
+
+    public String getFileType() {
+
+        return fileType;
+    }
+
+    public InputStream getInputStream() {
+
+        return inputStream;
+    }
+
+    public StreamingOutput getStreamingOutput() {
+
+        return streamingOutput;
+    }
+
+    /**
+     * Checks whether an uploaded file has no content, without consuming the content.
+     *
+     * @return True if the uploaded file is empty.
+     * @throws IOException If the uploaded file cannot be read.
+     */
+    public boolean isEmpty() throws IOException {
+
+        if (inputStream == null) {
+            return false;
+        }
+        int firstByte = inputStream.read();
+        if (firstByte == -1) {
+            return true;
+        }
+        inputStream.unread(firstByte);
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per tenant versions of the resources written through the APIs of this webapp. An API which writes a resource
+ * increments its version, so that the caches of other APIs derived from the resource, which can't observe the
+ * writes otherwise, detect the change by comparing the version at which they were built. Writes made on other nodes
+ * or outside this webapp are not tracked, hence such caches still need an expiry.
+ */
+public final class TenantResourceVersions {
+
+    public static final String GOVERNANCE_CONNECTORS = "governance-connectors";
+    public static final String IDENTITY_PROVIDERS = "identity-providers";
+    public static final String LOCAL_CLAIMS = "local-claims";
+    public static final String REMOTE_FETCH_DEPLOYMENTS = "remote-fetch-deployments";
+
+    private static final Map<String, AtomicLong> VERSIONS = new ConcurrentHashMap<>();
+
+    private TenantResourceVersions() {
+
+    }
+
+    /**
+     * Returns the current version of a resource of a tenant.
+     *
+     * @param resource     Resource type.
+     * @param tenantDomain Tenant domain.
+     * @return Version of the resource, which is 0 until the resource is first written.
+     */
+    public static long get(String resource, String tenantDomain) {
+
+        AtomicLong version = VERSIONS.get(toKey(resource, tenantDomain));
+        return version == null ? 0L : version.get();
+    }
+
+    /**
+     * Records a write of a resource of a tenant. Needs to be called once the write has completed, so that a cache
+     * rebuilt for the new version reads the written state.
+     *
+     * @param resource     Resource type.
+     * @param tenantDomain Tenant domain.
+     */
+    public static void increment(String resource, String tenantDomain) {
+
+        VERSIONS.computeIfAbsent(toKey(resource, tenantDomain), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static String toKey(String resource, String tenantDomain) {
+
+        return resource + ":" + tenantDomain;
+    }
+}
@@ -19,6 +19,8 @@ package org.wso2.carbon.identity.api.server.common;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.MDC;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
@@ -136,7 +138,7 @@ public class Util {
      * @param totalResultsFromSearch Value of the 'totalResultsFromSearch' parameter.
      * @param servicePathComponent   API service path. E.g: applications/
      * @param requiredAttributes     Value of the 'attributes' parameter.
-     * @param filter                 Value of the 'filter' parameter.
+     * @param filter                 Value of the 'filter' parameter, as received. It is URL-encoded in the links.
      * @return A map containing pagination link key-value pairs.
      */
     public static Map<String, String> buildPaginationLinks(int limit, int currentOffset, int totalResultsFromSearch,
@@ -149,8 +151,8 @@ public class Util {
         if (!StringUtils.isEmpty(requiredAttributes)) {
             otherParams.append("&attributes=").append(requiredAttributes);
         }
-        if (!StringUtils.isEmpty(filter)) {
-            otherParams.append("&filter=").append(filter.replace(" ", "+"));
+        if (StringUtils.isNotBlank(filter)) {
+            otherParams.append("&filter=").append(encodeQueryParameter(filter));
         }
 
         // Next link.
@@ -179,6 +181,42 @@ public class Util {
         return links;
     }
 
+    /**
+     * URL-encode a query parameter value of a link. Filter values may contain reserved characters of the query, e.g.
+     * '&' or '+', which would otherwise split or alter the parameter.
+     *
+     * @param value Query parameter value.
+     * @return Encoded value.
+     */
+    public static String encodeQueryParameter(String value) {
+
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException("UTF-8 encoding is not supported.", e);
+        }
+    }
+
+    /**
+     * Build the query of a listing URL from the parameters of the request. The parameters without a value are
+     * skipped and the values are URL-encoded.
+     *
+     * @param parameters Query parameters, in the order of the query.
+     * @return Query, starting with '?', or an empty string if none of the parameters have a value.
+     */
+    public static String buildQuery(Map<String, ?> parameters) {
+
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, ?> parameter : parameters.entrySet()) {
+            if (parameter.getValue() == null || StringUtils.isEmpty(parameter.getValue().toString())) {
+                continue;
+            }
+            query.append(query.length() == 0 ? '?' : '&').append(parameter.getKey()).append('=')
+                    .append(encodeQueryParameter(parameter.getValue().toString()));
+        }
+        return query.toString();
+    }
+
     private static int calculateOffsetForPreviousLink(int offset, int limit, int total) {
 
         int newOffset = (offset - limit);
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.listing;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * SCIM style filter of an in-memory listing, e.g. {@code claimURI sw http://wso2.org/claims/ and displayName co
+ * name}. The filter supports the 'eq', 'sw', 'ew' and 'co' operations combined with 'and' and 'or'. It is parsed and
+ * validated once per request and then evaluated against the items of the listing.
+ *
+ * @param <T> Type of the listed items.
+ */
+public final class ListingFilter<T> {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String EQ = "eq";
+    private static final String SW = "sw";
+    private static final String EW = "ew";
+    private static final String CO = "co";
+
+    private final Node rootNode;
+    private final Map<String, Function<T, Collection<String>>> attributes;
+    private final Set<String> caseIgnoredAttributes;
+
+    private ListingFilter(Node rootNode, Builder<T> builder) {
+
+        this.rootNode = rootNode;
+        this.attributes = builder.attributes;
+        this.caseIgnoredAttributes = builder.caseIgnoredAttributes;
+    }
+
+    /**
+     * Starts building a filter of the given type of items.
+     *
+     * @param <T> Type of the listed items.
+     * @return Filter builder.
+     */
+    public static <T> Builder<T> builder() {
+
+        return new Builder<>();
+    }
+
+    /**
+     * Checks whether an item matches the filter. Every item matches an empty filter.
+     *
+     * @param item Item to be checked.
+     * @return True if the item matches the filter.
+     */
+    public boolean matches(T item) {
+
+        return rootNode == null || matches(rootNode, item);
+    }
+
+    /**
+     * Resolves the value of a filter which only checks the equality of the given case sensitive attribute, so that
+     * the item can be looked up from an index instead of evaluating the filter against each item.
+     *
+     * @param attribute Filter attribute.
+     * @return Value of the attribute, or null if the filter has other conditions.
+     */
+    public String getEqualityValue(String attribute) {
+
+        if (rootNode instanceof ExpressionNode && !caseIgnoredAttributes.contains(attribute)) {
+            ExpressionNode expressionNode = (ExpressionNode) rootNode;
+            if (attribute.equals(expressionNode.getAttributeValue()) &&
+                    EQ.equalsIgnoreCase(expressionNode.getOperation())) {
+                return expressionNode.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(Node node, T item) {
+
+        if (node instanceof OperationNode) {
+            if (AND.equalsIgnoreCase(((OperationNode) node).getOperation())) {
+                return matches(node.getLeftNode(), item) && matches(node.getRightNode(), item);
+            }
+            return matches(node.getLeftNode(), item) || matches(node.getRightNode(), item);
+        }
+
+        ExpressionNode expressionNode = (ExpressionNode) node;
+        String attribute = expressionNode.getAttributeValue();
+        String value = expressionNode.getValue();
+        if (value == null) {
+            return false;
+        }
+        boolean caseIgnored = caseIgnoredAttributes.contains(attribute);
+        if (caseIgnored) {
+            value = value.toLowerCase(Locale.ENGLISH);
+        }
+        String operation = expressionNode.getOperation().toLowerCase(Locale.ENGLISH);
+        for (String itemValue : attributes.get(attribute).apply(item)) {
+            if (itemValue == null) {
+                continue;
+            }
+            if (matches(caseIgnored ? itemValue.toLowerCase(Locale.ENGLISH) : itemValue, operation, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String itemValue, String operation, String value) {
+
+        switch (operation) {
+            case EQ:
+                return itemValue.equals(value);
+            case SW:
+                return itemValue.startsWith(value);
+            case EW:
+                return itemValue.endsWith(value);
+            default:
+                return itemValue.contains(value);
+        }
+    }
+
+    /**
+     * Builder of {@link ListingFilter}.
+     *
+     * @param <T> Type of the listed items.
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, Function<T, Collection<String>>> attributes = new HashMap<>();
+        private final Set<String> caseIgnoredAttributes = new HashSet<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Adds an attribute which can be used in the filter, compared case sensitively, e.g. a claim URI.
+         *
+         * @param name     Name of the attribute in the filter.
+         * @param accessor Resolves the value of the attribute of an item.
+         * @return This builder.
+         */
+        public Builder<T> withAttribute(String name, Function<T, String> accessor) {
+
+            attributes.put(name, item -> Collections.singletonList(accessor.apply(item)));
+            return this;
+        }
+
+        /**
+         * Adds an attribute which can be used in the filter, compared ignoring the case, e.g. a display name.
+         *
+         * @param name     Name of the attribute in the filter.
+         * @param accessor Resolves the value of the attribute of an item.
+         * @return This builder.
+         */
+        public Builder<T> withCaseIgnoredAttribute(String name, Function<T, String> accessor) {
+
+            caseIgnoredAttributes.add(name);
+            return withAttribute(name, accessor);
+        }
+
+        /**
+         * Adds an attribute with several values, compared case sensitively. An item matches a condition on the
+         * attribute if any of its values does, e.g. the names of the properties of a connector.
+         *
+         * @param name     Name of the attribute in the filter.
+         * @param accessor Resolves the values of the attribute of an item.
+         * @return This builder.
+         */
+        public Builder<T> withMultiValuedAttribute(String name, Function<T, Collection<String>> accessor) {
+
+            attributes.put(name, accessor);
+            return this;
+        }
+
+        /**
+         * Parses and validates the filter.
+         *
+         * @param filter Filter of the request, may be empty.
+         * @return Filter of the listing.
+         * @throws ListingFilterException If the filter is invalid or uses unsupported attributes or operations.
+         */
+        public ListingFilter<T> build(String filter) throws ListingFilterException {
+
+            if (StringUtils.isBlank(filter)) {
+                return new ListingFilter<>(null, this);
+            }
+            Node rootNode;
+            try {
+                rootNode = new FilterTreeBuilder(filter).buildTree();
+            } catch (IOException | IdentityException e) {
+                throw new ListingFilterException(ListingFilterException.Reason.INVALID_FORMAT, filter);
+            }
+            validate(rootNode, filter);
+            return new ListingFilter<>(rootNode, this);
+        }
+
+        private void validate(Node node, String filter) throws ListingFilterException {
+
+            if (node instanceof ExpressionNode) {
+                ExpressionNode expressionNode = (ExpressionNode) node;
+                if (!attributes.containsKey(expressionNode.getAttributeValue())) {
+                    throw new ListingFilterException(ListingFilterException.Reason.UNSUPPORTED_ATTRIBUTE,
+                            expressionNode.getAttributeValue());
+                }
+                String operation = StringUtils.lowerCase(expressionNode.getOperation(), Locale.ENGLISH);
+                if (!(EQ.equals(operation) || SW.equals(operation) || EW.equals(operation) ||
+                        CO.equals(operation))) {
+                    throw new ListingFilterException(ListingFilterException.Reason.UNSUPPORTED_OPERATION,
+                            expressionNode.getOperation());
+                }
+            } else if (node instanceof OperationNode) {
+                String operation = ((OperationNode) node).getOperation();
+                if (!(AND.equalsIgnoreCase(operation) || OR.equalsIgnoreCase(operation))) {
+                    throw new ListingFilterException(ListingFilterException.Reason.UNSUPPORTED_OPERATION, operation);
+                }
+                validate(node.getLeftNode(), filter);
+                validate(node.getRightNode(), filter);
+            } else {
+                throw new ListingFilterException(ListingFilterException.Reason.INVALID_FORMAT, filter);
+            }
+        }
+    }
+}
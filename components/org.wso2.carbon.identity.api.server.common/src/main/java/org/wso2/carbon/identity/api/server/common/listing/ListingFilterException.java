@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.listing;
+
+/**
+ * Thrown when the filter of a listing is invalid, or uses an attribute or an operation the listing does not support.
+ * The reason and the offending part of the filter are kept, so that each API maps them to its own error codes.
+ */
+public class ListingFilterException extends Exception {
+
+    private static final long serialVersionUID = 3920736618203617741L;
+
+    private final Reason reason;
+    private final String data;
+
+    ListingFilterException(Reason reason, String data) {
+
+        super(reason + ": " + data);
+        this.reason = reason;
+        this.data = data;
+    }
+
+    /**
+     * Reason of the failure.
+     *
+     * @return Reason.
+     */
+    public Reason getReason() {
+
+        return reason;
+    }
+
+    /**
+     * The offending part of the filter, i.e. the filter, the attribute or the operation depending on the reason.
+     *
+     * @return Offending part of the filter.
+     */
+    public String getData() {
+
+        return data;
+    }
+
+    /**
+     * Reasons of an invalid filter.
+     */
+    public enum Reason {
+
+        INVALID_FORMAT,
+        UNSUPPORTED_ATTRIBUTE,
+        UNSUPPORTED_OPERATION
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.listing;
+
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.Util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * An offset page of an in-memory listing whose response is a plain array of the listed items. The number of the
+ * matching items is sent in the {@value Constants#TOTAL_RESULTS_HEADER} header, and the links to the next and the
+ * previous pages are sent as link headers.
+ *
+ * @param <T> Type of the listed items.
+ */
+public final class ListingPage<T> {
+
+    private final List<T> items;
+    private final int totalResults;
+    private final Map<String, String> links;
+
+    private ListingPage(List<T> items, int totalResults, Map<String, String> links) {
+
+        this.items = items;
+        this.totalResults = totalResults;
+        this.links = links;
+    }
+
+    /**
+     * Builds the requested page of the matching items of a listing. Only the items of the page are mapped to
+     * responses. The limit and the offset are expected to be validated by the API, as the errors are API specific.
+     *
+     * @param matchedItems         Items matching the filter of the listing, in the order of the listing.
+     * @param limit                Maximum number of items of the page, or null to return all the items.
+     * @param offset               Number of matching items to skip, or null to skip none.
+     * @param mapper               Maps an item to its response.
+     * @param servicePathComponent Path of the listing, used in the pagination links.
+     * @param requiredAttributes   Requested attributes, used in the pagination links.
+     * @param filter               Filter of the request, used in the pagination links.
+     * @param <T>                  Type of the items.
+     * @param <R>                  Type of the item responses.
+     * @return Page of the listing.
+     */
+    public static <T, R> ListingPage<R> of(List<T> matchedItems, Integer limit, Integer offset,
+                                           Function<T, R> mapper, String servicePathComponent,
+                                           String requiredAttributes, String filter) {
+
+        int totalResults = matchedItems.size();
+        int currentOffset = offset != null ? offset : 0;
+        int startIndex = Math.min(currentOffset, totalResults);
+        int endIndex = limit != null ? (int) Math.min((long) startIndex + limit, totalResults) : totalResults;
+        List<R> items = new ArrayList<>(endIndex - startIndex);
+        for (T item : matchedItems.subList(startIndex, endIndex)) {
+            items.add(mapper.apply(item));
+        }
+
+        Map<String, String> links = Collections.emptyMap();
+        if (limit != null && limit > 0) {
+            links = Util.buildPaginationLinks(limit, currentOffset, totalResults, servicePathComponent,
+                    requiredAttributes, filter);
+        }
+        return new ListingPage<>(items, totalResults, links);
+    }
+
+    /**
+     * Adds a query parameter of the listing, which is not one of the common listing parameters, to the pagination
+     * links of the page.
+     *
+     * @param name  Name of the query parameter.
+     * @param value Value of the query parameter.
+     * @return Page with the parameter added to its links.
+     */
+    public ListingPage<T> withLinkParameter(String name, String value) {
+
+        if (links.isEmpty()) {
+            return this;
+        }
+        Map<String, String> parameterizedLinks = new LinkedHashMap<>();
+        links.forEach((rel, link) -> parameterizedLinks.put(rel,
+                link + "&" + name + "=" + Util.encodeQueryParameter(value)));
+        return new ListingPage<>(items, totalResults, parameterizedLinks);
+    }
+
+    /**
+     * Items of the page.
+     *
+     * @return Items of the page.
+     */
+    public List<T> getItems() {
+
+        return items;
+    }
+
+    /**
+     * Number of items which matched the filter of the listing, across all the pages.
+     *
+     * @return Total number of matched items.
+     */
+    public int getTotalResults() {
+
+        return totalResults;
+    }
+
+    /**
+     * Links to the next and the previous pages, keyed by their relation.
+     *
+     * @return Pagination links.
+     */
+    public Map<String, String> getLinks() {
+
+        return links;
+    }
+
+    /**
+     * Builds the response of the page, i.e. the items with the total results and the link headers.
+     *
+     * @return Response of the page.
+     */
+    public Response buildResponse() {
+
+        Response.ResponseBuilder responseBuilder = Response.ok().entity(items)
+                .header(Constants.TOTAL_RESULTS_HEADER, totalResults);
+        links.forEach((rel, link) -> responseBuilder.link(link, rel));
+        return responseBuilder.build();
+    }
+}
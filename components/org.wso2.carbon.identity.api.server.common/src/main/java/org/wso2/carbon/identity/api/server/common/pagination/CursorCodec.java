@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes {@link PageCursor}s to the opaque cursor values returned to the API clients, and decodes them back.
+ * <p>
+ * A cursor value is the base64url encoded form of a version byte, followed by the fields of that version. Version 1
+ * holds the direction and the cursor key of the cursor. The version allows changing the cursor format without
+ * breaking the cursors held by the clients.
+ * <p>
+ * The cursors which were returned before the versioned format, i.e. standard base64 encoded cursor keys, are still
+ * accepted as legacy cursors. A legacy cursor doesn't carry a direction, which is taken from the request parameter
+ * holding it.
+ */
+public final class CursorCodec {
+
+    private static final byte VERSION_1 = 1;
+    private static final byte FORWARD = 'F';
+    private static final byte BACKWARD = 'B';
+
+    private CursorCodec() {
+
+    }
+
+    /**
+     * Encodes a cursor to an opaque cursor value.
+     *
+     * @param cursor Cursor.
+     * @return Opaque, URL safe cursor value.
+     */
+    public static String encode(PageCursor cursor) {
+
+        byte[] key = cursor.getKey().getBytes(StandardCharsets.UTF_8);
+        byte[] value = new byte[key.length + 2];
+        value[0] = VERSION_1;
+        value[1] = cursor.getDirection() == PageCursor.Direction.FORWARD ? FORWARD : BACKWARD;
+        System.arraycopy(key, 0, value, 2, key.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    /**
+     * Decodes an opaque cursor value.
+     *
+     * @param value            Cursor value.
+     * @param legacyDirection  Direction of a legacy cursor, or null if legacy cursors are not accepted.
+     * @return Cursor.
+     * @throws InvalidCursorException If the value is not a valid cursor.
+     */
+    public static PageCursor decode(String value, PageCursor.Direction legacyDirection)
+            throws InvalidCursorException {
+
+        byte[] decodedValue = decodeBase64(value, Base64.getUrlDecoder());
+        if (decodedValue != null && decodedValue.length > 0 && decodedValue[0] == VERSION_1) {
+            if (decodedValue.length < 3 || (decodedValue[1] != FORWARD && decodedValue[1] != BACKWARD)) {
+                throw new InvalidCursorException("Invalid cursor: " + value);
+            }
+            PageCursor.Direction direction = decodedValue[1] == FORWARD ? PageCursor.Direction.FORWARD :
+                    PageCursor.Direction.BACKWARD;
+            return new PageCursor(direction, new String(Arrays.copyOfRange(decodedValue, 2, decodedValue.length),
+                    StandardCharsets.UTF_8));
+        }
+
+        // Cursor keys never start with the version byte, hence any other value can only be a legacy cursor.
+        byte[] legacyKey = decodeBase64(value, Base64.getDecoder());
+        if (legacyDirection == null || legacyKey == null || legacyKey.length == 0) {
+            throw new InvalidCursorException("Invalid cursor: " + value);
+        }
+        return new PageCursor(legacyDirection, new String(legacyKey, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes a cursor key to the legacy cursor format, i.e. standard base64, which is the format the backend
+     * services expect for their before and after cursors.
+     *
+     * @param key Cursor key.
+     * @return Base64 encoded cursor key.
+     */
+    public static String encodeLegacy(String key) {
+
+        return Base64.getEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] decodeBase64(String value, Base64.Decoder decoder) {
+
+        try {
+            return decoder.decode(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * {@link KeysetPageFetcher} of listings whose backend services return all the items at once. The items of a page are
+ * selected with a single pass over the items, keeping only the page in a bounded heap instead of sorting the whole
+ * listing, so that a page costs O(n log limit) time and O(limit) additional memory.
+ *
+ * @param <T> Type of the items.
+ * @param <K> Type of the sort key of the items.
+ */
+public class InMemoryKeysetFetcher<T, K> implements KeysetPageFetcher<T, RuntimeException> {
+
+    private final Collection<T> items;
+    private final Function<T, K> keyResolver;
+    private final Comparator<K> keyOrder;
+    private final Function<String, K> cursorKeyParser;
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param items           All the items of the listing, in any order.
+     * @param keyResolver     Function resolving the sort key of an item, which has to be unique within the listing.
+     * @param keyOrder        Order of the listing.
+     * @param cursorKeyParser Function resolving the sort key of a cursor key, i.e. the reverse of the cursor key
+     *                        resolver of the {@link KeysetPaginator}.
+     */
+    public InMemoryKeysetFetcher(Collection<T> items, Function<T, K> keyResolver, Comparator<K> keyOrder,
+                                 Function<String, K> cursorKeyParser) {
+
+        this.items = items;
+        this.keyResolver = keyResolver;
+        this.keyOrder = keyOrder;
+        this.cursorKeyParser = cursorKeyParser;
+    }
+
+    @Override
+    public List<T> fetch(int limit, String cursorKey, PageCursor.Direction direction) {
+
+        if (items == null || items.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        K cursor = cursorKey == null ? null : cursorKeyParser.apply(cursorKey);
+        boolean backward = direction == PageCursor.Direction.BACKWARD;
+        // Order of the page, nearest to the cursor first.
+        Comparator<T> pageOrder = Comparator.comparing(keyResolver, backward ? keyOrder.reversed() : keyOrder);
+        // The heap keeps the farthest selected item at the head, which is evicted by a nearer item.
+        PriorityQueue<T> selection = new PriorityQueue<>(Math.min(limit, items.size()) + 1, pageOrder.reversed());
+        for (T item : items) {
+            if (cursor != null) {
+                int comparison = keyOrder.compare(keyResolver.apply(item), cursor);
+                if (backward ? comparison >= 0 : comparison <= 0) {
+                    continue;
+                }
+            }
+            if (selection.size() < limit) {
+                selection.add(item);
+            } else if (pageOrder.compare(item, selection.peek()) < 0) {
+                selection.poll();
+                selection.add(item);
+            }
+        }
+        List<T> page = new ArrayList<>(selection);
+        page.sort(pageOrder);
+        return page;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+/**
+ * Thrown when the cursor parameters of a keyset paginated request cannot be resolved, i.e. a cursor is malformed, or
+ * both the before and the after cursors are provided.
+ */
+public class InvalidCursorException extends Exception {
+
+    private static final long serialVersionUID = -3960384912367043315L;
+
+    public InvalidCursorException(String message) {
+
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+
+        super(message, cause);
+    }
+}
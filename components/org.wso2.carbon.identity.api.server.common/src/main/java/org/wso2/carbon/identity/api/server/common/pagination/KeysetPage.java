@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * A page of a keyset paginated listing, with the opaque cursors of its previous and next pages.
+ *
+ * @param <T> Type of the items.
+ */
+public final class KeysetPage<T> {
+
+    public static final String PREVIOUS = "previous";
+    public static final String NEXT = "next";
+
+    private final List<T> items;
+    private final String previousCursor;
+    private final String nextCursor;
+
+    KeysetPage(List<T> items, String previousCursor, String nextCursor) {
+
+        this.items = items;
+        this.previousCursor = previousCursor;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Items of the page, in the order of the listing.
+     *
+     * @return Items.
+     */
+    public List<T> getItems() {
+
+        return items;
+    }
+
+    /**
+     * Cursor of the previous page.
+     *
+     * @return Cursor, or null if this is the first page.
+     */
+    public String getPreviousCursor() {
+
+        return previousCursor;
+    }
+
+    /**
+     * Cursor of the next page.
+     *
+     * @return Cursor, or null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    /**
+     * Maps the items of the page, e.g. from the backend models to the API models, keeping the cursors of the page.
+     *
+     * @param mapper Function mapping an item.
+     * @param <R>    Type of the mapped items.
+     * @return Page of the mapped items.
+     */
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+
+        List<R> mappedItems = new ArrayList<>(items.size());
+        for (T item : items) {
+            mappedItems.add(mapper.apply(item));
+        }
+        return new KeysetPage<>(mappedItems, previousCursor, nextCursor);
+    }
+
+    /**
+     * Builds the links of the previous and next pages of an endpoint with before and after cursor parameters.
+     *
+     * @param url         URL of the listing with the query parameters of the request except the cursors, e.g.
+     *                    {@code /api/server/v1/organizations?limit=10&recursive=false}.
+     * @param beforeParam Name of the before cursor parameter.
+     * @param afterParam  Name of the after cursor parameter.
+     * @return Map of the link relation, i.e. {@value #PREVIOUS} or {@value #NEXT}, to the link.
+     */
+    public Map<String, String> buildLinks(String url, String beforeParam, String afterParam) {
+
+        Map<String, String> links = new LinkedHashMap<>();
+        String separator = url.indexOf('?') < 0 ? "?" : "&";
+        if (previousCursor != null) {
+            links.put(PREVIOUS, url + separator + beforeParam + "=" + previousCursor);
+        }
+        if (nextCursor != null) {
+            links.put(NEXT, url + separator + afterParam + "=" + nextCursor);
+        }
+        return links;
+    }
+
+    /**
+     * Adds the links of the previous and next pages to a response as Link headers, with the {@value #PREVIOUS} and
+     * {@value #NEXT} relations.
+     *
+     * @param responseBuilder Builder of the response of the page.
+     * @param url             URL of the listing, as for {@link #buildLinks(String, String, String)}.
+     * @param beforeParam     Name of the before cursor parameter.
+     * @param afterParam      Name of the after cursor parameter.
+     * @return The response builder.
+     */
+    public Response.ResponseBuilder addLinkHeaders(Response.ResponseBuilder responseBuilder, String url,
+                                                   String beforeParam, String afterParam) {
+
+        for (Map.Entry<String, String> link : buildLinks(url, beforeParam, afterParam).entrySet()) {
+            responseBuilder.link(link.getValue(), link.getKey());
+        }
+        return responseBuilder;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import java.util.List;
+
+/**
+ * Fetches the items of a keyset paginated listing from a backend service, for a {@link KeysetPaginator}.
+ *
+ * @param <T> Type of the items.
+ * @param <E> Type of the exception thrown by the backend service.
+ */
+@FunctionalInterface
+public interface KeysetPageFetcher<T, E extends Exception> {
+
+    /**
+     * Fetches the items next to a cursor key.
+     * <ul>
+     *     <li>Without a cursor key, the first items of the listing, in the order of the listing.</li>
+     *     <li>{@link PageCursor.Direction#FORWARD}, the items after the cursor key, in the order of the listing.</li>
+     *     <li>{@link PageCursor.Direction#BACKWARD}, the items before the cursor key, in the reverse order of the
+     *     listing, i.e. nearest first.</li>
+     * </ul>
+     *
+     * @param limit     Maximum number of items to be fetched.
+     * @param cursorKey Cursor key, or null for the first items.
+     * @param direction Direction of the items from the cursor key.
+     * @return Fetched items.
+     * @throws E If the backend service failed to return the items.
+     */
+    List<T> fetch(int limit, String cursorKey, PageCursor.Direction direction) throws E;
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Request for a page of a keyset paginated listing, i.e. the page size and the cursor of the page.
+ */
+public final class KeysetPageRequest {
+
+    private final int limit;
+    private final PageCursor cursor;
+
+    private KeysetPageRequest(int limit, PageCursor cursor) {
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative: " + limit);
+        }
+        this.limit = limit;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Creates a request from the before and after cursor parameters of an endpoint. Legacy cursors are accepted.
+     *
+     * @param limit  Maximum number of items in the page.
+     * @param before Cursor of the page before an item, or null.
+     * @param after  Cursor of the page after an item, or null.
+     * @return Page request.
+     * @throws InvalidCursorException If both cursors are provided or a cursor is malformed.
+     */
+    public static KeysetPageRequest of(int limit, String before, String after) throws InvalidCursorException {
+
+        if (StringUtils.isNotBlank(before) && StringUtils.isNotBlank(after)) {
+            throw new InvalidCursorException("Both before and after cursors are provided.");
+        }
+        if (StringUtils.isNotBlank(before)) {
+            return new KeysetPageRequest(limit, decode(before, PageCursor.Direction.BACKWARD));
+        }
+        if (StringUtils.isNotBlank(after)) {
+            return new KeysetPageRequest(limit, decode(after, PageCursor.Direction.FORWARD));
+        }
+        return new KeysetPageRequest(limit, null);
+    }
+
+    /**
+     * Creates a request from the single cursor parameter of an endpoint, which carries the direction of the page.
+     *
+     * @param limit  Maximum number of items in the page.
+     * @param cursor Cursor of the page, or null for the first page.
+     * @return Page request.
+     * @throws InvalidCursorException If the cursor is malformed.
+     */
+    public static KeysetPageRequest of(int limit, String cursor) throws InvalidCursorException {
+
+        if (StringUtils.isBlank(cursor)) {
+            return new KeysetPageRequest(limit, null);
+        }
+        return new KeysetPageRequest(limit, CursorCodec.decode(cursor, null));
+    }
+
+    public int getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Cursor of the requested page.
+     *
+     * @return Cursor, or null if the first page is requested.
+     */
+    public PageCursor getCursor() {
+
+        return cursor;
+    }
+
+    private static PageCursor decode(String value, PageCursor.Direction direction) throws InvalidCursorException {
+
+        PageCursor cursor = CursorCodec.decode(value, direction);
+        if (cursor.getDirection() != direction) {
+            throw new InvalidCursorException("Cursor: " + value + " cannot be used in the " +
+                    direction.name().toLowerCase(Locale.ENGLISH) + " direction.");
+        }
+        return cursor;
+    }
+}
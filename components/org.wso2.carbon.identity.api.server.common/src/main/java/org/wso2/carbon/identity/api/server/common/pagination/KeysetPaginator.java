@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination of listings whose backend services return the items next to a cursor key, e.g. the
+ * items created after a timestamp. Each page is fetched with a single backend call of one item more than the page
+ * size, which tells whether there are more items in the direction of the page, and the cost of a page doesn't
+ * depend on its position in the listing.
+ * <p>
+ * The paginator decides the first and last pages, restores the listing order of backward pages and issues the
+ * opaque cursors of the adjacent pages. See {@link CursorCodec} for the cursor format.
+ *
+ * @param <T> Type of the items.
+ */
+public final class KeysetPaginator<T> {
+
+    private final Function<T, String> cursorKeyResolver;
+
+    /**
+     * Creates a paginator.
+     *
+     * @param cursorKeyResolver Function resolving the cursor key of an item, which has to be unique and follow the
+     *                          order of the listing.
+     */
+    public KeysetPaginator(Function<T, String> cursorKeyResolver) {
+
+        this.cursorKeyResolver = cursorKeyResolver;
+    }
+
+    /**
+     * Fetches a page of the listing.
+     *
+     * @param request Page request.
+     * @param fetcher Fetcher of the items from the backend service.
+     * @param <E>     Type of the exception thrown by the backend service.
+     * @return Page.
+     * @throws E If the backend service failed to return the items.
+     */
+    public <E extends Exception> KeysetPage<T> paginate(KeysetPageRequest request, KeysetPageFetcher<T, E> fetcher)
+            throws E {
+
+        int limit = request.getLimit();
+        if (limit == 0) {
+            return new KeysetPage<>(Collections.emptyList(), null, null);
+        }
+        PageCursor cursor = request.getCursor();
+        PageCursor.Direction direction = cursor == null ? PageCursor.Direction.FORWARD : cursor.getDirection();
+        // An unbounded limit cannot be exceeded, hence the extra item is not fetched for it.
+        int fetchLimit = limit == Integer.MAX_VALUE ? limit : limit + 1;
+        List<T> fetchedItems = fetcher.fetch(fetchLimit, cursor == null ? null : cursor.getKey(), direction);
+        if (fetchedItems == null || fetchedItems.isEmpty()) {
+            return new KeysetPage<>(Collections.emptyList(), null, null);
+        }
+
+        boolean hasMoreItems = fetchedItems.size() > limit;
+        List<T> items = new ArrayList<>(hasMoreItems ? fetchedItems.subList(0, limit) : fetchedItems);
+        boolean isFirstPage;
+        boolean isLastPage;
+        if (direction == PageCursor.Direction.BACKWARD) {
+            Collections.reverse(items);
+            // A backward page is read from a later page, hence it is never the last page.
+            isFirstPage = !hasMoreItems;
+            isLastPage = false;
+        } else {
+            isFirstPage = cursor == null;
+            isLastPage = !hasMoreItems;
+        }
+
+        String previousCursor = isFirstPage ? null : CursorCodec.encode(new PageCursor(PageCursor.Direction.BACKWARD,
+                cursorKeyResolver.apply(items.get(0))));
+        String nextCursor = isLastPage ? null : CursorCodec.encode(new PageCursor(PageCursor.Direction.FORWARD,
+                cursorKeyResolver.apply(items.get(items.size() - 1))));
+        return new KeysetPage<>(items, previousCursor, nextCursor);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import java.util.Objects;
+
+/**
+ * Position of a page in a keyset paginated listing. A cursor refers to the cursor key of the item at the boundary of
+ * the requested page, e.g. the last item before the next page, and the direction in which the page is read from it.
+ */
+public final class PageCursor {
+
+    /**
+     * Direction in which a page is read from the cursor key.
+     */
+    public enum Direction {
+
+        /**
+         * The page contains the items after the cursor key, in the order of the listing.
+         */
+        FORWARD,
+
+        /**
+         * The page contains the items before the cursor key.
+         */
+        BACKWARD
+    }
+
+    private final Direction direction;
+    private final String key;
+
+    public PageCursor(Direction direction, String key) {
+
+        this.direction = Objects.requireNonNull(direction);
+        this.key = Objects.requireNonNull(key);
+    }
+
+    public Direction getDirection() {
+
+        return direction;
+    }
+
+    /**
+     * Cursor key of the item at the boundary of the page, e.g. an ID or a creation timestamp of the item.
+     *
+     * @return Cursor key.
+     */
+    public String getKey() {
+
+        return key;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test for ContextAwareExecutor.
+ */
+public class ContextAwareExecutorTest {
+
+    private static final String TENANT_DOMAIN = "executor.com";
+    private static final int TENANT_ID = 2;
+    private static final String USERNAME = "admin";
+    private static final String PROPERTY_NAME = "executor-test-property";
+    private static final String WORKER_PROPERTY_NAME = "executor-test-worker-property";
+
+    private ContextAwareExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeClass
+    public void setUpClass() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        executor = new ContextAwareExecutor("executor-test", 1, 1);
+        release = new CountDownLatch(1);
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(TENANT_DOMAIN);
+        carbonContext.setTenantId(TENANT_ID);
+        carbonContext.setUsername(USERNAME);
+        IdentityUtil.threadLocalProperties.get().put(PROPERTY_NAME, "value");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        release.countDown();
+        executor.shutdown();
+        IdentityUtil.threadLocalProperties.remove();
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Test
+    public void testTaskRunsWithSubmittingContext() throws Exception {
+
+        List<Object> context = executor.submit(() -> {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            return Arrays.<Object>asList(Thread.currentThread().getName(), carbonContext.getTenantDomain(),
+                    carbonContext.getTenantId(), carbonContext.getUsername(),
+                    IdentityUtil.threadLocalProperties.get().get(PROPERTY_NAME));
+        }).get(5, TimeUnit.SECONDS);
+
+        assertTrue(((String) context.get(0)).startsWith("executor-test-"));
+        assertEquals(context.subList(1, context.size()), Arrays.asList(TENANT_DOMAIN, TENANT_ID, USERNAME, "value"));
+    }
+
+    @Test
+    public void testWorkerContextIsCleared() throws Exception {
+
+        executor.submit(() -> IdentityUtil.threadLocalProperties.get().put(WORKER_PROPERTY_NAME, "value"))
+                .get(5, TimeUnit.SECONDS);
+
+        // The single worker runs both tasks, and the properties set by the first don't leak into the second.
+        assertNull(executor.submit(() -> IdentityUtil.threadLocalProperties.get().get(WORKER_PROPERTY_NAME))
+                .get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testInvokeAllKeepsTaskOrder() throws Exception {
+
+        ContextAwareExecutor pool = new ContextAwareExecutor("executor-test-order", 2, 10);
+        try {
+            List<Callable<Integer>> tasks = Arrays.asList(() -> {
+                Thread.sleep(50);
+                return 1;
+            }, () -> 2, () -> 3);
+            assertEquals(pool.invokeAll(tasks), Arrays.asList(1, 2, 3));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvokeAllPropagatesTaskFailure() throws Exception {
+
+        IllegalStateException failure = new IllegalStateException("Task failed.");
+        try {
+            executor.invokeAll(Arrays.<Callable<Object>>asList(() -> null, () -> {
+                throw failure;
+            }));
+            fail("The failure of the task is not propagated.");
+        } catch (ExecutionException e) {
+            assertSame(e.getCause(), failure);
+        }
+    }
+
+    @Test
+    public void testSaturatedPoolRejectsTasks() throws Exception {
+
+        Future<Object> runningTask = executor.submit(this::awaitRelease);
+        Future<Object> queuedTask = executor.submit(() -> "queued");
+        try {
+            executor.submit(() -> "rejected");
+            fail("A task is accepted by a saturated pool.");
+        } catch (RejectedExecutionException e) {
+            // Expected, as the worker and the queue are taken.
+        }
+
+        release.countDown();
+        assertEquals(runningTask.get(5, TimeUnit.SECONDS), "released");
+        assertEquals(queuedTask.get(5, TimeUnit.SECONDS), "queued");
+    }
+
+    @Test
+    public void testRejectedInvokeAllCancelsSubmittedTasks() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Callable<Object> blockingTask = () -> {
+            started.countDown();
+            try {
+                return awaitRelease();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        };
+        try {
+            executor.invokeAll(Arrays.asList(blockingTask, () -> "queued", () -> "rejected"));
+            fail("A task is accepted by a saturated pool.");
+        } catch (RejectedExecutionException e) {
+            // Expected, as the worker and the queue are taken.
+        }
+
+        // The blocking task may be cancelled before it starts, in which case it never runs.
+        if (started.await(1, TimeUnit.SECONDS)) {
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testShutdownPoolRejectsTasks() {
+
+        executor.shutdown();
+        try {
+            executor.submit(() -> "rejected");
+            fail("A task is accepted by a pool which is shut down.");
+        } catch (RejectedExecutionException e) {
+            // Expected, as the pool is shut down.
+        }
+    }
+
+    private Object awaitRelease() throws InterruptedException {
+
+        release.await();
+        return "released";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for EntityTags.
+ */
+public class EntityTagsTest {
+
+    private static final String CONTENT = "{\"name\":\"app\"}";
+
+    @Test
+    public void testStrongTag() {
+
+        String entityTag = EntityTags.strongTag(CONTENT);
+        assertTrue(entityTag.startsWith("\"") && entityTag.endsWith("\""));
+        // Unpadded URL-safe Base64 of a SHA-256 hash.
+        assertEquals(entityTag.length(), 45);
+        assertEquals(entityTag, EntityTags.strongTag(CONTENT));
+        assertEquals(entityTag, EntityTags.strongTag(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        assertNotEquals(entityTag, EntityTags.strongTag("{\"name\":\"app2\"}"));
+    }
+
+    @Test
+    public void testStrongTagOfNullContent() {
+
+        assertEquals(EntityTags.strongTag((String) null), EntityTags.strongTag(new byte[0]));
+    }
+
+    @DataProvider(name = "ifNoneMatchHeaders")
+    public Object[][] ifNoneMatchHeaders() {
+
+        String entityTag = EntityTags.strongTag(CONTENT);
+        String otherTag = EntityTags.strongTag("other");
+        return new Object[][]{
+                {null, entityTag, false},
+                {" ", entityTag, false},
+                {entityTag, null, false},
+                {entityTag, entityTag, true},
+                {"W/" + entityTag, entityTag, true},
+                {entityTag, "W/" + entityTag, true},
+                {otherTag + ", " + entityTag, entityTag, true},
+                {otherTag, entityTag, false},
+                {"*", entityTag, true},
+                {entityTag.substring(1, entityTag.length() - 1), entityTag, false}
+        };
+    }
+
+    @Test(dataProvider = "ifNoneMatchHeaders")
+    public void testIsNotModified(String ifNoneMatch, String entityTag, boolean expected) {
+
+        assertEquals(EntityTags.isNotModified(ifNoneMatch, entityTag), expected);
+    }
+}
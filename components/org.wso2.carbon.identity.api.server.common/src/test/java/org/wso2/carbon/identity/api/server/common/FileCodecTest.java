@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.annotation.XmlRootElement;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test for FileCodec.
+ */
+public class FileCodecTest {
+
+    private static final FileCodec<Resource> CODEC = FileCodec.builder(Resource.class).build();
+
+    @DataProvider(name = "mediaTypes")
+    public Object[][] mediaTypes() {
+
+        return new Object[][]{
+                {Constants.MEDIA_TYPE_XML},
+                {Constants.MEDIA_TYPE_JSON},
+                {Constants.MEDIA_TYPE_YAML},
+        };
+    }
+
+    @Test(dataProvider = "mediaTypes")
+    public void testRoundTrip(String mediaType) throws Exception {
+
+        Resource resource = new Resource("primary", Arrays.asList("a", "b"));
+
+        Resource decodedResource = CODEC.decode(CODEC.encode(resource, mediaType), mediaType);
+        assertEquals(decodedResource.getName(), "primary");
+        assertEquals(decodedResource.getValues(), Arrays.asList("a", "b"));
+    }
+
+    @Test(dataProvider = "mediaTypes")
+    public void testStreamRoundTrip(String mediaType) throws Exception {
+
+        Resource resource = new Resource("n\u00e4me", Arrays.asList("a", "b"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CODEC.encode(resource, mediaType, outputStream);
+
+        Resource decodedResource = CODEC.decode(new ByteArrayInputStream(outputStream.toByteArray()), mediaType);
+        assertEquals(decodedResource.getName(), "n\u00e4me");
+        assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8),
+                CODEC.encode(resource, mediaType));
+    }
+
+    @Test
+    public void testEncodeUnsupportedFileTypeAsYaml() throws Exception {
+
+        FileContent fileContent = CODEC.encode(new Resource("primary", null), "resource", "text/plain");
+        assertEquals(fileContent.getFileType(), Constants.MEDIA_TYPE_YAML);
+        assertEquals(fileContent.getFileName(), "resource" + Constants.YAML_FILE_EXTENSION);
+        assertEquals(CODEC.decode(fileContent).getName(), "primary");
+    }
+
+    @DataProvider(name = "invalidContents")
+    public Object[][] invalidContents() {
+
+        return new Object[][]{
+                {"<resource><name>primary</name>", Constants.MEDIA_TYPE_XML, "XML"},
+                {"{\"name\": ", Constants.MEDIA_TYPE_JSON, "JSON"},
+                {"!!java.io.File\npath: /tmp", Constants.MEDIA_TYPE_YAML, "YAML"},
+        };
+    }
+
+    @Test(dataProvider = "invalidContents")
+    public void testDecodeInvalidContent(String content, String mediaType, String format) {
+
+        try {
+            CODEC.decode(content, mediaType);
+            fail("Invalid " + format + " content was read.");
+        } catch (FileCodecException e) {
+            assertEquals(e.getMediaType(), mediaType);
+            assertEquals(e.getFormat(), format);
+        }
+    }
+
+    @Test(dataProvider = "mediaTypes")
+    public void testConcurrentUse(String mediaType) throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String name = "resource-" + i;
+                tasks.add(() -> CODEC.decode(CODEC.encode(new Resource(name, Arrays.asList(name, "x")), mediaType),
+                        mediaType).getName());
+            }
+            List<Future<String>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).get(), "resource-" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Resource configuration model of the tests.
+     */
+    @XmlRootElement(name = "resource")
+    public static class Resource {
+
+        private String name;
+        private List<String> values;
+
+        public Resource() {
+
+        }
+
+        Resource(String name, List<String> values) {
+
+            this.name = name;
+            this.values = values;
+        }
+
+        public String getName() {
+
+            return name;
+        }
+
+        public void setName(String name) {
+
+            this.name = name;
+        }
+
+        public List<String> getValues() {
+
+            return values;
+        }
+
+        public void setValues(List<String> values) {
+
+            this.values = values;
+        }
+    }
+}
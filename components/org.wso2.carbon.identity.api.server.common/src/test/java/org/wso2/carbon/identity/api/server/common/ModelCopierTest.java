@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for ModelCopier.
+ */
+public class ModelCopierTest {
+
+    @Test
+    public void testCopyIsNotSharedWithSource() {
+
+        Model source = new Model("source");
+        source.properties.put("key", new ArrayList<>(Collections.singletonList("value")));
+        source.children.add(new Model("child"));
+        source.created = new Date(1000L);
+
+        Model copy = ModelCopier.deepCopy(source);
+        copy.properties.get("key").add("other");
+        copy.children.get(0).name = "changed";
+        copy.created.setTime(2000L);
+        copy.counter.incrementAndGet();
+
+        assertEquals(source.properties.get("key"), Collections.singletonList("value"));
+        assertEquals(source.children.get(0).name, "child");
+        assertEquals(source.created.getTime(), 1000L);
+        assertEquals(source.counter.get(), 0);
+        assertSame(copy.name, source.name, "Immutable values are expected to be shared.");
+    }
+
+    @Test
+    public void testCyclesAndSharedReferences() {
+
+        Model parent = new Model("parent");
+        Model child = new Model("child");
+        parent.children.add(child);
+        parent.children.add(child);
+        child.parent = parent;
+
+        Model copy = ModelCopier.deepCopy(parent);
+        assertNotSame(copy, parent);
+        assertNotSame(copy.children.get(0), child);
+        assertSame(copy.children.get(0), copy.children.get(1));
+        assertSame(copy.children.get(0).parent, copy);
+    }
+
+    @Test
+    public void testTransientFieldsAreNotCopied() {
+
+        Model source = new Model("source");
+        source.cachedHash = 42;
+        source.lock = new Object();
+
+        Model copy = ModelCopier.deepCopy(source);
+        assertEquals(copy.cachedHash, 0);
+        assertNull(copy.lock);
+    }
+
+    @Test
+    public void testArrays() {
+
+        Model source = new Model("source");
+        source.scores = new int[]{1, 2};
+        source.matrix = new String[][]{{"a"}, {"b", "c"}};
+        source.models = new Model[]{new Model("element"), null};
+
+        Model copy = ModelCopier.deepCopy(source);
+        copy.scores[0] = 10;
+        copy.matrix[1][0] = "changed";
+        copy.models[0].name = "changed";
+
+        assertEquals(source.scores, new int[]{1, 2});
+        assertEquals(source.matrix[1][0], "b");
+        assertEquals(source.models[0].name, "element");
+        assertNull(copy.models[1]);
+    }
+
+    @Test
+    public void testNestedCollections() {
+
+        Model element = new Model("element");
+        Map<String, List<Model>> group = new HashMap<>();
+        group.put("group", new ArrayList<>(Collections.singletonList(element)));
+        Model source = new Model("source");
+        source.groups = new ArrayList<>(Collections.singletonList(group));
+        source.sortedNames = new TreeSet<>(Comparator.reverseOrder());
+        source.sortedNames.addAll(Arrays.asList("a", "b"));
+        source.units = EnumSet.of(TimeUnit.SECONDS);
+        source.unitNames = new EnumMap<>(TimeUnit.class);
+        source.unitNames.put(TimeUnit.DAYS, "days");
+        source.readOnly = Collections.unmodifiableList(new ArrayList<>(Collections.singletonList(element)));
+
+        Model copy = ModelCopier.deepCopy(source);
+        copy.groups.get(0).get("group").get(0).name = "changed";
+        copy.sortedNames.add("c");
+        copy.units.add(TimeUnit.DAYS);
+        copy.unitNames.clear();
+
+        assertEquals(element.name, "element");
+        assertEquals(new ArrayList<>(copy.sortedNames), Arrays.asList("c", "b", "a"));
+        assertEquals(source.sortedNames.size(), 2);
+        assertEquals(source.units, EnumSet.of(TimeUnit.SECONDS));
+        assertEquals(source.unitNames.size(), 1);
+        // The elements of a collection keep the shared references of the source graph.
+        assertSame(copy.readOnly.get(0), copy.groups.get(0).get("group").get(0));
+    }
+
+    @Test
+    public void testMutablePlatformValues() {
+
+        Model source = new Model("source");
+        source.calendar = Calendar.getInstance();
+        source.calendar.setTimeInMillis(1000L);
+
+        Model copy = ModelCopier.deepCopy(source);
+        copy.calendar.setTimeInMillis(2000L);
+
+        assertEquals(source.calendar.getTimeInMillis(), 1000L);
+        assertNotSame(copy.counter, source.counter);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testRejectNotCopyablePlatformValue() {
+
+        Model source = new Model("source");
+        source.value = new ThreadLocal<String>();
+        ModelCopier.deepCopy(source);
+    }
+
+    @Test
+    public void testSerializableModelWithoutNoArgumentConstructor() {
+
+        Model source = new Model("source");
+        source.value = new Immutable("value");
+
+        Model copy = ModelCopier.deepCopy(source);
+        assertNotSame(copy.value, source.value);
+        assertEquals(((Immutable) copy.value).value, "value");
+    }
+
+    @Test
+    public void testDeepCopyExcluding() {
+
+        Model source = new Model("source");
+        source.children.add(new Model("child"));
+        source.properties.put("key", new ArrayList<>());
+
+        Model copy = ModelCopier.deepCopyExcluding(source, "children");
+        assertSame(copy.children, source.children);
+        assertNotSame(copy.properties, source.properties);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDeepCopyExcludingUnknownField() {
+
+        ModelCopier.deepCopyExcluding(new Model("source"), "unknown");
+    }
+
+    @Test
+    public void testNull() {
+
+        assertNull(ModelCopier.deepCopy(null));
+    }
+
+    @Test
+    public void testSubclassFields() {
+
+        SubModel source = new SubModel();
+        source.name = "source";
+        source.extra = new ArrayList<>(Collections.singletonList("extra"));
+
+        SubModel copy = ModelCopier.deepCopy(source);
+        copy.extra.add("other");
+
+        assertEquals(copy.name, "source");
+        assertTrue(copy instanceof SubModel);
+        assertEquals(source.extra.size(), 1);
+    }
+
+    /**
+     * Model of the tests.
+     */
+    private static class Model {
+
+        String name;
+        Model parent;
+        List<Model> children = new ArrayList<>();
+        Map<String, List<String>> properties = new HashMap<>();
+        List<Map<String, List<Model>>> groups;
+        TreeSet<String> sortedNames;
+        EnumSet<TimeUnit> units;
+        EnumMap<TimeUnit, String> unitNames;
+        List<Model> readOnly;
+        Date created;
+        Calendar calendar;
+        AtomicInteger counter = new AtomicInteger();
+        int[] scores;
+        String[][] matrix;
+        Model[] models;
+        Object value;
+        transient int cachedHash;
+        transient Object lock;
+
+        Model() {
+
+        }
+
+        Model(String name) {
+
+            this.name = name;
+        }
+    }
+
+    /**
+     * Subclass model of the tests.
+     */
+    private static class SubModel extends Model {
+
+        List<String> extra;
+    }
+
+    /**
+     * Serializable model without a no-argument constructor.
+     */
+    private static class Immutable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+
+        Immutable(String value) {
+
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test for TenantResourceVersions.
+ */
+public class TenantResourceVersionsTest {
+
+    private static int tenantCount;
+
+    @Test
+    public void testGetBeforeWrite() {
+
+        assertEquals(TenantResourceVersions.get(TenantResourceVersions.LOCAL_CLAIMS, nextTenantDomain()), 0L);
+    }
+
+    @Test
+    public void testIncrement() {
+
+        String tenantDomain = nextTenantDomain();
+        TenantResourceVersions.increment(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+        TenantResourceVersions.increment(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+        assertEquals(TenantResourceVersions.get(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain), 2L);
+    }
+
+    @Test
+    public void testVersionsArePerResourceAndTenant() {
+
+        String tenantDomain = nextTenantDomain();
+        String otherTenantDomain = nextTenantDomain();
+        TenantResourceVersions.increment(TenantResourceVersions.IDENTITY_PROVIDERS, tenantDomain);
+        assertEquals(TenantResourceVersions.get(TenantResourceVersions.IDENTITY_PROVIDERS, tenantDomain), 1L);
+        assertEquals(TenantResourceVersions.get(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain), 0L);
+        assertEquals(TenantResourceVersions.get(TenantResourceVersions.IDENTITY_PROVIDERS, otherTenantDomain), 0L);
+    }
+
+    private static String nextTenantDomain() {
+
+        return "versions" + tenantCount++ + ".com";
+    }
+}
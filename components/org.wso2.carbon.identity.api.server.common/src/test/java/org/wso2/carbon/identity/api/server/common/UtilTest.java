@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test for Util.
+ */
+public class UtilTest {
+
+    @DataProvider(name = "queryParameters")
+    public Object[][] queryParameters() {
+
+        return new Object[][]{
+                {"name eq app", "name+eq+app"},
+                {"name eq a&b", "name+eq+a%26b"},
+                {"name eq a+b", "name+eq+a%2Bb"},
+                {"name eq a=b#c", "name+eq+a%3Db%23c"},
+                {"name eq \u00e9", "name+eq+%C3%A9"}
+        };
+    }
+
+    @Test(dataProvider = "queryParameters")
+    public void testEncodeQueryParameter(String value, String expected) {
+
+        assertEquals(Util.encodeQueryParameter(value), expected);
+    }
+
+    @Test
+    public void testBuildQuery() {
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("inactiveAfter", "2024-01-01");
+        parameters.put("excludeBefore", null);
+        parameters.put("filter", "name eq a&b");
+        parameters.put("attributes", "");
+        parameters.put("limit", 10);
+        assertEquals(Util.buildQuery(parameters), "?inactiveAfter=2024-01-01&filter=name+eq+a%26b&limit=10");
+    }
+
+    @Test
+    public void testBuildQueryWithoutValues() {
+
+        assertEquals(Util.buildQuery(Collections.singletonMap("limit", null)), "");
+    }
+}
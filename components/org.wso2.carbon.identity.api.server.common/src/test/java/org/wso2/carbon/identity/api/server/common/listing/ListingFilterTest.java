@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.listing;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test for ListingFilter.
+ */
+public class ListingFilterTest {
+
+    private static final Item ITEM = new Item("http://wso2.org/claims/givenname", "First Name",
+            Arrays.asList("lock.enable", "lock.time"));
+
+    @DataProvider(name = "filters")
+    public Object[][] filters() {
+
+        return new Object[][]{
+                {null, true},
+                {"", true},
+                {"uri eq http://wso2.org/claims/givenname", true},
+                {"uri eq http://wso2.org/claims/GivenName", false},
+                {"uri sw http://wso2.org/claims/", true},
+                {"uri ew givenname", true},
+                {"uri co claims", true},
+                {"uri co lastname", false},
+                {"displayName eq first name", true},
+                {"displayName sw FIRST", true},
+                {"properties eq lock.time", true},
+                {"properties sw unlock", false},
+                {"uri co claims and displayName co last", false},
+                {"uri co claims or displayName co last", true},
+                {"uri co lastname or properties ew .time", true}
+        };
+    }
+
+    @Test(dataProvider = "filters")
+    public void testMatches(String filter, boolean expected) throws ListingFilterException {
+
+        assertEquals(buildFilter(filter).matches(ITEM), expected);
+    }
+
+    @Test
+    public void testMatchesInTurkishLocale() throws ListingFilterException {
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertTrue(buildFilter("displayName co IRST").matches(ITEM));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void testMatchesMissingValue() throws ListingFilterException {
+
+        assertFalse(buildFilter("displayName eq First Name").matches(new Item("uri", null, Collections.emptyList())));
+    }
+
+    @DataProvider(name = "invalidFilters")
+    public Object[][] invalidFilters() {
+
+        return new Object[][]{
+                {"name eq value", ListingFilterException.Reason.UNSUPPORTED_ATTRIBUTE, "name"},
+                {"uri gt value", ListingFilterException.Reason.UNSUPPORTED_OPERATION, "gt"}
+        };
+    }
+
+    @Test(dataProvider = "invalidFilters")
+    public void testBuildInvalidFilter(String filter, ListingFilterException.Reason reason, String data) {
+
+        try {
+            buildFilter(filter);
+            fail("The invalid filter: " + filter + " was accepted.");
+        } catch (ListingFilterException e) {
+            assertEquals(e.getReason(), reason);
+            assertEquals(e.getData(), data);
+        }
+    }
+
+    @Test
+    public void testGetEqualityValue() throws ListingFilterException {
+
+        assertEquals(buildFilter("uri eq http://wso2.org/claims/givenname").getEqualityValue("uri"),
+                "http://wso2.org/claims/givenname");
+        assertNull(buildFilter("uri sw http://wso2.org/claims/").getEqualityValue("uri"));
+        assertNull(buildFilter("uri eq a or uri eq b").getEqualityValue("uri"));
+        assertNull(buildFilter("displayName eq First Name").getEqualityValue("displayName"));
+        assertNull(buildFilter(null).getEqualityValue("uri"));
+    }
+
+    private static ListingFilter<Item> buildFilter(String filter) throws ListingFilterException {
+
+        return ListingFilter.<Item>builder()
+                .withAttribute("uri", item -> item.uri)
+                .withCaseIgnoredAttribute("displayName", item -> item.displayName)
+                .withMultiValuedAttribute("properties", item -> item.properties)
+                .build(filter);
+    }
+
+    private static final class Item {
+
+        private final String uri;
+        private final String displayName;
+        private final List<String> properties;
+
+        private Item(String uri, String displayName, List<String> properties) {
+
+            this.uri = uri;
+            this.displayName = displayName;
+            this.properties = properties;
+        }
+    }
+}
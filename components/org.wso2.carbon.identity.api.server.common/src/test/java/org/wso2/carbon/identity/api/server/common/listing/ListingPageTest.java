@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.listing;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for ListingPage.
+ */
+public class ListingPageTest {
+
+    private static final List<Integer> ITEMS = Arrays.asList(1, 2, 3, 4, 5);
+    private static final String PATH = "/items";
+
+    private MockedStatic<ContextLoader> contextLoader;
+
+    @BeforeMethod
+    public void setUp() {
+
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(() -> ContextLoader.buildURIForBody(anyString()))
+                .thenAnswer(invocation -> URI.create("/api/server" + invocation.getArgument(0)));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        contextLoader.close();
+    }
+
+    @Test
+    public void testPageWithoutLimit() {
+
+        ListingPage<String> page = ListingPage.of(ITEMS, null, null, String::valueOf, PATH, null, null);
+
+        assertEquals(page.getItems(), Arrays.asList("1", "2", "3", "4", "5"));
+        assertEquals(page.getTotalResults(), 5);
+        assertTrue(page.getLinks().isEmpty());
+    }
+
+    @Test
+    public void testFirstPage() {
+
+        ListingPage<Integer> page = ListingPage.of(ITEMS, 2, 0, item -> item, PATH, null, null);
+
+        assertEquals(page.getItems(), Arrays.asList(1, 2));
+        assertEquals(page.getTotalResults(), 5);
+        assertEquals(page.getLinks().get("next"), "/api/server/v1/items?offset=2&limit=2");
+        assertFalse(page.getLinks().containsKey("previous"));
+    }
+
+    @Test
+    public void testLastPage() {
+
+        ListingPage<Integer> page = ListingPage.of(ITEMS, 2, 4, item -> item, PATH, null, null);
+
+        assertEquals(page.getItems(), Collections.singletonList(5));
+        assertEquals(page.getLinks().get("previous"), "/api/server/v1/items?offset=2&limit=2");
+        assertFalse(page.getLinks().containsKey("next"));
+    }
+
+    @Test
+    public void testOffsetBeyondItems() {
+
+        ListingPage<Integer> page = ListingPage.of(ITEMS, 2, 10, item -> item, PATH, null, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertEquals(page.getTotalResults(), 5);
+    }
+
+    @Test
+    public void testLinksCarryEncodedFilterAndParameters() {
+
+        ListingPage<Integer> page = ListingPage.of(ITEMS, 2, 0, item -> item, PATH, "name", "name eq a&b")
+                .withLinkParameter("excludeIdentityClaims", "true");
+
+        assertEquals(page.getLinks().get("next"), "/api/server/v1/items?offset=2&limit=2&attributes=name" +
+                "&filter=name+eq+a%26b&excludeIdentityClaims=true");
+    }
+
+    @Test
+    public void testBuildResponse() {
+
+        Response response = ListingPage.of(ITEMS, 2, 2, item -> item, PATH, null, null).buildResponse();
+
+        assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        assertEquals(response.getEntity(), Arrays.asList(3, 4));
+        assertEquals(response.getHeaderString(Constants.TOTAL_RESULTS_HEADER), "5");
+        assertEquals(response.getLink("next").getUri().toString(), "/api/server/v1/items?offset=4&limit=2");
+        assertEquals(response.getLink("previous").getUri().toString(), "/api/server/v1/items?offset=0&limit=2");
+    }
+}
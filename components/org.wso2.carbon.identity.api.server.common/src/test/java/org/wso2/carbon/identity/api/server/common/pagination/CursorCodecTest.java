@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Base64;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Test for CursorCodec.
+ */
+public class CursorCodecTest {
+
+    @DataProvider(name = "cursors")
+    public Object[][] cursors() {
+
+        return new Object[][]{
+                {new PageCursor(PageCursor.Direction.FORWARD, "2024-01-01 10:00:00.000")},
+                {new PageCursor(PageCursor.Direction.BACKWARD, "f1f2b1e0-3c5a-4a61-9d3e-7a2f1e9a6b10")},
+                {new PageCursor(PageCursor.Direction.FORWARD, "k\u00e9y with/?&=+")},
+        };
+    }
+
+    @Test(dataProvider = "cursors")
+    public void testRoundTrip(PageCursor cursor) throws Exception {
+
+        String value = CursorCodec.encode(cursor);
+        assertFalse(value.contains("=") || value.contains("+") || value.contains("/"),
+                "Cursor values have to be URL safe: " + value);
+
+        PageCursor decodedCursor = CursorCodec.decode(value, null);
+        assertEquals(decodedCursor.getDirection(), cursor.getDirection());
+        assertEquals(decodedCursor.getKey(), cursor.getKey());
+    }
+
+    @Test
+    public void testDecodeLegacyCursor() throws Exception {
+
+        String legacyValue = CursorCodec.encodeLegacy("2024-01-01 10:00:00.000");
+
+        PageCursor cursor = CursorCodec.decode(legacyValue, PageCursor.Direction.BACKWARD);
+        assertEquals(cursor.getDirection(), PageCursor.Direction.BACKWARD);
+        assertEquals(cursor.getKey(), "2024-01-01 10:00:00.000");
+    }
+
+    @DataProvider(name = "invalidCursors")
+    public Object[][] invalidCursors() {
+
+        return new Object[][]{
+                // Not base64 at all.
+                {"not a cursor!", PageCursor.Direction.FORWARD},
+                // Tampered direction of a versioned cursor.
+                {encode(new byte[]{1, 'X', 'k', 'e', 'y'}), PageCursor.Direction.FORWARD},
+                // Versioned cursor without a key.
+                {encode(new byte[]{1, 'F'}), PageCursor.Direction.FORWARD},
+                // Legacy cursor where legacy cursors are not accepted.
+                {CursorCodec.encodeLegacy("key"), null},
+        };
+    }
+
+    @Test(dataProvider = "invalidCursors", expectedExceptions = InvalidCursorException.class)
+    public void testDecodeInvalidCursor(String value, PageCursor.Direction legacyDirection) throws Exception {
+
+        CursorCodec.decode(value, legacyDirection);
+    }
+
+    @Test(expectedExceptions = InvalidCursorException.class)
+    public void testRejectCursorOfOtherDirection() throws Exception {
+
+        String nextCursor = CursorCodec.encode(new PageCursor(PageCursor.Direction.FORWARD, "key"));
+        KeysetPageRequest.of(10, nextCursor, null);
+    }
+
+    @Test(expectedExceptions = InvalidCursorException.class)
+    public void testRejectBothCursors() throws Exception {
+
+        KeysetPageRequest.of(10, CursorCodec.encodeLegacy("a"), CursorCodec.encodeLegacy("b"));
+    }
+
+    private static String encode(byte[] value) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for KeysetPaginator.
+ */
+public class KeysetPaginatorTest {
+
+    // Deliberately unordered, as the backend services return them.
+    private static final List<String> ITEMS = Arrays.asList("d", "a", "e", "c", "b");
+
+    private final KeysetPaginator<String> paginator = new KeysetPaginator<>(Function.identity());
+
+    @Test
+    public void testWalkForwardAndBackward() throws Exception {
+
+        KeysetPage<String> firstPage = paginate(ITEMS, KeysetPageRequest.of(2, null, null));
+        assertEquals(firstPage.getItems(), Arrays.asList("a", "b"));
+        assertNull(firstPage.getPreviousCursor());
+        assertNotNull(firstPage.getNextCursor());
+
+        KeysetPage<String> middlePage = paginate(ITEMS, KeysetPageRequest.of(2, null, firstPage.getNextCursor()));
+        assertEquals(middlePage.getItems(), Arrays.asList("c", "d"));
+        assertNotNull(middlePage.getPreviousCursor());
+        assertNotNull(middlePage.getNextCursor());
+
+        KeysetPage<String> lastPage = paginate(ITEMS, KeysetPageRequest.of(2, null, middlePage.getNextCursor()));
+        assertEquals(lastPage.getItems(), Collections.singletonList("e"));
+        assertNotNull(lastPage.getPreviousCursor());
+        assertNull(lastPage.getNextCursor());
+
+        KeysetPage<String> previousPage = paginate(ITEMS,
+                KeysetPageRequest.of(2, lastPage.getPreviousCursor(), null));
+        assertEquals(previousPage.getItems(), Arrays.asList("c", "d"));
+        assertNotNull(previousPage.getPreviousCursor());
+        assertNotNull(previousPage.getNextCursor());
+
+        KeysetPage<String> backToFirstPage = paginate(ITEMS,
+                KeysetPageRequest.of(2, previousPage.getPreviousCursor(), null));
+        assertEquals(backToFirstPage.getItems(), Arrays.asList("a", "b"));
+        assertNull(backToFirstPage.getPreviousCursor());
+        assertNotNull(backToFirstPage.getNextCursor());
+    }
+
+    @Test
+    public void testSingleCursorParameter() throws Exception {
+
+        KeysetPage<String> firstPage = paginate(ITEMS, KeysetPageRequest.of(3, null));
+        KeysetPage<String> lastPage = paginate(ITEMS, KeysetPageRequest.of(3, firstPage.getNextCursor()));
+        assertEquals(lastPage.getItems(), Arrays.asList("d", "e"));
+
+        KeysetPage<String> previousPage = paginate(ITEMS, KeysetPageRequest.of(3, lastPage.getPreviousCursor()));
+        assertEquals(previousPage.getItems(), Arrays.asList("a", "b", "c"));
+        assertNull(previousPage.getPreviousCursor());
+    }
+
+    @Test
+    public void testLegacyCursor() throws Exception {
+
+        KeysetPage<String> page = paginate(ITEMS, KeysetPageRequest.of(2, null, CursorCodec.encodeLegacy("b")));
+        assertEquals(page.getItems(), Arrays.asList("c", "d"));
+    }
+
+    @Test
+    public void testEmptyListing() throws Exception {
+
+        KeysetPage<String> page = paginate(Collections.emptyList(), KeysetPageRequest.of(10, null, null));
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getPreviousCursor());
+        assertNull(page.getNextCursor());
+        assertTrue(page.buildLinks("/v1/items?limit=10", "before", "after").isEmpty());
+    }
+
+    @Test
+    public void testZeroLimit() throws Exception {
+
+        KeysetPage<String> page = paginate(ITEMS, KeysetPageRequest.of(0, null, null));
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testLimitOfListingSize() throws Exception {
+
+        KeysetPage<String> page = paginate(ITEMS, KeysetPageRequest.of(ITEMS.size(), null, null));
+        assertEquals(page.getItems(), Arrays.asList("a", "b", "c", "d", "e"));
+        assertNull(page.getPreviousCursor());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testLimitOverListingSize() throws Exception {
+
+        KeysetPage<String> page = paginate(ITEMS, KeysetPageRequest.of(ITEMS.size() + 1, null, null));
+        assertEquals(page.getItems().size(), ITEMS.size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testMaximumLimit() throws Exception {
+
+        List<Integer> fetchLimits = new ArrayList<>();
+        KeysetPage<String> page = paginator.paginate(KeysetPageRequest.of(Integer.MAX_VALUE, null, null),
+                (limit, cursorKey, direction) -> {
+                    fetchLimits.add(limit);
+                    return newFetcher(ITEMS).fetch(limit, cursorKey, direction);
+                });
+        assertEquals(fetchLimits, Collections.singletonList(Integer.MAX_VALUE));
+        assertEquals(page.getItems().size(), ITEMS.size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testBuildLinks() throws Exception {
+
+        KeysetPage<String> page = paginate(ITEMS, KeysetPageRequest.of(2, null, CursorCodec.encodeLegacy("b")));
+        assertEquals(page.buildLinks("/v1/items?limit=2", "before", "after").get(KeysetPage.PREVIOUS),
+                "/v1/items?limit=2&before=" + page.getPreviousCursor());
+        assertEquals(page.buildLinks("/v1/items", "before", "after").get(KeysetPage.NEXT),
+                "/v1/items?after=" + page.getNextCursor());
+    }
+
+    private KeysetPage<String> paginate(List<String> items, KeysetPageRequest request) {
+
+        return paginator.paginate(request, newFetcher(items));
+    }
+
+    private static InMemoryKeysetFetcher<String, String> newFetcher(List<String> items) {
+
+        return new InMemoryKeysetFetcher<>(items, Function.identity(), Comparator.naturalOrder(),
+                Function.identity());
+    }
+}
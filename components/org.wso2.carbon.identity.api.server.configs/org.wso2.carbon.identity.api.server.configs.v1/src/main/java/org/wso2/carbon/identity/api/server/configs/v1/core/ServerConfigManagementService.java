@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.configs.v1.core;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.configuration.ConfigurationException;
@@ -30,6 +28,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ModelCopier;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.configs.common.ConfigsServiceHolder;
@@ -124,6 +123,7 @@ import static org.wso2.carbon.identity.api.server.configs.common.Constants.PATH_
 public class ServerConfigManagementService {
 
     private static final Log log = LogFactory.getLog(ServerConfigManagementService.class);
+    private static final String FEDERATED_AUTHENTICATOR_CONFIGS_FIELD = "federatedAuthenticatorConfigs";
 
     /**
      * Get list of local authenticators supported by the server.
@@ -256,7 +256,8 @@ public class ServerConfigManagementService {
                 throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                         .ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
             }
-            IdentityProvider idpToUpdate = createIdPClone(residentIdP);
+            // Federated authenticators are not updated, hence they are replaced instead of being duplicated.
+            IdentityProvider idpToUpdate = createIdPClone(residentIdP, FEDERATED_AUTHENTICATOR_CONFIGS_FIELD);
             processPatchRequest(patchRequest, idpToUpdate);
             // To avoid updating non-existing authenticators in DB layer.
             idpToUpdate.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[0]);
@@ -949,18 +950,17 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Create a shallow copy of the input Identity Provider.
+     * Create a duplicate of the input Identity Provider.
      *
-     * @param idP Identity Provider.
+     * @param idP            Identity Provider.
+     * @param replacedFields Fields of the IDP which are replaced by the caller, and hence not duplicated.
      * @return Clone of IDP.
      */
-    private IdentityProvider createIdPClone(IdentityProvider idP) {
+    private IdentityProvider createIdPClone(IdentityProvider idP, String... replacedFields) {
 
         try {
-            Gson gson = new Gson();
-            IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-            return clonedIdentityProvider;
-        } catch (JsonSyntaxException e) {
+            return ModelCopier.deepCopyExcluding(idP, replacedFields);
+        } catch (IllegalStateException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                     .ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
         }
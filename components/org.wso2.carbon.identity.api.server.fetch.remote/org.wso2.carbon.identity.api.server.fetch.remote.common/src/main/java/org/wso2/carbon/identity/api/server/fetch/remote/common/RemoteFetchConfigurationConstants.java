@@ -43,6 +43,7 @@ public class RemoteFetchConfigurationConstants {
     public static final String SUCCESS = "SUCCESS";
     public static final String FAIL = "FAIL";
     public static final String REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT = "/remote-fetch";
+    public static final String REMOTE_FETCH_JOB_PATH_COMPONENT = "/jobs";
 
     /**
      * Enum for error messages.
@@ -80,7 +81,11 @@ public class RemoteFetchConfigurationConstants {
                 "Unable to find a resource matching the provided " +
                         "remote fetch configuration identifier %s."),
         ERROR_CODE_COMMIT_NOT_FOUND("60003", "Commit not found.",
-                "Unable to find commit params.");
+                "Unable to find commit params."),
+        ERROR_CODE_JOB_NOT_FOUND("60004", "Resource not found.",
+                "Unable to find a remote fetch job matching the provided identifier %s."),
+        ERROR_CODE_TOO_MANY_PENDING_JOBS("60005", "Too many remote fetch jobs.",
+                "The server has reached the limit of %s remote fetch jobs waiting to start. Retry once a job starts.");
 
         private final String code;
         private final String message;
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJob;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.RemoteFetchApiService;
 
@@ -142,6 +143,29 @@ public class RemoteFetchApi  {
         return delegate.getRemoteFetchConfigs();
     }
 
+    @Valid
+    @GET
+    @Path("/jobs/{job-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve a remote fetch job by its ID. ", notes = "This API provides the progress of a remote fetch started by a trigger or a web hook request. Jobs are held by the node which accepted the request, and only the recent jobs are retained. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = RemoteFetchJob.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Remote fetch Configuration Trigger", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = RemoteFetchJob.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getRemoteFetchJob(@ApiParam(value = "ID of the remote fetch job.",required=true) @PathParam("job-id") String jobId) {
+
+        return delegate.getRemoteFetchJob(jobId );
+    }
+
     @Valid
     @GET
     @Path("/{id}/status")
@@ -171,18 +195,19 @@ public class RemoteFetchApi  {
     @Path("/webhook/sp")
     @Consumes({ "application/json", "application/xml" })
     @Produces({ "application/json" })
-    @ApiOperation(value = "Web hook endpoint for remote fetch configuration. ", notes = "This API provides the capability to handle web hook request from remote repository. <br> ", response = Void.class, authorizations = {
+    @ApiOperation(value = "Web hook endpoint for remote fetch configuration. ", notes = "This API provides the capability to handle web hook request from remote repository. The pushes to a branch are deployed together after a short delay. <br> ", response = RemoteFetchJob.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
         })
     }, tags={ "Remote Fetch Webhook", })
     @ApiResponses(value = { 
-        @ApiResponse(code = 202, message = "Successful Response", response = Void.class),
+        @ApiResponse(code = 202, message = "Successful Response", response = RemoteFetchJob.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 429, message = "Too Many Requests", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
     public Response handleWebHook(@ApiParam(value = "" ) @Valid PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
@@ -195,18 +220,19 @@ public class RemoteFetchApi  {
     @Path("/{id}/trigger")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "Trigger a remote fetch configuration. ", notes = "This API pprovides the capability to trigger given remotefetch configuration. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = Void.class, authorizations = {
+    @ApiOperation(value = "Trigger a remote fetch configuration. ", notes = "This API pprovides the capability to trigger given remotefetch configuration. The remote fetch runs in the background and its job is returned. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = RemoteFetchJob.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
         })
     }, tags={ "Remote fetch Configuration Trigger", })
     @ApiResponses(value = { 
-        @ApiResponse(code = 202, message = "Accepted.", response = Void.class),
+        @ApiResponse(code = 202, message = "Accepted.", response = RemoteFetchJob.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 429, message = "Too Many Requests", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
     public Response triggerRemoteFetch(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id) {
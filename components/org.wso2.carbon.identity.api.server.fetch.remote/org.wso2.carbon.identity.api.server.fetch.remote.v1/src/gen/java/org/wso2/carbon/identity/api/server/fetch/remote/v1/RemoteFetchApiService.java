@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJob;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import javax.ws.rs.core.Response;
 
@@ -41,6 +42,8 @@ public interface RemoteFetchApiService {
 
       public Response getRemoteFetchConfigs();
 
+      public Response getRemoteFetchJob(String jobId);
+
       public Response getStatus(String id);
 
       public Response handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest);
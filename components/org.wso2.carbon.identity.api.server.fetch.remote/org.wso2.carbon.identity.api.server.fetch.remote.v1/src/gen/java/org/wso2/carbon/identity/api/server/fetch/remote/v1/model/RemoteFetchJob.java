@@ -0,0 +1,313 @@
+/*
+* Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+*
+* WSO2 LLC. licenses this file to you under the Apache License,
+* Version 2.0 (the "License"); you may not use this file except
+* in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class RemoteFetchJob  {
+  
+    private String id;
+    private String remoteFetchConfigurationId;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("QUEUED") QUEUED(String.valueOf("QUEUED")), @XmlEnumValue("RUNNING") RUNNING(String.valueOf("RUNNING")), @XmlEnumValue("SUCCESSFUL") SUCCESSFUL(String.valueOf("SUCCESSFUL")), @XmlEnumValue("FAILED") FAILED(String.valueOf("FAILED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private Integer coalescedRequests;
+    private List<String> changedFiles = null;
+
+    private String createdTime;
+    private String startedTime;
+    private String completedTime;
+    private String self;
+
+    /**
+    **/
+    public RemoteFetchJob id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5d3f1b2a-6c6e-4b8e-9d1f-2a3b4c5d6e7f", value = "")
+    @JsonProperty("id")
+    @Valid
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * ID of the triggered remote fetch configuration. Not available for the jobs of web hook requests.
+    **/
+    public RemoteFetchJob remoteFetchConfigurationId(String remoteFetchConfigurationId) {
+
+        this.remoteFetchConfigurationId = remoteFetchConfigurationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "00000000-13e9-4ed5-afaf-000000000000", value = "ID of the triggered remote fetch configuration. Not available for the jobs of web hook requests.")
+    @JsonProperty("remoteFetchConfigurationId")
+    @Valid
+    public String getRemoteFetchConfigurationId() {
+        return remoteFetchConfigurationId;
+    }
+    public void setRemoteFetchConfigurationId(String remoteFetchConfigurationId) {
+        this.remoteFetchConfigurationId = remoteFetchConfigurationId;
+    }
+
+    /**
+    **/
+    public RemoteFetchJob status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "QUEUED", value = "")
+    @JsonProperty("status")
+    @Valid
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Number of requests served by the job. Requests for the same deployment which arrive before the job starts are coalesced into the job.
+    **/
+    public RemoteFetchJob coalescedRequests(Integer coalescedRequests) {
+
+        this.coalescedRequests = coalescedRequests;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "3", value = "Number of requests served by the job. Requests for the same deployment which arrive before the job starts are coalesced into the job.")
+    @JsonProperty("coalescedRequests")
+    @Valid
+    public Integer getCoalescedRequests() {
+        return coalescedRequests;
+    }
+    public void setCoalescedRequests(Integer coalescedRequests) {
+        this.coalescedRequests = coalescedRequests;
+    }
+
+    /**
+    * Added and modified files of the coalesced web hook requests.
+    **/
+    public RemoteFetchJob changedFiles(List<String> changedFiles) {
+
+        this.changedFiles = changedFiles;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "[\"sp/travelocity.xml\"]", value = "Added and modified files of the coalesced web hook requests.")
+    @JsonProperty("changedFiles")
+    @Valid
+    public List<String> getChangedFiles() {
+        return changedFiles;
+    }
+    public void setChangedFiles(List<String> changedFiles) {
+        this.changedFiles = changedFiles;
+    }
+
+    public RemoteFetchJob addChangedFilesItem(String changedFilesItem) {
+        if (this.changedFiles == null) {
+            this.changedFiles = new ArrayList<>();
+        }
+        this.changedFiles.add(changedFilesItem);
+        return this;
+    }
+
+    /**
+    **/
+    public RemoteFetchJob createdTime(String createdTime) {
+
+        this.createdTime = createdTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2024-03-29T07:36:08Z", value = "")
+    @JsonProperty("createdTime")
+    @Valid
+    public String getCreatedTime() {
+        return createdTime;
+    }
+    public void setCreatedTime(String createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+    **/
+    public RemoteFetchJob startedTime(String startedTime) {
+
+        this.startedTime = startedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2024-03-29T07:36:13Z", value = "")
+    @JsonProperty("startedTime")
+    @Valid
+    public String getStartedTime() {
+        return startedTime;
+    }
+    public void setStartedTime(String startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    /**
+    **/
+    public RemoteFetchJob completedTime(String completedTime) {
+
+        this.completedTime = completedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2024-03-29T07:36:20Z", value = "")
+    @JsonProperty("completedTime")
+    @Valid
+    public String getCompletedTime() {
+        return completedTime;
+    }
+    public void setCompletedTime(String completedTime) {
+        this.completedTime = completedTime;
+    }
+
+    /**
+    **/
+    public RemoteFetchJob self(String self) {
+
+        this.self = self;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "/t/carbon.super/api/server/v1/remote-fetch/jobs/5d3f1b2a-6c6e-4b8e-9d1f-2a3b4c5d6e7f", value = "")
+    @JsonProperty("self")
+    @Valid
+    public String getSelf() {
+        return self;
+    }
+    public void setSelf(String self) {
+        this.self = self;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RemoteFetchJob remoteFetchJob = (RemoteFetchJob) o;
+        return Objects.equals(this.id, remoteFetchJob.id) &&
+            Objects.equals(this.remoteFetchConfigurationId, remoteFetchJob.remoteFetchConfigurationId) &&
+            Objects.equals(this.status, remoteFetchJob.status) &&
+            Objects.equals(this.coalescedRequests, remoteFetchJob.coalescedRequests) &&
+            Objects.equals(this.changedFiles, remoteFetchJob.changedFiles) &&
+            Objects.equals(this.createdTime, remoteFetchJob.createdTime) &&
+            Objects.equals(this.startedTime, remoteFetchJob.startedTime) &&
+            Objects.equals(this.completedTime, remoteFetchJob.completedTime) &&
+            Objects.equals(this.self, remoteFetchJob.self);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, remoteFetchConfigurationId, status, coalescedRequests, changedFiles, createdTime, startedTime, completedTime, self);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class RemoteFetchJob {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    remoteFetchConfigurationId: ").append(toIndentedString(remoteFetchConfigurationId)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    coalescedRequests: ").append(toIndentedString(coalescedRequests)).append("\n");
+        sb.append("    changedFiles: ").append(toIndentedString(changedFiles)).append("\n");
+        sb.append("    createdTime: ").append(toIndentedString(createdTime)).append("\n");
+        sb.append("    startedTime: ").append(toIndentedString(startedTime)).append("\n");
+        sb.append("    completedTime: ").append(toIndentedString(completedTime)).append("\n");
+        sb.append("    self: ").append(toIndentedString(self)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
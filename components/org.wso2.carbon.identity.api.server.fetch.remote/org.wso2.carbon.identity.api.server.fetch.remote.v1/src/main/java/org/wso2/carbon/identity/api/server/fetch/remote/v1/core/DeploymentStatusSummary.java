@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListItem;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
+import org.wso2.carbon.identity.remotefetch.common.DeploymentRevision;
+import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.api.server.fetch.remote.v1.core.RemoteFetchUtils.convertDateToStringIfNotNull;
+
+/**
+ * Deployment status of a remote fetch configuration, summarized from its deployment revisions in a single pass.
+ * <p>
+ * Summaries are kept per tenant and configuration. The deployments run through the API record their completion with
+ * {@link TenantResourceVersions}, which invalidates the summaries of the tenant. The version is read before the
+ * deployment revisions are loaded, hence a summary loaded concurrently with a deployment carries the version before
+ * the deployment and is rebuilt by the next request. The deployments run by the remote fetch component itself, e.g.
+ * the polling deployments, are not observable here, hence a summary is also rebuilt once it is older than
+ * {@link #MAX_AGE_MILLIS}.
+ */
+final class DeploymentStatusSummary {
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, Map<String, DeploymentStatusSummary>> TENANT_SUMMARIES =
+            new ConcurrentHashMap<>();
+
+    private final List<StatusListItem> items;
+    private final int successfulDeployments;
+    private final int failedDeployments;
+    private final Date lastSynchronizedDate;
+    private final long createdTime;
+    private final long deploymentVersion;
+
+    /**
+     * Loader of the deployment revisions of a configuration.
+     */
+    @FunctionalInterface
+    interface DeploymentRevisionLoader {
+
+        /**
+         * Loads the deployment revisions.
+         *
+         * @return Deployment revisions of the configuration.
+         * @throws RemoteFetchCoreException If the deployment revisions couldn't be retrieved.
+         */
+        List<DeploymentRevision> load() throws RemoteFetchCoreException;
+    }
+
+    private DeploymentStatusSummary(List<DeploymentRevision> deploymentRevisions, long deploymentVersion) {
+
+        List<StatusListItem> statusListItems = new ArrayList<>();
+        int successful = 0;
+        int failed = 0;
+        Date lastSynchronized = null;
+        if (deploymentRevisions != null) {
+            for (DeploymentRevision deploymentRevision : deploymentRevisions) {
+                if (deploymentRevision == null) {
+                    continue;
+                }
+                statusListItems.add(createStatusListItem(deploymentRevision));
+                String deploymentStatus = deploymentRevision.getDeploymentStatus().name();
+                if (RemoteFetchConfigurationConstants.SUCCESS.equals(deploymentStatus)) {
+                    successful++;
+                } else if (RemoteFetchConfigurationConstants.FAIL.equals(deploymentStatus)) {
+                    failed++;
+                }
+                Date synchronizedDate = deploymentRevision.getLastSynchronizedDate();
+                if (synchronizedDate != null
+                        && (lastSynchronized == null || synchronizedDate.after(lastSynchronized))) {
+                    lastSynchronized = synchronizedDate;
+                }
+            }
+        }
+        this.items = Collections.unmodifiableList(statusListItems);
+        this.successfulDeployments = successful;
+        this.failedDeployments = failed;
+        this.lastSynchronizedDate = lastSynchronized;
+        this.createdTime = System.currentTimeMillis();
+        this.deploymentVersion = deploymentVersion;
+    }
+
+    /**
+     * Returns the summary of a configuration, if it is not older than {@link #MAX_AGE_MILLIS} and no deployment of
+     * the tenant completed since it was loaded.
+     *
+     * @param tenantDomain               Tenant domain.
+     * @param remoteFetchConfigurationId ID of the remote fetch configuration.
+     * @return Summary, or null if there is no fresh summary of the configuration.
+     */
+    static DeploymentStatusSummary getIfFresh(String tenantDomain, String remoteFetchConfigurationId) {
+
+        Map<String, DeploymentStatusSummary> summaries = TENANT_SUMMARIES.get(tenantDomain);
+        if (summaries == null) {
+            return null;
+        }
+        DeploymentStatusSummary summary = summaries.get(remoteFetchConfigurationId);
+        if (summary == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - summary.createdTime > MAX_AGE_MILLIS || summary.deploymentVersion !=
+                TenantResourceVersions.get(TenantResourceVersions.REMOTE_FETCH_DEPLOYMENTS, tenantDomain)) {
+            summaries.remove(remoteFetchConfigurationId, summary);
+            return null;
+        }
+        return summary;
+    }
+
+    /**
+     * Loads and summarizes the deployment revisions of a configuration and publishes the summary.
+     *
+     * @param tenantDomain               Tenant domain.
+     * @param remoteFetchConfigurationId ID of the remote fetch configuration.
+     * @param loader                     Loader of the deployment revisions of the configuration.
+     * @return Summary.
+     * @throws RemoteFetchCoreException If the deployment revisions couldn't be retrieved.
+     */
+    static DeploymentStatusSummary load(String tenantDomain, String remoteFetchConfigurationId,
+                                        DeploymentRevisionLoader loader) throws RemoteFetchCoreException {
+
+        // The version is read before the load, so that a deployment completed during the load leaves the summary
+        // stale.
+        long deploymentVersion = TenantResourceVersions.get(TenantResourceVersions.REMOTE_FETCH_DEPLOYMENTS,
+                tenantDomain);
+        DeploymentStatusSummary summary = new DeploymentStatusSummary(loader.load(), deploymentVersion);
+        // A concurrent load which read a later version is kept.
+        TENANT_SUMMARIES.computeIfAbsent(tenantDomain, key -> new ConcurrentHashMap<>()).merge(
+                remoteFetchConfigurationId, summary, (currentSummary, loadedSummary) ->
+                        currentSummary.deploymentVersion > loadedSummary.deploymentVersion ? currentSummary :
+                                loadedSummary);
+        return summary;
+    }
+
+    /**
+     * Invalidates the summary of a configuration.
+     *
+     * @param tenantDomain               Tenant domain.
+     * @param remoteFetchConfigurationId ID of the remote fetch configuration.
+     */
+    static void invalidate(String tenantDomain, String remoteFetchConfigurationId) {
+
+        Map<String, DeploymentStatusSummary> summaries = TENANT_SUMMARIES.get(tenantDomain);
+        if (summaries != null) {
+            summaries.remove(remoteFetchConfigurationId);
+        }
+    }
+
+    /**
+     * Records the completion of a deployment of a tenant, which invalidates the summaries of all the configurations of
+     * the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    static void recordDeployment(String tenantDomain) {
+
+        TenantResourceVersions.increment(TenantResourceVersions.REMOTE_FETCH_DEPLOYMENTS, tenantDomain);
+        TENANT_SUMMARIES.remove(tenantDomain);
+    }
+
+    /**
+     * Creates the status list response of the summary.
+     *
+     * @return StatusListResponse.
+     */
+    StatusListResponse toStatusListResponse() {
+
+        StatusListResponse statusListResponse = new StatusListResponse();
+        statusListResponse.setCount(items.size());
+        if (items.isEmpty()) {
+            return statusListResponse;
+        }
+        List<StatusListItem> statusListItems = new ArrayList<>(items.size());
+        for (StatusListItem item : items) {
+            statusListItems.add(copy(item));
+        }
+        statusListResponse.setRemoteFetchRevisionStatuses(statusListItems);
+        statusListResponse.setSuccessfulDeployments(successfulDeployments);
+        statusListResponse.setFailedDeployments(failedDeployments);
+        convertDateToStringIfNotNull(lastSynchronizedDate, statusListResponse::setLastSynchronizedTime);
+        return statusListResponse;
+    }
+
+    private static StatusListItem createStatusListItem(DeploymentRevision deploymentRevision) {
+
+        StatusListItem statusListItem = new StatusListItem();
+        statusListItem.setDeployedStatus(deploymentRevision.getDeploymentStatus().name());
+        convertDateToStringIfNotNull(deploymentRevision.getDeployedDate(), statusListItem::setDeployedTime);
+        statusListItem.setItemName(deploymentRevision.getItemName());
+        statusListItem.setDeploymentErrorReport(deploymentRevision.getErrorMessage());
+        return statusListItem;
+    }
+
+    private static StatusListItem copy(StatusListItem item) {
+
+        StatusListItem statusListItem = new StatusListItem();
+        statusListItem.setDeployedStatus(item.getDeployedStatus());
+        statusListItem.setDeployedTime(item.getDeployedTime());
+        statusListItem.setItemName(item.getItemName());
+        statusListItem.setDeploymentErrorReport(item.getDeploymentErrorReport());
+        return statusListItem;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJob;
+import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Queue of the remote fetch deployments requested through the API, which runs the deployments off the request
+ * threads. Requests with the same coalescing key, e.g. the pushes to a branch of a repository, which arrive before the
+ * queued deployment of the key starts are collapsed into that deployment, with the union of their changed files. A
+ * deployment of a key doesn't start while a previous deployment of the same key is still running, and is started once
+ * the previous deployment completes.
+ * <p>
+ * The jobs are held in memory of the node which accepted the request, and only the most recent
+ * {@link #MAX_RETAINED_JOBS_PER_TENANT} jobs of each tenant are retained, so that the jobs of a busy tenant don't
+ * evict the jobs of the others. Completed jobs are dropped once they are older than
+ * {@link #RETAINED_JOB_EXPIRY_MILLIS}, along with the tenants left without jobs. At most {@link #MAX_PENDING_JOBS}
+ * jobs wait to start at a time, and requests which would queue a further job are rejected.
+ */
+final class RemoteFetchJobQueue {
+
+    private static final Log LOG = LogFactory.getLog(RemoteFetchJobQueue.class);
+
+    private static final int POOL_SIZE = 2;
+    static final int MAX_PENDING_JOBS = 200;
+    private static final int MAX_RETAINED_JOBS_PER_TENANT = 100;
+    private static final long RETAINED_JOB_EXPIRY_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long PRUNE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private static final Object LOCK = new Object();
+    private static final Map<String, Job> PENDING_JOBS = new HashMap<>();
+    private static final Set<String> RUNNING_KEYS = new HashSet<>();
+    private static final Map<String, Map<String, Job>> TENANT_RETAINED_JOBS = new HashMap<>();
+
+    static {
+        SCHEDULER.scheduleWithFixedDelay(RemoteFetchJobQueue::pruneRetainedJobs, PRUNE_INTERVAL_MILLIS,
+                PRUNE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private RemoteFetchJobQueue() {
+
+    }
+
+    /**
+     * Deployment run by a job.
+     */
+    @FunctionalInterface
+    interface Deployment {
+
+        /**
+         * Runs the deployment.
+         *
+         * @param changedFiles Changed files of the coalesced requests.
+         * @throws RemoteFetchCoreException If the deployment failed.
+         */
+        void deploy(List<String> changedFiles) throws RemoteFetchCoreException;
+    }
+
+    /**
+     * Queues a deployment, or coalesces it into the queued deployment of the same key. The deployment runs with the
+     * carbon context of the calling thread. A new deployment isn't queued while {@link #MAX_PENDING_JOBS} jobs are
+     * waiting to start.
+     *
+     * @param tenantDomain               Tenant domain of the request.
+     * @param coalescingKey              Key of the deployment, unique within the tenant.
+     * @param remoteFetchConfigurationId ID of the deployed remote fetch configuration, or null if the configurations
+     *                                   are resolved by the deployment.
+     * @param changedFiles               Changed files of the request, or empty if all the files are deployed.
+     * @param delayMillis                Time to wait for further requests of the key before a new deployment starts.
+     * @param deployment                 Deployment.
+     * @return Job of the deployment, or null if the queue is full.
+     */
+    static Job enqueue(String tenantDomain, String coalescingKey, String remoteFetchConfigurationId,
+                       Collection<String> changedFiles, long delayMillis, Deployment deployment) {
+
+        String key = tenantDomain + ":" + coalescingKey;
+        synchronized (LOCK) {
+            Job pendingJob = PENDING_JOBS.get(key);
+            if (pendingJob != null) {
+                pendingJob.coalesce(changedFiles);
+                return pendingJob;
+            }
+            if (PENDING_JOBS.size() >= MAX_PENDING_JOBS) {
+                return null;
+            }
+            Job job = new Job(key, remoteFetchConfigurationId, changedFiles);
+            job.task = ContextAwareExecutor.withCurrentContext(() -> {
+                run(job, deployment);
+                return null;
+            });
+            PENDING_JOBS.put(key, job);
+            TENANT_RETAINED_JOBS.computeIfAbsent(tenantDomain, RemoteFetchJobQueue::createRetainedJobs)
+                    .put(job.id, job);
+            SCHEDULER.schedule(job.task, delayMillis, TimeUnit.MILLISECONDS);
+            return job;
+        }
+    }
+
+    /**
+     * Returns a retained job of a tenant.
+     *
+     * @param tenantDomain Tenant domain of the request.
+     * @param jobId        ID of the job.
+     * @return Job, or null if the tenant has no such job on this node.
+     */
+    static Job getJob(String tenantDomain, String jobId) {
+
+        synchronized (LOCK) {
+            Map<String, Job> retainedJobs = TENANT_RETAINED_JOBS.get(tenantDomain);
+            return retainedJobs == null ? null : retainedJobs.get(jobId);
+        }
+    }
+
+    /**
+     * Stops the queue when the webapp is stopped. The running deployments are let to complete, while the queued
+     * deployments are dropped, as their jobs are held only in memory.
+     */
+    static void shutdown() {
+
+        SCHEDULER.shutdown();
+    }
+
+    private static void run(Job job, Deployment deployment) {
+
+        synchronized (LOCK) {
+            if (!RUNNING_KEYS.add(job.key)) {
+                // A previous deployment of the key is still running, which starts this job once it completes.
+                // Requests keep coalescing into this job meanwhile.
+                job.waiting = true;
+                return;
+            }
+            PENDING_JOBS.remove(job.key, job);
+            job.start();
+        }
+        try {
+            deployment.deploy(job.getChangedFiles());
+            job.complete(RemoteFetchJob.StatusEnum.SUCCESSFUL);
+        } catch (RemoteFetchCoreException | RuntimeException e) {
+            LOG.error("Error while running the remote fetch job: " + job.id, e);
+            job.complete(RemoteFetchJob.StatusEnum.FAILED);
+        } finally {
+            synchronized (LOCK) {
+                RUNNING_KEYS.remove(job.key);
+                Job nextJob = PENDING_JOBS.get(job.key);
+                if (nextJob != null && nextJob.waiting && !SCHEDULER.isShutdown()) {
+                    nextJob.waiting = false;
+                    SCHEDULER.schedule(nextJob.task, 0, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the completed jobs which are older than {@link #RETAINED_JOB_EXPIRY_MILLIS}, and the tenants which are
+     * left without jobs.
+     */
+    private static void pruneRetainedJobs() {
+
+        long expiryTime = System.currentTimeMillis() - RETAINED_JOB_EXPIRY_MILLIS;
+        synchronized (LOCK) {
+            Iterator<Map<String, Job>> tenantRetainedJobs = TENANT_RETAINED_JOBS.values().iterator();
+            while (tenantRetainedJobs.hasNext()) {
+                Map<String, Job> retainedJobs = tenantRetainedJobs.next();
+                retainedJobs.values().removeIf(retainedJob -> retainedJob.isCompletedBefore(expiryTime));
+                if (retainedJobs.isEmpty()) {
+                    tenantRetainedJobs.remove();
+                }
+            }
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "remote-fetch-job-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return scheduler;
+    }
+
+    private static Map<String, Job> createRetainedJobs(String tenantDomain) {
+
+        return new LinkedHashMap<String, Job>() {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+
+                return size() > MAX_RETAINED_JOBS_PER_TENANT;
+            }
+        };
+    }
+
+    /**
+     * Remote fetch deployment job.
+     */
+    static final class Job {
+
+        private final String id;
+        private final String key;
+        private final String remoteFetchConfigurationId;
+        private final Date createdTime;
+        private final Set<String> changedFiles;
+        private int coalescedRequests;
+        private RemoteFetchJob.StatusEnum status;
+        private Date startedTime;
+        private Date completedTime;
+        private Callable<Void> task;
+        // Whether the job waits for a previous deployment of its key. Guarded by the queue lock.
+        private boolean waiting;
+
+        private Job(String key, String remoteFetchConfigurationId, Collection<String> changedFiles) {
+
+            this.id = UUID.randomUUID().toString();
+            this.key = key;
+            this.remoteFetchConfigurationId = remoteFetchConfigurationId;
+            this.createdTime = new Date();
+            this.changedFiles = new LinkedHashSet<>(changedFiles);
+            this.coalescedRequests = 1;
+            this.status = RemoteFetchJob.StatusEnum.QUEUED;
+        }
+
+        private synchronized void coalesce(Collection<String> files) {
+
+            changedFiles.addAll(files);
+            coalescedRequests++;
+        }
+
+        private synchronized void start() {
+
+            status = RemoteFetchJob.StatusEnum.RUNNING;
+            startedTime = new Date();
+        }
+
+        private synchronized void complete(RemoteFetchJob.StatusEnum completedStatus) {
+
+            status = completedStatus;
+            completedTime = new Date();
+        }
+
+        private synchronized boolean isCompletedBefore(long time) {
+
+            return completedTime != null && completedTime.getTime() < time;
+        }
+
+        synchronized List<String> getChangedFiles() {
+
+            return new ArrayList<>(changedFiles);
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        String getRemoteFetchConfigurationId() {
+
+            return remoteFetchConfigurationId;
+        }
+
+        Date getCreatedTime() {
+
+            return createdTime;
+        }
+
+        synchronized int getCoalescedRequests() {
+
+            return coalescedRequests;
+        }
+
+        synchronized RemoteFetchJob.StatusEnum getStatus() {
+
+            return status;
+        }
+
+        synchronized Date getStartedTime() {
+
+            return startedTime;
+        }
+
+        synchronized Date getCompletedTime() {
+
+            return completedTime;
+        }
+    }
+}
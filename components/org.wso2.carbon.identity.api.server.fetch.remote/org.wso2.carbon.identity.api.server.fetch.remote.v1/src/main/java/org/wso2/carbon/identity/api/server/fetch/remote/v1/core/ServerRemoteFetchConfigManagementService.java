@@ -23,6 +23,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -36,12 +37,11 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJob;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RepositoryManagerAttributes;
-import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListItem;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.remotefetch.common.BasicRemoteFetchConfiguration;
-import org.wso2.carbon.identity.remotefetch.common.DeploymentRevision;
 import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfiguration;
 import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchClientException;
 import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
@@ -49,12 +49,11 @@ import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchServerE
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.core.Response;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ACCESS_TOKEN;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ACTION_LISTENER;
@@ -81,6 +80,11 @@ public class ServerRemoteFetchConfigManagementService {
 
     private static final Log log = LogFactory.getLog(ServerRemoteFetchConfigManagementService.class);
 
+    /**
+     * Time to wait for further pushes to a branch before the deployment of the pushes starts.
+     */
+    private static final long WEB_HOOK_COALESCING_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
     /**
      * Get list of remote fetch configurations.
      *
@@ -111,6 +115,8 @@ public class ServerRemoteFetchConfigManagementService {
         try {
             RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
                     .deleteRemoteFetchConfiguration(remoteFetchConfigurationId);
+            DeploymentStatusSummary.invalidate(ContextLoader.getTenantDomainFromContext(),
+                    remoteFetchConfigurationId);
         } catch (RemoteFetchCoreException e) {
             throw handleRemoteFetchConfigurationException(e, RemoteFetchConfigurationConstants.
                     ErrorMessage.ERROR_CODE_ERROR_DELETING_RF_CONFIGS, remoteFetchConfigurationId);
@@ -176,23 +182,43 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * Trigger remote fetch.
+     * Trigger remote fetch. The remote fetch runs in the background, and triggers of a configuration which arrive
+     * before its queued remote fetch starts are coalesced into that remote fetch.
      *
      * @param remoteFetchConfigurationId remoteFetchConfigurationId.
+     * @return Job of the remote fetch.
      */
-    public void triggerRemoteFetch(String remoteFetchConfigurationId) {
+    public RemoteFetchJob triggerRemoteFetch(String remoteFetchConfigurationId) {
 
         try {
             RemoteFetchConfiguration remoteFetchConfiguration =
                     RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
                             .getRemoteFetchConfiguration(remoteFetchConfigurationId);
-            if (remoteFetchConfiguration != null) {
-                RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
-                        .triggerRemoteFetch(remoteFetchConfiguration);
-            } else {
+            if (remoteFetchConfiguration == null) {
                 throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
                         ErrorMessage.ERROR_CODE_RE_CONFIG_NOT_FOUND, remoteFetchConfigurationId);
             }
+            String tenantDomain = ContextLoader.getTenantDomainFromContext();
+            RemoteFetchJobQueue.Job job = RemoteFetchJobQueue.enqueue(tenantDomain,
+                    "trigger:" + remoteFetchConfigurationId, remoteFetchConfigurationId, Collections.emptyList(), 0,
+                    changedFiles -> {
+                        try {
+                            // The configuration is retrieved again, as it may have been updated or deleted while
+                            // the job was queued.
+                            RemoteFetchConfiguration currentConfiguration =
+                                    RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
+                                            .getRemoteFetchConfiguration(remoteFetchConfigurationId);
+                            if (currentConfiguration == null) {
+                                throw new IllegalStateException("Remote fetch configuration: " +
+                                        remoteFetchConfigurationId + " was deleted before its remote fetch started.");
+                            }
+                            RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
+                                    .triggerRemoteFetch(currentConfiguration);
+                        } finally {
+                            DeploymentStatusSummary.recordDeployment(tenantDomain);
+                        }
+                    });
+            return createRemoteFetchJob(validateQueued(job));
         } catch (RemoteFetchCoreException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.ErrorMessage
                     .ERROR_CODE_ERROR_TRIGGER_REMOTE_FETCH, remoteFetchConfigurationId);
@@ -274,82 +300,28 @@ public class ServerRemoteFetchConfigManagementService {
     public StatusListResponse getStatus(String remoteFetchConfigurationId) {
 
         try {
+            // The configuration is looked up on each request, as a summary may outlive a configuration deleted on
+            // another node.
             RemoteFetchConfiguration remoteFetchConfiguration =
                     RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
                             .getRemoteFetchConfiguration(remoteFetchConfigurationId);
-
-            if (remoteFetchConfiguration != null) {
-
-                return createStatusListResponse(RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
-                        .getDeploymentRevisions(remoteFetchConfigurationId));
-            } else {
+            if (remoteFetchConfiguration == null) {
                 throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
                         ErrorMessage.ERROR_CODE_RE_CONFIG_NOT_FOUND, remoteFetchConfigurationId);
             }
+            String tenantDomain = ContextLoader.getTenantDomainFromContext();
+            DeploymentStatusSummary summary = DeploymentStatusSummary.getIfFresh(tenantDomain,
+                    remoteFetchConfigurationId);
+            if (summary == null) {
+                summary = summarizeDeploymentStatus(tenantDomain, remoteFetchConfigurationId);
+            }
+            return summary.toStatusListResponse();
         } catch (RemoteFetchCoreException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.ErrorMessage
                     .ERROR_CODE_ERROR_STATUS_REMOTE_FETCH, remoteFetchConfigurationId);
         }
     }
 
-    /**
-     * This method is used to create status list from list of deployment revisions.
-     * This method uses java stream api to count successful deployments and failed deployments.
-     *
-     * @param deploymentRevisions List of deployment revisions.
-     * @return StatusListResponse.
-     */
-    private StatusListResponse createStatusListResponse(List<DeploymentRevision> deploymentRevisions) {
-
-        StatusListResponse statusListResponse = new StatusListResponse();
-        if (CollectionUtils.isNotEmpty(deploymentRevisions)) {
-            List<StatusListItem> statusListItemList = new ArrayList<>();
-            for (DeploymentRevision deploymentRevision : deploymentRevisions) {
-                StatusListItem statusListItem = populateDeploymentRevision(deploymentRevision);
-                statusListItemList.add(statusListItem);
-            }
-            statusListResponse.setRemoteFetchRevisionStatuses(statusListItemList);
-            statusListResponse.setSuccessfulDeployments(
-                    (int) deploymentRevisions.stream()
-                            .filter(Objects::nonNull)
-                            .filter(deploymentRevision ->
-                                    deploymentRevision.getDeploymentStatus().name()
-                                            .equals(RemoteFetchConfigurationConstants.SUCCESS)).count());
-            statusListResponse.setFailedDeployments(
-                    (int) deploymentRevisions.stream()
-                            .filter(Objects::nonNull)
-                            .filter(deploymentRevision ->
-                                    deploymentRevision.getDeploymentStatus().name()
-                                            .equals(RemoteFetchConfigurationConstants.FAIL)).count());
-            Date date = deploymentRevisions.stream()
-                    .map(DeploymentRevision::getLastSynchronizedDate)
-                    .max(Date::compareTo)
-                    .orElse(null);
-
-            convertDateToStringIfNotNull(date, statusListResponse::setLastSynchronizedTime);
-            return statusListResponse;
-        } else {
-            statusListResponse.setCount(0);
-        }
-        return statusListResponse;
-    }
-
-    /**
-     * Populate deployment revision to get status list item.
-     *
-     * @param deploymentRevision DeploymentRevision.
-     * @return StatusListItem.
-     */
-    private StatusListItem populateDeploymentRevision(DeploymentRevision deploymentRevision) {
-
-        StatusListItem statusListItem = new StatusListItem();
-        statusListItem.setDeployedStatus(deploymentRevision.getDeploymentStatus().name());
-        convertDateToStringIfNotNull(deploymentRevision.getDeployedDate(), statusListItem::setDeployedTime);
-        statusListItem.setItemName(deploymentRevision.getItemName());
-        statusListItem.setDeploymentErrorReport(deploymentRevision.getErrorMessage());
-        return statusListItem;
-    }
-
     /**
      * This method is used to create remote fetch configuration object from POST request.
      * First it creates three hash map from post request.
@@ -471,10 +443,14 @@ public class ServerRemoteFetchConfigManagementService {
                 remoteFetchConfigurationGetResponse::setConfigurationDeployerType);
         setIfNotNull(remoteFetchConfiguration.getRepositoryManagerType(),
                 remoteFetchConfigurationGetResponse::setRepositoryManagerType);
-        StatusListResponse statusListResponse = this.createStatusListResponse(RemoteFetchServiceHolder
-                .getRemoteFetchConfigurationService()
-                .getDeploymentRevisions(remoteFetchConfiguration.getRemoteFetchConfigurationId()));
-        remoteFetchConfigurationGetResponse.setStatus(statusListResponse);
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String remoteFetchConfigurationId = remoteFetchConfiguration.getRemoteFetchConfigurationId();
+        DeploymentStatusSummary summary = DeploymentStatusSummary.getIfFresh(tenantDomain,
+                remoteFetchConfigurationId);
+        if (summary == null) {
+            summary = summarizeDeploymentStatus(tenantDomain, remoteFetchConfigurationId);
+        }
+        remoteFetchConfigurationGetResponse.setStatus(summary.toStatusListResponse());
         return remoteFetchConfigurationGetResponse;
     }
 
@@ -582,23 +558,108 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * This method is used to handle web hook.
+     * This method is used to handle web hook. The deployment of a push is delayed by
+     * {@link #WEB_HOOK_COALESCING_WINDOW_MILLIS}, and the pushes to the same branch which arrive before the deployment
+     * starts are deployed together, with the union of their added and modified files.
      *
      * @param pushEventWebHookPOSTRequest WebHook Post request
+     * @return Job of the deployment.
      */
-    public void handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
+    public RemoteFetchJob handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
+
+        validateWebHookRequest(pushEventWebHookPOSTRequest);
+        String cloneURL = pushEventWebHookPOSTRequest.getRepository().getCloneUrl();
+        String branch = populateBranch(pushEventWebHookPOSTRequest.getRef());
+        List<String> modifiedFiles = extractAddedAndModifiedFiles(pushEventWebHookPOSTRequest.getCommits());
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        RemoteFetchJobQueue.Job job = RemoteFetchJobQueue.enqueue(tenantDomain, "webhook:" + cloneURL + "#" + branch,
+                null, modifiedFiles, WEB_HOOK_COALESCING_WINDOW_MILLIS, changedFiles -> {
+                    try {
+                        RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
+                                .handleWebHook(cloneURL, branch, changedFiles);
+                    } finally {
+                        // The configurations of the repository are resolved by the remote fetch component.
+                        DeploymentStatusSummary.recordDeployment(tenantDomain);
+                    }
+                });
+        return createRemoteFetchJob(validateQueued(job));
+    }
 
-        try {
-            validateWebHookRequest(pushEventWebHookPOSTRequest);
-            String cloneURL = pushEventWebHookPOSTRequest.getRepository().getCloneUrl();
-            String branch = populateBranch(pushEventWebHookPOSTRequest.getRef());
-            List<String> modifiedFiles = extractAddedAndModifiedFiles(pushEventWebHookPOSTRequest.getCommits());
-            RemoteFetchServiceHolder
-                    .getRemoteFetchConfigurationService().handleWebHook(cloneURL, branch, modifiedFiles);
-        } catch (RemoteFetchCoreException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.ErrorMessage
-                    .ERROR_CODE_ERROR_WEB_HOOK_REMOTE_FETCH, null);
+    /**
+     * Get a remote fetch job started through the API on this node.
+     *
+     * @param jobId Job ID.
+     * @return RemoteFetchJob.
+     */
+    public RemoteFetchJob getRemoteFetchJob(String jobId) {
+
+        RemoteFetchJobQueue.Job job = RemoteFetchJobQueue.getJob(ContextLoader.getTenantDomainFromContext(), jobId);
+        if (job == null) {
+            throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_JOB_NOT_FOUND, jobId);
+        }
+        return createRemoteFetchJob(job);
+    }
+
+    /**
+     * Stop the remote fetch jobs of this node. Invoked when the webapp is stopped.
+     */
+    public void shutdown() {
+
+        RemoteFetchJobQueue.shutdown();
+    }
+
+    /**
+     * Validate that a remote fetch job was queued.
+     *
+     * @param job Remote fetch job, or null if the job queue was full.
+     * @return Remote fetch job.
+     */
+    private RemoteFetchJobQueue.Job validateQueued(RemoteFetchJobQueue.Job job) {
+
+        if (job == null) {
+            throw handleException(Response.Status.TOO_MANY_REQUESTS, RemoteFetchConfigurationConstants.ErrorMessage
+                    .ERROR_CODE_TOO_MANY_PENDING_JOBS, String.valueOf(RemoteFetchJobQueue.MAX_PENDING_JOBS));
         }
+        return job;
+    }
+
+    /**
+     * Summarizes the deployment revisions of a remote fetch configuration and caches the summary.
+     *
+     * @param tenantDomain               Tenant domain.
+     * @param remoteFetchConfigurationId Remote fetch configuration ID.
+     * @return DeploymentStatusSummary.
+     * @throws RemoteFetchCoreException If the deployment revisions couldn't be retrieved.
+     */
+    private DeploymentStatusSummary summarizeDeploymentStatus(String tenantDomain, String remoteFetchConfigurationId)
+            throws RemoteFetchCoreException {
+
+        return DeploymentStatusSummary.load(tenantDomain, remoteFetchConfigurationId, () -> RemoteFetchServiceHolder
+                .getRemoteFetchConfigurationService().getDeploymentRevisions(remoteFetchConfigurationId));
+    }
+
+    /**
+     * Create the API model of a remote fetch job.
+     *
+     * @param job Remote fetch job.
+     * @return RemoteFetchJob.
+     */
+    private RemoteFetchJob createRemoteFetchJob(RemoteFetchJobQueue.Job job) {
+
+        RemoteFetchJob remoteFetchJob = new RemoteFetchJob();
+        remoteFetchJob.setId(job.getId());
+        remoteFetchJob.setRemoteFetchConfigurationId(job.getRemoteFetchConfigurationId());
+        remoteFetchJob.setStatus(job.getStatus());
+        remoteFetchJob.setCoalescedRequests(job.getCoalescedRequests());
+        remoteFetchJob.setChangedFiles(job.getChangedFiles());
+        convertDateToStringIfNotNull(job.getCreatedTime(), remoteFetchJob::setCreatedTime);
+        convertDateToStringIfNotNull(job.getStartedTime(), remoteFetchJob::setStartedTime);
+        convertDateToStringIfNotNull(job.getCompletedTime(), remoteFetchJob::setCompletedTime);
+        remoteFetchJob.setSelf(ContextLoader.buildURIForBody(Constants.V1_API_PATH_COMPONENT +
+                RemoteFetchConfigurationConstants.REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT +
+                RemoteFetchConfigurationConstants.REMOTE_FETCH_JOB_PATH_COMPONENT + "/" + job.getId()).toString());
+        return remoteFetchJob;
     }
 
     /**
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.PushEventWebHoo
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJob;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import java.net.URI;
 import javax.ws.rs.core.Response;
@@ -67,6 +68,12 @@ public class RemoteFetchApiServiceImpl implements RemoteFetchApiService {
         return Response.ok().entity(remoteFetchConfigurationListResponse).build();
     }
 
+    @Override
+    public Response getRemoteFetchJob(String jobId) {
+
+        return Response.ok().entity(serverRemoteFetchConfigManagementService.getRemoteFetchJob(jobId)).build();
+    }
+
     @Override
     public Response getStatus(String id) {
 
@@ -77,15 +84,16 @@ public class RemoteFetchApiServiceImpl implements RemoteFetchApiService {
     @Override
     public Response handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
 
-        serverRemoteFetchConfigManagementService.handleWebHook(pushEventWebHookPOSTRequest);
-        return Response.accepted().build();
+        RemoteFetchJob remoteFetchJob =
+                serverRemoteFetchConfigManagementService.handleWebHook(pushEventWebHookPOSTRequest);
+        return Response.accepted().location(getJobLocation(remoteFetchJob.getId())).entity(remoteFetchJob).build();
     }
 
     @Override
     public Response triggerRemoteFetch(String id) {
 
-        serverRemoteFetchConfigManagementService.triggerRemoteFetch(id);
-        return Response.accepted().build();
+        RemoteFetchJob remoteFetchJob = serverRemoteFetchConfigManagementService.triggerRemoteFetch(id);
+        return Response.accepted().location(getJobLocation(remoteFetchJob.getId())).entity(remoteFetchJob).build();
     }
 
     @Override
@@ -101,4 +109,11 @@ public class RemoteFetchApiServiceImpl implements RemoteFetchApiService {
         return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
                 RemoteFetchConfigurationConstants.REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT + "/" + resourceId);
     }
+
+    private URI getJobLocation(String jobId) {
+
+        return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
+                RemoteFetchConfigurationConstants.REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT +
+                RemoteFetchConfigurationConstants.REMOTE_FETCH_JOB_PATH_COMPONENT + "/" + jobId);
+    }
 }
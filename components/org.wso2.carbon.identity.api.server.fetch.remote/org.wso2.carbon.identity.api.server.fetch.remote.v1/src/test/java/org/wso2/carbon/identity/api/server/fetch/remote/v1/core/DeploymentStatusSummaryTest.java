@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test for DeploymentStatusSummary.
+ */
+public class DeploymentStatusSummaryTest {
+
+    private static final String CONFIGURATION_ID = "00000000-0000-0000-0000-000000000001";
+
+    private String tenantDomain;
+    private static int tenantCount;
+
+    @BeforeMethod
+    public void setUp() {
+
+        // The summaries are held per tenant for the lifetime of the webapp, hence each test uses its own tenant.
+        tenantDomain = "summary" + tenantCount++ + ".com";
+    }
+
+    @Test
+    public void testLoadedSummaryIsFresh() throws Exception {
+
+        assertNull(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID));
+        DeploymentStatusSummary summary = load();
+
+        assertSame(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID), summary);
+        assertNull(DeploymentStatusSummary.getIfFresh(tenantDomain, "other-configuration"));
+    }
+
+    @Test
+    public void testDeploymentInvalidatesSummaries() throws Exception {
+
+        load();
+        DeploymentStatusSummary.recordDeployment(tenantDomain);
+
+        assertNull(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID));
+        DeploymentStatusSummary summary = load();
+        assertSame(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID), summary);
+    }
+
+    @Test
+    public void testDeploymentOfOtherNodesIsNotObserved() throws Exception {
+
+        DeploymentStatusSummary summary = load();
+        TenantResourceVersions.increment(TenantResourceVersions.REMOTE_FETCH_DEPLOYMENTS, "other" + tenantDomain);
+
+        assertSame(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID), summary);
+    }
+
+    @Test
+    public void testSummaryLoadedDuringDeploymentIsStale() throws Exception {
+
+        DeploymentStatusSummary.load(tenantDomain, CONFIGURATION_ID, () -> {
+            // The revisions are read before a deployment, which completes before the summary is published.
+            DeploymentStatusSummary.recordDeployment(tenantDomain);
+            return Collections.emptyList();
+        });
+
+        assertNull(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID));
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+
+        load();
+        DeploymentStatusSummary.invalidate(tenantDomain, CONFIGURATION_ID);
+
+        assertNull(DeploymentStatusSummary.getIfFresh(tenantDomain, CONFIGURATION_ID));
+    }
+
+    private DeploymentStatusSummary load() throws Exception {
+
+        return DeploymentStatusSummary.load(tenantDomain, CONFIGURATION_ID, Collections::emptyList);
+    }
+}
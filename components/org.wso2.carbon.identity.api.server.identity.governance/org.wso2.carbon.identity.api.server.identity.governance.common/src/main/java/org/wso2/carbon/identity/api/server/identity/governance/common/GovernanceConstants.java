@@ -26,6 +26,12 @@ public class GovernanceConstants {
     public static final String REL_CONNECTOR = "connector";
     public static final String IDENTITY_GOVERNANCE_PATH_COMPONENT = "/identity-governance";
 
+    // Attributes of the connector category listing.
+    public static final String ATTRIBUTE_PROPERTIES = "properties";
+    public static final String FILTER_ATTRIBUTE_CATEGORY = "category";
+    public static final String FILTER_ATTRIBUTE_NAME = "name";
+    public static final String FILTER_ATTRIBUTE_PROPERTY_NAME = "properties.name";
+
     /**
      * Enum for identity governance related errors in the format of
      * Error Code - code to identify the error
@@ -71,7 +77,17 @@ public class GovernanceConstants {
         ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION("50013", "Connector update failed.",
                 "Unable to update the identity governance connector %s."),
         ERROR_CODE_INVALID_PASSWORD_EXPIRY_RULE("50014", "Connector update failed.",
-                "Password expiry rule: %s is invalid.");
+                "Password expiry rule: %s is invalid."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("50015", "Invalid pagination parameters.",
+                "The limit must be a positive integer and the offset must not be negative."),
+        ERROR_CODE_INVALID_FILTER_FORMAT("50016", "Invalid filter.",
+                "The filter: %s is not in a supported format."),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("50017", "Unsupported filter attribute.",
+                "The filter attribute: %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("50018", "Unsupported filter operation.",
+                "The filter operation: %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_ATTRIBUTE("50019", "Unsupported attribute.",
+                "The attribute: %s is not supported.");
 
         private final String code;
         private final String message;
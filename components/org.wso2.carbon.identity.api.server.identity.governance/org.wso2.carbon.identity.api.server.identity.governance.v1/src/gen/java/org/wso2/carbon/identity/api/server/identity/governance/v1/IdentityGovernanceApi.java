@@ -58,13 +58,14 @@ public class IdentityGovernanceApi  {
     }, tags={ "Management", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Governance connector categories.", response = CategoriesRes.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Bad Request.", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented.", response = Error.class)
     })
-    public Response getCategories(    @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records.")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted.")  @QueryParam("sort") String sort) {
+    public Response getCategories(    @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records.")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted.")  @QueryParam("sort") String sort,     @Valid@ApiParam(value = "Additional attributes of the connectors to return. The properties attribute returns the metadata of the connector properties without their values.")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getCategories(limit,  offset,  filter,  sort );
+        return delegate.getCategories(limit,  offset,  filter,  sort,  attributes );
     }
 
     @Valid
@@ -29,7 +29,7 @@ import javax.ws.rs.core.Response;
 
 public interface IdentityGovernanceApiService {
 
-      public Response getCategories(Integer limit, Integer offset, String filter, String sort);
+      public Response getCategories(Integer limit, Integer offset, String filter, String sort, String attributes);
 
       public Response getConnector(String categoryId, String connectorId);
 
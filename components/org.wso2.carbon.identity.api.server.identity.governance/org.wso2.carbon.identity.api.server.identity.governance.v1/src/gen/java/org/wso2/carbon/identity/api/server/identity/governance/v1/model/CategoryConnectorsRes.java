@@ -20,6 +20,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyRes;
 import javax.validation.constraints.*;
 
 /**
@@ -35,6 +38,11 @@ public class CategoryConnectorsRes  {
   
     private String id;
     private String self;
+    private String name;
+    private String friendlyName;
+    private Integer order;
+    private String subCategory;
+    private List<PropertyRes> properties = null;
 
     /**
     * Connector id.
@@ -74,7 +82,110 @@ public class CategoryConnectorsRes  {
         this.self = self;
     }
 
+    /**
+    * Connector name.
+    **/
+    public CategoryConnectorsRes name(String name) {
+
+        this.name = name;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "suspension.notification", value = "Connector name.")
+    @JsonProperty("name")
+    @Valid
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+    * Connector friendly name.
+    **/
+    public CategoryConnectorsRes friendlyName(String friendlyName) {
+
+        this.friendlyName = friendlyName;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Lock Idle Accounts", value = "Connector friendly name.")
+    @JsonProperty("friendlyName")
+    @Valid
+    public String getFriendlyName() {
+        return friendlyName;
+    }
+    public void setFriendlyName(String friendlyName) {
+        this.friendlyName = friendlyName;
+    }
+
+    /**
+    * Connector order.
+    **/
+    public CategoryConnectorsRes order(Integer order) {
+
+        this.order = order;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "0", value = "Connector order.")
+    @JsonProperty("order")
+    @Valid
+    public Integer getOrder() {
+        return order;
+    }
+    public void setOrder(Integer order) {
+        this.order = order;
+    }
+
+    /**
+    * Connector subcategory.
+    **/
+    public CategoryConnectorsRes subCategory(String subCategory) {
+
+        this.subCategory = subCategory;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "DEFAULT", value = "Connector subcategory.")
+    @JsonProperty("subCategory")
+    @Valid
+    public String getSubCategory() {
+        return subCategory;
+    }
+    public void setSubCategory(String subCategory) {
+        this.subCategory = subCategory;
+    }
 
+    /**
+    * Metadata of the connector properties, without their values.
+    **/
+    public CategoryConnectorsRes properties(List<PropertyRes> properties) {
+
+        this.properties = properties;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Metadata of the connector properties, without their values.")
+    @JsonProperty("properties")
+    @Valid
+    public List<PropertyRes> getProperties() {
+        return properties;
+    }
+    public void setProperties(List<PropertyRes> properties) {
+        this.properties = properties;
+    }
+
+    public CategoryConnectorsRes addPropertiesItem(PropertyRes propertiesItem) {
+        if (this.properties == null) {
+            this.properties = new ArrayList<>();
+        }
+        this.properties.add(propertiesItem);
+        return this;
+    }
+
+    
 
     @Override
     public boolean equals(java.lang.Object o) {
@@ -87,12 +198,17 @@ public class CategoryConnectorsRes  {
         }
         CategoryConnectorsRes categoryConnectorsRes = (CategoryConnectorsRes) o;
         return Objects.equals(this.id, categoryConnectorsRes.id) &&
-            Objects.equals(this.self, categoryConnectorsRes.self);
+            Objects.equals(this.self, categoryConnectorsRes.self) &&
+            Objects.equals(this.name, categoryConnectorsRes.name) &&
+            Objects.equals(this.friendlyName, categoryConnectorsRes.friendlyName) &&
+            Objects.equals(this.order, categoryConnectorsRes.order) &&
+            Objects.equals(this.subCategory, categoryConnectorsRes.subCategory) &&
+            Objects.equals(this.properties, categoryConnectorsRes.properties);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, self);
+        return Objects.hash(id, self, name, friendlyName, order, subCategory, properties);
     }
 
     @Override
@@ -103,6 +219,11 @@ public class CategoryConnectorsRes  {
         
         sb.append("    id: ").append(toIndentedString(id)).append("\n");
         sb.append("    self: ").append(toIndentedString(self)).append("\n");
+        sb.append("    name: ").append(toIndentedString(name)).append("\n");
+        sb.append("    friendlyName: ").append(toIndentedString(friendlyName)).append("\n");
+        sb.append("    order: ").append(toIndentedString(order)).append("\n");
+        sb.append("    subCategory: ").append(toIndentedString(subCategory)).append("\n");
+        sb.append("    properties: ").append(toIndentedString(properties)).append("\n");
         sb.append("}");
         return sb.toString();
     }
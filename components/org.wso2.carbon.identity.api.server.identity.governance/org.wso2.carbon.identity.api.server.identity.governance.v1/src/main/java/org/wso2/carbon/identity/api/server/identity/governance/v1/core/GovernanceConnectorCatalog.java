@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.governance.IdentityGovernanceException;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tenant catalog of the governance connector categories, connectors and connector property metadata. The
+ * catalog holds no property values, which are the only part of the connector configurations that change at runtime
+ * through this API. A catalog is rebuilt once it is older than {@link #MAX_AGE_MILLIS} or invalidated by a connector
+ * update, so that connectors deployed or changed outside this API are picked up as well.
+ */
+final class GovernanceConnectorCatalog {
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, GovernanceConnectorCatalog> TENANT_CATALOGS = new ConcurrentHashMap<>();
+
+    private final List<Category> categories;
+    private final long createdTime = System.currentTimeMillis();
+
+    private GovernanceConnectorCatalog(Map<String, List<ConnectorConfig>> categorizedConnectorConfigs) {
+
+        List<Category> categoryList = new ArrayList<>(categorizedConnectorConfigs.size());
+        for (Map.Entry<String, List<ConnectorConfig>> category : categorizedConnectorConfigs.entrySet()) {
+            List<Connector> connectors = new ArrayList<>(category.getValue().size());
+            for (ConnectorConfig connectorConfig : category.getValue()) {
+                connectors.add(new Connector(connectorConfig));
+            }
+            categoryList.add(new Category(category.getKey(), connectors));
+        }
+        this.categories = Collections.unmodifiableList(categoryList);
+    }
+
+    /**
+     * Returns the catalog of a tenant, building it when the tenant has no catalog or its catalog is stale.
+     *
+     * @param identityGovernanceService Identity governance service.
+     * @param tenantDomain              Tenant domain.
+     * @return Catalog of the tenant.
+     * @throws IdentityGovernanceException If an error occurred while retrieving the connector configurations.
+     */
+    static GovernanceConnectorCatalog get(IdentityGovernanceService identityGovernanceService, String tenantDomain)
+            throws IdentityGovernanceException {
+
+        GovernanceConnectorCatalog catalog = TENANT_CATALOGS.get(tenantDomain);
+        if (catalog == null || catalog.isStale()) {
+            catalog = new GovernanceConnectorCatalog(
+                    identityGovernanceService.getCategorizedConnectorListWithConfigs(tenantDomain));
+            TENANT_CATALOGS.put(tenantDomain, catalog);
+        }
+        return catalog;
+    }
+
+    /**
+     * Drops the catalog of a tenant, so that the next request of the tenant rebuilds it.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    static void invalidate(String tenantDomain) {
+
+        TENANT_CATALOGS.remove(tenantDomain);
+    }
+
+    private boolean isStale() {
+
+        return System.currentTimeMillis() - createdTime > MAX_AGE_MILLIS;
+    }
+
+    /**
+     * Categories of the catalog, in the order of the identity governance service.
+     *
+     * @return Unmodifiable list of categories.
+     */
+    List<Category> getCategories() {
+
+        return categories;
+    }
+
+    private static String encodeId(String name) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Governance connector category of the catalog.
+     */
+    static final class Category {
+
+        private final String id;
+        private final String name;
+        private final List<Connector> connectors;
+
+        private Category(String name, List<Connector> connectors) {
+
+            this.id = encodeId(name);
+            this.name = name;
+            this.connectors = Collections.unmodifiableList(connectors);
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        String getName() {
+
+            return name;
+        }
+
+        List<Connector> getConnectors() {
+
+            return connectors;
+        }
+    }
+
+    /**
+     * Governance connector of the catalog.
+     */
+    static final class Connector {
+
+        private final String id;
+        private final String name;
+        private final String friendlyName;
+        private final String category;
+        private final String subCategory;
+        private final int order;
+        private final List<PropertyMetadata> properties;
+
+        private Connector(ConnectorConfig connectorConfig) {
+
+            this.id = encodeId(connectorConfig.getName());
+            this.name = connectorConfig.getName();
+            this.friendlyName = connectorConfig.getFriendlyName();
+            this.category = connectorConfig.getCategory();
+            this.subCategory = connectorConfig.getSubCategory();
+            this.order = connectorConfig.getOrder();
+            List<PropertyMetadata> propertyList = new ArrayList<>();
+            if (connectorConfig.getProperties() != null) {
+                for (Property property : connectorConfig.getProperties()) {
+                    propertyList.add(new PropertyMetadata(property));
+                }
+            }
+            this.properties = Collections.unmodifiableList(propertyList);
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        String getName() {
+
+            return name;
+        }
+
+        String getFriendlyName() {
+
+            return friendlyName;
+        }
+
+        String getCategory() {
+
+            return category;
+        }
+
+        String getSubCategory() {
+
+            return subCategory;
+        }
+
+        int getOrder() {
+
+            return order;
+        }
+
+        List<PropertyMetadata> getProperties() {
+
+            return properties;
+        }
+    }
+
+    /**
+     * Metadata of a governance connector property, without the value of the property.
+     */
+    static final class PropertyMetadata {
+
+        private final String name;
+        private final String displayName;
+        private final String description;
+        private final String type;
+        private final String regex;
+        private final int groupId;
+
+        private PropertyMetadata(Property property) {
+
+            this.name = property.getName();
+            this.displayName = property.getDisplayName();
+            this.description = property.getDescription();
+            this.type = property.getType();
+            this.regex = property.getRegex();
+            this.groupId = property.getGroupId();
+        }
+
+        String getName() {
+
+            return name;
+        }
+
+        String getDisplayName() {
+
+            return displayName;
+        }
+
+        String getDescription() {
+
+            return description;
+        }
+
+        String getType() {
+
+            return type;
+        }
+
+        String getRegex() {
+
+            return regex;
+        }
+
+        int getGroupId() {
+
+            return groupId;
+        }
+    }
+}
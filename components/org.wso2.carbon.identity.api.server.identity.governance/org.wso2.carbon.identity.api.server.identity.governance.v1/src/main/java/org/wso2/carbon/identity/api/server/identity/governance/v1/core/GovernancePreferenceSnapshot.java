@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.governance.IdentityGovernanceException;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per tenant snapshot of the resolved properties of the governance connectors, which serves the connector
+ * preferences requested by the login and recovery portals. A snapshot is built with a single load of the connectors
+ * of the tenant, instead of a load of the tenant governance configuration per requested connector.
+ * <p>
+ * Connector updates made through this API are tracked by {@link TenantResourceVersions} and publish a new snapshot
+ * of the tenant. The version is read before the connectors are loaded, hence a snapshot loaded concurrently with an
+ * update carries the version before the update and never replaces the snapshot published for the update. The
+ * connector configurations of a tenant may also change on another node or through the tenant configuration files,
+ * which this node doesn't observe, hence a snapshot is also reloaded once it is older than {@link #MAX_AGE_MILLIS}.
+ * <p>
+ * The lookups served from a snapshot and the lookups which had to load one are counted, and reported in the debug
+ * log of each snapshot load.
+ */
+final class GovernancePreferenceSnapshot {
+
+    private static final Log LOG = LogFactory.getLog(GovernancePreferenceSnapshot.class);
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, GovernancePreferenceSnapshot> TENANT_SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private final Map<String, Property[]> connectorProperties;
+    private final long createdTime;
+    private final long connectorVersion;
+
+    private GovernancePreferenceSnapshot(List<ConnectorConfig> connectorConfigs, long connectorVersion) {
+
+        Map<String, Property[]> properties = new HashMap<>();
+        if (connectorConfigs != null) {
+            for (ConnectorConfig connectorConfig : connectorConfigs) {
+                properties.put(connectorConfig.getName(), connectorConfig.getProperties() == null ?
+                        new Property[0] : connectorConfig.getProperties());
+            }
+        }
+        this.connectorProperties = Collections.unmodifiableMap(properties);
+        this.createdTime = System.currentTimeMillis();
+        this.connectorVersion = connectorVersion;
+    }
+
+    /**
+     * Returns the snapshot of a tenant, loading it if there is none or the current one is stale.
+     *
+     * @param identityGovernanceService Identity governance service.
+     * @param tenantDomain              Tenant domain.
+     * @return Snapshot of the tenant.
+     * @throws IdentityGovernanceException If an error occurred while loading the governance connectors.
+     */
+    static GovernancePreferenceSnapshot get(IdentityGovernanceService identityGovernanceService, String tenantDomain)
+            throws IdentityGovernanceException {
+
+        GovernancePreferenceSnapshot snapshot = TENANT_SNAPSHOTS.get(tenantDomain);
+        if (snapshot != null && !snapshot.isStale(tenantDomain)) {
+            HITS.incrementAndGet();
+            return snapshot;
+        }
+        MISSES.incrementAndGet();
+        return publish(identityGovernanceService, tenantDomain);
+    }
+
+    /**
+     * Loads and publishes a new snapshot of a tenant. Called after an update of the governance configuration of the
+     * tenant has been recorded with {@link TenantResourceVersions}.
+     *
+     * @param identityGovernanceService Identity governance service.
+     * @param tenantDomain              Tenant domain.
+     * @return Published snapshot.
+     * @throws IdentityGovernanceException If an error occurred while loading the governance connectors.
+     */
+    static GovernancePreferenceSnapshot publish(IdentityGovernanceService identityGovernanceService,
+                                                String tenantDomain) throws IdentityGovernanceException {
+
+        // The version is read before the load, so that an update during the load leaves the snapshot stale.
+        long connectorVersion = TenantResourceVersions.get(TenantResourceVersions.GOVERNANCE_CONNECTORS,
+                tenantDomain);
+        GovernancePreferenceSnapshot snapshot = new GovernancePreferenceSnapshot(
+                identityGovernanceService.getConnectorListWithConfigs(tenantDomain), connectorVersion);
+        // A concurrent load which read a later version is kept.
+        TENANT_SNAPSHOTS.merge(tenantDomain, snapshot, (currentSnapshot, loadedSnapshot) ->
+                currentSnapshot.connectorVersion > loadedSnapshot.connectorVersion ? currentSnapshot : loadedSnapshot);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Loaded the governance preference snapshot of the tenant: %s at the connector " +
+                    "version: %d. Snapshot hits: %d, misses: %d.", tenantDomain, connectorVersion, getHitCount(),
+                    getMissCount()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Number of preference lookups served from a snapshot, since the server started.
+     *
+     * @return Hit count.
+     */
+    static long getHitCount() {
+
+        return HITS.get();
+    }
+
+    /**
+     * Number of preference lookups which had to load a snapshot, since the server started.
+     *
+     * @return Miss count.
+     */
+    static long getMissCount() {
+
+        return MISSES.get();
+    }
+
+    /**
+     * Evicts the snapshot of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    static void invalidate(String tenantDomain) {
+
+        TENANT_SNAPSHOTS.remove(tenantDomain);
+    }
+
+    /**
+     * Returns the properties of a connector.
+     *
+     * @param connectorName Name of the connector.
+     * @return Properties of the connector, or null if the tenant has no such connector.
+     */
+    Property[] getProperties(String connectorName) {
+
+        return connectorProperties.get(connectorName);
+    }
+
+    private boolean isStale(String tenantDomain) {
+
+        return System.currentTimeMillis() - createdTime > MAX_AGE_MILLIS || connectorVersion !=
+                TenantResourceVersions.get(TenantResourceVersions.GOVERNANCE_CONNECTORS, tenantDomain);
+    }
+}
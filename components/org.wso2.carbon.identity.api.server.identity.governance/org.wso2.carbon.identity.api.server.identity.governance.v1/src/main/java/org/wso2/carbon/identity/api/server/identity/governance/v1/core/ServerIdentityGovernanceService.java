@@ -23,8 +23,12 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.listing.ListingFilter;
+import org.wso2.carbon.identity.api.server.common.listing.ListingFilterException;
+import org.wso2.carbon.identity.api.server.common.listing.ListingPage;
 import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants;
 import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceDataHolder;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoriesRes;
@@ -48,18 +52,24 @@ import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRule;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForBody;
-import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT;
 import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE;
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION;
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.FILTER_ATTRIBUTE_CATEGORY;
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.FILTER_ATTRIBUTE_NAME;
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.FILTER_ATTRIBUTE_PROPERTY_NAME;
 import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.IDENTITY_GOVERNANCE_PATH_COMPONENT;
 import static org.wso2.carbon.identity.password.expiry.constants.PasswordPolicyConstants.PASSWORD_EXPIRY_RULES_PREFIX;
 
@@ -71,25 +81,50 @@ public class ServerIdentityGovernanceService {
     private static final Log LOG = LogFactory.getLog(ServerIdentityGovernanceService.class);
 
     /**
-     * Get all governance connector categories.
+     * Get governance connector categories. The categories are listed with the connectors matching the filter, and
+     * categories without such connectors are omitted.
      *
-     * @param limit  Page size.
-     * @param offset Page start index.
-     * @param filter Filter to search for categories.
-     * @param sort   Sort order.
+     * @param limit      Maximum number of categories to return.
+     * @param offset     Number of categories to skip.
+     * @param filter     Filter of the connectors, on the category, name and property names of the connectors.
+     * @param sort       Sort order.
+     * @param attributes Additional attributes of the connectors to return. Only the properties attribute, which
+     *                   returns the property metadata without the property values, is supported.
      * @return List of governance connector categories.
      */
-    public List<CategoriesRes> getGovernanceConnectors(Integer limit, Integer offset, String filter, String sort) {
+    public ListingPage<CategoriesRes> getGovernanceConnectors(Integer limit, Integer offset, String filter,
+                                                              String sort, String attributes) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
+        handleNotImplementedSorting(sort);
+        if ((limit != null && limit <= 0) || (offset != null && offset < 0)) {
+            throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER);
+        }
+        boolean includeProperties = isPropertiesRequested(attributes);
+        ListingFilter<GovernanceConnectorCatalog.Connector> connectorFilter = buildConnectorFilter(filter);
 
         try {
             IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-            Map<String, List<ConnectorConfig>> connectorConfigs =
-                    identityGovernanceService.getCategorizedConnectorListWithConfigs(tenantDomain);
-
-            return buildConnectorCategoriesResDTOS(connectorConfigs);
+            GovernanceConnectorCatalog catalog = GovernanceConnectorCatalog.get(identityGovernanceService,
+                    tenantDomain);
+
+            List<Map.Entry<GovernanceConnectorCatalog.Category, List<GovernanceConnectorCatalog.Connector>>>
+                    matchedCategories = new ArrayList<>();
+            for (GovernanceConnectorCatalog.Category category : catalog.getCategories()) {
+                List<GovernanceConnectorCatalog.Connector> connectors = new ArrayList<>();
+                for (GovernanceConnectorCatalog.Connector connector : category.getConnectors()) {
+                    if (connectorFilter.matches(connector)) {
+                        connectors.add(connector);
+                    }
+                }
+                if (!connectors.isEmpty()) {
+                    matchedCategories.add(new AbstractMap.SimpleImmutableEntry<>(category, connectors));
+                }
+            }
+            // Every matching category is counted for the total, while only the ones of the page are built.
+            return ListingPage.of(matchedCategories, limit, offset,
+                    match -> buildCategoriesResDTO(match.getKey(), match.getValue(), includeProperties),
+                    IDENTITY_GOVERNANCE_PATH_COMPONENT, attributes, filter);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -190,28 +225,24 @@ public class ServerIdentityGovernanceService {
 
         IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        GovernancePreferenceSnapshot snapshot;
+        try {
+            snapshot = GovernancePreferenceSnapshot.get(identityGovernanceService, tenantDomain);
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
         List<PreferenceResp> preferenceRespList = new ArrayList<>();
         for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
             String connectorName = prefSearchAttr.getConnectorName();
-            List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
+            Property[] properties = snapshot.getProperties(connectorName);
+            if (properties == null) {
+                throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
                         connectorName);
-                if (connectorConfig == null) {
-                    throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
-                            connectorName);
-                }
-                properties = connectorConfig.getProperties();
-                PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
-                preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
             }
+            preferenceRespList.add(buildPreferenceRespDTO(connectorName, properties, prefSearchAttr.getProperties()));
         }
         return preferenceRespList;
     }
@@ -308,6 +339,8 @@ public class ServerIdentityGovernanceService {
                 }
             }
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            GovernanceConnectorCatalog.invalidate(tenantDomain);
+            publishPreferenceSnapshot(identityGovernanceService, tenantDomain);
         } catch (IdentityGovernanceClientException e) {
             throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION,
                     e.getMessage());
@@ -366,6 +399,8 @@ public class ServerIdentityGovernanceService {
             }
 
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            GovernanceConnectorCatalog.invalidate(tenantDomain);
+            publishPreferenceSnapshot(identityGovernanceService, tenantDomain);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -375,6 +410,22 @@ public class ServerIdentityGovernanceService {
         }
     }
 
+    /**
+     * Record the update of the tenant and publish its connector preferences. The update has already been stored, so a
+     * failure only evicts the current snapshot, which is then reloaded by the next preference request.
+     */
+    private void publishPreferenceSnapshot(IdentityGovernanceService identityGovernanceService,
+                                           String tenantDomain) {
+
+        TenantResourceVersions.increment(TenantResourceVersions.GOVERNANCE_CONNECTORS, tenantDomain);
+        try {
+            GovernancePreferenceSnapshot.publish(identityGovernanceService, tenantDomain);
+        } catch (IdentityGovernanceException e) {
+            GovernancePreferenceSnapshot.invalidate(tenantDomain);
+            LOG.warn("Error while publishing the governance preference snapshot of the tenant: " + tenantDomain, e);
+        }
+    }
+
     private APIError handleException(Exception e, GovernanceConstants.ErrorMessage errorEnum, Response.Status status,
                                      String... data) {
 
@@ -391,58 +442,106 @@ public class ServerIdentityGovernanceService {
         return new APIError(status, errorResponse);
     }
 
-    private List<CategoriesRes> buildConnectorCategoriesResDTOS(
-            Map<String, List<ConnectorConfig>> connectorConfigs) {
-
-        List<CategoriesRes> categories = new ArrayList<>();
+    private boolean isPropertiesRequested(String attributes) {
 
-        for (Map.Entry<String, List<ConnectorConfig>> category : connectorConfigs.entrySet()) {
-
-            CategoriesRes categoriesRes = new CategoriesRes();
-            categoriesRes.setName(category.getKey());
-            String categoryId = Base64.getUrlEncoder()
-                    .withoutPadding()
-                    .encodeToString(category.getKey().getBytes(StandardCharsets.UTF_8));
-            categoriesRes.setId(categoryId);
-            URI categoryLocation =
-                    buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDENTITY_GOVERNANCE_PATH_COMPONENT + "/%s",
-                            categoryId));
-            categoriesRes.setSelf(categoryLocation.toString());
-
-            List<CategoryConnectorsRes> connectors = buildCategoryConnectorsResDTOS(categoryId, category.getValue());
-            categoriesRes.setConnectors(connectors);
-            categories.add(categoriesRes);
+        if (StringUtils.isBlank(attributes)) {
+            return false;
         }
-
-        return categories;
+        for (String attribute : attributes.split(",")) {
+            if (!GovernanceConstants.ATTRIBUTE_PROPERTIES.equals(attribute.trim())) {
+                throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_ATTRIBUTE,
+                        attribute);
+            }
+        }
+        return true;
     }
 
-    private List<ConnectorRes> buildConnectorsResDTOS(List<ConnectorConfig> connectorConfigList) {
+    /**
+     * Parses and validates the filter of the connector category listing, e.g. {@code category eq Login Attempts
+     * Security and properties.name eq account.lock.handler.enable}. The filter is evaluated against each connector.
+     */
+    private ListingFilter<GovernanceConnectorCatalog.Connector> buildConnectorFilter(String filter) {
 
-        List<ConnectorRes> connectors = new ArrayList<>();
-        for (ConnectorConfig connectorConfig : connectorConfigList) {
-            ConnectorRes connectorResDTO = buildConnectorResDTO(connectorConfig);
-            connectors.add(connectorResDTO);
+        try {
+            return ListingFilter.<GovernanceConnectorCatalog.Connector>builder()
+                    .withAttribute(FILTER_ATTRIBUTE_CATEGORY, GovernanceConnectorCatalog.Connector::getCategory)
+                    .withAttribute(FILTER_ATTRIBUTE_NAME, GovernanceConnectorCatalog.Connector::getName)
+                    .withMultiValuedAttribute(FILTER_ATTRIBUTE_PROPERTY_NAME, connector ->
+                            connector.getProperties().stream()
+                                    .map(GovernanceConnectorCatalog.PropertyMetadata::getName)
+                                    .collect(Collectors.toList()))
+                    .build(filter);
+        } catch (ListingFilterException e) {
+            switch (e.getReason()) {
+                case UNSUPPORTED_ATTRIBUTE:
+                    throw handleBadRequestError(ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE, e.getData());
+                case UNSUPPORTED_OPERATION:
+                    throw handleBadRequestError(ERROR_CODE_UNSUPPORTED_FILTER_OPERATION, e.getData());
+                default:
+                    throw handleBadRequestError(ERROR_CODE_INVALID_FILTER_FORMAT, e.getData());
+            }
         }
-        return connectors;
     }
 
-    private List<CategoryConnectorsRes> buildCategoryConnectorsResDTOS(String categoryId,
-                                                                       List<ConnectorConfig> connectorConfigList) {
+    private CategoriesRes buildCategoriesResDTO(GovernanceConnectorCatalog.Category category,
+                                                List<GovernanceConnectorCatalog.Connector> connectors,
+                                                boolean includeProperties) {
 
-        List<CategoryConnectorsRes> connectors = new ArrayList<>();
-        for (ConnectorConfig connectorConfig : connectorConfigList) {
+        CategoriesRes categoriesRes = new CategoriesRes();
+        categoriesRes.setName(category.getName());
+        categoriesRes.setId(category.getId());
+        URI categoryLocation =
+                buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDENTITY_GOVERNANCE_PATH_COMPONENT + "/%s",
+                        category.getId()));
+        categoriesRes.setSelf(categoryLocation.toString());
+
+        List<CategoryConnectorsRes> connectorsResDTOS = new ArrayList<>();
+        for (GovernanceConnectorCatalog.Connector connector : connectors) {
             CategoryConnectorsRes connectorsResDTO = new CategoryConnectorsRes();
-            String connectorId = Base64.getUrlEncoder()
-                    .withoutPadding()
-                    .encodeToString(connectorConfig.getName().getBytes(StandardCharsets.UTF_8));
-            connectorsResDTO.setId(connectorId);
+            connectorsResDTO.setId(connector.getId());
             URI connectorLocation =
                     buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDENTITY_GOVERNANCE_PATH_COMPONENT + "/%s" +
-                                    "/connectors/%s",
-                            categoryId, connectorId));
+                            "/connectors/%s", category.getId(), connector.getId()));
             connectorsResDTO.setSelf(connectorLocation.toString());
-            connectors.add(connectorsResDTO);
+            if (includeProperties) {
+                connectorsResDTO.setName(connector.getName());
+                connectorsResDTO.setFriendlyName(connector.getFriendlyName());
+                connectorsResDTO.setOrder(connector.getOrder());
+                connectorsResDTO.setSubCategory(connector.getSubCategory());
+                connectorsResDTO.setProperties(buildPropertyMetadataResDTOS(connector.getProperties()));
+            }
+            connectorsResDTOS.add(connectorsResDTO);
+        }
+        categoriesRes.setConnectors(connectorsResDTOS);
+        return categoriesRes;
+    }
+
+    private List<PropertyRes> buildPropertyMetadataResDTOS(
+            List<GovernanceConnectorCatalog.PropertyMetadata> propertyMetadataList) {
+
+        List<PropertyRes> properties = new ArrayList<>(propertyMetadataList.size());
+        for (GovernanceConnectorCatalog.PropertyMetadata propertyMetadata : propertyMetadataList) {
+            PropertyRes propertyRes = new PropertyRes();
+            propertyRes.setName(propertyMetadata.getName());
+            propertyRes.setDisplayName(propertyMetadata.getDisplayName());
+            propertyRes.setDescription(propertyMetadata.getDescription() != null ?
+                    propertyMetadata.getDescription() : "");
+            MetaRes metaRes = new MetaRes();
+            metaRes.setType(propertyMetadata.getType());
+            metaRes.setRegex(propertyMetadata.getRegex());
+            metaRes.setGroupID(propertyMetadata.getGroupId());
+            propertyRes.setMeta(metaRes);
+            properties.add(propertyRes);
+        }
+        return properties;
+    }
+
+    private List<ConnectorRes> buildConnectorsResDTOS(List<ConnectorConfig> connectorConfigList) {
+
+        List<ConnectorRes> connectors = new ArrayList<>();
+        for (ConnectorConfig connectorConfig : connectorConfigList) {
+            ConnectorRes connectorResDTO = buildConnectorResDTO(connectorConfig);
+            connectors.add(connectorResDTO);
         }
         return connectors;
     }
@@ -496,22 +595,10 @@ public class ServerIdentityGovernanceService {
         return errorDescription;
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter,
-                                                  String sort) {
-
-        GovernanceConstants.ErrorMessage errorEnum = null;
-
-        if (limit != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        }
+    private void handleNotImplementedSorting(String sort) {
 
-        if (errorEnum != null) {
+        if (sort != null) {
+            GovernanceConstants.ErrorMessage errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
             ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
             Response.Status status = Response.Status.NOT_IMPLEMENTED;
 
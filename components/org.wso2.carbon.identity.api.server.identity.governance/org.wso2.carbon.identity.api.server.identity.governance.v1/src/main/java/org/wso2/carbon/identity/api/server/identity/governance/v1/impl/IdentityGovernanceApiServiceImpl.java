@@ -37,10 +37,10 @@ public class IdentityGovernanceApiServiceImpl implements IdentityGovernanceApiSe
     private ServerIdentityGovernanceService identityGovernanceService;
 
     @Override
-    public Response getCategories(Integer limit, Integer offset, String filter, String sort) {
+    public Response getCategories(Integer limit, Integer offset, String filter, String sort, String attributes) {
 
-        return Response.ok().entity(identityGovernanceService.getGovernanceConnectors(limit, offset, filter, sort))
-                .build();
+        return identityGovernanceService.getGovernanceConnectors(limit, offset, filter, sort, attributes)
+                .buildResponse();
     }
 
     @Override
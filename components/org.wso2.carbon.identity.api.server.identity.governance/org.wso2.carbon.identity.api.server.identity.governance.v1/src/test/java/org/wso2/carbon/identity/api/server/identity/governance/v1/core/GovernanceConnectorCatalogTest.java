@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test for GovernanceConnectorCatalog.
+ */
+public class GovernanceConnectorCatalogTest {
+
+    private static final String CATEGORY_NAME = "Account Management";
+    private static final String CONNECTOR_NAME = "account-recovery";
+    private static final String PROPERTY_NAME = "Recovery.Notification.Password.Enable";
+
+    private IdentityGovernanceService identityGovernanceService;
+    private String tenantDomain;
+    private static int tenantCount;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityGovernanceService = mock(IdentityGovernanceService.class);
+        // The catalogs are held per tenant for the lifetime of the webapp, hence each test uses its own tenant.
+        tenantDomain = "catalog" + tenantCount++ + ".com";
+    }
+
+    @Test
+    public void testCatalog() throws Exception {
+
+        when(identityGovernanceService.getCategorizedConnectorListWithConfigs(tenantDomain))
+                .thenReturn(categorizedConnectors("Password Recovery"));
+
+        List<GovernanceConnectorCatalog.Category> categories = getCatalog().getCategories();
+        assertEquals(categories.size(), 1);
+        GovernanceConnectorCatalog.Category category = categories.get(0);
+        assertEquals(category.getName(), CATEGORY_NAME);
+        assertEquals(category.getId(), encode(CATEGORY_NAME));
+        GovernanceConnectorCatalog.Connector connector = category.getConnectors().get(0);
+        assertEquals(connector.getId(), encode(CONNECTOR_NAME));
+        assertEquals(connector.getName(), CONNECTOR_NAME);
+        assertEquals(connector.getCategory(), CATEGORY_NAME);
+        assertEquals(connector.getOrder(), 1);
+        GovernanceConnectorCatalog.PropertyMetadata property = connector.getProperties().get(0);
+        assertEquals(property.getName(), PROPERTY_NAME);
+        assertEquals(property.getDisplayName(), "Password Recovery");
+    }
+
+    @Test
+    public void testCatalogIsReused() throws Exception {
+
+        when(identityGovernanceService.getCategorizedConnectorListWithConfigs(tenantDomain))
+                .thenReturn(categorizedConnectors("Password Recovery"));
+
+        GovernanceConnectorCatalog catalog = getCatalog();
+        assertSame(getCatalog(), catalog);
+        verify(identityGovernanceService, times(1)).getCategorizedConnectorListWithConfigs(tenantDomain);
+    }
+
+    @Test
+    public void testInvalidateRebuildsCatalog() throws Exception {
+
+        when(identityGovernanceService.getCategorizedConnectorListWithConfigs(tenantDomain))
+                .thenReturn(categorizedConnectors("Password Recovery"))
+                .thenReturn(categorizedConnectors("Notification Based Password Recovery"));
+
+        assertEquals(getDisplayName(), "Password Recovery");
+        GovernanceConnectorCatalog.invalidate(tenantDomain);
+
+        assertEquals(getDisplayName(), "Notification Based Password Recovery");
+        verify(identityGovernanceService, times(2)).getCategorizedConnectorListWithConfigs(tenantDomain);
+    }
+
+    private GovernanceConnectorCatalog getCatalog() throws Exception {
+
+        return GovernanceConnectorCatalog.get(identityGovernanceService, tenantDomain);
+    }
+
+    private String getDisplayName() throws Exception {
+
+        return getCatalog().getCategories().get(0).getConnectors().get(0).getProperties().get(0).getDisplayName();
+    }
+
+    private static Map<String, List<ConnectorConfig>> categorizedConnectors(String propertyDisplayName) {
+
+        Property property = new Property();
+        property.setName(PROPERTY_NAME);
+        property.setDisplayName(propertyDisplayName);
+        property.setValue("true");
+        ConnectorConfig connectorConfig = new ConnectorConfig();
+        connectorConfig.setName(CONNECTOR_NAME);
+        connectorConfig.setCategory(CATEGORY_NAME);
+        connectorConfig.setOrder(1);
+        connectorConfig.setProperties(new Property[]{property});
+        return Collections.singletonMap(CATEGORY_NAME, Collections.singletonList(connectorConfig));
+    }
+
+    private static String encode(String name) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Test for GovernancePreferenceSnapshot.
+ */
+public class GovernancePreferenceSnapshotTest {
+
+    private static final String CONNECTOR_NAME = "account-recovery";
+    private static final String PROPERTY_NAME = "Recovery.Notification.Password.Enable";
+
+    private IdentityGovernanceService identityGovernanceService;
+    private String tenantDomain;
+    private static int tenantCount;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityGovernanceService = mock(IdentityGovernanceService.class);
+        // The snapshots are held per tenant for the lifetime of the webapp, hence each test uses its own tenant.
+        tenantDomain = "snapshot" + tenantCount++ + ".com";
+    }
+
+    @Test
+    public void testSnapshotIsReused() throws Exception {
+
+        when(identityGovernanceService.getConnectorListWithConfigs(tenantDomain)).thenReturn(connectors("true"));
+
+        assertEquals(getPropertyValue(), "true");
+        assertEquals(getPropertyValue(), "true");
+        assertNull(GovernancePreferenceSnapshot.get(identityGovernanceService, tenantDomain)
+                .getProperties("unknown-connector"));
+        verify(identityGovernanceService, times(1)).getConnectorListWithConfigs(tenantDomain);
+    }
+
+    @Test
+    public void testPublishAfterUpdate() throws Exception {
+
+        when(identityGovernanceService.getConnectorListWithConfigs(tenantDomain))
+                .thenReturn(connectors("true"))
+                .thenReturn(connectors("false"));
+
+        assertEquals(getPropertyValue(), "true");
+        TenantResourceVersions.increment(TenantResourceVersions.GOVERNANCE_CONNECTORS, tenantDomain);
+        GovernancePreferenceSnapshot.publish(identityGovernanceService, tenantDomain);
+
+        assertEquals(getPropertyValue(), "false");
+        verify(identityGovernanceService, times(2)).getConnectorListWithConfigs(tenantDomain);
+    }
+
+    @Test
+    public void testUpdateRecordedElsewhereReloadsSnapshot() throws Exception {
+
+        when(identityGovernanceService.getConnectorListWithConfigs(tenantDomain))
+                .thenReturn(connectors("true"))
+                .thenReturn(connectors("false"));
+
+        assertEquals(getPropertyValue(), "true");
+        TenantResourceVersions.increment(TenantResourceVersions.GOVERNANCE_CONNECTORS, tenantDomain);
+
+        assertEquals(getPropertyValue(), "false");
+        verify(identityGovernanceService, times(2)).getConnectorListWithConfigs(tenantDomain);
+    }
+
+    @Test
+    public void testSnapshotLoadedDuringUpdateIsReloaded() throws Exception {
+
+        List<ConnectorConfig> connectorsBeforeUpdate = connectors("true");
+        when(identityGovernanceService.getConnectorListWithConfigs(tenantDomain))
+                .thenAnswer(invocation -> {
+                    // The connectors are read before an update, which completes before the snapshot is published.
+                    TenantResourceVersions.increment(TenantResourceVersions.GOVERNANCE_CONNECTORS, tenantDomain);
+                    return connectorsBeforeUpdate;
+                })
+                .thenReturn(connectors("false"));
+
+        assertEquals(getPropertyValue(), "true");
+        assertEquals(getPropertyValue(), "false");
+        assertEquals(getPropertyValue(), "false");
+        verify(identityGovernanceService, times(2)).getConnectorListWithConfigs(tenantDomain);
+    }
+
+    @Test
+    public void testHitsAndMissesAreCounted() throws Exception {
+
+        when(identityGovernanceService.getConnectorListWithConfigs(tenantDomain)).thenReturn(connectors("true"));
+        long hits = GovernancePreferenceSnapshot.getHitCount();
+        long misses = GovernancePreferenceSnapshot.getMissCount();
+
+        getPropertyValue();
+        getPropertyValue();
+        getPropertyValue();
+        assertEquals(GovernancePreferenceSnapshot.getHitCount() - hits, 2L);
+        assertEquals(GovernancePreferenceSnapshot.getMissCount() - misses, 1L);
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+
+        when(identityGovernanceService.getConnectorListWithConfigs(tenantDomain)).thenReturn(connectors("true"));
+
+        assertEquals(getPropertyValue(), "true");
+        GovernancePreferenceSnapshot.invalidate(tenantDomain);
+
+        assertEquals(getPropertyValue(), "true");
+        verify(identityGovernanceService, times(2)).getConnectorListWithConfigs(tenantDomain);
+    }
+
+    private String getPropertyValue() throws Exception {
+
+        Property[] properties = GovernancePreferenceSnapshot.get(identityGovernanceService, tenantDomain)
+                .getProperties(CONNECTOR_NAME);
+        assertEquals(properties.length, 1);
+        return properties[0].getValue();
+    }
+
+    private static List<ConnectorConfig> connectors(String propertyValue) {
+
+        Property property = new Property();
+        property.setName(PROPERTY_NAME);
+        property.setValue(propertyValue);
+        ConnectorConfig connectorConfig = new ConnectorConfig();
+        connectorConfig.setName(CONNECTOR_NAME);
+        connectorConfig.setProperties(new Property[]{property});
+        return Collections.singletonList(connectorConfig);
+    }
+}
@@ -18,10 +18,8 @@
 
 package org.wso2.carbon.identity.api.server.idp.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
@@ -35,8 +33,11 @@ import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
-import org.wso2.carbon.identity.api.server.common.FileContent;
-import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.FileCodec;
+import org.wso2.carbon.identity.api.server.common.FileCodecException;
+import org.wso2.carbon.identity.api.server.common.ModelCopier;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.idp.common.Constants;
@@ -116,19 +117,12 @@ import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.TypeDescription;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URLEncoder;
@@ -144,20 +138,10 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
-import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.Constants.MASKING_VALUE;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
-import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.common.Util.base64URLDecode;
 import static org.wso2.carbon.identity.api.server.common.Util.base64URLEncode;
 import static org.wso2.carbon.identity.api.server.idp.common.Constants.ErrorMessage.ERROR_CODE_IDP_LIMIT_REACHED;
@@ -179,6 +163,16 @@ import static org.wso2.carbon.identity.configuration.mgt.core.search.constant.Co
 public class ServerIdpManagementService {
 
     private static final Log log = LogFactory.getLog(ServerIdpManagementService.class);
+    private static final FileCodec<IdentityProvider> IDP_FILE_CODEC = FileCodec.builder(IdentityProvider.class)
+            .withYamlDumper(ServerIdpManagementService::createIdpYamlDumper)
+            .build();
+
+    // Fields of the IdentityProvider model which are replaced as a whole, rather than modified, during an update.
+    private static final String FEDERATED_AUTHENTICATOR_CONFIGS_FIELD = "federatedAuthenticatorConfigs";
+    private static final String DEFAULT_AUTHENTICATOR_CONFIG_FIELD = "defaultAuthenticatorConfig";
+    private static final String PROVISIONING_CONNECTOR_CONFIGS_FIELD = "provisioningConnectorConfigs";
+    private static final String DEFAULT_PROVISIONING_CONNECTOR_CONFIG_FIELD = "defaultProvisioningConnectorConfig";
+    private static final String CLAIM_CONFIG_FIELD = "claimConfig";
 
     /**
      * Get list of identity providers.
@@ -249,6 +243,7 @@ public class ServerIdpManagementService {
             validateSystemReservedIDP(identityProviderPOSTRequest.getName());
             identityProvider = IdentityProviderServiceHolder.getIdentityProviderManager().addIdPWithResourceId(
                     createIDP(identityProviderPOSTRequest), ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_ADDING_IDP, null);
         }
@@ -303,6 +298,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
                     .updateIdPByResourceId(identityProviderId, idpToUpdate,
                             ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createIDPResponse(updatedIdP);
 
         } catch (IdentityProviderManagementException e) {
@@ -320,6 +316,7 @@ public class ServerIdpManagementService {
         try {
             IdentityProviderServiceHolder.getIdentityProviderManager().deleteIdPByResourceId(identityProviderId,
                     ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -336,6 +333,7 @@ public class ServerIdpManagementService {
         try {
             IdentityProviderServiceHolder.getIdentityProviderManager().forceDeleteIdpByResourceId(identityProviderId,
                     ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -347,9 +345,9 @@ public class ServerIdpManagementService {
      * @param idpId         ID of the identity provider to be exported.
      * @param excludeSecrets If true, all hashed or encrypted secrets will be masked.
      * @param fileType      The format of the exported string.
-     * @return FileContent object of the identity provider in the requested format.
+     * @return Streaming file content of the identity provider in the requested format.
      */
-    public FileContent exportIDP(String idpId, boolean excludeSecrets, String fileType) {
+    public StreamingFileContent exportIDP(String idpId, boolean excludeSecrets, String fileType) {
 
         if (log.isDebugEnabled()) {
             log.debug("Exporting identity provider from idp ID " + idpId);
@@ -380,7 +378,7 @@ public class ServerIdpManagementService {
             removeSecretsFromIDP(idpToExport);
         }
 
-        FileContent fileContent;
+        StreamingFileContent fileContent;
         try {
             fileContent = generateFileFromModel(fileType, idpToExport);
         } catch (IdentityProviderManagementException e) {
@@ -408,6 +406,7 @@ public class ServerIdpManagementService {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             identityProvider = IdentityProviderServiceHolder.getIdentityProviderManager().addIdPWithResourceId(
                     getIDPFromFile(fileInputStream, fileDetail), tenantDomain);
+            recordIdentityProviderChange();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_IDP, null);
         }
@@ -430,9 +429,11 @@ public class ServerIdpManagementService {
             if (RESIDENT_IDP_RESERVED_NAME.equals(identityProviderId)) {
                 IdentityProviderServiceHolder.getIdentityProviderManager().updateResidentIdP(identityProvider,
                         tenantDomain);
+                recordIdentityProviderChange();
             } else {
                 IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(identityProviderId,
                         identityProvider, tenantDomain);
+                recordIdentityProviderChange();
             }
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, null);
@@ -672,12 +673,14 @@ public class ServerIdpManagementService {
             }
             // Need to create a clone, since modifying the fields of the original object, will modify the cached
             // IDP object.
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = createIdPClone(idp, FEDERATED_AUTHENTICATOR_CONFIGS_FIELD,
+                    DEFAULT_AUTHENTICATOR_CONFIG_FIELD);
             updateFederatedAuthenticatorConfig(idpToUpdate, authenticatorRequest);
 
             IdentityProvider updatedIdp = IdentityProviderServiceHolder.getIdentityProviderManager()
                     .updateIdPByResourceId(
                             idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createFederatedAuthenticatorResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -705,7 +708,7 @@ public class ServerIdpManagementService {
             }
             // Need to create a clone, since modifying the fields of the original object, will modify the cached
             // IDP object.
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = createIdPClone(idp, FEDERATED_AUTHENTICATOR_CONFIGS_FIELD);
 
             // Create new FederatedAuthenticatorConfig to store the federated authenticator information.
             FederatedAuthenticatorConfig authConfig = createFederatedAuthenticatorConfig(federatedAuthenticatorId,
@@ -739,6 +742,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
                     .updateIdPByResourceId(idpId, idpToUpdate, ContextLoader
                             .getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createFederatedAuthenticator(federatedAuthenticatorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_AUTHENTICATOR,
@@ -838,12 +842,14 @@ public class ServerIdpManagementService {
             }
             // Need to create a clone, since modifying the fields of the original object, will modify the cached
             // IDP object.
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = createIdPClone(idp, PROVISIONING_CONNECTOR_CONFIGS_FIELD,
+                    DEFAULT_PROVISIONING_CONNECTOR_CONFIG_FIELD);
             updateOutboundConnectorConfig(idpToUpdate, outboundConnectorRequest);
 
             IdentityProvider updatedIdp = IdentityProviderServiceHolder.getIdentityProviderManager()
                     .updateIdPByResourceId(
                             idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createOutboundProvisioningResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -870,7 +876,7 @@ public class ServerIdpManagementService {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = createIdPClone(idp, PROVISIONING_CONNECTOR_CONFIGS_FIELD);
             ProvisioningConnectorConfig connectorConfig = createProvisioningConnectorConfig(connectorId,
                     outboundConnector);
 
@@ -903,6 +909,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
                     .updateIdPByResourceId(idpId, idpToUpdate, ContextLoader
                             .getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createOutboundConnector(connectorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CONNECTOR, connectorId);
@@ -943,10 +950,11 @@ public class ServerIdpManagementService {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            validateClaims(tenantDomain, claims);
+            Map<String, LocalClaim> localClaimIndex = buildLocalClaimIndex(getLocalClaimURIs(tenantDomain));
+            validateClaims(tenantDomain, claims, localClaimIndex);
             IdentityProvider idP =
                     createIdPClone(IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
-                            tenantDomain, true));
+                            tenantDomain, true), CLAIM_CONFIG_FIELD);
             if (idP == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -955,7 +963,8 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP =
                     IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
                             idP, tenantDomain);
-            return createClaimResponse(updatedIdP.getClaimConfig());
+            recordIdentityProviderChange();
+            return createClaimResponse(updatedIdP.getClaimConfig(), localClaimIndex);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CLAIMS, idpId);
         }
@@ -1005,6 +1014,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP =
                     IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
                             idP, ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createRoleResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_ROLES, idpId);
@@ -1053,6 +1063,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP =
                     IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
                             idP, ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createGroupResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_GROUPS, idpId);
@@ -1115,6 +1126,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP =
                     IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
                             idP, ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
 
             return createAssociationResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
@@ -1166,6 +1178,7 @@ public class ServerIdpManagementService {
             IdentityProvider updatedIdP =
                     IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
                             idP, ContextLoader.getTenantDomainFromContext());
+            recordIdentityProviderChange();
             return createJITResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_JIT, idpId);
@@ -2146,8 +2159,14 @@ public class ServerIdpManagementService {
         IdentityProviderListResponse listResponse = new IdentityProviderListResponse();
         if (CollectionUtils.isNotEmpty(idps)) {
             List<IdentityProviderListItem> identityProviderList = new ArrayList<>();
+            // Local claims are resolved once for the whole page instead of once per claim of each IDP.
+            Map<String, LocalClaim> localClaimIndex = null;
+            if (requestedAttributeList != null && requestedAttributeList.contains(Constants.CLAIMS)) {
+                localClaimIndex = getLocalClaimIndex();
+            }
             for (IdentityProvider idp : idps) {
-                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList);
+                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList,
+                        localClaimIndex);
                 identityProviderList.add(listItem);
             }
             listResponse.setIdentityProviders(identityProviderList);
@@ -2165,7 +2184,8 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp,
-                                                             List<String> requestedAttributeList) {
+                                                             List<String> requestedAttributeList,
+                                                             Map<String, LocalClaim> localClaimIndex) {
 
         IdentityProviderListItem identityProviderListItem = new IdentityProviderListItem();
         // Create IDP basic information.
@@ -2198,7 +2218,8 @@ public class ServerIdpManagementService {
                         identityProviderListItem.setAlias(idp.getAlias());
                         break;
                     case Constants.CLAIMS:
-                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig()));
+                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig(),
+                                localClaimIndex));
                         break;
                     case Constants.ROLES:
                         identityProviderListItem.setRoles(createRoleResponse(idp));
@@ -2335,6 +2356,21 @@ public class ServerIdpManagementService {
 
     private Claims createClaimResponse(ClaimConfig claimConfig) {
 
+        if (claimConfig == null) {
+            return createClaimResponse(null, Collections.emptyMap());
+        }
+        return createClaimResponse(claimConfig, getLocalClaimIndex());
+    }
+
+    /**
+     * Create the claim configuration response by resolving local claims against the given local claim index.
+     *
+     * @param claimConfig     Claim configuration of the IDP.
+     * @param localClaimIndex Local claims of the tenant keyed by claim URI.
+     * @return Claims.
+     */
+    private Claims createClaimResponse(ClaimConfig claimConfig, Map<String, LocalClaim> localClaimIndex) {
+
         Claims apiClaims = new Claims();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> apiMappings = new ArrayList<>();
         List<ProvisioningClaim> provClaims = new ArrayList<>();
@@ -2348,7 +2384,8 @@ public class ServerIdpManagementService {
                     Claim localClaim = new Claim();
                     localClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                     localClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri(),
+                            localClaimIndex));
                     apiMapping.setLocalClaim(localClaim);
                     // As the provisioning claims are added as claim mappings without any remote claim internally, we
                     // need to validate this here.
@@ -2365,7 +2402,8 @@ public class ServerIdpManagementService {
                         } else {
                             provClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                             provClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(
+                                    mapping.getLocalClaim().getClaimUri(), localClaimIndex));
                         }
                         provClaimResponse.setClaim(provClaim);
                         provClaimResponse.setDefaultValue(mapping.getDefaultValue());
@@ -2375,17 +2413,18 @@ public class ServerIdpManagementService {
             }
 
             Claim roleClaim = new Claim();
-            if (getLocalClaim(claimConfig.getRoleClaimURI()) != null) {
+            if (localClaimIndex.containsKey(claimConfig.getRoleClaimURI())) {
                 roleClaim.setId(base64URLEncode(claimConfig.getRoleClaimURI()));
-                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI()));
+                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI(), localClaimIndex));
             }
             roleClaim.setUri(claimConfig.getRoleClaimURI());
             apiClaims.setRoleClaim(roleClaim);
 
             Claim userIdClaim = new Claim();
-            if (getLocalClaim(claimConfig.getUserClaimURI()) != null) {
+            if (localClaimIndex.containsKey(claimConfig.getUserClaimURI())) {
                 userIdClaim.setId(base64URLEncode(claimConfig.getUserClaimURI()));
-                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI()));
+                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI(),
+                        localClaimIndex));
             }
             userIdClaim.setUri(claimConfig.getUserClaimURI());
             apiClaims.setUserIdClaim(userIdClaim);
@@ -2622,12 +2661,13 @@ public class ServerIdpManagementService {
     /**
      * Retrieves display name property of Local claim identified by local claim uri.
      *
-     * @param claimUri Local claim uri.
+     * @param claimUri        Local claim uri.
+     * @param localClaimIndex Local claims of the tenant keyed by claim URI.
      * @return Display Name.
      */
-    private String getDisplayNameOfLocalClaim(String claimUri) {
+    private String getDisplayNameOfLocalClaim(String claimUri, Map<String, LocalClaim> localClaimIndex) {
 
-        LocalClaim localClaim = getLocalClaim(claimUri);
+        LocalClaim localClaim = localClaimIndex.get(claimUri);
         if (localClaim != null) {
             Map<String, String> localClaimProperties = localClaim.getClaimProperties();
             return localClaimProperties.get(Constants.PROP_DISPLAY_NAME);
@@ -2638,55 +2678,52 @@ public class ServerIdpManagementService {
     }
 
     /**
-     * Returns internal LocalClaim given local claim URI.
+     * Fetches the local claims of the tenant in the context once and indexes them by claim URI, so that a whole
+     * claim configuration (or a page of them) can be rendered without re-fetching the claim list per claim.
      *
-     * @param claimUri URI of the required local claim.
-     * @return Local Claim.
+     * @return Local claims keyed by claim URI.
      */
-    private LocalClaim getLocalClaim(String claimUri) {
+    private Map<String, LocalClaim> getLocalClaimIndex() {
 
-        LocalClaim localClaim;
         try {
             List<LocalClaim> localClaimList =
                     IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(
                             ContextLoader.getTenantDomainFromContext());
-
-            localClaim = extractLocalClaimFromClaimList(claimUri, localClaimList);
+            return buildLocalClaimIndex(localClaimList);
         } catch (ClaimMetadataException e) {
             throw handleException(Response.Status.BAD_REQUEST,
-                    Constants.ErrorMessage.ERROR_CODE_INVALID_LOCAL_CLAIM_ID, claimUri);
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_LOCAL_CLAIM_ID, null);
         }
-        return localClaim;
     }
 
     /**
-     * Extracts the LocalClaim corresponding to the given claim uri.
+     * Indexes the given local claims by claim URI.
      *
-     * @param claimURI  Local claim uri.
-     * @param claimList Local claim list.
-     * @return LocalClaim.
+     * @param localClaimList Local claim list.
+     * @return Local claims keyed by claim URI.
      */
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
+    private Map<String, LocalClaim> buildLocalClaimIndex(List<LocalClaim> localClaimList) {
 
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
+        if (CollectionUtils.isEmpty(localClaimList)) {
+            return Collections.emptyMap();
         }
-        return null;
+        Map<String, LocalClaim> localClaimIndex = new HashMap<>(localClaimList.size() * 2);
+        for (LocalClaim claim : localClaimList) {
+            localClaimIndex.putIfAbsent(claim.getClaimURI(), claim);
+        }
+        return localClaimIndex;
     }
 
     /**
      * Create a duplicate of the input Identity Provider.
      *
-     * @param idP Identity Provider.
+     * @param idP            Identity Provider.
+     * @param replacedFields Fields of the IDP which are replaced by the caller, and hence not duplicated.
      * @return Clone of IDP.
      */
-    private IdentityProvider createIdPClone(IdentityProvider idP) {
+    private IdentityProvider createIdPClone(IdentityProvider idP, String... replacedFields) {
 
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-        return clonedIdentityProvider;
+        return ModelCopier.deepCopyExcluding(idP, replacedFields);
     }
 
     /**
@@ -3471,12 +3508,14 @@ public class ServerIdpManagementService {
     /**
      * Validate the claim configs of an IDP.
      *
-     * @param tenantDomain Tenant domain.
-     * @param claims       Claim configs.
+     * @param tenantDomain    Tenant domain.
+     * @param claims          Claim configs.
+     * @param localClaimIndex Local claims of the tenant keyed by claim URI.
      * @throws IdentityProviderManagementException If an error while validating the claim configs or if an invalid
      *                                             config is found.
      */
-    private void validateClaims(String tenantDomain, Claims claims) throws IdentityProviderManagementException {
+    private void validateClaims(String tenantDomain, Claims claims, Map<String, LocalClaim> localClaimIndex)
+            throws IdentityProviderManagementException {
 
         if (claims == null) {
             return;
@@ -3487,8 +3526,7 @@ public class ServerIdpManagementService {
 
         // EMPTY claimMappings indicate that the IDP is using local claim dialect.
         if (CollectionUtils.isEmpty(claimMappings)) {
-            List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-            Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+            Set<String> claimURIs = localClaimIndex.keySet();
             // Validate userClaimURI and roleClaimURI.
             if (StringUtils.isNotBlank(userClaimURI) && !claimURIs.contains(userClaimURI)) {
                 throw new IdentityProviderManagementClientException(
@@ -3507,8 +3545,7 @@ public class ServerIdpManagementService {
         validateUserAndRoleClaims(userClaimURI, roleClaimURI, claimMappings);
 
         // Validate LocalClaim objects against local claim URIs.
-        List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-        Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+        Set<String> claimURIs = localClaimIndex.keySet();
         for (org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping claimMapping : claimMappings) {
 
             // If a claim URI does not exist in claimURIs list, then that's a not existing URI.
@@ -3644,90 +3681,37 @@ public class ServerIdpManagementService {
         });
     }
 
-    private FileContent generateFileFromModel(String fileType, IdentityProvider identityProvider)
+    private StreamingFileContent generateFileFromModel(String fileType, IdentityProvider identityProvider)
             throws IdentityProviderManagementException {
 
         if (log.isDebugEnabled()) {
             log.debug("Parsing IdP object to file content of type: " + fileType);
         }
-        String mediaType = Util.getMediaType(fileType);
-        switch (mediaType) {
-            case MEDIA_TYPE_XML:
-                return parseIdpToXml(identityProvider);
-            case MEDIA_TYPE_JSON:
-                return parseIdpToJson(identityProvider);
-            case MEDIA_TYPE_YAML:
-                return parseIdpToYaml(identityProvider);
-            default:
-                log.warn(String.format("Unsupported file type: %s requested for export. Defaulting to YAML parsing.",
-                        fileType));
-                return parseIdpToYaml(identityProvider);
-        }
-    }
-
-    private FileContent parseIdpToXml(IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
-
-        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
-        fileNameSB.append(XML_FILE_EXTENSION);
-
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(identityProvider, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
-        } catch (JAXBException e) {
+            return IDP_FILE_CODEC.encodeAsStream(identityProvider, identityProvider.getIdentityProviderName(),
+                    fileType);
+        } catch (FileCodecException e) {
             throw new IdentityProviderManagementException(
-                    "Error when parsing identity provider to XML file.", e);
-        }
-    }
-
-    private FileContent parseIdpToJson(IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
-
-        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
-        fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(identityProvider));
-        } catch (JsonProcessingException e) {
-            throw new IdentityProviderManagementClientException(
-                    "Error when parsing identity provider to JSON file.", e);
+                    "Error when parsing identity provider to " + e.getFormat() + " file.", e);
         }
     }
 
-    private FileContent parseIdpToYaml(IdentityProvider identityProvider)
-            throws IdentityProviderManagementException {
-
-        StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
-        fileNameSB.append(YAML_FILE_EXTENSION);
+    private static Yaml createIdpYamlDumper() {
 
         Representer representer = new Representer(new DumperOptions());
         TypeDescription typeDescription = new TypeDescription(IdentityProvider.class);
         typeDescription.setExcludes("id", "resourceId");
         representer.addTypeDescription(typeDescription);
         representer.getPropertyUtils().setSkipMissingProperties(true);
-
-        Yaml yaml = new Yaml(representer);
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(identityProvider));
-        } catch (YAMLException e) {
-            throw new IdentityProviderManagementException(
-                    "Error when parsing identity provider to YAML file.", e);
-        }
+        return new Yaml(representer);
     }
 
     private IdentityProvider getIDPFromFile(InputStream fileInputStream, Attachment fileDetail)
             throws IdentityProviderManagementClientException {
 
         try {
-            FileContent idpFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
+            StreamingFileContent idpFileContent = new StreamingFileContent(fileDetail.getDataHandler().getName(),
+                    fileDetail.getDataHandler().getContentType(), fileInputStream);
 
             return generateModelFromFile(idpFileContent);
         } catch (IOException | IdentityProviderManagementClientException e) {
@@ -3737,72 +3721,23 @@ public class ServerIdpManagementService {
         }
     }
 
-    private IdentityProvider generateModelFromFile(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+    private IdentityProvider generateModelFromFile(StreamingFileContent fileContent)
+            throws IdentityProviderManagementClientException, IOException {
 
         if (log.isDebugEnabled()) {
             log.debug(String.format("Parsing identity provider from file: %s of type: %s.", fileContent.getFileName(),
                     fileContent.getFileType()));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileContent.isEmpty()) {
             throw new IdentityProviderManagementClientException(String.format(
                     "Empty Identity Provider configuration file %s uploaded.", fileContent.getFileName()));
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
-            case MEDIA_TYPE_XML:
-                return parseIdpFromXml(fileContent);
-            case MEDIA_TYPE_JSON:
-                return parseIdpFromJson(fileContent);
-            case MEDIA_TYPE_YAML:
-                return parseIdpFromYaml(fileContent);
-            default:
-                log.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseIdpFromYaml(fileContent);
-        }
-    }
-
-    private IdentityProvider parseIdpFromXml(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
-
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (IdentityProvider) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new IdentityProviderManagementClientException(String.format("Error in reading " +
-                    "XML file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
-        }
-    }
-
-    private IdentityProvider parseIdpFromYaml(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
-
-        try {
-            // Add trusted tags included in the IDP YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(IdentityProvider.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(IdentityProvider.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), IdentityProvider.class);
-        } catch (YAMLException e) {
-            throw new IdentityProviderManagementClientException(String.format("Error in reading YAML file " +
-                    "configuration for Identity Provider: %s.", fileContent.getFileName()), e);
-        }
-    }
-
-    private IdentityProvider parseIdpFromJson(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
-
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), IdentityProvider.class);
-        } catch (JsonProcessingException e) {
-            throw new IdentityProviderManagementClientException(String.format("Error in reading JSON " +
-                    "file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+            return IDP_FILE_CODEC.decode(fileContent);
+        } catch (FileCodecException e) {
+            throw new IdentityProviderManagementClientException(String.format("Error in reading %s " +
+                    "file configuration for Identity Provider: %s.", e.getFormat(), fileContent.getFileName()), e);
         }
     }
 
@@ -3813,4 +3748,14 @@ public class ServerIdpManagementService {
                     "a system reserved name.", idpName));
         }
     }
+
+    /**
+     * Record a write of the identity providers of the tenant, so that the listings of the other APIs of this webapp
+     * which are derived from the identity providers, e.g. the authenticators listing, are rebuilt.
+     */
+    private void recordIdentityProviderChange() {
+
+        TenantResourceVersions.increment(TenantResourceVersions.IDENTITY_PROVIDERS,
+                ContextLoader.getTenantDomainFromContext());
+    }
 }
@@ -23,7 +23,7 @@ import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
-import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.StreamingFileContent;
 import org.wso2.carbon.identity.api.server.idp.v1.IdentityProvidersApiService;
 import org.wso2.carbon.identity.api.server.idp.v1.core.ServerIdpManagementService;
 import org.wso2.carbon.identity.api.server.idp.v1.model.AssociationRequest;
@@ -42,7 +42,6 @@ import org.wso2.carbon.identity.api.server.idp.v1.model.Roles;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.ws.rs.core.Response;
 
@@ -99,7 +98,7 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
     @Override
     public Response exportIDPToFile(String identityProviderId, Boolean excludeSecrets, String accept) {
 
-        FileContent fileContent = idpManagementService.exportIDP(identityProviderId,
+        StreamingFileContent fileContent = idpManagementService.exportIDP(identityProviderId,
                 excludeSecrets, accept);
 
         return Response.ok()
@@ -109,7 +108,7 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(fileContent.getContent().getBytes(StandardCharsets.UTF_8))
+                .entity(fileContent.getStreamingOutput())
                 .build();
     }
 
@@ -23,10 +23,14 @@ public class KeyStoreConstants {
     public static final String KEYSTORES_API_PATH_COMPONENT = "/keystores";
     public static final String CERTIFICATE_PATH_COMPONENT = "/certs" + "/%s";
     public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = "/client-certs" + "/%s";
+    public static final String CERTIFICATES_PATH_COMPONENT = "/certs";
+    public static final String CLIENT_CERTIFICATES_PATH_COMPONENT = "/client-certs";
 
-    public static final String CERTIFICATE_FILE_EXTENSION = ".cer";
-    public static final String CERTIFICATE_TEMPORARY_DIRECTORY_PATH = "tmp/certs";
-    public static final String PATH_SEPERATOR = "/";
+    public static final String PAGINATION_FILTER = "filter";
+    public static final String PAGINATION_LIMIT = "limit";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String PAGINATION_AFTER = "after";
+    public static final int MAX_PAGE_LIMIT = 1000;
 
     /**
      * Enum for Keystore management service related errors.
@@ -34,7 +38,7 @@ public class KeyStoreConstants {
     public enum ErrorMessage {
 
         ERROR_CODE_INVALID_ALIAS("KSS-60010", "There exists no certificate with alias: %s."),
-        ERROR_CODE_FILE_WRITE("KSS-65010", "Unable to create file: %s"),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("KSS-60011", "Invalid pagination parameter: %s."),
         ERROR_CODE_ENCODE_CERTIFICATE("KSS-65011", "Unable to encode the certificate with alias: %s.");
 
         private final String code;
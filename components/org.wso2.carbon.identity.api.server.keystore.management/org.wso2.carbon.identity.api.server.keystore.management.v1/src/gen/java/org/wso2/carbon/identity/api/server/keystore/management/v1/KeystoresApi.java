@@ -75,15 +75,16 @@ public class KeystoresApi  {
     }, tags={ "Certificates", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK.", response = File.class),
+        @ApiResponse(code = 304, message = "Not Modified.", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request.", response = ErrorResponse.class),
         @ApiResponse(code = 401, message = "Unauthorized.", response = ErrorResponse.class),
         @ApiResponse(code = 403, message = "Resource Forbidden.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getCertificate(@ApiParam(value = "alias of the certificate",required=true) @PathParam("alias") String alias,     @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert) {
+    public Response getCertificate(@ApiParam(value = "alias of the certificate",required=true) @PathParam("alias") String alias,     @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert,     @ApiParam(value = "Entity tags of the certificate cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getCertificate(alias,  encodeCert );
+        return delegate.getCertificate(alias,  encodeCert,  ifNoneMatch );
     }
 
     @Valid
@@ -91,7 +92,7 @@ public class KeystoresApi  {
     @Path("/certs")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "retrieves the list of certificate aliases", notes = "This REST API can be used to get the certificate aliases from the keystore", response = CertificateResponse.class, responseContainer = "List", authorizations = {
+    @ApiOperation(value = "retrieves the list of certificate aliases", notes = "This REST API can be used to get the certificate aliases from the keystore. The list is paginated in the order of the aliases when the limit, before or after parameter is provided, and the links of the adjacent pages are returned in the Link header.", response = CertificateResponse.class, responseContainer = "List", authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -105,9 +106,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of certificates in a page. Values above 1000 are capped at 1000.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Cursor of the page before an alias, from the previous link of a page.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Cursor of the page after an alias, from the next link of a page.")  @QueryParam("after") String after) {
 
-        return delegate.getCertificateAliases(filter );
+        return delegate.getCertificateAliases(filter,  limit,  before,  after );
     }
 
     @Valid
@@ -123,15 +124,16 @@ public class KeystoresApi  {
     }, tags={ "Certificates", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK.", response = File.class),
+        @ApiResponse(code = 304, message = "Not Modified.", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request.", response = ErrorResponse.class),
         @ApiResponse(code = 401, message = "Unauthorized.", response = ErrorResponse.class),
         @ApiResponse(code = 403, message = "Resource Forbidden.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getClientCertificate(@ApiParam(value = "alias of the certificate",required=true) @PathParam("alias") String alias,     @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert) {
+    public Response getClientCertificate(@ApiParam(value = "alias of the certificate",required=true) @PathParam("alias") String alias,     @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert,     @ApiParam(value = "Entity tags of the certificate cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getClientCertificate(alias,  encodeCert );
+        return delegate.getClientCertificate(alias,  encodeCert,  ifNoneMatch );
     }
 
     @Valid
@@ -139,7 +141,7 @@ public class KeystoresApi  {
     @Path("/client-certs")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "retrieves the list of certificate aliases from the client truststore", notes = "This REST API can be used to get the list of certificate aliases from the client truststore", response = CertificateResponse.class, responseContainer = "List", authorizations = {
+    @ApiOperation(value = "retrieves the list of certificate aliases from the client truststore", notes = "This REST API can be used to get the list of certificate aliases from the client truststore. The list is paginated in the order of the aliases when the limit, before or after parameter is provided, and the links of the adjacent pages are returned in the Link header.", response = CertificateResponse.class, responseContainer = "List", authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -153,9 +155,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of certificates in a page. Values above 1000 are capped at 1000.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Cursor of the page before an alias, from the previous link of a page.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Cursor of the page after an alias, from the next link of a page.")  @QueryParam("after") String after) {
 
-        return delegate.getClientCertificateAliases(filter );
+        return delegate.getClientCertificateAliases(filter,  limit,  before,  after );
     }
 
     @Valid
@@ -166,15 +168,16 @@ public class KeystoresApi  {
     @ApiOperation(value = "retrieves the public certificate", notes = "This REST API can be used to download the public certificate from the keystore", response = File.class, tags={ "Certificates", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK.", response = File.class),
+        @ApiResponse(code = 304, message = "Not Modified.", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request.", response = ErrorResponse.class),
         @ApiResponse(code = 401, message = "Unauthorized.", response = ErrorResponse.class),
         @ApiResponse(code = 403, message = "Resource Forbidden.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getPublicCertificate(    @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert) {
+    public Response getPublicCertificate(    @Valid@ApiParam(value = "")  @QueryParam("encode-cert") Boolean encodeCert,     @ApiParam(value = "Entity tags of the certificate cached by the client. " )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getPublicCertificate(encodeCert );
+        return delegate.getPublicCertificate(encodeCert,  ifNoneMatch );
     }
 
     @Valid
@@ -31,15 +31,15 @@ public interface KeystoresApiService {
 
       public Response deleteCertificate(String alias);
 
-      public Response getCertificate(String alias, Boolean encodeCert);
+      public Response getCertificate(String alias, Boolean encodeCert, String ifNoneMatch);
 
-      public Response getCertificateAliases(String filter);
+      public Response getCertificateAliases(String filter, Integer limit, String before, String after);
 
-      public Response getClientCertificate(String alias, Boolean encodeCert);
+      public Response getClientCertificate(String alias, Boolean encodeCert, String ifNoneMatch);
 
-      public Response getClientCertificateAliases(String filter);
+      public Response getClientCertificateAliases(String filter, Integer limit, String before, String after);
 
-      public Response getPublicCertificate(Boolean encodeCert);
+      public Response getPublicCertificate(Boolean encodeCert, String ifNoneMatch);
 
       public Response uploadCertificate(CertificateRequest certificateRequest);
 }
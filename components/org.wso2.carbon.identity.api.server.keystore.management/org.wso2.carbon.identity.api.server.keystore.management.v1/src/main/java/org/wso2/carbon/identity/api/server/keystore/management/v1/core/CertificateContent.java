@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.EntityTags;
+
+/**
+ * Downloadable content of a certificate, together with its strong entity tag. Instances are shared between the
+ * requests of a tenant, hence the content must not be modified.
+ */
+public final class CertificateContent {
+
+    private final byte[] content;
+    private final String entityTag;
+
+    CertificateContent(byte[] content) {
+
+        this.content = content;
+        this.entityTag = EntityTags.strongTag(content);
+    }
+
+    /**
+     * Returns the content of the certificate.
+     *
+     * @return Base64 encoded DER, or the textual representation of the certificate, in UTF-8.
+     */
+    public byte[] getContent() {
+
+        return content;
+    }
+
+    /**
+     * Returns the strong entity tag of the content.
+     *
+     * @return Quoted entity tag.
+     */
+    public String getEntityTag() {
+
+        return entityTag;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Downloadable contents of the certificates of a tenant, encoded once per certificate and served from memory.
+ * <p>
+ * Entries are kept per store and alias, and hold the DER encoding of the certificate which they were built from. A
+ * cached content is served only while the certificate returned by the key store manager has the same encoding, so
+ * that a certificate replaced outside this API, e.g. on another node, is never served stale. The certificate uploads
+ * and deletions through this API invalidate the entry of the alias.
+ */
+final class CertificateContentCache {
+
+    /**
+     * Stores of the downloadable certificates.
+     */
+    enum Store {
+        KEYSTORE, CLIENT_TRUSTSTORE, PUBLIC
+    }
+
+    private static final Map<String, Map<Key, Entry>> TENANT_CONTENTS = new ConcurrentHashMap<>();
+
+    private CertificateContentCache() {
+
+    }
+
+    /**
+     * Returns the downloadable content of a certificate, encoding it if the tenant doesn't have a current one.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param store        Store of the certificate.
+     * @param alias        Alias of the certificate.
+     * @param certificate  Certificate returned by the key store manager.
+     * @param encodeCert   Whether to return the Base64 encoded DER instead of the textual representation.
+     * @return Content of the certificate.
+     * @throws CertificateEncodingException If the certificate can't be encoded.
+     */
+    static CertificateContent get(String tenantDomain, Store store, String alias, X509Certificate certificate,
+                                  boolean encodeCert) throws CertificateEncodingException {
+
+        byte[] encoded = certificate.getEncoded();
+        Map<Key, Entry> contents = TENANT_CONTENTS.computeIfAbsent(tenantDomain, key -> new ConcurrentHashMap<>());
+        Key key = new Key(store, alias);
+        Entry entry = contents.get(key);
+        if (entry == null || !Arrays.equals(entry.encoded, encoded)) {
+            entry = new Entry(encoded);
+            contents.put(key, entry);
+        }
+        return encodeCert ? entry.getEncodedContent() : entry.getTextContent(certificate);
+    }
+
+    /**
+     * Invalidates the content of a certificate.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param store        Store of the certificate.
+     * @param alias        Alias of the certificate.
+     */
+    static void invalidate(String tenantDomain, Store store, String alias) {
+
+        Map<Key, Entry> contents = TENANT_CONTENTS.get(tenantDomain);
+        if (contents != null) {
+            contents.remove(new Key(store, alias));
+        }
+    }
+
+    private static final class Key {
+
+        private final Store store;
+        private final String alias;
+
+        Key(Store store, String alias) {
+
+            this.store = store;
+            this.alias = alias;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return store == key.store && Objects.equals(alias, key.alias);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(store, alias);
+        }
+    }
+
+    /**
+     * Contents of a certificate, built on first use. Concurrent first requests may build a content more than once,
+     * which yields the same bytes.
+     */
+    private static final class Entry {
+
+        private final byte[] encoded;
+        private volatile CertificateContent encodedContent;
+        private volatile CertificateContent textContent;
+
+        Entry(byte[] encoded) {
+
+            this.encoded = encoded;
+        }
+
+        CertificateContent getEncodedContent() {
+
+            CertificateContent content = encodedContent;
+            if (content == null) {
+                content = new CertificateContent(Base64.getEncoder().encode(encoded));
+                encodedContent = content;
+            }
+            return content;
+        }
+
+        CertificateContent getTextContent(X509Certificate certificate) {
+
+            CertificateContent content = textContent;
+            if (content == null) {
+                content = new CertificateContent(certificate.toString().getBytes(StandardCharsets.UTF_8));
+                textContent = content;
+            }
+            return content;
+        }
+    }
+}
@@ -22,38 +22,39 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.pagination.InMemoryKeysetFetcher;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.security.keystore.KeyStoreManagementException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementServerException;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_TEMPORARY_DIRECTORY_PATH;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATE_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ENCODE_CERTIFICATE;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_FILE_WRITE;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ALIAS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PATH_SEPERATOR;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.MAX_PAGE_LIMIT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_AFTER;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_BEFORE;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_LIMIT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreManagamentDataHolder.getKeyStoreManager;
 
 /**
@@ -62,6 +63,8 @@ import static org.wso2.carbon.identity.api.server.keystore.management.common.Key
 public class KeyStoreService {
 
     private static final Log LOG = LogFactory.getLog(KeyStoreService.class);
+    private static final String ALIAS_SEPARATOR = "/";
+    private static final KeysetPaginator<String> PAGINATOR = new KeysetPaginator<>(Function.identity());
 
     /**
      * Retrieves the list of certificates from the keystore.
@@ -71,14 +74,23 @@ public class KeyStoreService {
      */
     public List<CertificateResponse> listCertificateAliases(String filter) {
 
-        List<String> aliasList;
-        String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        try {
-            aliasList = getKeyStoreManager().getKeyStoreCertificateAliases(tenantDomain, filter);
-        } catch (KeyStoreManagementException e) {
-            throw handleException(e, "Unable to list certificates from keystore.");
-        }
-        return generateCertificateResponseList(aliasList, false);
+        return generateCertificateResponseList(retrieveCertificateAliases(filter), false);
+    }
+
+    /**
+     * Retrieves a page of the certificates from the keystore, ordered by the alias.
+     *
+     * @param filter used to filter the result.
+     * @param limit  maximum number of certificates in the page, capped at {@value KeyStoreConstants#MAX_PAGE_LIMIT}.
+     * @param before cursor of the page before an alias.
+     * @param after  cursor of the page after an alias.
+     * @return {@link KeysetPage} of {@link CertificateResponse}
+     */
+    public KeysetPage<CertificateResponse> listCertificateAliases(String filter, Integer limit, String before,
+                                                                  String after) {
+
+        KeysetPageRequest pageRequest = buildPageRequest(limit, before, after);
+        return paginateCertificateAliases(pageRequest, retrieveCertificateAliases(filter), false);
     }
 
     /**
@@ -86,9 +98,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link CertificateContent} with the certificate.
      */
-    public File getCertificate(String alias, boolean encodeCert) {
+    public CertificateContent getCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -102,7 +114,8 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return generateCertificateContent(tenantDomain, CertificateContentCache.Store.KEYSTORE, alias, certificate,
+                encodeCert);
     }
 
     /**
@@ -119,6 +132,7 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to upload the certificate with alias: " + alias + " to the keystore.");
         }
+        CertificateContentCache.invalidate(tenantDomain, CertificateContentCache.Store.KEYSTORE, alias);
         String certificateEndPoint = String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                 CERTIFICATE_PATH_COMPONENT, alias);
         return buildURIForHeader(certificateEndPoint);
@@ -137,6 +151,7 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to remove the certificate with alias: " + alias + " from the keystore.");
         }
+        CertificateContentCache.invalidate(tenantDomain, CertificateContentCache.Store.KEYSTORE, alias);
     }
 
     /**
@@ -147,14 +162,23 @@ public class KeyStoreService {
      */
     public List<CertificateResponse> listClientCertificateAliases(String filter) {
 
-        List<String> aliasList;
-        String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        try {
-            aliasList = getKeyStoreManager().getClientCertificateAliases(tenantDomain, filter);
-        } catch (KeyStoreManagementException e) {
-            throw handleException(e, "Unable to retrieve the list of certificates from client truststore.");
-        }
-        return generateCertificateResponseList(aliasList, true);
+        return generateCertificateResponseList(retrieveClientCertificateAliases(filter), true);
+    }
+
+    /**
+     * Retrieves a page of the certificates from the client truststore, ordered by the alias.
+     *
+     * @param filter used to filter the result.
+     * @param limit  maximum number of certificates in the page, capped at {@value KeyStoreConstants#MAX_PAGE_LIMIT}.
+     * @param before cursor of the page before an alias.
+     * @param after  cursor of the page after an alias.
+     * @return {@link KeysetPage} of {@link CertificateResponse}
+     */
+    public KeysetPage<CertificateResponse> listClientCertificateAliases(String filter, Integer limit, String before,
+                                                                        String after) {
+
+        KeysetPageRequest pageRequest = buildPageRequest(limit, before, after);
+        return paginateCertificateAliases(pageRequest, retrieveClientCertificateAliases(filter), true);
     }
 
     /**
@@ -162,9 +186,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link CertificateContent} with the certificate.
      */
-    public File getClientCertificate(String alias, boolean encodeCert) {
+    public CertificateContent getClientCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -179,16 +203,17 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return generateCertificateContent(tenantDomain, CertificateContentCache.Store.CLIENT_TRUSTSTORE, alias,
+                certificate, encodeCert);
     }
 
     /**
      * Retrieves the public certificate from the keystore.
      *
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link CertificateContent} with the certificate.
      */
-    public File getPublicCertificate(boolean encodeCert) {
+    public CertificateContent getPublicCertificate(boolean encodeCert) {
 
         Map<String, X509Certificate> certificateData;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -205,67 +230,99 @@ public class KeyStoreService {
             alias = key;
             certificate = certificateData.get(alias);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return generateCertificateContent(tenantDomain, CertificateContentCache.Store.PUBLIC, alias, certificate,
+                encodeCert);
     }
 
-    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
+    private List<String> retrieveCertificateAliases(String filter) {
 
-        List<CertificateResponse> certificatesResponses = new ArrayList<>();
-        String componentPath;
-        if (!isClientCert) {
-            componentPath = CERTIFICATE_PATH_COMPONENT;
-        } else {
-            componentPath = CLIENT_CERTIFICATE_PATH_COMPONENT;
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        try {
+            return getKeyStoreManager().getKeyStoreCertificateAliases(tenantDomain, filter);
+        } catch (KeyStoreManagementException e) {
+            throw handleException(e, "Unable to list certificates from keystore.");
+        }
+    }
+
+    private List<String> retrieveClientCertificateAliases(String filter) {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        try {
+            return getKeyStoreManager().getClientCertificateAliases(tenantDomain, filter);
+        } catch (KeyStoreManagementException e) {
+            throw handleException(e, "Unable to retrieve the list of certificates from client truststore.");
+        }
+    }
+
+    private KeysetPageRequest buildPageRequest(Integer limit, String before, String after) {
+
+        if (limit != null && limit <= 0) {
+            throw handleException(ERROR_CODE_INVALID_PAGINATION_PARAMETER, PAGINATION_LIMIT,
+                    "The value of " + PAGINATION_LIMIT + " parameter should be a positive integer.",
+                    Response.Status.BAD_REQUEST);
+        }
+        try {
+            return KeysetPageRequest.of(limit == null ? MAX_PAGE_LIMIT : Math.min(limit, MAX_PAGE_LIMIT), before,
+                    after);
+        } catch (InvalidCursorException e) {
+            throw handleException(ERROR_CODE_INVALID_PAGINATION_PARAMETER,
+                    StringUtils.isNotBlank(before) ? PAGINATION_BEFORE : PAGINATION_AFTER, e.getMessage(),
+                    Response.Status.BAD_REQUEST);
         }
+    }
 
+    /**
+     * Selects a page of the aliases in a single pass, and builds the certificate responses only for the aliases of
+     * the page.
+     */
+    private KeysetPage<CertificateResponse> paginateCertificateAliases(KeysetPageRequest pageRequest,
+                                                                       List<String> aliasList, boolean isClientCert) {
+
+        KeysetPage<String> page = PAGINATOR.paginate(pageRequest, new InMemoryKeysetFetcher<>(aliasList,
+                Function.identity(), Comparator.naturalOrder(), Function.identity()));
+        String certificatesEndPoint = buildCertificatesEndPoint(isClientCert);
+        return page.map(alias -> buildCertificateResponse(certificatesEndPoint, alias));
+    }
+
+    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
+
+        List<CertificateResponse> certificatesResponses = new ArrayList<>(aliasList.size());
+        String certificatesEndPoint = buildCertificatesEndPoint(isClientCert);
         for (String alias : aliasList) {
-            CertificateResponse certificatesResponse = new CertificateResponse();
-            certificatesResponse.setAlias(alias);
-            String certificateEndPoint =
-                    String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
-                            componentPath, alias);
-            certificatesResponse.setCertificate(buildURIForHeader(certificateEndPoint));
-            certificatesResponses.add(certificatesResponse);
+            certificatesResponses.add(buildCertificateResponse(certificatesEndPoint, alias));
         }
         return certificatesResponses;
     }
 
-    private File generateCertificateFile(String alias, X509Certificate certificate, boolean encodeCert) {
+    /**
+     * Builds the URL of the certificates collection once per listing, to which the alias of each certificate is
+     * appended.
+     */
+    private String buildCertificatesEndPoint(boolean isClientCert) {
 
-        String certificateContent;
-        if (encodeCert) {
-            try {
-                certificateContent = Base64.getEncoder().encodeToString(certificate.getEncoded());
-            } catch (CertificateEncodingException e) {
-                throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
-            }
-        } else {
-            certificateContent = certificate.toString();
-        }
+        String componentPath = isClientCert ? CLIENT_CERTIFICATE_PATH_COMPONENT : CERTIFICATE_PATH_COMPONENT;
+        String collectionPath = StringUtils.removeEnd(String.format(componentPath, StringUtils.EMPTY), ALIAS_SEPARATOR);
+        return buildURIForHeader(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT + collectionPath).toString()
+                + ALIAS_SEPARATOR;
+    }
+
+    private CertificateResponse buildCertificateResponse(String certificatesEndPoint, String alias) {
+
+        CertificateResponse certificatesResponse = new CertificateResponse();
+        certificatesResponse.setAlias(alias);
+        certificatesResponse.setCertificate(URI.create(certificatesEndPoint + alias));
+        return certificatesResponse;
+    }
+
+    private CertificateContent generateCertificateContent(String tenantDomain, CertificateContentCache.Store store,
+                                                          String alias, X509Certificate certificate,
+                                                          boolean encodeCert) {
 
-        String fileName = alias + CERTIFICATE_FILE_EXTENSION;
-        File certsDirectory = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH).getAbsoluteFile();
-        if (certsDirectory.mkdirs()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(certsDirectory.toString() + " has been created.");
-            }
-        }
-        File certificateFile = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH + PATH_SEPERATOR + fileName)
-                .getAbsoluteFile();
         try {
-            if (certificateFile.createNewFile()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("A file has been created with name: " + fileName);
-                }
-            }
-            try (Writer fileWriter = new OutputStreamWriter(new FileOutputStream(certificateFile),
-                    StandardCharsets.UTF_8)) {
-                fileWriter.write(certificateContent);
-            }
-        } catch (IOException e) {
-            throw handleException(ERROR_CODE_FILE_WRITE, fileName, e, Response.Status.INTERNAL_SERVER_ERROR);
+            return CertificateContentCache.get(tenantDomain, store, alias, certificate, encodeCert);
+        } catch (CertificateEncodingException e) {
+            throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
         }
-        return certificateFile;
     }
 
     private APIError handleException(KeyStoreManagementException e, String description) {
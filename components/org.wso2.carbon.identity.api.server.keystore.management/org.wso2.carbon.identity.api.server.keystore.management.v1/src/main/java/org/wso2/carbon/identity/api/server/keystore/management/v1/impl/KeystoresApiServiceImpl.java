@@ -18,15 +18,32 @@ package org.wso2.carbon.identity.api.server.keystore.management.v1.impl;
 
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.api.server.common.EntityTags;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.KeystoresApiService;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.core.CertificateContent;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.core.KeyStoreService;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATES_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATES_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_AFTER;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_BEFORE;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_FILTER;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PAGINATION_LIMIT;
 
 /**
  * API service implementation of Keystore management service operations.
@@ -46,22 +63,26 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getCertificate(String alias, Boolean encodeCert) {
+    public Response getCertificate(String alias, Boolean encodeCert, String ifNoneMatch) {
 
         if (encodeCert == null) {
             encodeCert = false;
         }
-        return Response.ok().entity(keyStoreService.getCertificate(alias, encodeCert)).build();
+        return buildCertificateResponse(keyStoreService.getCertificate(alias, encodeCert), ifNoneMatch);
     }
 
     @Override
-    public Response getCertificateAliases(String filter) {
+    public Response getCertificateAliases(String filter, Integer limit, String before, String after) {
 
-        return Response.ok().entity(keyStoreService.listCertificateAliases(filter)).build();
+        if (isUnpaginated(limit, before, after)) {
+            return Response.ok().entity(keyStoreService.listCertificateAliases(filter)).build();
+        }
+        return buildPageResponse(keyStoreService.listCertificateAliases(filter, limit, before, after),
+                CERTIFICATES_PATH_COMPONENT, filter, limit);
     }
 
     @Override
-    public Response getClientCertificate(String alias, Boolean encodeCert) {
+    public Response getClientCertificate(String alias, Boolean encodeCert, String ifNoneMatch) {
 
         if (!StringUtils.equals(getTenantDomainFromContext(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             return Response.status(Response.Status.METHOD_NOT_ALLOWED).build();
@@ -70,25 +91,29 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         if (encodeCert == null) {
             encodeCert = false;
         }
-        return Response.ok().entity(keyStoreService.getClientCertificate(alias, encodeCert)).build();
+        return buildCertificateResponse(keyStoreService.getClientCertificate(alias, encodeCert), ifNoneMatch);
     }
 
     @Override
-    public Response getClientCertificateAliases(String filter) {
+    public Response getClientCertificateAliases(String filter, Integer limit, String before, String after) {
 
         if (!StringUtils.equals(getTenantDomainFromContext(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter)).build();
+        if (isUnpaginated(limit, before, after)) {
+            return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter)).build();
+        }
+        return buildPageResponse(keyStoreService.listClientCertificateAliases(filter, limit, before, after),
+                CLIENT_CERTIFICATES_PATH_COMPONENT, filter, limit);
     }
 
     @Override
-    public Response getPublicCertificate(Boolean encodeCert) {
+    public Response getPublicCertificate(Boolean encodeCert, String ifNoneMatch) {
 
         if (encodeCert == null) {
             encodeCert = false;
         }
-        return Response.ok().entity(keyStoreService.getPublicCertificate(encodeCert)).build();
+        return buildCertificateResponse(keyStoreService.getPublicCertificate(encodeCert), ifNoneMatch);
     }
 
     @Override
@@ -102,4 +127,38 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         NewCookie resourceCookie = new NewCookie("Location", certResource.toString());
         return Response.created(certResource).cookie(resourceCookie).build();
     }
+
+    private static boolean isUnpaginated(Integer limit, String before, String after) {
+
+        return limit == null && StringUtils.isBlank(before) && StringUtils.isBlank(after);
+    }
+
+    private Response buildPageResponse(KeysetPage<CertificateResponse> page, String collectionPath, String filter,
+                                       Integer limit) {
+
+        return page.addLinkHeaders(Response.ok().entity(page.getItems()),
+                buildListingURL(collectionPath, filter, limit), PAGINATION_BEFORE, PAGINATION_AFTER).build();
+    }
+
+    /**
+     * Build the absolute URL of the listing with the query parameters of the request except the cursors, for the
+     * page links.
+     */
+    private String buildListingURL(String collectionPath, String filter, Integer limit) {
+
+        Map<String, Object> queryParameters = new LinkedHashMap<>();
+        queryParameters.put(PAGINATION_FILTER, filter);
+        queryParameters.put(PAGINATION_LIMIT, limit);
+        return buildURIForHeader(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT + collectionPath) +
+                Util.buildQuery(queryParameters);
+    }
+
+    private Response buildCertificateResponse(CertificateContent certificate, String ifNoneMatch) {
+
+        String entityTag = certificate.getEntityTag();
+        if (EntityTags.isNotModified(ifNoneMatch, entityTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, entityTag).build();
+        }
+        return Response.ok().entity(certificate.getContent()).header(HttpHeaders.ETAG, entityTag).build();
+    }
 }
@@ -32,4 +32,39 @@ public class OrganizationManagementEndpointConstants {
     public static final String FILTER_PARAM = "filter";
     public static final String LIMIT_PARAM = "limit";
     public static final String RECURSIVE_PARAM = "recursive";
+
+    /**
+     * Error messages of the organization management endpoints, which are not raised by the organization manager.
+     */
+    public enum ErrorMessage {
+
+        ERROR_CODE_INVALID_PAGINATION_CURSOR("ORG-60602", "Invalid cursor.",
+                "The before or after parameter is not a valid cursor.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessage(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+    }
 }
@@ -18,12 +18,18 @@
 
 package org.wso2.carbon.identity.api.server.organization.management.v1.service;
 
-import com.google.gson.Gson;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ModelCopier;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.pagination.CursorCodec;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
+import org.wso2.carbon.identity.api.server.common.pagination.PageCursor;
 import org.wso2.carbon.identity.api.server.organization.management.common.OrganizationManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.ApplicationSharePOSTRequest;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.Attribute;
@@ -75,9 +81,9 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -86,6 +92,7 @@ import javax.ws.rs.core.Response;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.ASC_SORT_ORDER;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.DESC_SORT_ORDER;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.DISCOVERY_PATH;
+import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_CURSOR;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.FILTER_PARAM;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.LIMIT_PARAM;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.META_ATTRIBUTES_PATH;
@@ -111,6 +118,11 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 public class OrganizationManagementService {
 
     private static final Log LOG = LogFactory.getLog(OrganizationManagementService.class);
+    private static final String ORGANIZATION_ATTRIBUTES_FIELD = "attributes";
+    private static final KeysetPaginator<Organization> ORGANIZATION_PAGINATOR =
+            new KeysetPaginator<>(organization -> Timestamp.from(organization.getCreated()).toString());
+    private static final KeysetPaginator<String> META_ATTRIBUTE_PAGINATOR = new KeysetPaginator<>(
+            metaAttribute -> metaAttribute);
 
     /**
      * Retrieve organization IDs.
@@ -126,11 +138,15 @@ public class OrganizationManagementService {
 
         try {
             limit = validateLimit(limit);
-            String sortOrder = StringUtils.isNotBlank(before) ? ASC_SORT_ORDER : DESC_SORT_ORDER;
-            List<Organization> organizations = getOrganizationManager().getOrganizationsList(limit + 1, after,
-                    before, sortOrder, filter, Boolean.TRUE.equals(recursive));
-            return Response.ok().entity(getOrganizationsResponse(limit, after, before, filter, organizations,
-                    Boolean.TRUE.equals(recursive))).build();
+            boolean isRecursive = Boolean.TRUE.equals(recursive);
+            // Organizations are listed from the most recently created one.
+            KeysetPage<Organization> page = ORGANIZATION_PAGINATOR.paginate(buildPageRequest(limit, before, after),
+                    (fetchLimit, cursorKey, direction) -> getOrganizationManager().getOrganizationsList(fetchLimit,
+                            toBackendCursor(cursorKey, direction, PageCursor.Direction.FORWARD),
+                            toBackendCursor(cursorKey, direction, PageCursor.Direction.BACKWARD),
+                            direction == PageCursor.Direction.BACKWARD ? ASC_SORT_ORDER : DESC_SORT_ORDER, filter,
+                            isRecursive));
+            return Response.ok().entity(getOrganizationsResponse(limit, filter, page, isRecursive)).build();
         } catch (OrganizationManagementClientException e) {
             return OrganizationManagementEndpointUtil.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -565,11 +581,14 @@ public class OrganizationManagementService {
 
         try {
             limit = validateLimit(limit);
-            String sortOrder = StringUtils.isNotBlank(before) ? DESC_SORT_ORDER : ASC_SORT_ORDER;
-            List<String> metaAttributes = getOrganizationManager().getOrganizationsMetaAttributes(limit + 1, after,
-                    before, sortOrder, filter, Boolean.TRUE.equals(recursive));
-            return Response.ok().entity(getMetaAttributesResponse(limit, after, before, filter, metaAttributes,
-                    Boolean.TRUE.equals(recursive))).build();
+            boolean isRecursive = Boolean.TRUE.equals(recursive);
+            KeysetPage<String> page = META_ATTRIBUTE_PAGINATOR.paginate(buildPageRequest(limit, before, after),
+                    (fetchLimit, cursorKey, direction) -> getOrganizationManager().getOrganizationsMetaAttributes(
+                            fetchLimit, toBackendCursor(cursorKey, direction, PageCursor.Direction.FORWARD),
+                            toBackendCursor(cursorKey, direction, PageCursor.Direction.BACKWARD),
+                            direction == PageCursor.Direction.BACKWARD ? DESC_SORT_ORDER : ASC_SORT_ORDER, filter,
+                            isRecursive));
+            return Response.ok().entity(getMetaAttributesResponse(limit, filter, page, isRecursive)).build();
         } catch (OrganizationManagementClientException e) {
             return OrganizationManagementEndpointUtil.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -728,19 +747,14 @@ public class OrganizationManagementService {
         return limit;
     }
 
-    private OrganizationsResponse getOrganizationsResponse(Integer limit, String after, String before, String filter,
-                                                           List<Organization> organizations, boolean recursive)
+    private OrganizationsResponse getOrganizationsResponse(Integer limit, String filter, KeysetPage<Organization> page,
+                                                           boolean recursive)
             throws OrganizationManagementServerException {
 
         OrganizationsResponse organizationsResponse = new OrganizationsResponse();
+        List<Organization> organizations = page.getItems();
 
-        if (limit != 0 && CollectionUtils.isNotEmpty(organizations)) {
-            boolean hasMoreItems = organizations.size() > limit;
-            boolean needsReverse = StringUtils.isNotBlank(before);
-            boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                    (StringUtils.isNotBlank(before) && !hasMoreItems);
-            boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
+        if (CollectionUtils.isNotEmpty(organizations)) {
             String url = "?" + LIMIT_PARAM + "=" + limit + "&" + RECURSIVE_PARAM + "=" + recursive;
             if (StringUtils.isNotBlank(filter)) {
                 try {
@@ -753,34 +767,7 @@ public class OrganizationManagementService {
                 }
             }
 
-            if (hasMoreItems) {
-                organizations.remove(organizations.size() - 1);
-            }
-            if (needsReverse) {
-                Collections.reverse(organizations);
-            }
-            if (!isFirstPage) {
-                Timestamp createdTimestamp = Timestamp.from(organizations.get(0).getCreated());
-                String encodedString = Base64.getEncoder().encodeToString(createdTimestamp.toString()
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(
-                        OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&" + PAGINATION_BEFORE + "="
-                                + encodedString));
-                link.setRel(PREVIOUS);
-                organizationsResponse.addLinksItem(link);
-            }
-            if (!isLastPage) {
-                Timestamp createdTimestamp = Timestamp.from(organizations.get(organizations.size() - 1).getCreated());
-                String encodedString = Base64.getEncoder().encodeToString(createdTimestamp.toString()
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(
-                        OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&" + PAGINATION_AFTER + "="
-                                + encodedString));
-                link.setRel(NEXT);
-                organizationsResponse.addLinksItem(link);
-            }
+            buildPaginationLinks(url, page).forEach(organizationsResponse::addLinksItem);
 
             List<BasicOrganizationResponse> organizationDTOs = new ArrayList<>();
             for (Organization organization : organizations) {
@@ -805,7 +792,8 @@ public class OrganizationManagementService {
 
         Organization oldOrganization = getOrganizationManager().getOrganization(organizationId, false, false);
         String currentOrganizationName = oldOrganization.getName();
-        Organization organization = createOrganizationClone(oldOrganization);
+        // Attributes are replaced by the request, hence they are not duplicated.
+        Organization organization = ModelCopier.deepCopyExcluding(oldOrganization, ORGANIZATION_ATTRIBUTES_FIELD);
 
         organization.setName(organizationPUTRequest.getName());
         organization.setDescription(organizationPUTRequest.getDescription());
@@ -830,12 +818,6 @@ public class OrganizationManagementService {
         return getOrganizationManager().updateOrganization(organizationId, currentOrganizationName, organization);
     }
 
-    private Organization createOrganizationClone(Organization organization) {
-
-        Gson gson = new Gson();
-        return gson.fromJson(gson.toJson(organization), Organization.class);
-    }
-
     private SharedOrganizationsResponse createSharedOrgResponse(List<BasicOrganization> organizations)
             throws OrganizationManagementServerException {
 
@@ -952,18 +934,14 @@ public class OrganizationManagementService {
         return organizationMetadata;
     }
 
-    private MetaAttributesResponse getMetaAttributesResponse(Integer limit, String after, String before, String filter,
-                                                             List<String> metaAttributes, boolean recursive)
+    private MetaAttributesResponse getMetaAttributesResponse(Integer limit, String filter, KeysetPage<String> page,
+                                                             boolean recursive)
             throws OrganizationManagementServerException {
 
         MetaAttributesResponse metaAttributesResponse = new MetaAttributesResponse();
+        List<String> metaAttributes = page.getItems();
 
-        if (limit != 0 && CollectionUtils.isNotEmpty(metaAttributes)) {
-            boolean hasMoreItems = metaAttributes.size() > limit;
-            boolean needsReverse = StringUtils.isNotBlank(before);
-            boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                    (StringUtils.isNotBlank(before) && !hasMoreItems);
-            boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
+        if (CollectionUtils.isNotEmpty(metaAttributes)) {
 
             String url = PATH_SEPARATOR + META_ATTRIBUTES_PATH + "?" + LIMIT_PARAM + "=" + limit + "&" + RECURSIVE_PARAM
                     + "=" + recursive;
@@ -977,35 +955,50 @@ public class OrganizationManagementService {
                             ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getCode(), e);
                 }
             }
-            if (hasMoreItems) {
-                metaAttributes.remove(metaAttributes.size() - 1);
-            }
-            if (needsReverse) {
-                Collections.reverse(metaAttributes);
-            }
-            if (!isFirstPage) {
-                String encodedString = Base64.getEncoder().encodeToString(metaAttributes.get(0)
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&"
-                        + PAGINATION_BEFORE + "=" + encodedString));
-                link.setRel(PREVIOUS);
-                metaAttributesResponse.addLinksItem(link);
-            }
-            if (!isLastPage) {
-                String encodedString = Base64.getEncoder().encodeToString(metaAttributes.get(metaAttributes.size() - 1)
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&"
-                        + PAGINATION_AFTER + "=" + encodedString));
-                link.setRel(NEXT);
-                metaAttributesResponse.addLinksItem(link);
-            }
+            buildPaginationLinks(url, page).forEach(metaAttributesResponse::addLinksItem);
             metaAttributesResponse.attributes(metaAttributes);
         }
         return metaAttributesResponse;
     }
 
+    private KeysetPageRequest buildPageRequest(int limit, String before, String after)
+            throws OrganizationManagementClientException {
+
+        try {
+            return KeysetPageRequest.of(limit, before, after);
+        } catch (InvalidCursorException e) {
+            throw new OrganizationManagementClientException(ERROR_CODE_INVALID_PAGINATION_CURSOR.getMessage(),
+                    ERROR_CODE_INVALID_PAGINATION_CURSOR.getDescription(),
+                    ERROR_CODE_INVALID_PAGINATION_CURSOR.getCode(), e);
+        }
+    }
+
+    /**
+     * Returns the cursor of the organization manager for the given position of a page, if the page is fetched in the
+     * given direction. The organization manager expects its cursors in the legacy format.
+     */
+    private static String toBackendCursor(String cursorKey, PageCursor.Direction direction,
+                                          PageCursor.Direction cursorDirection) {
+
+        if (cursorKey == null || direction != cursorDirection) {
+            return null;
+        }
+        return CursorCodec.encodeLegacy(cursorKey);
+    }
+
+    private List<Link> buildPaginationLinks(String url, KeysetPage<?> page) {
+
+        List<Link> links = new ArrayList<>();
+        for (Map.Entry<String, String> paginationLink : page.buildLinks(OrganizationManagementEndpointUtil
+                .buildURIForPagination(url), PAGINATION_BEFORE, PAGINATION_AFTER).entrySet()) {
+            Link link = new Link();
+            link.setHref(URI.create(paginationLink.getValue()));
+            link.setRel(KeysetPage.PREVIOUS.equals(paginationLink.getKey()) ? PREVIOUS : NEXT);
+            links.add(link);
+        }
+        return links;
+    }
+
     private OrganizationManager getOrganizationManager() {
 
         return OrganizationManagementServiceHolder.getInstance().getOrganizationManager();
@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchResponse;
@@ -33,6 +34,7 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.OrganizationsApiService;
 
@@ -135,14 +137,39 @@ public class OrganizationsApi  {
     }, tags={ "Organization Role Management", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Valid role is found.", response = RoleGetResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid@ApiParam(value = "Defines how the users and groups of the role are returned. 'inline' returns them in the response. 'count' returns only the number of users and groups, which can be retrieved page by page from the users and groups of the role.", allowableValues="inline, count", defaultValue="inline") @DefaultValue("inline")  @QueryParam("members") String members) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId,  members );
+    }
+
+    @Valid
+    @GET
+    @Path("/{organization-id}/roles/{role-id}/groups")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the groups of a role", notes = "This API returns the groups assigned to a role, one page at a time. The groups are ordered by their IDs.", response = RoleGroupsListResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = RoleGroupsListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
         @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
         @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
         @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
         @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
     })
-    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGroupsGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to be returned. (Should be greater than 0)")  @QueryParam("count") Integer count,     @Valid@ApiParam(value = "The cursor to retrieve the records.")  @QueryParam("cursor") String cursor) {
 
-        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId );
+        return delegate.organizationsOrganizationIdRolesRoleIdGroupsGet(roleId,  organizationId,  count,  cursor );
     }
 
     @Valid
@@ -193,6 +220,30 @@ public class OrganizationsApi  {
         return delegate.organizationsOrganizationIdRolesRoleIdPut(roleId,  organizationId,  rolePutRequest );
     }
 
+    @Valid
+    @GET
+    @Path("/{organization-id}/roles/{role-id}/users")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the users of a role", notes = "This API returns the users assigned to a role, one page at a time. The users are ordered by their IDs.", response = RoleUsersListResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = RoleUsersListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdUsersGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to be returned. (Should be greater than 0)")  @QueryParam("count") Integer count,     @Valid@ApiParam(value = "The cursor to retrieve the records.")  @QueryParam("cursor") String cursor) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdUsersGet(roleId,  organizationId,  count,  cursor );
+    }
+
     @Valid
     @GET
     @Path("/{organization-id}/users/{user-id}/roles")
@@ -46,6 +46,8 @@ public class RoleGetResponse  {
 
     private List<String> permissions = null;
 
+    private Integer userCount;
+    private Integer groupCount;
 
     /**
     **/
@@ -179,6 +181,44 @@ public class RoleGetResponse  {
         return this;
     }
 
+        /**
+    * Number of users assigned to the role. Returned instead of the users when the members are requested as a count.
+    **/
+    public RoleGetResponse userCount(Integer userCount) {
+
+        this.userCount = userCount;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "52000", value = "Number of users assigned to the role. Returned instead of the users when the members are requested as a count.")
+    @JsonProperty("userCount")
+    @Valid
+    public Integer getUserCount() {
+        return userCount;
+    }
+    public void setUserCount(Integer userCount) {
+        this.userCount = userCount;
+    }
+
+    /**
+    * Number of groups assigned to the role. Returned instead of the groups when the members are requested as a count.
+    **/
+    public RoleGetResponse groupCount(Integer groupCount) {
+
+        this.groupCount = groupCount;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "12", value = "Number of groups assigned to the role. Returned instead of the groups when the members are requested as a count.")
+    @JsonProperty("groupCount")
+    @Valid
+    public Integer getGroupCount() {
+        return groupCount;
+    }
+    public void setGroupCount(Integer groupCount) {
+        this.groupCount = groupCount;
+    }
+
     
 
     @Override
@@ -196,12 +236,14 @@ public class RoleGetResponse  {
             Objects.equals(this.id, roleGetResponse.id) &&
             Objects.equals(this.users, roleGetResponse.users) &&
             Objects.equals(this.groups, roleGetResponse.groups) &&
-            Objects.equals(this.permissions, roleGetResponse.permissions);
+            Objects.equals(this.permissions, roleGetResponse.permissions) &&
+            Objects.equals(this.userCount, roleGetResponse.userCount) &&
+            Objects.equals(this.groupCount, roleGetResponse.groupCount);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(displayName, meta, id, users, groups, permissions);
+        return Objects.hash(displayName, meta, id, users, groups, permissions, userCount, groupCount);
     }
 
     @Override
@@ -216,6 +258,8 @@ public class RoleGetResponse  {
         sb.append("    users: ").append(toIndentedString(users)).append("\n");
         sb.append("    groups: ").append(toIndentedString(groups)).append("\n");
         sb.append("    permissions: ").append(toIndentedString(permissions)).append("\n");
+        sb.append("    userCount: ").append(toIndentedString(userCount)).append("\n");
+        sb.append("    groupCount: ").append(toIndentedString(groupCount)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -31,4 +31,44 @@ public class RoleManagementEndpointConstants {
     public static final String GROUP_PATH = "groups";
     public static final String USER_PATH = "users";
     public static final String SCIM_USER_PATH = "Users";
+
+    public static final String MEMBERS_INLINE = "inline";
+    public static final String MEMBERS_AS_COUNT = "count";
+
+    /**
+     * Error messages of the role management endpoints, which are not raised by the role manager.
+     */
+    public enum ErrorMessage {
+
+        ERROR_CODE_INVALID_MEMBER_CURSOR("ORG-60601", "Invalid cursor.",
+                "The cursor: %s is not a valid cursor for the members of the role."),
+        ERROR_CODE_INVALID_MEMBERS_PARAM("ORG-60603", "Invalid members parameter.",
+                "The value: %s is not supported for the members parameter. Supported values are inline and count.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessage(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+    }
 }
@@ -55,9 +55,16 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
     }
 
     @Override
-    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId, String members) {
 
-        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId);
+        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId, members);
+    }
+
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdGroupsGet(String roleId, String organizationId,
+                                                                    Integer count, String cursor) {
+
+        return roleManagementService.getGroupsOfRole(organizationId, roleId, count, cursor);
     }
 
     @Override
@@ -74,6 +81,13 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
         return roleManagementService.putRole(organizationId, roleId, rolePutRequest);
     }
 
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdUsersGet(String roleId, String organizationId,
+                                                                   Integer count, String cursor) {
+
+        return roleManagementService.getUsersOfRole(organizationId, roleId, count, cursor);
+    }
+
     @Override
     public Response organizationsOrganizationIdUsersUserIdRolesGet(String userId, String organizationId) {
 
@@ -22,10 +22,17 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.pagination.InvalidCursorException;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPageRequest;
+import org.wso2.carbon.identity.api.server.common.pagination.KeysetPaginator;
+import org.wso2.carbon.identity.api.server.common.pagination.PageCursor;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.exception.RoleManagementEndpointException;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseGroup;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseUser;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObjMeta;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchOperation;
@@ -40,6 +47,7 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequestUser;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponseMeta;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.util.RoleManagementEndpointUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -54,7 +62,11 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -125,16 +137,80 @@ public class RoleManagementService {
      *
      * @param organizationId The ID of the organization.
      * @param roleId         The ID of the role.
+     * @param members        Whether the users and groups of the role are returned inline or as a count.
      * @return The role corresponding to roleId and organizationId.
      */
-    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId) {
+    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId, String members) {
 
         try {
+            boolean membersAsCount = isMembersAsCount(members);
             Role role = RoleManagementEndpointUtils.getRoleManager().getRoleById(organizationId, roleId);
             URI roleURI = RoleManagementEndpointUtils.getUri(organizationId, roleId,
                     RoleManagementEndpointConstants.ROLE_PATH,
                     ERROR_CODE_ERROR_BUILDING_ROLE_URI);
-            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI)).build();
+            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI, membersAsCount)).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Get the users assigned to a role, one page at a time. The users are ordered by their IDs.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param count          Param for desired maximum number of query results per page.
+     * @param cursor         Param for cursor to fetch the next or previous page of results.
+     * @return A page of the users of the role.
+     */
+    public Response getUsersOfRole(String organizationId, String roleId, Integer count, String cursor) {
+
+        try {
+            int limitValue = validateCount(count);
+            Role role = RoleManagementEndpointUtils.getRoleManager().getRoleById(organizationId, roleId);
+            List<User> users = getIdentifiedMembers(role.getUsers(), User::getId);
+            KeysetPage<User> page = getMemberPage(users, User::getId, limitValue, cursor);
+
+            RoleUsersListResponse response = new RoleUsersListResponse();
+            response.setTotalResults(users.size());
+            response.setItemsPerPage(page.getItems().size());
+            response.setNextCursor(page.getNextCursor());
+            response.setPreviousCursor(page.getPreviousCursor());
+            response.setResources(getUsersForResponseObject(page.getItems(), organizationId));
+            return Response.ok().entity(response).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Get the groups assigned to a role, one page at a time. The groups are ordered by their IDs.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param count          Param for desired maximum number of query results per page.
+     * @param cursor         Param for cursor to fetch the next or previous page of results.
+     * @return A page of the groups of the role.
+     */
+    public Response getGroupsOfRole(String organizationId, String roleId, Integer count, String cursor) {
+
+        try {
+            int limitValue = validateCount(count);
+            Role role = RoleManagementEndpointUtils.getRoleManager().getRoleById(organizationId, roleId);
+            List<Group> groups = getIdentifiedMembers(role.getGroups(), Group::getGroupId);
+            KeysetPage<Group> page = getMemberPage(groups, Group::getGroupId, limitValue, cursor);
+
+            RoleGroupsListResponse response = new RoleGroupsListResponse();
+            response.setTotalResults(groups.size());
+            response.setItemsPerPage(page.getItems().size());
+            response.setNextCursor(page.getNextCursor());
+            response.setPreviousCursor(page.getPreviousCursor());
+            response.setResources(getGroupsForResponseObject(page.getItems(), organizationId));
+            return Response.ok().entity(response).build();
         } catch (OrganizationManagementClientException e) {
             return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -144,6 +220,11 @@ public class RoleManagementService {
 
     /**
      * Get the roles inside an organization.
+     * <p>
+     * Unlike the members of a role, the roles are not paginated with the KeysetPaginator. The role manager filters
+     * and pages the roles in the database, and issues the next and previous cursors itself, hence the cursors are
+     * passed through as they are. Paginating here would need all the roles of the organization to be fetched for
+     * every page, and would break the cursors the clients already hold.
      *
      * @param organizationId The ID of the organization.
      * @param filter         Param for filtering the results.
@@ -328,9 +409,11 @@ public class RoleManagementService {
      * @param organizationId The ID of the organization.
      * @param role           A role object.
      * @param roleURI        The URI of the role.
+     * @param membersAsCount Whether only the number of users and groups of the role are returned.
      * @return A RoleGetResponse.
      */
-    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI) {
+    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI,
+                                               boolean membersAsCount) {
 
         RoleObjMeta roleObjMeta = new RoleObjMeta();
         roleObjMeta.location(roleURI.toString());
@@ -341,6 +424,13 @@ public class RoleManagementService {
         response.setMeta(roleObjMeta);
         response.setPermissions(role.getPermissions());
 
+        if (membersAsCount) {
+            // Only the members which are listed, i.e. which have an ID, are counted.
+            response.setUserCount(getIdentifiedMembers(role.getUsers(), User::getId).size());
+            response.setGroupCount(getIdentifiedMembers(role.getGroups(), Group::getGroupId).size());
+            return response;
+        }
+
         if (CollectionUtils.isNotEmpty(role.getGroups())) {
             response.setGroups(getGroupsForResponseObject(role.getGroups(), organizationId));
         }
@@ -361,14 +451,17 @@ public class RoleManagementService {
      */
     private List<RoleGetResponseGroup> getGroupsForResponseObject(List<Group> roleGroups, String organizationId) {
 
-        List<RoleGetResponseGroup> groups = new ArrayList<>();
+        List<RoleGetResponseGroup> groups = new ArrayList<>(roleGroups.size());
+        if (roleGroups.isEmpty()) {
+            return groups;
+        }
+        String groupBaseUri = RoleManagementEndpointUtils.getBaseUri(organizationId,
+                RoleManagementEndpointConstants.GROUP_PATH, ERROR_CODE_ERROR_BUILDING_GROUP_URI);
         for (Group basicGroup : roleGroups) {
             RoleGetResponseGroup group = new RoleGetResponseGroup();
             group.value(basicGroup.getGroupId());
             group.display(basicGroup.getGroupName());
-            group.$ref(RoleManagementEndpointUtils.getUri(organizationId, basicGroup.getGroupId(),
-                    RoleManagementEndpointConstants.GROUP_PATH,
-                    ERROR_CODE_ERROR_BUILDING_GROUP_URI).toString());
+            group.$ref(groupBaseUri + basicGroup.getGroupId());
             groups.add(group);
         }
         return groups;
@@ -383,18 +476,28 @@ public class RoleManagementService {
      */
     private List<RoleGetResponseUser> getUsersForResponseObject(List<User> roleUsers, String organizationId) {
 
-        List<RoleGetResponseUser> users = new ArrayList<>();
+        List<RoleGetResponseUser> users = new ArrayList<>(roleUsers.size());
+        // The base URIs are built once per response and the member IDs are appended to them.
+        String userBaseUri = null;
+        String scimUserBaseUri = null;
+        Map<String, String> residentOrgUserBaseUris = new HashMap<>();
         for (User basicUser : roleUsers) {
             String uri;
-            if (StringUtils.isNotBlank(basicUser.getUserResidentOrgId())) {
-                uri = RoleManagementEndpointUtils.buildSCIM2Uri(basicUser.getId(),
-                        RoleManagementEndpointConstants.SCIM_USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
-                uri = uri.replace(organizationId, basicUser.getUserResidentOrgId());
+            String userResidentOrgId = basicUser.getUserResidentOrgId();
+            if (StringUtils.isNotBlank(userResidentOrgId)) {
+                if (scimUserBaseUri == null) {
+                    scimUserBaseUri = RoleManagementEndpointUtils.buildSCIM2BaseUri(
+                            RoleManagementEndpointConstants.SCIM_USER_PATH, ERROR_CODE_ERROR_BUILDING_USER_URI);
+                }
+                String baseUri = scimUserBaseUri;
+                uri = residentOrgUserBaseUris.computeIfAbsent(userResidentOrgId,
+                        residentOrgId -> baseUri.replace(organizationId, residentOrgId)) + basicUser.getId();
             } else {
-                uri = RoleManagementEndpointUtils.getUri(organizationId, basicUser.getId(),
-                        RoleManagementEndpointConstants.USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
+                if (userBaseUri == null) {
+                    userBaseUri = RoleManagementEndpointUtils.getBaseUri(organizationId,
+                            RoleManagementEndpointConstants.USER_PATH, ERROR_CODE_ERROR_BUILDING_USER_URI);
+                }
+                uri = userBaseUri + basicUser.getId();
             }
 
             RoleGetResponseUser user = new RoleGetResponseUser();
@@ -505,6 +608,115 @@ public class RoleManagementService {
         return roleDTOs;
     }
 
+    /**
+     * Check whether the users and groups of a role are requested as a count instead of inline.
+     *
+     * @param members The value of the members parameter, or null for the default.
+     * @return True if the members are requested as a count.
+     */
+    private boolean isMembersAsCount(String members) {
+
+        if (members == null || RoleManagementEndpointConstants.MEMBERS_INLINE.equals(members)) {
+            return false;
+        }
+        if (RoleManagementEndpointConstants.MEMBERS_AS_COUNT.equals(members)) {
+            return true;
+        }
+        RoleManagementEndpointConstants.ErrorMessage errorMessage =
+                RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_MEMBERS_PARAM;
+        throw new RoleManagementEndpointException(Response.Status.BAD_REQUEST,
+                RoleManagementEndpointUtils.getError(errorMessage.getCode(), errorMessage.getMessage(),
+                        String.format(errorMessage.getDescription(), members)));
+    }
+
+    /**
+     * Get a page of the users or groups of a role. The members are ordered by their IDs and the cursors refer to the
+     * ID of the last member before the next page or the first member after the previous page, so that the pages
+     * stay consistent when members are assigned or removed in between the requests.
+     *
+     * @param members    The users or groups of the role.
+     * @param idResolver The function resolving the ID of a member.
+     * @param limit      The maximum number of members in the page.
+     * @param cursor     The cursor of the page, or null for the first page.
+     * @param <T>        The type of the members.
+     * @return The page of members.
+     */
+    private <T> KeysetPage<T> getMemberPage(List<T> members, Function<T, String> idResolver, int limit,
+                                            String cursor) {
+
+        KeysetPageRequest pageRequest;
+        try {
+            pageRequest = KeysetPageRequest.of(limit, StringUtils.isBlank(cursor) ? null : cursor);
+        } catch (InvalidCursorException e) {
+            RoleManagementEndpointConstants.ErrorMessage errorMessage =
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_MEMBER_CURSOR;
+            throw new RoleManagementEndpointException(Response.Status.BAD_REQUEST,
+                    RoleManagementEndpointUtils.getError(errorMessage.getCode(), errorMessage.getMessage(),
+                            String.format(errorMessage.getDescription(), cursor)));
+        }
+
+        List<T> sortedMembers = new ArrayList<>(members);
+        sortedMembers.sort(Comparator.comparing(idResolver));
+        return new KeysetPaginator<>(idResolver).paginate(pageRequest, (fetchLimit, cursorKey, direction) -> {
+            if (cursorKey == null) {
+                return sortedMembers.subList(0, Math.min(fetchLimit, sortedMembers.size()));
+            }
+            int position = getFirstPositionNotBefore(sortedMembers, idResolver, cursorKey);
+            if (direction == PageCursor.Direction.FORWARD) {
+                if (position < sortedMembers.size() &&
+                        cursorKey.equals(idResolver.apply(sortedMembers.get(position)))) {
+                    position++;
+                }
+                return sortedMembers.subList(position, Math.min(position + fetchLimit, sortedMembers.size()));
+            }
+            List<T> previousMembers = new ArrayList<>(sortedMembers.subList(Math.max(0, position - fetchLimit),
+                    position));
+            Collections.reverse(previousMembers);
+            return previousMembers;
+        });
+    }
+
+    /**
+     * Get the members of a role which have an ID. Members without an ID cannot be referred to by a cursor, hence they
+     * are not listed.
+     *
+     * @param members    The users or groups of the role, or null if the role has none.
+     * @param idResolver The function resolving the ID of a member.
+     * @param <T>        The type of the members.
+     * @return The members which have an ID.
+     */
+    private <T> List<T> getIdentifiedMembers(List<T> members, Function<T, String> idResolver) {
+
+        if (members == null) {
+            return Collections.emptyList();
+        }
+        List<T> identifiedMembers = new ArrayList<>(members.size());
+        for (T member : members) {
+            if (StringUtils.isNotEmpty(idResolver.apply(member))) {
+                identifiedMembers.add(member);
+            }
+        }
+        return identifiedMembers;
+    }
+
+    /**
+     * Binary search for the position of the first member whose ID is not before the given ID.
+     */
+    private <T> int getFirstPositionNotBefore(List<T> sortedMembers, Function<T, String> idResolver, String id) {
+
+        int low = 0;
+        int high = sortedMembers.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (idResolver.apply(sortedMembers.get(middle)).compareTo(id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     /**
      * @param count The param for desired maximum number of query results per page.
      * @return The count.
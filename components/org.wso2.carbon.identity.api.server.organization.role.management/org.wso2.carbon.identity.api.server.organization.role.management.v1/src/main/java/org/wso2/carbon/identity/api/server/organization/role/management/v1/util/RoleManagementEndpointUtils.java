@@ -144,6 +144,48 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the base URI of the resources of a type inside an organization, i.e. the URI of a resource without its ID.
+     * The URI of a resource can be derived by appending its ID to the base URI, instead of building it from context.
+     *
+     * @param organizationId The organization ID.
+     * @param resourcePath   The path for the resources.
+     * @param errorMessage   The error message specific to the resources.
+     * @return The base URI ending with a path separator.
+     */
+    public static String getBaseUri(String organizationId, String resourcePath, ErrorMessages errorMessage) {
+
+        String endpoint = SERVER_API_PATH_COMPONENT + V1_API_PATH_COMPONENT + PATH_SEPARATOR + ORGANIZATION_PATH +
+                PATH_SEPARATOR + organizationId + PATH_SEPARATOR + resourcePath;
+        try {
+            return ServiceURLBuilder.create().addPath(endpoint).build().getAbsolutePublicURL() + PATH_SEPARATOR;
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), resourcePath));
+            LOG.error("Server encountered an error while building URL for " + resourcePath);
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
+    /**
+     * Get the SCIM2 base URI of the resources of a type from context, i.e. the URI of a resource without its ID.
+     *
+     * @param resourcePath The path for the resources.
+     * @param errorMessage The error message specific to the resources.
+     * @return The SCIM2 base URI ending with a path separator.
+     */
+    public static String buildSCIM2BaseUri(String resourcePath, ErrorMessages errorMessage) {
+
+        String endpoint = SCIM2_API_PATH_COMPONENT + PATH_SEPARATOR + resourcePath;
+        try {
+            return ServiceURLBuilder.create().addPath(endpoint).build().getAbsolutePublicURL() + PATH_SEPARATOR;
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), resourcePath));
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
     /**
      * Get the SCIM2 URI from context.
      *
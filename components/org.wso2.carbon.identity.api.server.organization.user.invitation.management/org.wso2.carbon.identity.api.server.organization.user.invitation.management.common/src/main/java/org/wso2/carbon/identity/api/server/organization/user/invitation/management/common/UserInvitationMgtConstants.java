@@ -25,6 +25,17 @@ public class UserInvitationMgtConstants {
 
     public static final String ERROR_PREFIX = "OUI-";
     public static final String ERROR_FAIL_STATUS = "Failed";
+    public static final String INVITATION_JOB_PATH_COMPONENT = "/guests/invitation-jobs";
+
+    // Sorting and projection of the invitation listing.
+    public static final String SORT_ORDER_ASC = "ASC";
+    public static final String SORT_ORDER_DESC = "DESC";
+    public static final String SORT_BY_USERNAME = "username";
+    public static final String SORT_BY_EMAIL = "email";
+    public static final String SORT_BY_STATUS = "status";
+    public static final String SORT_BY_EXPIRED_AT = "expiredAt";
+    public static final String ATTRIBUTE_ROLES = "roles";
+    public static final String ATTRIBUTE_GROUPS = "groups";
 
     /**
      * Enum for shared user invitation management related errors.
@@ -47,6 +58,8 @@ public class UserInvitationMgtConstants {
         ERROR_CODE_MULTIPLE_INVITATIONS_FOR_USER("60003",
                 "Unable to create the invitation.",
                 "Multiple invitations found for users given in the list %s."),
+        // The limit and offset errors are not raised since the listing supports pagination. Their codes are reserved
+        // so that clients handling them don't receive an unrelated error.
         ERROR_CODE_UNSUPPORTED_LIMIT("60004",
                 "Unsupported param.",
                 "Limit param is not supported yet."),
@@ -55,10 +68,11 @@ public class UserInvitationMgtConstants {
                 "Offset param is not supported yet."),
         ERROR_CODE_UNSUPPORTED_SORT_ORDER("60006",
                 "Unsupported param.",
-                "Sort order param is not supported yet."),
+                "Sort order %s is not supported. The sort order must be either ASC or DESC."),
         ERROR_CODE_UNSUPPORTED_SORT_BY("60007",
                 "Unsupported param.",
-                "Sort order param is not supported yet."),
+                "Sorting by %s is not supported. Invitations can be sorted by username, email, status and " +
+                        "expiredAt."),
         ERROR_CODE_ACTIVE_INVITATION_AVAILABLE("60008",
                 "Invitation already exists.",
                 "An active invitation already exists for the user %s."),
@@ -86,6 +100,25 @@ public class UserInvitationMgtConstants {
         ERROR_CODE_INVALID_GROUP("60014",
                 "Invalid group list provided.",
                 "The provided group lists are not valid."),
+        ERROR_CODE_UNSUPPORTED_EXCLUDED_ATTRIBUTE("60015",
+                "Unsupported param.",
+                "Excluding the attribute %s is not supported. Only roles and groups can be excluded."),
+        ERROR_CODE_INVALID_INVITATION_JOB_SIZE("60016",
+                "Invalid user list.",
+                "An invitation job must invite at least one and at most %s users."),
+        ERROR_CODE_INVITATION_JOB_NOT_FOUND("60017",
+                "Invitation job not found.",
+                "Could not find the invitation job with the id %s."),
+        ERROR_CODE_TOO_MANY_INVITATION_JOBS("60018",
+                "Too many invitation jobs.",
+                "The organization has reached the limit of %s active invitation jobs. Retry once a job of the " +
+                        "organization completes."),
+        ERROR_CODE_INVALID_LIMIT("60019",
+                "Invalid param.",
+                "Limit %s must not be negative."),
+        ERROR_CODE_INVALID_OFFSET("60020",
+                "Invalid param.",
+                "Offset %s must not be negative."),
 
         // Server errors.
         ERROR_CODE_CREATE_INVITATION("65001",
@@ -103,6 +136,10 @@ public class UserInvitationMgtConstants {
         ERROR_CODE_ACCEPT_INVITATION("65005",
                 "Unable to accept the invitation.",
                 "Could not accept the invitation with the confirmation code %s."),
+        ERROR_CODE_INVITATION_JOB_CAPACITY_EXCEEDED("65006",
+                "Server busy.",
+                "The server has reached the limit of %s active invitation jobs across all the organizations. Retry " +
+                        "later."),
         ERROR_CODE_NOT_IMPLEMENTED("65100",
                 "Not Implemented.",
                 "Method is not implemented.");
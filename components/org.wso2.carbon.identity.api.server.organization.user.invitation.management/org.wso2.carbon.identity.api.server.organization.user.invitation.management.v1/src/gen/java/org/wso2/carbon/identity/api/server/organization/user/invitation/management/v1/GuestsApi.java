@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.organization.user.invitation.manageme
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectSuccessResponse;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationJob;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationSuccessResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationsListResponse;
@@ -100,6 +101,45 @@ public class GuestsApi  {
         return delegate.invitationIntrospectPost(introspectRequestBody );
     }
 
+    @Valid
+    @GET
+    @Path("/invitation-jobs/{job-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get an invitation job", notes = "Returns the status and the per user results of an invitation job. The results of the users processed so far are returned while the job is running. The results are appended in the order the users were processed, hence a poller can page through them with the offset and limit parameters.  <b>Scope(Permission) required:</b> `internal_org_guest_mgt_invite_add` ", response = InvitationJob.class, tags={ "Parent Organization User Invitation", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = InvitationJob.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Error.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response invitationJobGet(@ApiParam(value = "ID of the invitation job",required=true) @PathParam("job-id") String jobId,     @Valid@ApiParam(value = "Maximum number of records to return. All the matching records are returned if not provided. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset) {
+
+        return delegate.invitationJobGet(jobId,  limit,  offset );
+    }
+
+    @Valid
+    @POST
+    @Path("/invitation-jobs")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Invite a large number of parent organization users to a child organization", notes = "Starts a job which invites the given users in the background and returns immediately. The users are invited in chunks and the result of each user is reported through the job, which can be polled through the returned location. A failure of a user doesn't fail the other users of the job.  <b>Scope(Permission) required:</b> `internal_org_guest_mgt_invite_add` ", response = InvitationJob.class, tags={ "Parent Organization User Invitation", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 202, message = "Accepted", response = InvitationJob.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Error.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
+        @ApiResponse(code = 429, message = "Too Many Requests", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
+    })
+    public Response invitationJobPost(@ApiParam(value = "Details that need to initiate the invitations" ,required=true) @Valid InvitationRequestBody invitationRequestBody) {
+
+        return delegate.invitationJobPost(invitationRequestBody );
+    }
+
     @Valid
     @GET
     @Path("/invitations")
@@ -112,9 +152,9 @@ public class GuestsApi  {
         @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response invitationListGet(    @Valid@ApiParam(value = "Filtering the invitation based on the status. Status can be PENDING or EXPIRED.")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of records to return _This parameter is not supported yet._ ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Starting index of the pagination _This parameter is not supported yet._ ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Sort order of the returned records. Either ASC or DESC _This parameter is not supported yet._ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Sort by a specific field _This parameter is not supported yet._ ")  @QueryParam("sortBy") String sortBy) {
+    public Response invitationListGet(    @Valid@ApiParam(value = "Filtering the invitation based on the status. Status can be PENDING or EXPIRED.")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of records to return. All the matching records are returned if not provided. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Sort order of the returned records. Either ASC or DESC. Defaults to ASC. ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Sort by a specific field. Supported fields are username, email, status and expiredAt. A page requested with the limit or offset parameters is sorted by the invitation ID if no field is given. ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Comma separated attributes to exclude from the returned invitations. Supported attributes are roles and groups. ")  @QueryParam("excludedAttributes") String excludedAttributes,     @Valid@ApiParam(value = "Return only the number of matching invitations, without the invitations. ")  @QueryParam("countOnly") Boolean countOnly) {
 
-        return delegate.invitationListGet(filter,  limit,  offset,  sortOrder,  sortBy );
+        return delegate.invitationListGet(filter,  limit,  offset,  sortOrder,  sortBy,  excludedAttributes,  countOnly );
     }
 
     @Valid
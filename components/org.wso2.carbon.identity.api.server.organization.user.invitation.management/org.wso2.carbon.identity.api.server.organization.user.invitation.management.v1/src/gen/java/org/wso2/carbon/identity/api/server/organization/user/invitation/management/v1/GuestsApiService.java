@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.organization.user.invitation.manageme
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectSuccessResponse;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationJob;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationSuccessResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationsListResponse;
@@ -42,7 +43,11 @@ public interface GuestsApiService {
 
       public Response invitationIntrospectPost(IntrospectRequestBody introspectRequestBody);
 
-      public Response invitationListGet(String filter, Integer limit, Integer offset, String sortOrder, String sortBy);
+      public Response invitationJobGet(String jobId, Integer limit, Integer offset);
+
+      public Response invitationJobPost(InvitationRequestBody invitationRequestBody);
+
+      public Response invitationListGet(String filter, Integer limit, Integer offset, String sortOrder, String sortBy, String excludedAttributes, Boolean countOnly);
 
       public Response invitationTriggerPost(InvitationRequestBody invitationRequestBody);
 }
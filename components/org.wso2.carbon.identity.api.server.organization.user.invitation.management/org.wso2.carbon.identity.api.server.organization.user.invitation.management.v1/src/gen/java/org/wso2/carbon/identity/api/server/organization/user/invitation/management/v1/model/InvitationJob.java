@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationSuccessResponse;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class InvitationJob  {
+  
+    private String id;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("QUEUED") QUEUED(String.valueOf("QUEUED")), @XmlEnumValue("RUNNING") RUNNING(String.valueOf("RUNNING")), @XmlEnumValue("COMPLETED") COMPLETED(String.valueOf("COMPLETED")), @XmlEnumValue("FAILED") FAILED(String.valueOf("FAILED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private Integer totalUsers;
+    private Integer processedUsers;
+    private Integer successfulUsers;
+    private Integer failedUsers;
+    private String createdTime;
+    private String startedTime;
+    private String completedTime;
+    private String self;
+    private List<InvitationSuccessResponse> results = null;
+
+    /**
+    **/
+    public InvitationJob id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5d3f1b2a-6c6e-4b8e-9d1f-2a3b4c5d6e7f", value = "")
+    @JsonProperty("id")
+    @Valid
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    **/
+    public InvitationJob status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "RUNNING", value = "")
+    @JsonProperty("status")
+    @Valid
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Number of distinct users of the job.
+    **/
+    public InvitationJob totalUsers(Integer totalUsers) {
+
+        this.totalUsers = totalUsers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5000", value = "Number of distinct users of the job.")
+    @JsonProperty("totalUsers")
+    @Valid
+    public Integer getTotalUsers() {
+        return totalUsers;
+    }
+    public void setTotalUsers(Integer totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+
+    /**
+    * Number of users processed so far.
+    **/
+    public InvitationJob processedUsers(Integer processedUsers) {
+
+        this.processedUsers = processedUsers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1200", value = "Number of users processed so far.")
+    @JsonProperty("processedUsers")
+    @Valid
+    public Integer getProcessedUsers() {
+        return processedUsers;
+    }
+    public void setProcessedUsers(Integer processedUsers) {
+        this.processedUsers = processedUsers;
+    }
+
+    /**
+    * Number of users invited successfully.
+    **/
+    public InvitationJob successfulUsers(Integer successfulUsers) {
+
+        this.successfulUsers = successfulUsers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1190", value = "Number of users invited successfully.")
+    @JsonProperty("successfulUsers")
+    @Valid
+    public Integer getSuccessfulUsers() {
+        return successfulUsers;
+    }
+    public void setSuccessfulUsers(Integer successfulUsers) {
+        this.successfulUsers = successfulUsers;
+    }
+
+    /**
+    * Number of users who couldn't be invited.
+    **/
+    public InvitationJob failedUsers(Integer failedUsers) {
+
+        this.failedUsers = failedUsers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "10", value = "Number of users who couldn't be invited.")
+    @JsonProperty("failedUsers")
+    @Valid
+    public Integer getFailedUsers() {
+        return failedUsers;
+    }
+    public void setFailedUsers(Integer failedUsers) {
+        this.failedUsers = failedUsers;
+    }
+
+    /**
+    **/
+    public InvitationJob createdTime(String createdTime) {
+
+        this.createdTime = createdTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2024-06-01T10:15:30.000Z", value = "")
+    @JsonProperty("createdTime")
+    @Valid
+    public String getCreatedTime() {
+        return createdTime;
+    }
+    public void setCreatedTime(String createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+    **/
+    public InvitationJob startedTime(String startedTime) {
+
+        this.startedTime = startedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2024-06-01T10:15:30.120Z", value = "")
+    @JsonProperty("startedTime")
+    @Valid
+    public String getStartedTime() {
+        return startedTime;
+    }
+    public void setStartedTime(String startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    /**
+    **/
+    public InvitationJob completedTime(String completedTime) {
+
+        this.completedTime = completedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2024-06-01T10:16:02.540Z", value = "")
+    @JsonProperty("completedTime")
+    @Valid
+    public String getCompletedTime() {
+        return completedTime;
+    }
+    public void setCompletedTime(String completedTime) {
+        this.completedTime = completedTime;
+    }
+
+    /**
+    * Path to retrieve the invitation job.
+    **/
+    public InvitationJob self(String self) {
+
+        this.self = self;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "/o/api/server/v1/guests/invitation-jobs/5d3f1b2a-6c6e-4b8e-9d1f-2a3b4c5d6e7f", value = "Path to retrieve the invitation job.")
+    @JsonProperty("self")
+    @Valid
+    public String getSelf() {
+        return self;
+    }
+    public void setSelf(String self) {
+        this.self = self;
+    }
+
+    /**
+    * Results of the processed users, in the order the users were processed.
+    **/
+    public InvitationJob results(List<InvitationSuccessResponse> results) {
+
+        this.results = results;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Results of the processed users, in the order the users were processed.")
+    @JsonProperty("results")
+    @Valid
+    public List<InvitationSuccessResponse> getResults() {
+        return results;
+    }
+    public void setResults(List<InvitationSuccessResponse> results) {
+        this.results = results;
+    }
+
+    public InvitationJob addResultsItem(InvitationSuccessResponse resultsItem) {
+        if (this.results == null) {
+            this.results = new ArrayList<>();
+        }
+        this.results.add(resultsItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        InvitationJob invitationJob = (InvitationJob) o;
+        return Objects.equals(this.id, invitationJob.id) &&
+            Objects.equals(this.status, invitationJob.status) &&
+            Objects.equals(this.totalUsers, invitationJob.totalUsers) &&
+            Objects.equals(this.processedUsers, invitationJob.processedUsers) &&
+            Objects.equals(this.successfulUsers, invitationJob.successfulUsers) &&
+            Objects.equals(this.failedUsers, invitationJob.failedUsers) &&
+            Objects.equals(this.createdTime, invitationJob.createdTime) &&
+            Objects.equals(this.startedTime, invitationJob.startedTime) &&
+            Objects.equals(this.completedTime, invitationJob.completedTime) &&
+            Objects.equals(this.self, invitationJob.self) &&
+            Objects.equals(this.results, invitationJob.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, totalUsers, processedUsers, successfulUsers, failedUsers, createdTime, startedTime, completedTime, self, results);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class InvitationJob {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    totalUsers: ").append(toIndentedString(totalUsers)).append("\n");
+        sb.append("    processedUsers: ").append(toIndentedString(processedUsers)).append("\n");
+        sb.append("    successfulUsers: ").append(toIndentedString(successfulUsers)).append("\n");
+        sb.append("    failedUsers: ").append(toIndentedString(failedUsers)).append("\n");
+        sb.append("    createdTime: ").append(toIndentedString(createdTime)).append("\n");
+        sb.append("    startedTime: ").append(toIndentedString(startedTime)).append("\n");
+        sb.append("    completedTime: ").append(toIndentedString(completedTime)).append("\n");
+        sb.append("    self: ").append(toIndentedString(self)).append("\n");
+        sb.append("    results: ").append(toIndentedString(results)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
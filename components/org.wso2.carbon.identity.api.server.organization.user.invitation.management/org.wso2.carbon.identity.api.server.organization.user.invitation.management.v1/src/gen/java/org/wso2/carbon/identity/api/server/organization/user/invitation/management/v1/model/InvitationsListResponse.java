@@ -35,9 +35,69 @@ import javax.xml.bind.annotation.*;
 
 public class InvitationsListResponse  {
   
+    private Integer totalResults;
+    private Integer startIndex;
+    private Integer count;
     private List<InvitationResponse> invitations = null;
 
 
+    /**
+    * Number of invitations matching the filter.
+    **/
+    public InvitationsListResponse totalResults(Integer totalResults) {
+
+        this.totalResults = totalResults;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "25", value = "Number of invitations matching the filter.")
+    @JsonProperty("totalResults")
+    @Valid
+    public Integer getTotalResults() {
+        return totalResults;
+    }
+    public void setTotalResults(Integer totalResults) {
+        this.totalResults = totalResults;
+    }
+
+    /**
+    * Index of the first returned invitation, starting from 1.
+    **/
+    public InvitationsListResponse startIndex(Integer startIndex) {
+
+        this.startIndex = startIndex;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1", value = "Index of the first returned invitation, starting from 1.")
+    @JsonProperty("startIndex")
+    @Valid
+    public Integer getStartIndex() {
+        return startIndex;
+    }
+    public void setStartIndex(Integer startIndex) {
+        this.startIndex = startIndex;
+    }
+
+    /**
+    * Number of returned invitations.
+    **/
+    public InvitationsListResponse count(Integer count) {
+
+        this.count = count;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "10", value = "Number of returned invitations.")
+    @JsonProperty("count")
+    @Valid
+    public Integer getCount() {
+        return count;
+    }
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+
     /**
     **/
     public InvitationsListResponse invitations(List<InvitationResponse> invitations) {
@@ -76,12 +136,15 @@ public class InvitationsListResponse  {
             return false;
         }
         InvitationsListResponse invitationsListResponse = (InvitationsListResponse) o;
-        return Objects.equals(this.invitations, invitationsListResponse.invitations);
+        return Objects.equals(this.totalResults, invitationsListResponse.totalResults) &&
+            Objects.equals(this.startIndex, invitationsListResponse.startIndex) &&
+            Objects.equals(this.count, invitationsListResponse.count) &&
+            Objects.equals(this.invitations, invitationsListResponse.invitations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(invitations);
+        return Objects.hash(totalResults, startIndex, count, invitations);
     }
 
     @Override
@@ -90,6 +153,9 @@ public class InvitationsListResponse  {
         StringBuilder sb = new StringBuilder();
         sb.append("class InvitationsListResponse {\n");
         
+        sb.append("    totalResults: ").append(toIndentedString(totalResults)).append("\n");
+        sb.append("    startIndex: ").append(toIndentedString(startIndex)).append("\n");
+        sb.append("    count: ").append(toIndentedString(count)).append("\n");
         sb.append("    invitations: ").append(toIndentedString(invitations)).append("\n");
         sb.append("}");
         return sb.toString();
@@ -19,13 +19,17 @@
 package org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.core;
 
 import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtServiceHolder;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.AcceptanceRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.Audience;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.GroupAssignmentResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectSuccessResponse;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationJob;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationSuccessResponse;
@@ -33,7 +37,7 @@ import org.wso2.carbon.identity.api.server.organization.user.invitation.manageme
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationsListResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.Property;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.RoleAssignmentResponse;
-import org.wso2.carbon.identity.organization.user.invitation.management.InvitationCoreServiceImpl;
+import org.wso2.carbon.identity.organization.user.invitation.management.InvitationCoreService;
 import org.wso2.carbon.identity.organization.user.invitation.management.exception.UserInvitationMgtException;
 import org.wso2.carbon.identity.organization.user.invitation.management.models.GroupAssignments;
 import org.wso2.carbon.identity.organization.user.invitation.management.models.Invitation;
@@ -41,8 +45,16 @@ import org.wso2.carbon.identity.organization.user.invitation.management.models.I
 import org.wso2.carbon.identity.organization.user.invitation.management.models.InvitationResult;
 import org.wso2.carbon.identity.organization.user.invitation.management.models.RoleAssignments;
 
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.organization.user.invitation.management.constant.UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_INVALID_CONFIRMATION_CODE;
@@ -55,6 +67,15 @@ import static org.wso2.carbon.identity.organization.user.invitation.management.c
 import static org.wso2.carbon.identity.organization.user.invitation.management.constant.UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.user.invitation.management.constant.UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE_VALUE;
 import static org.wso2.carbon.identity.organization.user.invitation.management.constant.UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_USER_ALREADY_EXISTS;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.ATTRIBUTE_GROUPS;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.ATTRIBUTE_ROLES;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.SORT_BY_EMAIL;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.SORT_BY_EXPIRED_AT;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.SORT_BY_STATUS;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.SORT_BY_USERNAME;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.SORT_ORDER_ASC;
+import static org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants.SORT_ORDER_DESC;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 
@@ -104,35 +125,11 @@ public class GuestApiServiceCore {
      */
     public List<InvitationSuccessResponse> createInvitation(InvitationRequestBody invitationRequestBody) {
 
-        InvitationCoreServiceImpl invitationCoreService = new InvitationCoreServiceImpl();
-        InvitationDO invitation = new InvitationDO();
-        invitation.setUsernamesList(invitationRequestBody.getUsernames());
-        invitation.setUserDomain(invitationRequestBody.getUserDomain());
-        if (invitationRequestBody.getRoles() != null) {
-            List<RoleAssignments> roleAssignments = new ArrayList<>();
-            for (String roleId : invitationRequestBody.getRoles()) {
-                RoleAssignments roleAssignment = new RoleAssignments();
-                roleAssignment.setRole(roleId);
-                roleAssignments.add(roleAssignment);
-            }
-            invitation.setRoleAssignments(roleAssignments.toArray(new RoleAssignments[0]));
-        }
-        if (invitationRequestBody.getGroups() != null) {
-            List<GroupAssignments> groupAssignments = new ArrayList<>();
-            for (String groupId : invitationRequestBody.getGroups()) {
-                GroupAssignments groupAssignment = new GroupAssignments();
-                groupAssignment.setGroupId(groupId);
-                groupAssignments.add(groupAssignment);
-            }
-            invitation.setGroupAssignments(groupAssignments.toArray(new GroupAssignments[0]));
-        }
-        List<Property> properties = invitationRequestBody.getProperties();
-        if (properties != null) {
-            properties.forEach((prop) -> invitation.getInvitationProperties().put(prop.getKey(), prop.getValue()));
-        }
+        InvitationDO invitation = buildInvitation(invitationRequestBody, invitationRequestBody.getUsernames());
         List<InvitationResult> invitationResponse;
         try {
-            invitationResponse = invitationCoreService.createInvitations(invitation);
+            invitationResponse = UserInvitationMgtServiceHolder.getInvitationCoreService()
+                    .createInvitations(invitation);
         } catch (UserInvitationMgtException e) {
             if (ERROR_CODE_MULTIPLE_INVITATIONS_FOR_USER.getCode().equals(e.getErrorCode())) {
                 throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
@@ -151,35 +148,104 @@ public class GuestApiServiceCore {
         return createInvitationSuccessResponse(invitationResponse);
     }
 
+    /**
+     * Starts a job which invites the given users in the background. The users are invited in chunks, and the result
+     * of each user is reported through the job, so that a failure of a user doesn't fail the others.
+     *
+     * @param invitationRequestBody Contains the details of the invitations.
+     * @return The details of the started job.
+     */
+    public InvitationJob createInvitationJob(InvitationRequestBody invitationRequestBody) {
+
+        List<String> usernames = invitationRequestBody.getUsernames() == null ? Collections.emptyList() :
+                new ArrayList<>(new LinkedHashSet<>(invitationRequestBody.getUsernames()));
+        if (usernames.isEmpty() || usernames.size() > InvitationJobQueue.MAX_USERS_PER_JOB) {
+            throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_INVITATION_JOB_SIZE, String.valueOf(InvitationJobQueue.MAX_USERS_PER_JOB));
+        }
+        InvitationJobQueue.Job job;
+        try {
+            job = InvitationJobQueue.enqueue(ContextLoader.getTenantDomainFromContext(), usernames,
+                    new InvitationChunkProcessor(invitationRequestBody));
+        } catch (InvitationJobQueue.JobRejectedException e) {
+            if (e.isTenantLimitReached()) {
+                throw handleException(Response.Status.TOO_MANY_REQUESTS, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_TOO_MANY_INVITATION_JOBS,
+                        String.valueOf(InvitationJobQueue.MAX_ACTIVE_JOBS_PER_TENANT));
+            }
+            throw handleException(Response.Status.SERVICE_UNAVAILABLE, UserInvitationMgtConstants.ErrorMessage
+                    .ERROR_CODE_INVITATION_JOB_CAPACITY_EXCEEDED, String.valueOf(InvitationJobQueue.MAX_ACTIVE_JOBS));
+        }
+        return createInvitationJobResponse(job, 0, null);
+    }
+
+    /**
+     * Gets an invitation job started on this node.
+     *
+     * @param jobId  ID of the job.
+     * @param limit  Maximum number of results to return, or null to return all the results.
+     * @param offset Number of results to skip.
+     * @return The details of the job, including a page of the results of the processed users.
+     */
+    public InvitationJob getInvitationJob(String jobId, Integer limit, Integer offset) {
+
+        validatePaginationParams(limit, offset);
+        InvitationJobQueue.Job job = InvitationJobQueue.getJob(ContextLoader.getTenantDomainFromContext(), jobId);
+        if (job == null) {
+            throw handleException(Response.Status.NOT_FOUND, UserInvitationMgtConstants.ErrorMessage
+                    .ERROR_CODE_INVITATION_JOB_NOT_FOUND, jobId);
+        }
+        return createInvitationJobResponse(job, offset == null ? 0 : offset, limit);
+    }
+
+    /**
+     * Stops the invitation jobs of this node. Invoked when the webapp is stopped.
+     */
+    public void shutdown() {
+
+        InvitationJobQueue.shutdown();
+    }
+
     /**
      * Gets the invitations for the authenticated user's organization.
      *
-     * @param filter Contains the filter to be applied to the invitation list. ex : status eq 'PENDING'
+     * @param filter             Contains the filter to be applied to the invitation list. ex : status eq 'PENDING'
+     * @param limit              Maximum number of invitations to return, or null to return all the invitations.
+     * @param offset             Number of invitations to skip.
+     * @param sortOrder          Sort order of the invitations. Either ASC or DESC.
+     * @param sortBy             Attribute to sort the invitations by.
+     * @param excludedAttributes Comma separated attributes to exclude from the invitations, i.e. roles and groups.
+     * @param countOnly          Whether only the number of matching invitations is returned.
      * @return The list of invitations initiated by the authenticated user's organization.
      */
     public InvitationsListResponse getInvitations(String filter, Integer limit, Integer offset, String sortOrder,
-                                                  String sortBy) {
+                                                  String sortBy, String excludedAttributes, Boolean countOnly) {
 
-        if (!isUnsupportedParamAvailable(limit, offset, sortOrder, sortBy)) {
-            InvitationCoreServiceImpl invitationCoreService = new InvitationCoreServiceImpl();
-            try {
-                return buildInvitationsListResponse(invitationCoreService.getInvitations(filter));
-            } catch (UserInvitationMgtException e) {
-                if (ERROR_CODE_INVALID_FILTER.getCode().equals(e.getErrorCode())) {
-                    throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                            .ERROR_CODE_INVALID_FILTER, filter);
-                } else if (ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE_VALUE.getCode().equals(e.getErrorCode())) {
-                    throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                            .ERROR_CODE_INVALID_FILTER, filter);
-                } else if (ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE.getCode().equals(e.getErrorCode())) {
-                    throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                            .ERROR_CODE_INVALID_FILTER, filter);
-                }
-                throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
-                        UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_GET_INVITATIONS, StringUtils.EMPTY);
-            }
+        validatePaginationParams(limit, offset);
+        Comparator<Invitation> comparator = buildInvitationComparator(sortOrder, sortBy,
+                limit != null || offset != null);
+        Set<String> excludedAttributeSet = resolveExcludedAttributes(excludedAttributes);
+        List<Invitation> invitations = retrieveInvitations(filter);
+
+        InvitationsListResponse invitationsListResponse = new InvitationsListResponse();
+        invitationsListResponse.setTotalResults(invitations.size());
+        if (Boolean.TRUE.equals(countOnly)) {
+            return invitationsListResponse;
+        }
+        int startIndex = offset == null ? 0 : Math.min(offset, invitations.size());
+        int endIndex = limit == null ? invitations.size() :
+                (int) Math.min((long) startIndex + limit, invitations.size());
+        boolean includeRoles = !excludedAttributeSet.contains(ATTRIBUTE_ROLES);
+        boolean includeGroups = !excludedAttributeSet.contains(ATTRIBUTE_GROUPS);
+
+        List<InvitationResponse> invitationResponses = new ArrayList<>(endIndex - startIndex);
+        for (Invitation invitation : selectPage(invitations, comparator, startIndex, endIndex)) {
+            invitationResponses.add(buildInvitationResponse(invitation, includeRoles, includeGroups));
         }
-        return null;
+        invitationsListResponse.setInvitations(invitationResponses);
+        invitationsListResponse.setStartIndex(startIndex + 1);
+        invitationsListResponse.setCount(invitationResponses.size());
+        return invitationsListResponse;
     }
 
     /**
@@ -190,7 +256,7 @@ public class GuestApiServiceCore {
      */
     public IntrospectSuccessResponse introspectInvitation(String confirmationCode) {
 
-        InvitationCoreServiceImpl invitationCoreService = new InvitationCoreServiceImpl();
+        InvitationCoreService invitationCoreService = UserInvitationMgtServiceHolder.getInvitationCoreService();
         try {
             return buildValidateResponse(invitationCoreService.introspectInvitation(confirmationCode));
         } catch (UserInvitationMgtException e) {
@@ -211,7 +277,7 @@ public class GuestApiServiceCore {
      */
     public boolean deleteInvitation(String invitationId) {
 
-        InvitationCoreServiceImpl invitationCoreService = new InvitationCoreServiceImpl();
+        InvitationCoreService invitationCoreService = UserInvitationMgtServiceHolder.getInvitationCoreService();
         try {
             return invitationCoreService.deleteInvitation(invitationId);
         } catch (UserInvitationMgtException e) {
@@ -233,7 +299,7 @@ public class GuestApiServiceCore {
      */
     public void acceptInvitation(AcceptanceRequestBody acceptanceRequestBody) {
 
-        InvitationCoreServiceImpl invitationCoreService = new InvitationCoreServiceImpl();
+        InvitationCoreService invitationCoreService = UserInvitationMgtServiceHolder.getInvitationCoreService();
         try {
             invitationCoreService.acceptInvitation(acceptanceRequestBody.getConfirmationCode());
         } catch (UserInvitationMgtException e) {
@@ -298,27 +364,147 @@ public class GuestApiServiceCore {
         return invitationSuccessResponseList;
     }
 
-    private InvitationsListResponse buildInvitationsListResponse(List<Invitation> invitationList) {
+    private InvitationDO buildInvitation(InvitationRequestBody invitationRequestBody, List<String> usernames) {
 
-        InvitationsListResponse invitationsListResponse = new InvitationsListResponse();
-        for (Invitation invitationRecord : invitationList) {
-            InvitationResponse invitationResponse = new InvitationResponse();
-            invitationResponse.setId(invitationRecord.getInvitationId());
-            invitationResponse.setUsername(invitationRecord.getUsername());
-            invitationResponse.setEmail(invitationRecord.getEmail());
-            invitationResponse.setStatus(invitationRecord.getStatus());
-            invitationResponse.setExpiredAt(invitationRecord.getExpiredAt().toString());
-            if (invitationRecord.getRoleAssignments().length > 0) {
-                List<RoleAssignmentResponse> roleAssignments = buildRoleAssignmentResponse(invitationRecord);
-                invitationResponse.setRoles(roleAssignments);
+        InvitationDO invitation = new InvitationDO();
+        invitation.setUsernamesList(usernames);
+        invitation.setUserDomain(invitationRequestBody.getUserDomain());
+        if (invitationRequestBody.getRoles() != null) {
+            List<RoleAssignments> roleAssignments = new ArrayList<>();
+            for (String roleId : invitationRequestBody.getRoles()) {
+                RoleAssignments roleAssignment = new RoleAssignments();
+                roleAssignment.setRole(roleId);
+                roleAssignments.add(roleAssignment);
             }
-            if (invitationRecord.getGroupAssignments().length > 0) {
-                List<GroupAssignmentResponse> groupAssignments = buildGroupAssignmentResponse(invitationRecord);
-                invitationResponse.setGroups(groupAssignments);
+            invitation.setRoleAssignments(roleAssignments.toArray(new RoleAssignments[0]));
+        }
+        if (invitationRequestBody.getGroups() != null) {
+            List<GroupAssignments> groupAssignments = new ArrayList<>();
+            for (String groupId : invitationRequestBody.getGroups()) {
+                GroupAssignments groupAssignment = new GroupAssignments();
+                groupAssignment.setGroupId(groupId);
+                groupAssignments.add(groupAssignment);
             }
-            invitationsListResponse.addInvitationsItem(invitationResponse);
+            invitation.setGroupAssignments(groupAssignments.toArray(new GroupAssignments[0]));
         }
-        return invitationsListResponse;
+        List<Property> properties = invitationRequestBody.getProperties();
+        if (properties != null) {
+            properties.forEach((prop) -> invitation.getInvitationProperties().put(prop.getKey(), prop.getValue()));
+        }
+        return invitation;
+    }
+
+    private InvitationJob createInvitationJobResponse(InvitationJobQueue.Job job, int offset, Integer limit) {
+
+        // The status is read before the counts, and the counts before the results, hence a finished job is reported
+        // with all of its results counted, and a page never holds results which aren't counted.
+        InvitationJob.StatusEnum status = job.getStatus();
+        int processedUsers = job.getProcessedUsers();
+        int failedUsers = job.getFailedUsers();
+        List<InvitationSuccessResponse> results = job.getResults(offset, limit);
+        InvitationJob invitationJob = new InvitationJob();
+        invitationJob.setId(job.getId());
+        invitationJob.setStatus(status);
+        invitationJob.setTotalUsers(job.getTotalUsers());
+        invitationJob.setProcessedUsers(processedUsers);
+        invitationJob.setSuccessfulUsers(processedUsers - failedUsers);
+        invitationJob.setFailedUsers(failedUsers);
+        invitationJob.setCreatedTime(convertDateToStringIfNotNull(job.getCreatedTime()));
+        invitationJob.setStartedTime(convertDateToStringIfNotNull(job.getStartedTime()));
+        invitationJob.setCompletedTime(convertDateToStringIfNotNull(job.getCompletedTime()));
+        invitationJob.setSelf(ContextLoader.buildURIForBody(Constants.V1_API_PATH_COMPONENT +
+                UserInvitationMgtConstants.INVITATION_JOB_PATH_COMPONENT + "/" + job.getId()).toString());
+        invitationJob.setResults(results);
+        return invitationJob;
+    }
+
+    private String convertDateToStringIfNotNull(Date date) {
+
+        if (date == null) {
+            return null;
+        }
+        // ISO-8601 representation of the date.
+        return ISO_OFFSET_DATE_TIME.format(date.toInstant().atZone(ZoneOffset.UTC));
+    }
+
+    private boolean isAssignmentError(UserInvitationMgtException e) {
+
+        return ERROR_CODE_INVALID_ROLE.getCode().equals(e.getErrorCode()) ||
+                ERROR_CODE_INVALID_GROUP.getCode().equals(e.getErrorCode());
+    }
+
+    private List<Invitation> retrieveInvitations(String filter) {
+
+        InvitationCoreService invitationCoreService = UserInvitationMgtServiceHolder.getInvitationCoreService();
+        try {
+            List<Invitation> invitations = invitationCoreService.getInvitations(filter);
+            return invitations == null ? Collections.emptyList() : invitations;
+        } catch (UserInvitationMgtException e) {
+            if (ERROR_CODE_INVALID_FILTER.getCode().equals(e.getErrorCode())) {
+                throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_FILTER, filter);
+            } else if (ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE_VALUE.getCode().equals(e.getErrorCode())) {
+                throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_FILTER, filter);
+            } else if (ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE.getCode().equals(e.getErrorCode())) {
+                throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_FILTER, filter);
+            }
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_GET_INVITATIONS, StringUtils.EMPTY);
+        }
+    }
+
+    /**
+     * Selects the invitations of a page. Without a comparator the invitations keep the order of the core service.
+     * Otherwise only the invitations up to the end of the page are ordered, with a bounded heap when the page ends
+     * before the middle of the list.
+     */
+    private List<Invitation> selectPage(List<Invitation> invitations, Comparator<Invitation> comparator,
+                                        int startIndex, int endIndex) {
+
+        if (startIndex >= endIndex) {
+            return Collections.emptyList();
+        }
+        if (comparator == null) {
+            return invitations.subList(startIndex, endIndex);
+        }
+        List<Invitation> sortedInvitations;
+        if (endIndex <= invitations.size() / 2) {
+            // The head of the heap is the last invitation of the page so far.
+            PriorityQueue<Invitation> heap = new PriorityQueue<>(endIndex + 1, comparator.reversed());
+            for (Invitation invitation : invitations) {
+                heap.offer(invitation);
+                if (heap.size() > endIndex) {
+                    heap.poll();
+                }
+            }
+            sortedInvitations = new ArrayList<>(heap);
+        } else {
+            sortedInvitations = new ArrayList<>(invitations);
+        }
+        sortedInvitations.sort(comparator);
+        return sortedInvitations.subList(startIndex, endIndex);
+    }
+
+    private InvitationResponse buildInvitationResponse(Invitation invitationRecord, boolean includeRoles,
+                                                       boolean includeGroups) {
+
+        InvitationResponse invitationResponse = new InvitationResponse();
+        invitationResponse.setId(invitationRecord.getInvitationId());
+        invitationResponse.setUsername(invitationRecord.getUsername());
+        invitationResponse.setEmail(invitationRecord.getEmail());
+        invitationResponse.setStatus(invitationRecord.getStatus());
+        invitationResponse.setExpiredAt(invitationRecord.getExpiredAt().toString());
+        if (includeRoles && invitationRecord.getRoleAssignments().length > 0) {
+            List<RoleAssignmentResponse> roleAssignments = buildRoleAssignmentResponse(invitationRecord);
+            invitationResponse.setRoles(roleAssignments);
+        }
+        if (includeGroups && invitationRecord.getGroupAssignments().length > 0) {
+            List<GroupAssignmentResponse> groupAssignments = buildGroupAssignmentResponse(invitationRecord);
+            invitationResponse.setGroups(groupAssignments);
+        }
+        return invitationResponse;
     }
 
     private IntrospectSuccessResponse buildValidateResponse(Invitation invitation) {
@@ -332,24 +518,165 @@ public class GuestApiServiceCore {
         return introspectSuccessResponse;
     }
 
-    private boolean isUnsupportedParamAvailable(Integer limit, Integer offset, String sortOrder, String sortBy) {
+    private void validatePaginationParams(Integer limit, Integer offset) {
 
-        if (limit != null) {
+        if (limit != null && limit < 0) {
             throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                    .ERROR_CODE_UNSUPPORTED_LIMIT, String.valueOf(limit));
+                    .ERROR_CODE_INVALID_LIMIT, String.valueOf(limit));
         }
-        if (offset != null) {
+        if (offset != null && offset < 0) {
             throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                    .ERROR_CODE_UNSUPPORTED_OFFSET, String.valueOf(offset));
+                    .ERROR_CODE_INVALID_OFFSET, String.valueOf(offset));
         }
+    }
+
+    /**
+     * Builds the comparator of the requested sort order. Invitations with equal sort attributes are ordered by their
+     * IDs, so that the pages don't overlap. A page without a sort attribute is ordered by the invitation IDs, as the
+     * order of the core service is not stable across requests.
+     *
+     * @param sortOrder Sort order. Either ASC or DESC, defaults to ASC.
+     * @param sortBy    Attribute to sort the invitations by.
+     * @param paginated Whether a page of the invitations is requested.
+     * @return Comparator of the invitations, or null if neither a sort attribute nor a page is requested.
+     */
+    private Comparator<Invitation> buildInvitationComparator(String sortOrder, String sortBy, boolean paginated) {
+
+        boolean descending = false;
         if (StringUtils.isNotBlank(sortOrder)) {
-            throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                    .ERROR_CODE_UNSUPPORTED_SORT_ORDER, sortOrder);
+            if (SORT_ORDER_DESC.equalsIgnoreCase(sortOrder)) {
+                descending = true;
+            } else if (!SORT_ORDER_ASC.equalsIgnoreCase(sortOrder)) {
+                throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_UNSUPPORTED_SORT_ORDER, sortOrder);
+            }
         }
-        if (StringUtils.isNotBlank(sortBy)) {
-            throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
-                    .ERROR_CODE_UNSUPPORTED_SORT_BY, sortBy);
+        Comparator<Invitation> invitationIdComparator = Comparator.comparing(Invitation::getInvitationId,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        if (StringUtils.isBlank(sortBy)) {
+            if (!paginated) {
+                return null;
+            }
+            return descending ? invitationIdComparator.reversed() : invitationIdComparator;
+        }
+        Comparator<Invitation> comparator;
+        switch (sortBy) {
+            case SORT_BY_USERNAME:
+                comparator = Comparator.comparing(Invitation::getUsername,
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+                break;
+            case SORT_BY_EMAIL:
+                comparator = Comparator.comparing(Invitation::getEmail,
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+                break;
+            case SORT_BY_STATUS:
+                comparator = Comparator.comparing(Invitation::getStatus,
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+                break;
+            case SORT_BY_EXPIRED_AT:
+                comparator = Comparator.comparing(Invitation::getExpiredAt,
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+                break;
+            default:
+                throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_UNSUPPORTED_SORT_BY, sortBy);
+        }
+        comparator = comparator.thenComparing(invitationIdComparator);
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    private Set<String> resolveExcludedAttributes(String excludedAttributes) {
+
+        Set<String> excludedAttributeSet = new HashSet<>();
+        if (StringUtils.isBlank(excludedAttributes)) {
+            return excludedAttributeSet;
+        }
+        for (String attribute : excludedAttributes.split(",")) {
+            String trimmedAttribute = attribute.trim();
+            if (!ATTRIBUTE_ROLES.equals(trimmedAttribute) && !ATTRIBUTE_GROUPS.equals(trimmedAttribute)) {
+                throw handleException(BAD_REQUEST, UserInvitationMgtConstants.ErrorMessage
+                        .ERROR_CODE_UNSUPPORTED_EXCLUDED_ATTRIBUTE, trimmedAttribute);
+            }
+            excludedAttributeSet.add(trimmedAttribute);
+        }
+        return excludedAttributeSet;
+    }
+
+    /**
+     * Invites the users of a chunk of an invitation job with the role and group assignments of the job.
+     */
+    private class InvitationChunkProcessor implements InvitationJobQueue.ChunkProcessor {
+
+        private final InvitationRequestBody invitationRequestBody;
+
+        private InvitationChunkProcessor(InvitationRequestBody invitationRequestBody) {
+
+            this.invitationRequestBody = invitationRequestBody;
+        }
+
+        @Override
+        public List<InvitationSuccessResponse> process(List<String> usernames) throws UserInvitationMgtException {
+
+            InvitationCoreService invitationCoreService = UserInvitationMgtServiceHolder.getInvitationCoreService();
+            try {
+                return createInvitationSuccessResponse(invitationCoreService.createInvitations(
+                        buildInvitation(invitationRequestBody, usernames)));
+            } catch (UserInvitationMgtException e) {
+                if (isAssignmentError(e)) {
+                    throw e;
+                }
+                if (usernames.size() == 1) {
+                    return Collections.singletonList(buildFailedResult(usernames.get(0), e));
+                }
+            }
+            // The chunk failed as a whole, e.g. since a user already has an invitation. Invite the users of the
+            // chunk one by one, so that only the failing users are reported as failed.
+            List<InvitationSuccessResponse> results = new ArrayList<>(usernames.size());
+            for (String username : usernames) {
+                try {
+                    results.addAll(createInvitationSuccessResponse(invitationCoreService.createInvitations(
+                            buildInvitation(invitationRequestBody, Collections.singletonList(username)))));
+                } catch (UserInvitationMgtException e) {
+                    if (isAssignmentError(e)) {
+                        throw e;
+                    }
+                    results.add(buildFailedResult(username, e));
+                }
+            }
+            return results;
+        }
+
+        @Override
+        public InvitationSuccessResponse buildFailedResult(String username, UserInvitationMgtException error) {
+
+            UserInvitationMgtConstants.ErrorMessage errorMessage = UserInvitationMgtConstants.ErrorMessage
+                    .ERROR_CODE_CREATE_INVITATION;
+            String data = username;
+            if (error != null && ERROR_CODE_MULTIPLE_INVITATIONS_FOR_USER.getCode().equals(error.getErrorCode())) {
+                errorMessage = UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_MULTIPLE_INVITATIONS_FOR_USER;
+            } else if (error != null && ERROR_CODE_INVALID_ROLE.getCode().equals(error.getErrorCode())) {
+                errorMessage = UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_INVALID_ROLE;
+                data = StringUtils.EMPTY;
+            } else if (error != null && ERROR_CODE_INVALID_GROUP.getCode().equals(error.getErrorCode())) {
+                errorMessage = UserInvitationMgtConstants.ErrorMessage.ERROR_CODE_INVALID_GROUP;
+                data = StringUtils.EMPTY;
+            }
+            InvitationSuccessResponseResult result = new InvitationSuccessResponseResult();
+            result.setStatus(UserInvitationMgtConstants.ERROR_FAIL_STATUS);
+            result.setErrorCode(errorMessage.getCode());
+            result.setErrorMessage(errorMessage.getMessage());
+            result.setErrorDescription(includeData(errorMessage, data));
+            InvitationSuccessResponse invitationResponse = new InvitationSuccessResponse();
+            invitationResponse.setUsername(username);
+            invitationResponse.setResult(result);
+            return invitationResponse;
+        }
+
+        @Override
+        public boolean isFailedResult(InvitationSuccessResponse result) {
+
+            return result.getResult() != null &&
+                    UserInvitationMgtConstants.ERROR_FAIL_STATUS.equals(result.getResult().getStatus());
         }
-        return false;
     }
 }
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationJob;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationSuccessResponse;
+import org.wso2.carbon.identity.organization.user.invitation.management.exception.UserInvitationMgtException;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Queue of the bulk invitation jobs, which invites the users of a job in chunks off the request threads. The first
+ * chunk of a job is processed alone, so that an invalid role or group assignment fails the job before the remaining
+ * chunks are processed in parallel by a bounded worker pool. An error of a later chunk fails only the users of that
+ * chunk, and the other chunks of the job are still processed.
+ * <p>
+ * The jobs are held in memory of the node which accepted the request. At most {@link #MAX_ACTIVE_JOBS_PER_TENANT}
+ * jobs of a tenant, and {@link #MAX_ACTIVE_JOBS} jobs in total, are queued or running at a time. Only the most recent
+ * {@link #MAX_RETAINED_JOBS_PER_TENANT} jobs of each tenant are retained. The chunk pool is shared by the running
+ * jobs, and a job invites the chunks which the saturated pool rejects on its own thread.
+ */
+final class InvitationJobQueue {
+
+    private static final Log LOG = LogFactory.getLog(InvitationJobQueue.class);
+
+    static final int MAX_USERS_PER_JOB = 10000;
+    static final int MAX_ACTIVE_JOBS_PER_TENANT = 2;
+    static final int MAX_ACTIVE_JOBS = 10;
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int JOB_POOL_SIZE = 2;
+    private static final int CHUNK_POOL_SIZE = 4;
+    private static final int CHUNK_QUEUE_SIZE = 16;
+    private static final int MAX_RETAINED_JOBS_PER_TENANT = 20;
+
+    // Jobs are admitted up to the capacity of the job pool, hence the pool rejects a job only once it is shut down.
+    private static final ContextAwareExecutor JOB_EXECUTOR = new ContextAwareExecutor("user-invitation-job",
+            JOB_POOL_SIZE, MAX_ACTIVE_JOBS);
+    private static final ContextAwareExecutor CHUNK_EXECUTOR = new ContextAwareExecutor("user-invitation-chunk",
+            CHUNK_POOL_SIZE, CHUNK_QUEUE_SIZE);
+
+    private static final Object LOCK = new Object();
+    private static int activeJobs;
+    private static final Map<String, Integer> TENANT_ACTIVE_JOBS = new HashMap<>();
+    private static final Map<String, Map<String, Job>> TENANT_RETAINED_JOBS = new HashMap<>();
+
+    private InvitationJobQueue() {
+
+    }
+
+    /**
+     * Invites the users of a chunk of a job.
+     */
+    interface ChunkProcessor {
+
+        /**
+         * Invites the users of a chunk.
+         *
+         * @param usernames Usernames of the chunk.
+         * @return Results of the users of the chunk.
+         * @throws UserInvitationMgtException If the invitations of the chunk failed due to an error which fails all
+         *                                    the users of the chunk, e.g. an invalid role or group assignment.
+         */
+        List<InvitationSuccessResponse> process(List<String> usernames) throws UserInvitationMgtException;
+
+        /**
+         * Builds the result of a user who wasn't invited since the job or the chunk of the user failed.
+         *
+         * @param username Username.
+         * @param error    Error which failed the user, or null if the user failed due to an unexpected error.
+         * @return Result of the user.
+         */
+        InvitationSuccessResponse buildFailedResult(String username, UserInvitationMgtException error);
+
+        /**
+         * Checks whether a result reports a user who wasn't invited.
+         *
+         * @param result Result of a user.
+         * @return True if the user wasn't invited.
+         */
+        boolean isFailedResult(InvitationSuccessResponse result);
+    }
+
+    /**
+     * Queues a job. The job runs with the carbon context of the calling thread.
+     *
+     * @param tenantDomain Tenant domain of the request.
+     * @param usernames    Distinct usernames of the job.
+     * @param processor    Processor of the chunks of the job.
+     * @return Job.
+     * @throws JobRejectedException If the maximum number of active jobs of the tenant or the server is reached, or
+     *                              the queue is shut down.
+     */
+    static Job enqueue(String tenantDomain, List<String> usernames, ChunkProcessor processor)
+            throws JobRejectedException {
+
+        Job job = new Job(tenantDomain, usernames, processor);
+        synchronized (LOCK) {
+            int tenantActiveJobs = TENANT_ACTIVE_JOBS.getOrDefault(tenantDomain, 0);
+            if (tenantActiveJobs >= MAX_ACTIVE_JOBS_PER_TENANT) {
+                throw new JobRejectedException(true);
+            }
+            if (activeJobs >= MAX_ACTIVE_JOBS) {
+                throw new JobRejectedException(false);
+            }
+            activeJobs++;
+            TENANT_ACTIVE_JOBS.put(tenantDomain, tenantActiveJobs + 1);
+            TENANT_RETAINED_JOBS.computeIfAbsent(tenantDomain, InvitationJobQueue::createRetainedJobs)
+                    .put(job.id, job);
+        }
+        try {
+            JOB_EXECUTOR.submit(() -> {
+                run(job);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            // The queue is shut down.
+            synchronized (LOCK) {
+                releaseActiveJob(tenantDomain);
+                Map<String, Job> retainedJobs = TENANT_RETAINED_JOBS.get(tenantDomain);
+                if (retainedJobs != null) {
+                    retainedJobs.remove(job.id);
+                }
+            }
+            throw new JobRejectedException(false);
+        }
+        return job;
+    }
+
+    /**
+     * Returns a retained job of a tenant.
+     *
+     * @param tenantDomain Tenant domain of the request.
+     * @param jobId        ID of the job.
+     * @return Job, or null if the tenant has no such job on this node.
+     */
+    static Job getJob(String tenantDomain, String jobId) {
+
+        synchronized (LOCK) {
+            Map<String, Job> retainedJobs = TENANT_RETAINED_JOBS.get(tenantDomain);
+            return retainedJobs == null ? null : retainedJobs.get(jobId);
+        }
+    }
+
+    /**
+     * Stops the job and chunk pools when the webapp is stopped. The queued and running jobs are let to complete.
+     */
+    static void shutdown() {
+
+        JOB_EXECUTOR.shutdown();
+        CHUNK_EXECUTOR.shutdown();
+    }
+
+    private static void run(Job job) {
+
+        job.start();
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            List<List<String>> chunks = new ArrayList<>();
+            for (int i = 0; i < job.usernames.size(); i += CHUNK_SIZE) {
+                chunks.add(job.usernames.subList(i, Math.min(i + CHUNK_SIZE, job.usernames.size())));
+            }
+            job.record(job.processor.process(chunks.get(0)));
+
+            // The chunks are awaited one by one instead of with invokeAll, which would cancel the remaining chunks
+            // on the first failing chunk.
+            for (List<String> chunk : chunks.subList(1, chunks.size())) {
+                try {
+                    futures.add(CHUNK_EXECUTOR.submit(() -> {
+                        processChunk(job, chunk);
+                        return null;
+                    }));
+                } catch (RejectedExecutionException e) {
+                    // The chunk pool is saturated by the chunks of the running jobs, which are all background work.
+                    processChunk(job, chunk);
+                }
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            job.finish(InvitationJob.StatusEnum.COMPLETED, null);
+        } catch (UserInvitationMgtException e) {
+            LOG.error("Error while running the invitation job: " + job.id, e);
+            job.finish(InvitationJob.StatusEnum.FAILED, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            job.finish(InvitationJob.StatusEnum.FAILED, null);
+        } catch (ExecutionException | RuntimeException e) {
+            LOG.error("Error while running the invitation job: " + job.id, e);
+            cancel(futures);
+            job.finish(InvitationJob.StatusEnum.FAILED, null);
+        } finally {
+            synchronized (LOCK) {
+                releaseActiveJob(job.tenantDomain);
+            }
+        }
+    }
+
+    private static void releaseActiveJob(String tenantDomain) {
+
+        activeJobs--;
+        TENANT_ACTIVE_JOBS.computeIfPresent(tenantDomain, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Processes a chunk of a job after the first one. An error of the chunk is reported as the result of each user
+     * of the chunk.
+     */
+    private static void processChunk(Job job, List<String> chunk) {
+
+        try {
+            job.record(job.processor.process(chunk));
+        } catch (UserInvitationMgtException e) {
+            LOG.error("Error while inviting a chunk of the users of the invitation job: " + job.id, e);
+            job.recordFailed(chunk, e);
+        } catch (RuntimeException e) {
+            LOG.error("Error while inviting a chunk of the users of the invitation job: " + job.id, e);
+            job.recordFailed(chunk, null);
+        }
+    }
+
+    private static void cancel(List<Future<Void>> futures) {
+
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static Map<String, Job> createRetainedJobs(String tenantDomain) {
+
+        return new LinkedHashMap<String, Job>() {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+
+                return size() > MAX_RETAINED_JOBS_PER_TENANT;
+            }
+        };
+    }
+
+    /**
+     * Thrown when a job isn't queued since the queue has no room for it.
+     */
+    static final class JobRejectedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean tenantLimitReached;
+
+        private JobRejectedException(boolean tenantLimitReached) {
+
+            super(tenantLimitReached ? "The tenant has reached the maximum number of active invitation jobs." :
+                    "The server has reached the maximum number of active invitation jobs.");
+            this.tenantLimitReached = tenantLimitReached;
+        }
+
+        /**
+         * Checks whether the job is rejected due to the limit of the tenant rather than the limit of the server.
+         *
+         * @return True if the tenant has reached its limit of active jobs.
+         */
+        boolean isTenantLimitReached() {
+
+            return tenantLimitReached;
+        }
+    }
+
+    /**
+     * Bulk invitation job.
+     */
+    static final class Job {
+
+        private final String id;
+        private final String tenantDomain;
+        private final List<String> usernames;
+        private final ChunkProcessor processor;
+        private final Date createdTime;
+        private final Set<String> processedUsernames;
+        private final List<InvitationSuccessResponse> results;
+        private int failedUsers;
+        private InvitationJob.StatusEnum status;
+        private Date startedTime;
+        private Date completedTime;
+
+        private Job(String tenantDomain, List<String> usernames, ChunkProcessor processor) {
+
+            this.id = UUID.randomUUID().toString();
+            this.tenantDomain = tenantDomain;
+            this.usernames = usernames;
+            this.processor = processor;
+            this.createdTime = new Date();
+            this.processedUsernames = new HashSet<>(usernames.size());
+            this.results = new ArrayList<>(usernames.size());
+            this.status = InvitationJob.StatusEnum.QUEUED;
+        }
+
+        private synchronized void start() {
+
+            status = InvitationJob.StatusEnum.RUNNING;
+            startedTime = new Date();
+        }
+
+        /**
+         * Records the results of a chunk. Results arriving after the job finished, e.g. from a chunk which didn't
+         * observe its cancellation, and repeated results of a user are ignored.
+         */
+        private synchronized void record(List<InvitationSuccessResponse> chunkResults) {
+
+            if (isFinished()) {
+                return;
+            }
+            for (InvitationSuccessResponse result : chunkResults) {
+                addResult(result);
+            }
+        }
+
+        private synchronized void recordFailed(List<String> chunk, UserInvitationMgtException error) {
+
+            if (isFinished()) {
+                return;
+            }
+            for (String username : chunk) {
+                if (!processedUsernames.contains(username)) {
+                    addResult(processor.buildFailedResult(username, error));
+                }
+            }
+        }
+
+        /**
+         * Finishes the job. The users who weren't processed are reported as failed with the given error.
+         */
+        private synchronized void finish(InvitationJob.StatusEnum finalStatus, UserInvitationMgtException error) {
+
+            for (String username : usernames) {
+                if (!processedUsernames.contains(username)) {
+                    addResult(processor.buildFailedResult(username, error));
+                }
+            }
+            status = finalStatus;
+            completedTime = new Date();
+        }
+
+        private void addResult(InvitationSuccessResponse result) {
+
+            if (!processedUsernames.add(result.getUsername())) {
+                return;
+            }
+            results.add(result);
+            if (processor.isFailedResult(result)) {
+                failedUsers++;
+            }
+        }
+
+        private boolean isFinished() {
+
+            return status == InvitationJob.StatusEnum.COMPLETED || status == InvitationJob.StatusEnum.FAILED;
+        }
+
+        String getId() {
+
+            return id;
+        }
+
+        int getTotalUsers() {
+
+            return usernames.size();
+        }
+
+        Date getCreatedTime() {
+
+            return createdTime;
+        }
+
+        synchronized InvitationJob.StatusEnum getStatus() {
+
+            return status;
+        }
+
+        synchronized Date getStartedTime() {
+
+            return startedTime;
+        }
+
+        synchronized Date getCompletedTime() {
+
+            return completedTime;
+        }
+
+        synchronized int getProcessedUsers() {
+
+            return results.size();
+        }
+
+        synchronized int getFailedUsers() {
+
+            return failedUsers;
+        }
+
+        /**
+         * Returns a page of the results of the processed users, in the order the users were processed. The results
+         * are only appended, hence a poller can resume from the number of results it has already read.
+         *
+         * @param offset Number of results to skip.
+         * @param limit  Maximum number of results to return, or null to return all the remaining results.
+         * @return Results of the page.
+         */
+        synchronized List<InvitationSuccessResponse> getResults(int offset, Integer limit) {
+
+            int startIndex = Math.min(offset, results.size());
+            int endIndex = limit == null ? results.size() : (int) Math.min((long) startIndex + limit, results.size());
+            return new ArrayList<>(results.subList(startIndex, endIndex));
+        }
+    }
+}
@@ -19,15 +19,20 @@
 package org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.common.UserInvitationMgtConstants;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.GuestsApiService;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.core.GuestApiServiceCore;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.AcceptanceRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.IntrospectSuccessResponse;
+import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationJob;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationRequestBody;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationSuccessResponse;
 import org.wso2.carbon.identity.api.server.organization.user.invitation.management.v1.model.InvitationsListResponse;
 
+import java.net.URI;
 import java.util.List;
 import javax.ws.rs.core.Response;
 
@@ -62,10 +67,25 @@ public class GuestsApiServiceImpl implements GuestsApiService {
     }
 
     @Override
-    public Response invitationListGet(String filter, Integer limit, Integer offset, String sortOrder, String sortBy) {
+    public Response invitationJobGet(String jobId, Integer limit, Integer offset) {
+
+        InvitationJob invitationJob = guestApiServiceCore.getInvitationJob(jobId, limit, offset);
+        return Response.ok().entity(invitationJob).build();
+    }
+
+    @Override
+    public Response invitationJobPost(InvitationRequestBody invitationRequestBody) {
+
+        InvitationJob invitationJob = guestApiServiceCore.createInvitationJob(invitationRequestBody);
+        return Response.accepted().location(getJobLocation(invitationJob.getId())).entity(invitationJob).build();
+    }
+
+    @Override
+    public Response invitationListGet(String filter, Integer limit, Integer offset, String sortOrder, String sortBy,
+                                      String excludedAttributes, Boolean countOnly) {
 
         InvitationsListResponse invitationsListResponse = guestApiServiceCore.getInvitations(filter, limit, offset,
-                sortOrder, sortBy);
+                sortOrder, sortBy, excludedAttributes, countOnly);
         return Response.ok().entity(invitationsListResponse).build();
     }
 
@@ -76,4 +96,10 @@ public class GuestsApiServiceImpl implements GuestsApiService {
                 guestApiServiceCore.createInvitation(invitationRequestBody);
         return Response.ok().entity(invitationSuccessResponse).build();
     }
+
+    private URI getJobLocation(String jobId) {
+
+        return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
+                UserInvitationMgtConstants.INVITATION_JOB_PATH_COMPONENT + "/" + jobId);
+    }
 }
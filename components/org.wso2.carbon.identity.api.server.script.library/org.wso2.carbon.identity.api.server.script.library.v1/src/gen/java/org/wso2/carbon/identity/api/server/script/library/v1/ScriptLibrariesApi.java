@@ -140,6 +140,7 @@ public class ScriptLibrariesApi {
             "Script Libraries",})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successful Response", response = Object.class),
+            @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
             @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
             @ApiResponse(code = 401, message = "Unauthorized", response = Error.class),
             @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
@@ -147,9 +148,10 @@ public class ScriptLibrariesApi {
             @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
     public Response getScriptLibraryContentByName(
-            @ApiParam(value = "Name of the script library", required = true) @PathParam("script-library-name") String scriptLibraryName) {
+            @ApiParam(value = "Name of the script library", required = true) @PathParam("script-library-name") String scriptLibraryName,
+            @ApiParam(value = "Entity tags of the script library content cached by the client. ") @HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getScriptLibraryContentByName(scriptLibraryName);
+        return delegate.getScriptLibraryContentByName(scriptLibraryName, ifNoneMatch);
     }
 
     @Valid
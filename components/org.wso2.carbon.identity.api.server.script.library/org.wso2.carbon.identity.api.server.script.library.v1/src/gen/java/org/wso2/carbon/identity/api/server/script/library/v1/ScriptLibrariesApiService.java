@@ -38,7 +38,7 @@ public interface ScriptLibrariesApiService {
 
       public Response getScriptLibraryByName(String scriptLibraryName);
 
-      public Response getScriptLibraryContentByName(String scriptLibraryName);
+      public Response getScriptLibraryContentByName(String scriptLibraryName, String ifNoneMatch);
 
       public Response updateScriptLibrary(String scriptLibraryName, InputStream contentInputStream, Attachment contentDetail, String description);
 }
@@ -68,6 +68,8 @@ public class ServerScriptLibrariesService {
      */
     public ScriptLibraryListResponse getScriptLibraries(Integer limit, Integer offset) {
 
+        int validatedLimit = validateLimit(limit);
+        int validatedOffset = validateOffset(offset);
         List<FunctionLibrary> functionLibraries;
         try {
             functionLibraries = ScriptLibraryServiceHolder.getScriptLibraryManagementService()
@@ -75,7 +77,7 @@ public class ServerScriptLibrariesService {
         } catch (FunctionLibraryManagementException e) {
             throw handleScriptLibraryError(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_SCRIPT_LIBRARIES);
         }
-        return createScriptLibrariesList(functionLibraries, validateLimit(limit), validateOffset(offset));
+        return createScriptLibrariesList(functionLibraries, validatedLimit, validatedOffset);
     }
 
     /**
@@ -120,21 +122,7 @@ public class ServerScriptLibrariesService {
      */
     public ScriptLibraryResponse getScriptLibrary(String scriptLibraryId) {
 
-        if (isScriptLibraryAvailable(scriptLibraryId)) {
-            FunctionLibrary functionLibrary;
-            try {
-                functionLibrary = ScriptLibraryServiceHolder.getScriptLibraryManagementService()
-                        .getFunctionLibrary(scriptLibraryId,
-                                ContextLoader.getTenantDomainFromContext());
-            } catch (FunctionLibraryManagementException e) {
-                throw handleScriptLibraryError(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_SCRIPT_LIBRARY);
-            }
-            return createScriptLibraryResponse(functionLibrary);
-        } else {
-            throw handleScriptLibraryClientError(Constants.ErrorMessage.ERROR_SCRIPT_LIBRARY_NOT_FOUND,
-                    Response.Status.NOT_FOUND, scriptLibraryId, ContextLoader.getTenantDomainFromContext());
-        }
-
+        return createScriptLibraryResponse(getExistingFunctionLibrary(scriptLibraryId));
     }
 
     /**
@@ -225,19 +213,7 @@ public class ServerScriptLibrariesService {
      */
     public String getScriptLibraryContentByName(String scriptLibraryName) {
 
-        if (isScriptLibraryAvailable(scriptLibraryName)) {
-            try {
-                FunctionLibrary functionLibrary = ScriptLibraryServiceHolder.getScriptLibraryManagementService()
-                        .getFunctionLibrary(scriptLibraryName,
-                                ContextLoader.getTenantDomainFromContext());
-                return functionLibrary.getFunctionLibraryScript();
-            } catch (FunctionLibraryManagementException e) {
-                throw handleScriptLibraryError(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_SCRIPT_LIBRARY);
-            }
-        } else {
-            throw handleScriptLibraryClientError(Constants.ErrorMessage.ERROR_SCRIPT_LIBRARY_NOT_FOUND,
-                    Response.Status.NOT_FOUND, scriptLibraryName, ContextLoader.getTenantDomainFromContext());
-        }
+        return getExistingFunctionLibrary(scriptLibraryName).getFunctionLibraryScript();
     }
 
     /**
@@ -257,6 +233,28 @@ public class ServerScriptLibrariesService {
         }
     }
 
+    /**
+     * Retrieve a script library with a single lookup, instead of an existence check followed by a retrieval.
+     *
+     * @param scriptLibraryName Name of the script library.
+     * @return FunctionLibrary.
+     */
+    private FunctionLibrary getExistingFunctionLibrary(String scriptLibraryName) {
+
+        FunctionLibrary functionLibrary;
+        try {
+            functionLibrary = ScriptLibraryServiceHolder.getScriptLibraryManagementService()
+                    .getFunctionLibrary(scriptLibraryName, ContextLoader.getTenantDomainFromContext());
+        } catch (FunctionLibraryManagementException e) {
+            throw handleScriptLibraryError(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_SCRIPT_LIBRARY);
+        }
+        if (functionLibrary == null) {
+            throw handleScriptLibraryClientError(Constants.ErrorMessage.ERROR_SCRIPT_LIBRARY_NOT_FOUND,
+                    Response.Status.NOT_FOUND, scriptLibraryName, ContextLoader.getTenantDomainFromContext());
+        }
+        return functionLibrary;
+    }
+
     /**
      * Check the whether the script name already exist.
      *
@@ -334,7 +332,8 @@ public class ServerScriptLibrariesService {
     }
 
     /**
-     * Create a script libraries list response.
+     * Create a script libraries list response. The page is selected before the list items are built, so that the
+     * links are only built for the returned script libraries.
      *
      * @param scriptLibraries list of script libraries.
      * @param limit           Item per page.
@@ -346,8 +345,11 @@ public class ServerScriptLibrariesService {
 
         ScriptLibraryListResponse scriptLibraryListResponse = new ScriptLibraryListResponse();
         if (CollectionUtils.isNotEmpty(scriptLibraries)) {
-            List<ScriptLibrary> scriptLibraryItem = new ArrayList<>();
-            for (FunctionLibrary functionLibrary : scriptLibraries) {
+            int fromIndex = Math.min(scriptLibraries.size(), offset);
+            int toIndex = fromIndex + Math.min(scriptLibraries.size() - fromIndex, limit);
+            List<FunctionLibrary> page = scriptLibraries.subList(fromIndex, toIndex);
+            List<ScriptLibrary> scriptLibraryItem = new ArrayList<>(page.size());
+            for (FunctionLibrary functionLibrary : page) {
                 ScriptLibrary scriptLibrary = new ScriptLibrary();
                 scriptLibrary.setName(functionLibrary.getFunctionLibraryName());
                 scriptLibrary.setDescription(functionLibrary.getDescription());
@@ -357,9 +359,7 @@ public class ServerScriptLibrariesService {
                                         functionLibrary.getFunctionLibraryName())).toString());
                 scriptLibraryItem.add(scriptLibrary);
             }
-            scriptLibraryListResponse.setScriptLibraries(scriptLibraryItem.subList(
-                    Math.min(scriptLibraryItem.size(), offset),
-                    Math.min(scriptLibraryItem.size(), offset + limit)));
+            scriptLibraryListResponse.setScriptLibraries(scriptLibraryItem);
             scriptLibraryListResponse.setCount(scriptLibraryListResponse.getScriptLibraries().size());
             scriptLibraryListResponse.setTotalResults(scriptLibraries.size());
             scriptLibraryListResponse.setStartIndex(offset + 1);
@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.api.server.script.library.v1.impl;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.EntityTags;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.script.library.common.Constants;
@@ -34,6 +35,7 @@ import java.net.URLEncoder;
 
 import java.nio.charset.StandardCharsets;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -91,10 +93,14 @@ public class ScriptLibrariesApiServiceImpl implements ScriptLibrariesApiService
     }
 
     @Override
-    public Response getScriptLibraryContentByName(String scriptLibraryName) {
+    public Response getScriptLibraryContentByName(String scriptLibraryName, String ifNoneMatch) {
 
-        return Response.ok().entity(serverScriptLibrariesService.getScriptLibraryContentByName(scriptLibraryName))
-                .build();
+        String content = serverScriptLibrariesService.getScriptLibraryContentByName(scriptLibraryName);
+        String entityTag = EntityTags.strongTag(content);
+        if (EntityTags.isNotModified(ifNoneMatch, entityTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, entityTag).build();
+        }
+        return Response.ok().entity(content).header(HttpHeaders.ETAG, entityTag).build();
     }
 
     @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tenant index of the claim attribute mappings of the user stores, i.e. user store domain to claim URI to
+ * mapped attribute. The index of a tenant is built with a single walk over the local claims of the tenant.
+ * <p>
+ * An index is rebuilt once the local claims of the tenant are written through the claim management or the user store
+ * API of this webapp, as tracked by {@link TenantResourceVersions}. The version is read before the local claims are
+ * loaded, hence an index built concurrently with a write carries the version before the write and is rebuilt by the
+ * next request, instead of serving the claims read before the write. The local claims may also change through the
+ * SCIM2 schema APIs or on another node, which no webapp of this node observes, hence an index is also rebuilt once it
+ * is older than {@link #MAX_AGE_MILLIS}.
+ */
+final class ClaimAttributeMappingIndex {
+
+    private static final long MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, ClaimAttributeMappingIndex> TENANT_INDEXES = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> mappedAttributesByDomain = new HashMap<>();
+    private final long createdTime;
+    private final long localClaimVersion;
+
+    private ClaimAttributeMappingIndex(List<LocalClaim> localClaims, long localClaimVersion) {
+
+        this.createdTime = System.currentTimeMillis();
+        this.localClaimVersion = localClaimVersion;
+        for (LocalClaim localClaim : localClaims) {
+            if (localClaim.getMappedAttributes() == null) {
+                continue;
+            }
+            for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                if (attributeMapping.getUserStoreDomain() == null || attributeMapping.getAttributeName() == null) {
+                    continue;
+                }
+                // Keeps the first mapping of a domain, as LocalClaim.getMappedAttribute(domain) does.
+                mappedAttributesByDomain.computeIfAbsent(normalizeDomain(attributeMapping.getUserStoreDomain()),
+                        domain -> new LinkedHashMap<>()).putIfAbsent(localClaim.getClaimURI(),
+                        attributeMapping.getAttributeName());
+            }
+        }
+    }
+
+    /**
+     * Returns the claim attribute mappings of a user store, in the order of the local claims of the tenant.
+     *
+     * @param claimMetadataManagementService Claim metadata management service.
+     * @param tenantDomain                   Tenant domain.
+     * @param userStoreDomain                User store domain name.
+     * @return Unmodifiable map of claim URI to mapped attribute.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    static Map<String, String> getMappedAttributes(ClaimMetadataManagementService claimMetadataManagementService,
+                                                   String tenantDomain, String userStoreDomain)
+            throws ClaimMetadataException {
+
+        ClaimAttributeMappingIndex index = TENANT_INDEXES.get(tenantDomain);
+        if (index == null || index.isStale(tenantDomain)) {
+            // The version is read before the load, so that a write during the load leaves the index stale.
+            long localClaimVersion = TenantResourceVersions.get(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+            index = new ClaimAttributeMappingIndex(claimMetadataManagementService.getLocalClaims(tenantDomain),
+                    localClaimVersion);
+            // A concurrent rebuild which read a later version is kept.
+            TENANT_INDEXES.merge(tenantDomain, index, (currentIndex, builtIndex) ->
+                    currentIndex.localClaimVersion > builtIndex.localClaimVersion ? currentIndex : builtIndex);
+        }
+        Map<String, String> mappedAttributes = index.mappedAttributesByDomain.get(normalizeDomain(userStoreDomain));
+        return mappedAttributes == null ? Collections.emptyMap() : Collections.unmodifiableMap(mappedAttributes);
+    }
+
+    private boolean isStale(String tenantDomain) {
+
+        return System.currentTimeMillis() - createdTime > MAX_AGE_MILLIS || localClaimVersion !=
+                TenantResourceVersions.get(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+    }
+
+    private static String normalizeDomain(String userStoreDomain) {
+
+        return userStoreDomain.toUpperCase(Locale.ENGLISH);
+    }
+}
@@ -16,9 +16,6 @@
 
 package org.wso2.carbon.identity.api.server.userstore.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
@@ -30,8 +27,10 @@ import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.FileCodec;
+import org.wso2.carbon.identity.api.server.common.FileCodecException;
 import org.wso2.carbon.identity.api.server.common.FileContent;
-import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
@@ -76,17 +75,9 @@ import org.wso2.carbon.user.core.UserStoreConfigConstants;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -99,20 +90,10 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
-import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_JSON;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_XML;
-import static org.wso2.carbon.identity.api.server.common.Constants.MEDIA_TYPE_YAML;
 import static org.wso2.carbon.identity.api.server.common.Constants.REGEX_COMMA;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.common.Constants.XML_FILE_EXTENSION;
-import static org.wso2.carbon.identity.api.server.common.Constants.YAML_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.ErrorMessage.ERROR_CODE_USER_STORE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.isValidFileName;
 
@@ -122,6 +103,8 @@ import static org.wso2.carbon.identity.core.util.IdentityUtil.isValidFileName;
 public class ServerUserStoreService {
 
     private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
+    private static final FileCodec<UserStoreConfigurations> USER_STORE_FILE_CODEC =
+            FileCodec.builder(UserStoreConfigurations.class).build();
 
     private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
 
@@ -191,6 +174,7 @@ public class ServerUserStoreService {
             UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance().
                     getUserStoreConfigService();
             userStoreConfigService.deleteUserStore(base64URLDecodeId(userstoreDomainId));
+            recordLocalClaimChange(ContextLoader.getTenantDomainFromContext());
         } catch (IdentityUserStoreClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -691,14 +675,13 @@ public class ServerUserStoreService {
                 .getClaimMetadataManagementService();
         List<ClaimAttributeMapping> claimAttributeMappingList = new ArrayList<>();
         try {
-            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(tenantDomain);
-            for (LocalClaim localClaim : localClaimList) {
-                if (localClaim.getMappedAttribute(userstoreDomainName) != null) {
-                    ClaimAttributeMapping mapping = new ClaimAttributeMapping();
-                    mapping.setClaimURI(localClaim.getClaimURI());
-                    mapping.setMappedAttribute(localClaim.getMappedAttribute(userstoreDomainName));
-                    claimAttributeMappingList.add(mapping);
-                }
+            Map<String, String> mappedAttributes = ClaimAttributeMappingIndex.getMappedAttributes(
+                    claimMetadataManagementService, tenantDomain, userstoreDomainName);
+            for (Map.Entry<String, String> mappedAttribute : mappedAttributes.entrySet()) {
+                ClaimAttributeMapping mapping = new ClaimAttributeMapping();
+                mapping.setClaimURI(mappedAttribute.getKey());
+                mapping.setMappedAttribute(mappedAttribute.getValue());
+                claimAttributeMappingList.add(mapping);
             }
             return claimAttributeMappingList;
         } catch (ClaimMetadataException e) {
@@ -793,7 +776,8 @@ public class ServerUserStoreService {
     }
 
     /**
-     * To update claim attribute mappings in bulk for specific user store.
+     * To update claim attribute mappings in bulk for specific user store. The mappings should be validated with
+     * {@link #validateClaimMappings(String, List)} beforehand.
      *
      * @param userstoreDomain user store domain name.
      * @param tenantDomain tenant domain name.
@@ -804,11 +788,12 @@ public class ServerUserStoreService {
         ClaimMetadataManagementService claimMetadataManagementService = UserStoreConfigServiceHolder.getInstance()
                 .getClaimMetadataManagementService();
         try {
-            claimMetadataManagementService.validateClaimAttributeMapping(localClaimList, tenantDomain);
             claimMetadataManagementService.updateLocalClaimMappings(localClaimList, tenantDomain, userstoreDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e,
                     UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CLAIM_MAPPING);
+        } finally {
+            recordLocalClaimChange(tenantDomain);
         }
     }
 
@@ -1543,64 +1528,10 @@ public class ServerUserStoreService {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Parsing userstore object to file content of type: " + fileType);
         }
-        String mediaType = Util.getMediaType(fileType);
-        switch (mediaType) {
-            case MEDIA_TYPE_XML:
-                return parseUserStoreToXml(userStoreConfigs);
-            case MEDIA_TYPE_JSON:
-                return parseUserStoreToJson(userStoreConfigs);
-            case MEDIA_TYPE_YAML:
-                return parseUserStoreToYaml(userStoreConfigs);
-            default:
-                LOG.warn(String.format("Using the default YAML parsing for requested file type: %s for export.",
-                        fileType));
-                return parseUserStoreToYaml(userStoreConfigs);
-        }
-    }
-
-    private FileContent parseUserStoreToYaml(UserStoreConfigurations userStoreConfigs)
-            throws UserStoreException {
-
-        StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
-        fileNameSB.append(YAML_FILE_EXTENSION);
-        Yaml yaml = new Yaml();
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(userStoreConfigs));
-        } catch (YAMLException e) {
-            throw new UserStoreException("Error when parsing userstore to YAML file.", e);
-        }
-    }
-
-    private FileContent parseUserStoreToXml(UserStoreConfigurations userStoreConfigs)
-            throws UserStoreException {
-
-        StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
-        fileNameSB.append(XML_FILE_EXTENSION);
-
-        JAXBContext jaxbContext;
-        try {
-            jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(userStoreConfigs, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
-        } catch (JAXBException e) {
-            throw new UserStoreException("Error when parsing userstore to XML file.", e);
-        }
-    }
-
-    private FileContent parseUserStoreToJson(UserStoreConfigurations userStoreConfigs)
-            throws UserStoreException {
-
-        StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
-        fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(userStoreConfigs));
-        } catch (JsonProcessingException e) {
-            throw new UserStoreException("Error when parsing userstore to JSON file.", e);
+            return USER_STORE_FILE_CODEC.encode(userStoreConfigs, userStoreConfigs.getName(), fileType);
+        } catch (FileCodecException e) {
+            throw new UserStoreException("Error when parsing userstore to " + e.getFormat() + " file.", e);
         }
     }
 
@@ -1647,57 +1578,11 @@ public class ServerUserStoreService {
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getMessage());
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
-            case MEDIA_TYPE_XML:
-                return parseUserStoreFromXml(fileContent);
-            case MEDIA_TYPE_JSON:
-                return parseUserStoreFromJson(fileContent);
-            case MEDIA_TYPE_YAML:
-                return parseUserStoreFromYaml(fileContent);
-            default:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseUserStoreFromYaml(fileContent);
-        }
-    }
-
-    private UserStoreConfigurations parseUserStoreFromXml(FileContent fileContent) throws UserStoreException {
-
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (UserStoreConfigurations) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
-        } catch (JAXBException e) {
-            throw new UserStoreException(String.format("Error in reading " +
-                    "XML file configuration for the userstore: %s.", fileContent.getFileName()), e);
-        }
-    }
-
-    private UserStoreConfigurations parseUserStoreFromYaml(FileContent fileContent) throws UserStoreException {
-
-        try {
-            // Add trusted tags included in the Userstore YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(UserStoreConfigurations.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(UserStoreConfigurations.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), UserStoreConfigurations.class);
-        } catch (YAMLException e) {
-            throw new UserStoreException(String.format("Error in reading YAML file " +
-                    "configuration for the userstore: %s.", fileContent.getFileName()), e);
-        }
-    }
-
-    private UserStoreConfigurations parseUserStoreFromJson(FileContent fileContent) throws UserStoreException {
-
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), UserStoreConfigurations.class);
-        } catch (JsonProcessingException e) {
-            throw new UserStoreException(String.format("Error in reading JSON " +
-                    "file configuration for the userstore: %s.", fileContent.getFileName()), e);
+            return USER_STORE_FILE_CODEC.decode(fileContent);
+        } catch (FileCodecException e) {
+            throw new UserStoreException(String.format("Error in reading %s file configuration for the userstore: " +
+                    "%s.", e.getFormat(), fileContent.getFileName()), e);
         }
     }
 
@@ -1731,4 +1616,15 @@ public class ServerUserStoreService {
             }
         }
     }
+
+    /**
+     * Record a write of the claim attribute mappings of the tenant, including the removal of the mappings of a deleted
+     * user store, so that the claim attribute mapping index is rebuilt.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void recordLocalClaimChange(String tenantDomain) {
+
+        TenantResourceVersions.increment(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+    }
 }
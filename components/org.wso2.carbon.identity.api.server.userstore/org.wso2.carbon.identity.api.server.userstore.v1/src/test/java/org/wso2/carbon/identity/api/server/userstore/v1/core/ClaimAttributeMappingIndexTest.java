@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.TenantResourceVersions;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for ClaimAttributeMappingIndex.
+ */
+public class ClaimAttributeMappingIndexTest {
+
+    private static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+
+    private ClaimMetadataManagementService claimMetadataManagementService;
+    private String tenantDomain;
+    private static int tenantCount;
+
+    @BeforeMethod
+    public void setUp() {
+
+        claimMetadataManagementService = mock(ClaimMetadataManagementService.class);
+        // The indexes are held per tenant for the lifetime of the webapp, hence each test uses its own tenant.
+        tenantDomain = "index" + tenantCount++ + ".com";
+    }
+
+    @Test
+    public void testMappedAttributes() throws Exception {
+
+        when(claimMetadataManagementService.getLocalClaims(tenantDomain)).thenReturn(Arrays.asList(
+                localClaim(USERNAME_CLAIM, "PRIMARY", "uid", "SECONDARY", "cn"),
+                localClaim(EMAIL_CLAIM, "primary", "mail")));
+
+        Map<String, String> mappedAttributes = getMappedAttributes("Primary");
+        assertEquals(mappedAttributes.get(USERNAME_CLAIM), "uid");
+        assertEquals(mappedAttributes.get(EMAIL_CLAIM), "mail");
+        assertEquals(getMappedAttributes("SECONDARY"), Collections.singletonMap(USERNAME_CLAIM, "cn"));
+        assertTrue(getMappedAttributes("UNKNOWN").isEmpty());
+        verify(claimMetadataManagementService, times(1)).getLocalClaims(tenantDomain);
+    }
+
+    @Test
+    public void testLocalClaimWriteRebuildsIndex() throws Exception {
+
+        when(claimMetadataManagementService.getLocalClaims(tenantDomain))
+                .thenReturn(Collections.singletonList(localClaim(USERNAME_CLAIM, "PRIMARY", "uid")))
+                .thenReturn(Collections.singletonList(localClaim(USERNAME_CLAIM, "PRIMARY", "cn")));
+
+        assertEquals(getMappedAttributes("PRIMARY").get(USERNAME_CLAIM), "uid");
+        TenantResourceVersions.increment(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+
+        assertEquals(getMappedAttributes("PRIMARY").get(USERNAME_CLAIM), "cn");
+        verify(claimMetadataManagementService, times(2)).getLocalClaims(tenantDomain);
+    }
+
+    @Test
+    public void testIndexBuiltDuringWriteIsRebuilt() throws Exception {
+
+        List<LocalClaim> claimsBeforeWrite = Collections.singletonList(localClaim(USERNAME_CLAIM, "PRIMARY", "uid"));
+        List<LocalClaim> claimsAfterWrite = Collections.singletonList(localClaim(USERNAME_CLAIM, "PRIMARY", "cn"));
+        when(claimMetadataManagementService.getLocalClaims(tenantDomain))
+                .thenAnswer(invocation -> {
+                    // The claims are read before a write, which completes before the index is published.
+                    TenantResourceVersions.increment(TenantResourceVersions.LOCAL_CLAIMS, tenantDomain);
+                    return claimsBeforeWrite;
+                })
+                .thenReturn(claimsAfterWrite);
+
+        assertEquals(getMappedAttributes("PRIMARY").get(USERNAME_CLAIM), "uid");
+        assertEquals(getMappedAttributes("PRIMARY").get(USERNAME_CLAIM), "cn");
+        assertEquals(getMappedAttributes("PRIMARY").get(USERNAME_CLAIM), "cn");
+        verify(claimMetadataManagementService, times(2)).getLocalClaims(tenantDomain);
+    }
+
+    private Map<String, String> getMappedAttributes(String userStoreDomain) throws Exception {
+
+        return ClaimAttributeMappingIndex.getMappedAttributes(claimMetadataManagementService, tenantDomain,
+                userStoreDomain);
+    }
+
+    private static LocalClaim localClaim(String claimURI, String... domainsAndAttributes) {
+
+        AttributeMapping[] attributeMappings = new AttributeMapping[domainsAndAttributes.length / 2];
+        for (int i = 0; i < attributeMappings.length; i++) {
+            attributeMappings[i] = new AttributeMapping(domainsAndAttributes[2 * i], domainsAndAttributes[2 * i + 1]);
+        }
+        return new LocalClaim(claimURI, Arrays.asList(attributeMappings), Collections.emptyMap());
+    }
+}